@@ -24,6 +24,7 @@ import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
 import io.federecio.dropwizard.swagger.SwaggerBundle;
 import io.federecio.dropwizard.swagger.SwaggerBundleConfiguration;
+import io.opentracing.util.GlobalTracer;
 import io.prometheus.client.CollectorRegistry;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.block.function.Function;
@@ -81,6 +82,7 @@ import org.finos.legend.engine.language.pure.grammar.api.relationalOperationElem
 import org.finos.legend.engine.language.pure.grammar.api.relationalOperationElement.TransformRelationalOperationElementJsonToGrammar;
 import org.finos.legend.engine.language.pure.modelManager.ModelLoader;
 import org.finos.legend.engine.language.pure.modelManager.ModelManager;
+import org.finos.legend.engine.language.pure.modelManager.PureModelContextDataSnapshotStore;
 import org.finos.legend.engine.language.pure.modelManager.sdlc.SDLCLoader;
 import org.finos.legend.engine.language.pure.relational.api.relationalElement.RelationalElementAPI;
 import org.finos.legend.engine.language.snowflakeApp.api.SnowflakeAppService;
@@ -90,6 +92,7 @@ import org.finos.legend.engine.plan.execution.stores.deephaven.plugin.DeephavenS
 import org.finos.legend.engine.plan.execution.stores.deephaven.plugin.DeephavenStoreExecutorConfiguration;
 import org.finos.legend.engine.protocol.memsqlFunction.deployment.MemSqlFunctionDeploymentConfiguration;
 import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.cache.executionPlan.ExecutionPlanCacheBuilder;
 import org.finos.legend.engine.plan.execution.api.ExecutePlanLegacy;
 import org.finos.legend.engine.plan.execution.api.ExecutePlanStrategic;
 import org.finos.legend.engine.plan.execution.api.concurrent.ConcurrentExecutionNodeExecutorPoolInfo;
@@ -130,6 +133,7 @@ import org.finos.legend.engine.query.graphQL.api.execute.GraphQLExecute;
 import org.finos.legend.engine.query.graphQL.api.grammar.GraphQLGrammar;
 import org.finos.legend.engine.query.pure.api.Execute;
 import org.finos.legend.engine.query.sql.api.SQLExecutor;
+import org.finos.legend.engine.query.sql.api.cache.SQLPlanCache;
 import org.finos.legend.engine.query.sql.api.execute.SqlExecute;
 import org.finos.legend.engine.query.sql.api.grammar.SqlGrammar;
 import org.finos.legend.engine.query.sql.api.schema.SqlSchema;
@@ -170,6 +174,8 @@ import javax.servlet.DispatcherType;
 import javax.servlet.FilterRegistration;
 import javax.ws.rs.container.DynamicFeature;
 import java.io.FileInputStream;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
@@ -280,7 +286,8 @@ public class Server<T extends ServerConfiguration> extends Application<T>
         this.environment = environment;
         DeploymentStateAndVersions.DEPLOYMENT_MODE = serverConfiguration.deployment.mode;
 
-        ModelManager modelManager = new ModelManager(serverConfiguration.deployment.mode, getModelLoaders(serverConfiguration));
+        PureModelContextDataSnapshotStore modelSnapshotStore = serverConfiguration.modelSnapshotDirectory == null ? null : new PureModelContextDataSnapshotStore(Paths.get(serverConfiguration.modelSnapshotDirectory), serverConfiguration.modelSnapshotMaximumSizeMB * 1024 * 1024, Duration.ofDays(serverConfiguration.modelSnapshotTimeToLiveDays));
+        ModelManager modelManager = new ModelManager(serverConfiguration.deployment.mode, null, GlobalTracer.get(), modelSnapshotStore, serverConfiguration.modelCache, getModelLoaders(serverConfiguration));
 
         ChainFixingFilterHandler.apply(environment.getApplicationContext(), serverConfiguration.filterPriorities);
 
@@ -324,6 +331,10 @@ public class Server<T extends ServerConfiguration> extends Application<T>
         {
             planExecutor = PlanExecutor.newPlanExecutor(relationalStoreExecutor, elasticsearchV7StoreExecutor, serviceStoreExecutor, mongoDBStoreExecutor, deephavenStoreExecutor, InMemory.build());
         }
+        if (serverConfiguration.executionPlanCacheSize > 0)
+        {
+            planExecutor.injectExecutionPlanCache(ExecutionPlanCacheBuilder.buildWithMaximumSize(serverConfiguration.executionPlanCacheSize));
+        }
 
         // Session Management
         SessionTracker sessionTracker = new SessionTracker();
@@ -412,7 +423,8 @@ public class Server<T extends ServerConfiguration> extends Application<T>
                 new RelationalStoreSQLSourceProvider(projectCoordinateLoader),
                 new FunctionSQLSourceProvider(projectCoordinateLoader),
                 new LegendServiceSQLSourceProvider(projectCoordinateLoader)),
-                generatorExtensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers))));
+                generatorExtensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers),
+                serverConfiguration.sqlPlanCache.enabled ? new SQLPlanCache(serverConfiguration.sqlPlanCache) : null)));
         environment.jersey().register(new SqlGrammar());
         environment.jersey().register(new SqlSchema(modelManager));
 
@@ -16,10 +16,13 @@ package org.finos.legend.engine.server;
 
 import io.dropwizard.Configuration;
 import io.federecio.dropwizard.swagger.SwaggerBundleConfiguration;
+import org.finos.legend.engine.language.pure.modelManager.ModelCacheConfiguration;
+import org.finos.legend.engine.language.pure.modelManager.PureModelContextDataSnapshotStore;
 import org.finos.legend.engine.language.pure.modelManager.sdlc.configuration.MetaDataServerConfiguration;
 import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchExecutionConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
+import org.finos.legend.engine.query.sql.api.cache.SQLPlanCacheConfiguration;
 import org.finos.legend.engine.server.core.configuration.DeploymentConfiguration;
 import org.finos.legend.engine.server.core.configuration.ErrorHandlingConfiguration;
 import org.finos.legend.engine.server.core.configuration.OpenTracingConfiguration;
@@ -47,6 +50,15 @@ public class ServerConfiguration extends Configuration
     public ErrorHandlingConfiguration errorhandlingconfiguration = new ErrorHandlingConfiguration();
     public List<org.finos.legend.engine.protocol.functionActivator.metamodel.DeploymentConfiguration> activatorConfiguration;
     public CORSConfiguration cors;
+    public SQLPlanCacheConfiguration sqlPlanCache = new SQLPlanCacheConfiguration();
+    // Directory where the model data of released project versions is snapshotted, to avoid loading it again from the metadata server after a restart
+    public String modelSnapshotDirectory;
+    // Model snapshots unused for longer than the time to live are deleted, as are the least recently used ones above the maximum size
+    public long modelSnapshotMaximumSizeMB = PureModelContextDataSnapshotStore.DEFAULT_MAXIMUM_SIZE_BYTES / (1024 * 1024);
+    public long modelSnapshotTimeToLiveDays = PureModelContextDataSnapshotStore.DEFAULT_TIME_TO_LIVE.toDays();
+    public ModelCacheConfiguration modelCache = new ModelCacheConfiguration();
+    // Number of execution plans kept deserialized and compiled, by content hash, for the serialized plan entry points (disabled when 0)
+    public long executionPlanCacheSize = 0;
 
     /*
         This configuration has been deprecated in favor of the 'temporarytestdb' in RelationalExecutionConfiguration
@@ -15,6 +15,8 @@
 package org.finos.legend.engine.plan.execution;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
@@ -22,6 +24,8 @@ import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
 import org.eclipse.collections.impl.factory.Maps;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.internal.IterableIterate;
+import org.finos.legend.engine.plan.execution.cache.executionPlan.ExecutionPlanCache;
+import org.finos.legend.engine.plan.execution.cache.executionPlan.SerializedPlanCacheKey;
 import org.finos.legend.engine.plan.execution.concurrent.ConcurrentExecutionNodeExecutorPool;
 import org.finos.legend.engine.plan.execution.concurrent.ParallelGraphFetchExecutionExecutorPool;
 import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchExecutionConfiguration;
@@ -78,6 +82,9 @@ public class PlanExecutor
     private GraphFetchExecutionConfiguration graphFetchExecutionConfiguration;
     private BiFunction<Identity, ExecutionState, ExecutionNodeExecutor> executionNodeExecutorBuilder;
     private final boolean logSQLWithParamValues;
+    private ExecutionPlanCache executionPlanCache;
+    // compiled Java classes of the plans executed while a plan cache is injected, by plan identity: dropped with the plan
+    private final Cache<SingleExecutionPlan, EngineJavaCompiler> compiledPlans = CacheBuilder.newBuilder().weakKeys().build();
 
 
     private PlanExecutor(boolean isJavaCompilationAllowed, ImmutableList<StoreExecutor> extraExecutors, GraphFetchExecutionConfiguration graphFetchExecutionConfiguration, boolean logSQLWithParamValues)
@@ -143,7 +150,7 @@ public class PlanExecutor
     @Deprecated
     public Result execute(String executionPlan, InputStream inputStream, Map<String, ?> params)
     {
-        return execute(readExecutionPlan(executionPlan), inputStream, params);
+        return execute(this.readCachedExecutionPlan(executionPlan), inputStream, params);
     }
 
     @Deprecated
@@ -329,6 +336,47 @@ public class PlanExecutor
         this.concurrentExecutionNodeExecutorPool = concurrentExecutionNodeExecutorPool;
     }
 
+    /**
+     * Cache the plans deserialized by the serialized plan entry points, by content hash, along with their compiled Java
+     * classes. Plans executed through the plan cache must not be modified.
+     */
+    public void injectExecutionPlanCache(ExecutionPlanCache executionPlanCache)
+    {
+        if (this.executionPlanCache != null)
+        {
+            throw new IllegalStateException("PlanExecutor already contains an ExecutionPlanCache");
+        }
+        this.executionPlanCache = executionPlanCache;
+    }
+
+    public ExecutionPlanCache getExecutionPlanCache()
+    {
+        return this.executionPlanCache;
+    }
+
+    /**
+     * Deserialize the plan, or return the plan previously deserialized from the same JSON if a plan cache was injected
+     */
+    public ExecutionPlan readCachedExecutionPlan(String executionPlan)
+    {
+        if (this.executionPlanCache == null)
+        {
+            return readExecutionPlan(executionPlan);
+        }
+        SerializedPlanCacheKey key = new SerializedPlanCacheKey(executionPlan);
+        SingleExecutionPlan cachedPlan = this.executionPlanCache.getCache().getIfPresent(key);
+        if (cachedPlan != null)
+        {
+            return cachedPlan;
+        }
+        ExecutionPlan plan = readExecutionPlan(executionPlan);
+        if (plan instanceof SingleExecutionPlan)
+        {
+            this.executionPlanCache.getCache().put(key, (SingleExecutionPlan) plan);
+        }
+        return plan;
+    }
+
     public void injectGraphFetchExecutionNodeExecutorPool(ParallelGraphFetchExecutionExecutorPool graphFetchExecutionNodeExecutorPool)
     {
         if (this.graphFetchExecutionNodeExecutorPool != null)
@@ -350,7 +398,7 @@ public class PlanExecutor
         }
         try
         {
-            EngineJavaCompiler engineJavaCompiler = JavaHelper.compilePlan(plan, identity);
+            EngineJavaCompiler engineJavaCompiler = (this.executionPlanCache == null) ? JavaHelper.compilePlan(plan, identity) : this.compileCachedPlan(plan, identity);
             if (engineJavaCompiler != null)
             {
                 state.setJavaCompiler(engineJavaCompiler);
@@ -363,6 +411,20 @@ public class PlanExecutor
         }
     }
 
+    private EngineJavaCompiler compileCachedPlan(SingleExecutionPlan plan, Identity identity) throws JavaCompileException
+    {
+        EngineJavaCompiler engineJavaCompiler = this.compiledPlans.getIfPresent(plan);
+        if (engineJavaCompiler == null)
+        {
+            engineJavaCompiler = JavaHelper.compilePlan(plan, identity);
+            if (engineJavaCompiler != null)
+            {
+                this.compiledPlans.put(plan, engineJavaCompiler);
+            }
+        }
+        return engineJavaCompiler;
+    }
+
     public ExecutionState buildDefaultExecutionState(SingleExecutionPlan executionPlan, Map<String, Result> vars)
     {
         return buildDefaultExecutionState(executionPlan, vars, null);
@@ -433,6 +495,7 @@ public class PlanExecutor
         private final MutableList<StoreExecutor> storeExecutors = Lists.mutable.empty();
         private GraphFetchExecutionConfiguration graphFetchExecutionConfiguration = new GraphFetchExecutionConfiguration();
         private boolean logSQLWithParamValues = true;
+        private ExecutionPlanCache executionPlanCache;
 
         private Builder()
         {
@@ -476,9 +539,20 @@ public class PlanExecutor
             return this;
         }
 
+        public Builder withExecutionPlanCache(ExecutionPlanCache executionPlanCache)
+        {
+            this.executionPlanCache = executionPlanCache;
+            return this;
+        }
+
         public PlanExecutor build()
         {
-            return new PlanExecutor(this.isJavaCompilationAllowed, this.storeExecutors.toImmutable(), this.graphFetchExecutionConfiguration, this.logSQLWithParamValues);
+            PlanExecutor planExecutor = new PlanExecutor(this.isJavaCompilationAllowed, this.storeExecutors.toImmutable(), this.graphFetchExecutionConfiguration, this.logSQLWithParamValues);
+            if (this.executionPlanCache != null)
+            {
+                planExecutor.injectExecutionPlanCache(this.executionPlanCache);
+            }
+            return planExecutor;
         }
     }
 
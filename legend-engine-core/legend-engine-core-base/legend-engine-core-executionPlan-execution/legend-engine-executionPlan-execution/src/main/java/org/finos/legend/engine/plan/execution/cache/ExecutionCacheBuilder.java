@@ -46,6 +46,16 @@ public class ExecutionCacheBuilder
         return new GraphFetchCacheByEqualityKeys(mappingId, instanceSetId, executionCache);
     }
 
+    /**
+     * Cache bounded by the size of the cached objects. With an off-heap tier, an object evicted from the hot tier is served
+     * as a deserialized copy of the object as it was when evicted: it is not the instance which was cached, and it does
+     * not see changes made to that instance afterwards.
+     */
+    public static GraphFetchCacheByEqualityKeys buildGraphFetchCacheByEqualityKeysFromTieredCache(TieredExecutionCache.Builder tieredCacheBuilder, String mappingId, String instanceSetId)
+    {
+        return new GraphFetchCacheByEqualityKeys(mappingId, instanceSetId, tieredCacheBuilder.build());
+    }
+
 
     // Cross Key cache builders
     // Cache type: Key -> List<Object> (cross key cache can be used for 1 -> MANY relationships as well)
@@ -60,6 +70,15 @@ public class ExecutionCacheBuilder
         return new GraphFetchCacheByTargetCrossKeys(graphFetchCrossAssociationKeys, executionCache);
     }
 
+    /**
+     * Cache bounded by the size of the cached objects, with the same copy semantics for values served from the off-heap
+     * tier as {@link #buildGraphFetchCacheByEqualityKeysFromTieredCache}
+     */
+    public static GraphFetchCacheByTargetCrossKeys buildGraphFetchCacheByTargetCrossKeysFromTieredCache(TieredExecutionCache.Builder tieredCacheBuilder, GraphFetchCrossAssociationKeys graphFetchCrossAssociationKeys)
+    {
+        return new GraphFetchCacheByTargetCrossKeys(graphFetchCrossAssociationKeys, tieredCacheBuilder.build());
+    }
+
     public static <K, V> ExecutionCache<K, V> buildExecutionCacheFromGuavaCache(Cache<K, V> guavaCache)
     {
         return new ExecutionCache<K, V>()
@@ -134,7 +153,7 @@ public class ExecutionCacheBuilder
         };
     }
 
-    private static ExecutionCacheStats buildExecutionCacheStatsFromGuavaCacheStats(CacheStats guavaCacheStats)
+    static ExecutionCacheStats buildExecutionCacheStatsFromGuavaCacheStats(CacheStats guavaCacheStats)
     {
         return new ExecutionCacheStats()
         {
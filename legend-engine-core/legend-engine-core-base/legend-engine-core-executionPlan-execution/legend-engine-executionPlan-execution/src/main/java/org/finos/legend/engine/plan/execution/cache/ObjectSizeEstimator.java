@@ -0,0 +1,203 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.cache;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimate of the heap retained by an object graph, walking its fields without serializing it.
+ * <p>
+ * Collections, maps and arrays are walked through their elements, other JDK classes (boxed values, big numbers, dates,
+ * ...) count as a fixed size. The estimate assumes uncompressed references, so that it errs on the large side.
+ */
+final class ObjectSizeEstimator
+{
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 8;
+    private static final int JDK_VALUE = 32;
+    private static final int COLLECTION_ENTRY = 32;
+
+    // kept with each class, so that the generated classes of a plan can still be unloaded
+    private static final ClassValue<Long> SHALLOW_SIZES = new ClassValue<Long>()
+    {
+        @Override
+        protected Long computeValue(Class<?> type)
+        {
+            return shallowSize(type);
+        }
+    };
+    private static final ClassValue<List<Field>> REFERENCE_FIELDS = new ClassValue<List<Field>>()
+    {
+        @Override
+        protected List<Field> computeValue(Class<?> type)
+        {
+            return referenceFields(type);
+        }
+    };
+
+    private ObjectSizeEstimator()
+    {
+    }
+
+    static long estimate(Object value)
+    {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> toVisit = new ArrayDeque<>();
+        toVisit.push(value);
+        long size = 0;
+        while (!toVisit.isEmpty())
+        {
+            Object object = toVisit.pop();
+            if (!visited.add(object))
+            {
+                continue;
+            }
+            Class<?> type = object.getClass();
+            if (type.isArray())
+            {
+                int length = Array.getLength(object);
+                Class<?> componentType = type.getComponentType();
+                size += OBJECT_HEADER + (long) length * (componentType.isPrimitive() ? primitiveSize(componentType) : REFERENCE);
+                if (!componentType.isPrimitive())
+                {
+                    for (Object element : (Object[]) object)
+                    {
+                        pushIfNotNull(toVisit, element);
+                    }
+                }
+            }
+            else if (object instanceof String)
+            {
+                size += OBJECT_HEADER + REFERENCE + 2L * ((String) object).length();
+            }
+            else if (object instanceof Collection && isJdkClass(type))
+            {
+                size += OBJECT_HEADER + (long) ((Collection<?>) object).size() * COLLECTION_ENTRY;
+                ((Collection<?>) object).forEach(element -> pushIfNotNull(toVisit, element));
+            }
+            else if (object instanceof Map && isJdkClass(type))
+            {
+                size += OBJECT_HEADER + (long) ((Map<?, ?>) object).size() * COLLECTION_ENTRY;
+                ((Map<?, ?>) object).forEach((k, v) ->
+                {
+                    pushIfNotNull(toVisit, k);
+                    pushIfNotNull(toVisit, v);
+                });
+            }
+            else if (isJdkClass(type))
+            {
+                size += JDK_VALUE;
+            }
+            else
+            {
+                size += SHALLOW_SIZES.get(type);
+                for (Field field : REFERENCE_FIELDS.get(type))
+                {
+                    try
+                    {
+                        pushIfNotNull(toVisit, field.get(object));
+                    }
+                    catch (IllegalAccessException ignored)
+                    {
+                        // counted as a reference only
+                    }
+                }
+            }
+        }
+        return size;
+    }
+
+    private static void pushIfNotNull(Deque<Object> toVisit, Object value)
+    {
+        if (value != null)
+        {
+            toVisit.push(value);
+        }
+    }
+
+    private static boolean isJdkClass(Class<?> type)
+    {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.");
+    }
+
+    private static long shallowSize(Class<?> type)
+    {
+        long size = OBJECT_HEADER;
+        for (Class<?> current = type; current != null; current = current.getSuperclass())
+        {
+            for (Field field : current.getDeclaredFields())
+            {
+                if (!Modifier.isStatic(field.getModifiers()))
+                {
+                    size += field.getType().isPrimitive() ? primitiveSize(field.getType()) : REFERENCE;
+                }
+            }
+        }
+        return size;
+    }
+
+    private static List<Field> referenceFields(Class<?> type)
+    {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && !isJdkClass(current); current = current.getSuperclass())
+        {
+            for (Field field : current.getDeclaredFields())
+            {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive())
+                {
+                    try
+                    {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                    catch (RuntimeException ignored)
+                    {
+                        // not accessible: counted as a reference only
+                    }
+                }
+            }
+        }
+        return fields;
+    }
+
+    private static int primitiveSize(Class<?> type)
+    {
+        if (type == long.class || type == double.class)
+        {
+            return 8;
+        }
+        if (type == int.class || type == float.class)
+        {
+            return 4;
+        }
+        if (type == short.class || type == char.class)
+        {
+            return 2;
+        }
+        return 1;
+    }
+}
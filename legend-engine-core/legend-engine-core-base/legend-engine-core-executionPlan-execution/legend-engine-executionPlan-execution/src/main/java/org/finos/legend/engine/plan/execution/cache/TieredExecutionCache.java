@@ -0,0 +1,708 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.cache.Weigher;
+import org.eclipse.collections.api.factory.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Execution cache bounded by the size of its values rather than by their count.
+ * <p>
+ * Values are kept materialized in an on-heap hot tier, weighed by an estimate of the heap they retain (see
+ * {@link ObjectSizeEstimator}): they are not serialized to be weighed. When an off-heap tier is configured, values
+ * evicted from the hot tier are serialized into a pool of direct memory of the configured size instead of being
+ * dropped, and are deserialized and promoted back to the hot tier on access, without the GC having to trace them in
+ * between.
+ * <p>
+ * Values in the hot tier are the instances which were cached. A value served from the off-heap tier is a copy of the
+ * value as it was when it was evicted from the hot tier: changes made to the cached instance after that are not seen,
+ * and the copy is a different instance.
+ * <p>
+ * With an off-heap tier, values must be {@link Serializable} (as graph fetch objects are): putting a value which is not
+ * fails, and a value which turns out not to be serializable when evicted from the hot tier is dropped with a warning.
+ */
+public class TieredExecutionCache<K, V> implements ExecutionCache<K, V>
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(TieredExecutionCache.class);
+    private static final CacheStats EMPTY_STATS = new CacheStats(0, 0, 0, 0, 0, 0);
+
+    private final long expireAfterWriteNanos;
+    private final Cache<K, HotEntry<V>> hotTier;
+    private final OffHeapTier<K> offHeapTier;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    // puts and invalidations are ordered by generation, so that a value still being moved to the off-heap tier when
+    // it is replaced or invalidated is dropped rather than moved
+    private final AtomicLong generations = new AtomicLong();
+    private final LongAdder handledHotTierEvictions = new LongAdder();
+
+    private TieredExecutionCache(Builder builder)
+    {
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.offHeapTier = builder.offHeapTierMaximumBytes > 0 ? new OffHeapTier<>(builder.offHeapTierMaximumBytes, this::hasPendingDemotions) : null;
+        // expiry is checked on access rather than by the hot tier, as a promoted value keeps the time it was first written
+        this.hotTier = CacheBuilder.newBuilder()
+                .recordStats()
+                .maximumWeight(builder.hotTierMaximumBytes)
+                .weigher((Weigher<K, HotEntry<V>>) (key, entry) -> entry.weight)
+                .removalListener(this::onHotTierRemoval)
+                .build();
+    }
+
+    public static Builder newBuilder()
+    {
+        return new Builder();
+    }
+
+    @Override
+    public V get(K key, Callable<? extends V> valueLoader)
+    {
+        V value = this.getIfPresent(key);
+        if (value != null)
+        {
+            return value;
+        }
+
+        long start = System.nanoTime();
+        try
+        {
+            value = valueLoader.call();
+        }
+        catch (Exception e)
+        {
+            this.loadFailureCount.increment();
+            this.totalLoadTime.add(System.nanoTime() - start);
+            throw new RuntimeException(e);
+        }
+        this.totalLoadTime.add(System.nanoTime() - start);
+        if (value == null)
+        {
+            this.loadFailureCount.increment();
+            throw new RuntimeException("Cache loader returned null for key " + key);
+        }
+        this.loadSuccessCount.increment();
+        this.put(key, value);
+        return value;
+    }
+
+    @Override
+    public V getIfPresent(K key)
+    {
+        long now = System.nanoTime();
+        HotEntry<V> hotEntry = this.hotTier.getIfPresent(key);
+        V value;
+        if (hotEntry == null)
+        {
+            value = this.promote(key, now);
+        }
+        else if (this.isExpired(hotEntry.writeNanos, now))
+        {
+            this.hotTier.asMap().remove(key, hotEntry);
+            this.evictionCount.increment();
+            value = null;
+        }
+        else
+        {
+            value = hotEntry.value;
+        }
+
+        if (value == null)
+        {
+            this.missCount.increment();
+        }
+        else
+        {
+            this.hitCount.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public Map<? extends K, ? extends V> getAllPresent(Iterable<? extends K> keys)
+    {
+        Map<K, V> result = Maps.mutable.empty();
+        for (K key : keys)
+        {
+            V value = this.getIfPresent(key);
+            if (value != null)
+            {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void put(K key, V value)
+    {
+        if (this.offHeapTier != null && !(value instanceof Serializable))
+        {
+            throw new IllegalArgumentException("Values cached with an off-heap tier must be serializable, got " + value.getClass().getName());
+        }
+        HotEntry<V> entry = new HotEntry<>(value, System.nanoTime(), this.generations.incrementAndGet());
+        this.hotTier.put(key, entry);
+        if (this.offHeapTier != null)
+        {
+            // drop the previous value if it had been evicted to the off-heap tier, but not this one if it already was
+            this.offHeapTier.supersede(key, entry.generation);
+        }
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> keyValues)
+    {
+        keyValues.forEach(this::put);
+    }
+
+    @Override
+    public void invalidate(K key)
+    {
+        this.hotTier.invalidate(key);
+        if (this.offHeapTier != null)
+        {
+            this.offHeapTier.supersede(key, this.generations.incrementAndGet());
+        }
+    }
+
+    @Override
+    public void invalidateAll(Iterable<? extends K> keys)
+    {
+        this.hotTier.invalidateAll(keys);
+        if (this.offHeapTier != null)
+        {
+            keys.forEach(key -> this.offHeapTier.supersede(key, this.generations.incrementAndGet()));
+        }
+    }
+
+    @Override
+    public void invalidateAll()
+    {
+        this.hotTier.invalidateAll();
+        if (this.offHeapTier != null)
+        {
+            this.offHeapTier.clear(this.generations.incrementAndGet());
+        }
+    }
+
+    @Override
+    public long estimatedSize()
+    {
+        // a value is in one tier at a time
+        return this.hotTier.size() + (this.offHeapTier == null ? 0 : this.offHeapTier.size());
+    }
+
+    @Override
+    public ExecutionCacheStats stats()
+    {
+        return ExecutionCacheBuilder.buildExecutionCacheStatsFromGuavaCacheStats(new CacheStats(this.hitCount.sum(), this.missCount.sum(), this.loadSuccessCount.sum(), this.loadFailureCount.sum(), this.totalLoadTime.sum(), this.evictionCount.sum()));
+    }
+
+    /**
+     * Stats of the on-heap tier: its misses include the values served by the off-heap tier, its evictions include the values moved to the off-heap tier when present
+     */
+    public ExecutionCacheStats hotTierStats()
+    {
+        return ExecutionCacheBuilder.buildExecutionCacheStatsFromGuavaCacheStats(this.hotTier.stats());
+    }
+
+    /**
+     * Stats of the off-heap tier, which is only looked up on hot tier misses (empty when there is no off-heap tier)
+     */
+    public ExecutionCacheStats offHeapTierStats()
+    {
+        return ExecutionCacheBuilder.buildExecutionCacheStatsFromGuavaCacheStats(this.offHeapTier == null ? EMPTY_STATS : this.offHeapTier.stats());
+    }
+
+    /**
+     * Direct memory allocated by the off-heap tier, reused for the values it holds and never more than its maximum size
+     */
+    public long offHeapTierAllocatedBytes()
+    {
+        return this.offHeapTier == null ? 0 : this.offHeapTier.allocatedBytes();
+    }
+
+    private boolean isExpired(long writeNanos, long now)
+    {
+        return this.expireAfterWriteNanos > 0 && now - writeNanos >= this.expireAfterWriteNanos;
+    }
+
+    private void onHotTierRemoval(RemovalNotification<K, HotEntry<V>> notification)
+    {
+        if (notification.getCause() == RemovalCause.SIZE && this.offHeapTier != null)
+        {
+            try
+            {
+                this.evictionCount.add(this.demote(notification.getKey(), notification.getValue()));
+            }
+            finally
+            {
+                this.handledHotTierEvictions.increment();
+            }
+        }
+        else if (notification.wasEvicted())
+        {
+            this.evictionCount.increment();
+        }
+    }
+
+    /**
+     * @return the number of values evicted from the cache
+     */
+    private long demote(K key, HotEntry<V> entry)
+    {
+        if (!this.isExpired(entry.writeNanos, System.nanoTime()))
+        {
+            SerializedValue serialized = serialize(entry.value);
+            if (serialized != null)
+            {
+                return this.offHeapTier.put(key, serialized, entry.writeNanos, entry.generation);
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Whether values evicted from the hot tier may still be on their way to the off-heap tier. The hot tier counts an
+     * eviction before notifying it, and notifications are counted once handled: reading them first never misses one.
+     */
+    private boolean hasPendingDemotions()
+    {
+        long handled = this.handledHotTierEvictions.sum();
+        return this.hotTier.stats().evictionCount() > handled;
+    }
+
+    private V promote(K key, long now)
+    {
+        if (this.offHeapTier == null)
+        {
+            return null;
+        }
+        OffHeapValue offHeapValue = this.offHeapTier.remove(key, now);
+        if (offHeapValue == null)
+        {
+            return null;
+        }
+        if (this.isExpired(offHeapValue.writeNanos, now))
+        {
+            this.evictionCount.increment();
+            return null;
+        }
+        V value;
+        try
+        {
+            @SuppressWarnings("unchecked")
+            V deserialized = (V) offHeapValue.deserialize();
+            value = deserialized;
+        }
+        catch (IOException | ClassNotFoundException e)
+        {
+            LOGGER.warn("Unable to deserialize cached value, dropping it", e);
+            this.evictionCount.increment();
+            return null;
+        }
+        // a value put meanwhile is more recent than the promoted one
+        HotEntry<V> current = this.hotTier.asMap().putIfAbsent(key, new HotEntry<>(value, offHeapValue.writeNanos, offHeapValue.generation));
+        return current == null ? value : current.value;
+    }
+
+    private static SerializedValue serialize(Object value)
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ClassLoaderRecordingObjectOutputStream out = new ClassLoaderRecordingObjectOutputStream(bytes))
+        {
+            out.writeObject(value);
+            out.flush();
+            return new SerializedValue(bytes.toByteArray(), out.classLoaders.toArray(new ClassLoader[0]));
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Value of type {} cannot be serialized, dropping it instead of moving it off-heap", value.getClass().getName(), e);
+            return null;
+        }
+    }
+
+    public static class Builder
+    {
+        private long hotTierMaximumBytes = 64L * 1024 * 1024;
+        private long offHeapTierMaximumBytes = 0;
+        private long expireAfterWriteNanos = 0;
+
+        private Builder()
+        {
+        }
+
+        /**
+         * Maximum total estimated heap size of the values kept materialized on-heap
+         */
+        public Builder hotTierMaximumBytes(long hotTierMaximumBytes)
+        {
+            this.hotTierMaximumBytes = hotTierMaximumBytes;
+            return this;
+        }
+
+        /**
+         * Maximum direct memory holding the values evicted from the hot tier, serialized, 0 (the default) for no
+         * off-heap tier. The memory is allocated as needed, reused as values are evicted, and never exceeds this size.
+         * Values served from this tier are copies of the values as they were when evicted from the hot tier.
+         */
+        public Builder offHeapTierMaximumBytes(long offHeapTierMaximumBytes)
+        {
+            this.offHeapTierMaximumBytes = offHeapTierMaximumBytes;
+            return this;
+        }
+
+        public Builder expireAfterWrite(long duration, TimeUnit unit)
+        {
+            this.expireAfterWriteNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        public <K, V> TieredExecutionCache<K, V> build()
+        {
+            return new TieredExecutionCache<>(this);
+        }
+    }
+
+    private static class HotEntry<V>
+    {
+        private final V value;
+        private final int weight;
+        private final long writeNanos;
+        private final long generation;
+
+        private HotEntry(V value, long writeNanos, long generation)
+        {
+            this.value = value;
+            this.weight = (int) Math.min(Integer.MAX_VALUE, ObjectSizeEstimator.estimate(value));
+            this.writeNanos = writeNanos;
+            this.generation = generation;
+        }
+    }
+
+    private static class SerializedValue
+    {
+        private final byte[] bytes;
+        // loaders of the serialized classes, generated graph fetch classes are not visible from this class loader
+        private final ClassLoader[] classLoaders;
+
+        private SerializedValue(byte[] bytes, ClassLoader[] classLoaders)
+        {
+            this.bytes = bytes;
+            this.classLoaders = classLoaders;
+        }
+    }
+
+    private static class OffHeapValue
+    {
+        private final byte[] bytes;
+        private final ClassLoader[] classLoaders;
+        private final long writeNanos;
+        private final long generation;
+
+        private OffHeapValue(byte[] bytes, ClassLoader[] classLoaders, long writeNanos, long generation)
+        {
+            this.bytes = bytes;
+            this.classLoaders = classLoaders;
+            this.writeNanos = writeNanos;
+            this.generation = generation;
+        }
+
+        private Object deserialize() throws IOException, ClassNotFoundException
+        {
+            try (ObjectInputStream in = new ClassLoaderAwareObjectInputStream(new ByteArrayInputStream(this.bytes), this.classLoaders))
+            {
+                return in.readObject();
+            }
+        }
+    }
+
+    /**
+     * Least recently used values, serialized into fixed-size blocks of direct memory. Direct buffers are only released
+     * by the GC, so they are allocated once, in slabs as the tier fills up, and their blocks are reused.
+     */
+    private static class OffHeapTier<K>
+    {
+        private static final int BLOCK_SIZE = 512;
+        private static final int BLOCKS_PER_SLAB = 2048;
+
+        private final int maximumBlocks;
+        private final List<ByteBuffer> slabs = new ArrayList<>();
+        private int[] freeBlocks = new int[BLOCKS_PER_SLAB];
+        private int freeBlockCount = 0;
+        private int unallocatedBlock = 0;
+        private final LinkedHashMap<K, OffHeapEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        // generations of the last puts and invalidations of keys, kept only while evicted values may be on their way
+        private final BooleanSupplier demotionsPending;
+        private final Map<K, Long> supersedingGenerations = new HashMap<>();
+        private long clearedGeneration = 0;
+
+        private long hitCount = 0;
+        private long missCount = 0;
+        private long evictionCount = 0;
+
+        private OffHeapTier(long maximumBytes, BooleanSupplier demotionsPending)
+        {
+            this.maximumBlocks = (int) Math.min(Integer.MAX_VALUE - 8, maximumBytes / BLOCK_SIZE);
+            this.demotionsPending = demotionsPending;
+        }
+
+        /**
+         * @return the number of values evicted to make room, including this one if it does not fit at all, none if the
+         * value was put again or invalidated since
+         */
+        private synchronized int put(K key, SerializedValue value, long writeNanos, long generation)
+        {
+            OffHeapEntry current = this.entries.get(key);
+            if (generation < this.clearedGeneration || generation < this.supersedingGenerations.getOrDefault(key, 0L) || (current != null && current.generation > generation))
+            {
+                return 0;
+            }
+            this.remove(key);
+            int neededBlocks = (value.bytes.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            if (neededBlocks > this.maximumBlocks)
+            {
+                this.evictionCount++;
+                return 1;
+            }
+            int evicted = 0;
+            Iterator<OffHeapEntry> leastRecentlyUsed = this.entries.values().iterator();
+            while (this.freeBlockCount + this.maximumBlocks - this.unallocatedBlock < neededBlocks)
+            {
+                this.release(leastRecentlyUsed.next());
+                leastRecentlyUsed.remove();
+                evicted++;
+            }
+            this.evictionCount += evicted;
+
+            int[] blocks = new int[neededBlocks];
+            for (int i = 0; i < neededBlocks; i++)
+            {
+                int block = this.allocate();
+                blocks[i] = block;
+                int length = Math.min(BLOCK_SIZE, value.bytes.length - i * BLOCK_SIZE);
+                ByteBuffer slab = this.slabs.get(block / BLOCKS_PER_SLAB).duplicate();
+                slab.position((block % BLOCKS_PER_SLAB) * BLOCK_SIZE);
+                slab.put(value.bytes, i * BLOCK_SIZE, length);
+            }
+            this.entries.put(key, new OffHeapEntry(blocks, value.bytes.length, value.classLoaders, writeNanos, generation));
+            return evicted;
+        }
+
+        /**
+         * Drops the value of the key older than the given generation, and any value older than it still to be put
+         */
+        private synchronized void supersede(K key, long generation)
+        {
+            OffHeapEntry entry = this.entries.get(key);
+            if (entry != null && entry.generation < generation)
+            {
+                this.remove(key);
+            }
+            if (this.demotionsPending.getAsBoolean())
+            {
+                this.supersedingGenerations.merge(key, generation, Math::max);
+            }
+            else
+            {
+                this.supersedingGenerations.clear();
+            }
+        }
+
+        private synchronized OffHeapValue remove(K key, long now)
+        {
+            OffHeapEntry entry = this.entries.remove(key);
+            if (entry == null)
+            {
+                this.missCount++;
+                return null;
+            }
+            this.hitCount++;
+            byte[] bytes = new byte[entry.length];
+            for (int i = 0; i < entry.blocks.length; i++)
+            {
+                int block = entry.blocks[i];
+                ByteBuffer slab = this.slabs.get(block / BLOCKS_PER_SLAB).duplicate();
+                slab.position((block % BLOCKS_PER_SLAB) * BLOCK_SIZE);
+                slab.get(bytes, i * BLOCK_SIZE, Math.min(BLOCK_SIZE, entry.length - i * BLOCK_SIZE));
+            }
+            this.release(entry);
+            return new OffHeapValue(bytes, entry.classLoaders, entry.writeNanos, entry.generation);
+        }
+
+        private void remove(K key)
+        {
+            OffHeapEntry entry = this.entries.remove(key);
+            if (entry != null)
+            {
+                this.release(entry);
+            }
+        }
+
+        private synchronized void clear(long generation)
+        {
+            this.entries.values().forEach(this::release);
+            this.entries.clear();
+            this.supersedingGenerations.clear();
+            this.clearedGeneration = generation;
+        }
+
+        private synchronized long size()
+        {
+            return this.entries.size();
+        }
+
+        private synchronized CacheStats stats()
+        {
+            return new CacheStats(this.hitCount, this.missCount, 0, 0, 0, this.evictionCount);
+        }
+
+        private synchronized long allocatedBytes()
+        {
+            return this.slabs.stream().mapToLong(ByteBuffer::capacity).sum();
+        }
+
+        private int allocate()
+        {
+            if (this.freeBlockCount > 0)
+            {
+                return this.freeBlocks[--this.freeBlockCount];
+            }
+            int block = this.unallocatedBlock++;
+            if (block % BLOCKS_PER_SLAB == 0)
+            {
+                int slabBlocks = Math.min(BLOCKS_PER_SLAB, this.maximumBlocks - block);
+                this.slabs.add(ByteBuffer.allocateDirect(slabBlocks * BLOCK_SIZE));
+            }
+            return block;
+        }
+
+        private void release(OffHeapEntry entry)
+        {
+            if (this.freeBlockCount + entry.blocks.length > this.freeBlocks.length)
+            {
+                this.freeBlocks = Arrays.copyOf(this.freeBlocks, Math.max(this.freeBlocks.length * 2, this.freeBlockCount + entry.blocks.length));
+            }
+            for (int block : entry.blocks)
+            {
+                this.freeBlocks[this.freeBlockCount++] = block;
+            }
+        }
+    }
+
+    private static class OffHeapEntry
+    {
+        private final int[] blocks;
+        private final int length;
+        private final ClassLoader[] classLoaders;
+        private final long writeNanos;
+        private final long generation;
+
+        private OffHeapEntry(int[] blocks, int length, ClassLoader[] classLoaders, long writeNanos, long generation)
+        {
+            this.blocks = blocks;
+            this.length = length;
+            this.classLoaders = classLoaders;
+            this.writeNanos = writeNanos;
+            this.generation = generation;
+        }
+    }
+
+    private static class ClassLoaderRecordingObjectOutputStream extends ObjectOutputStream
+    {
+        private final Set<ClassLoader> classLoaders = new LinkedHashSet<>();
+
+        private ClassLoaderRecordingObjectOutputStream(OutputStream out) throws IOException
+        {
+            super(out);
+        }
+
+        @Override
+        protected void annotateClass(Class<?> cl)
+        {
+            ClassLoader classLoader = cl.getClassLoader();
+            if (classLoader != null)
+            {
+                this.classLoaders.add(classLoader);
+            }
+        }
+    }
+
+    private static class ClassLoaderAwareObjectInputStream extends ObjectInputStream
+    {
+        private final ClassLoader[] classLoaders;
+
+        private ClassLoaderAwareObjectInputStream(InputStream in, ClassLoader[] classLoaders) throws IOException
+        {
+            super(in);
+            this.classLoaders = classLoaders;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException
+        {
+            for (ClassLoader classLoader : this.classLoaders)
+            {
+                try
+                {
+                    return Class.forName(desc.getName(), false, classLoader);
+                }
+                catch (ClassNotFoundException ignored)
+                {
+                    // try the next one
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+}
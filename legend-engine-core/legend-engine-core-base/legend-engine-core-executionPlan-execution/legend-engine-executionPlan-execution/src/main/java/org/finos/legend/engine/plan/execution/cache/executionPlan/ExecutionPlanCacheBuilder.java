@@ -32,4 +32,9 @@ public class ExecutionPlanCacheBuilder
     {
         return new ExecutionPlanCache(ExecutionCacheBuilder.buildExecutionCacheFromGuavaCache(CacheBuilder.newBuilder().recordStats().build()));
     }
+
+    public static ExecutionPlanCache buildWithMaximumSize(long maximumSize)
+    {
+        return new ExecutionPlanCache(ExecutionCacheBuilder.buildExecutionCacheFromGuavaCache(CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build()));
+    }
 }
@@ -0,0 +1,57 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.cache.executionPlan;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Key of a plan deserialized from its JSON, by content hash so that the key does not retain the serialized plan
+ */
+public class SerializedPlanCacheKey implements PlanCacheKey
+{
+    private final HashCode hash;
+    private final int length;
+
+    public SerializedPlanCacheKey(String serializedPlan)
+    {
+        this.hash = Hashing.sha256().hashString(serializedPlan, StandardCharsets.UTF_8);
+        this.length = serializedPlan.length();
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass())
+        {
+            return false;
+        }
+        SerializedPlanCacheKey that = (SerializedPlanCacheKey) o;
+        return this.length == that.length && this.hash.equals(that.hash);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(this.hash, this.length);
+    }
+}
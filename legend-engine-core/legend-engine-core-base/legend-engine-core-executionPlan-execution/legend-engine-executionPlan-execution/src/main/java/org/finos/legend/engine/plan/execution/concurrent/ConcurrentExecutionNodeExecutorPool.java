@@ -29,6 +29,7 @@ import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNode;
 import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 import org.finos.legend.engine.shared.core.url.StreamProvider;
 import org.finos.legend.engine.shared.core.url.StreamProviderHolder;
 
@@ -38,23 +39,46 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Pool management class. This class should be instantiated only during server spin up to help manage thread pool and guard system against thread explosions.
+ * <p>
+ * In {@link Mode#ALL_OR_NOTHING} mode, child nodes are executed concurrently only when a thread is available for each of them, sequentially otherwise.
+ * In {@link Mode#PARTIAL} mode, a request takes the threads available (up to its concurrency cap) and the calling thread joins them:
+ * they all pick the child nodes one after the other, so that the nodes which could not get a thread queue up instead of turning the whole execution sequential.
  */
 @JsonSerialize(using = ConcurrentExecutionNodeExecutorPoolSerializer.class)
 public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
 {
+    public enum Mode
+    {
+        ALL_OR_NOTHING,
+        PARTIAL
+    }
+
     private final int poolSize;
     private final String poolDescription;
+    private final Mode mode;
+    private final int maxConcurrencyPerRequest;
     private final ExecutorService executor;
     private final ExecutorService delegatedExecutor;
     private final Semaphore availableThreads;
 
     public ConcurrentExecutionNodeExecutorPool(int poolSize, String poolDescription)
+    {
+        this(poolSize, poolDescription, Mode.ALL_OR_NOTHING, poolSize);
+    }
+
+    /**
+     * @param maxConcurrencyPerRequest maximum number of child nodes of a request executed at the same time, calling thread included (only used in {@link Mode#PARTIAL} mode)
+     */
+    public ConcurrentExecutionNodeExecutorPool(int poolSize, String poolDescription, Mode mode, int maxConcurrencyPerRequest)
     {
         this.poolSize = poolSize;
         this.poolDescription = poolDescription;
+        this.mode = mode;
+        this.maxConcurrencyPerRequest = Math.max(1, maxConcurrencyPerRequest);
         this.delegatedExecutor = Executors.newFixedThreadPool(poolSize);
         this.executor = new TracedExecutorService(this.delegatedExecutor, GlobalTracer.get());
         this.availableThreads = new Semaphore(poolSize);
@@ -68,6 +92,10 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
 
     public List<? extends Result> execute(final List<ExecutionNode> nodes, final Identity identity, final ExecutionState executionState)
     {
+        if (mode == Mode.PARTIAL)
+        {
+            return executePartially(nodes, identity, executionState);
+        }
         if (!executor.isShutdown() && availableThreads.tryAcquire(nodes.size()))
         {
             try (Scope scope = GlobalTracer.get().buildSpan("Parallel Execution Triggered").startActive(true))
@@ -85,6 +113,7 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
         }
         else
         {
+            MetricsHandler.incrementConcurrentExecutionFallbackCount(poolDescription);
             try (Scope scope = GlobalTracer.get().buildSpan("Sequential Execution Triggered").startActive(true))
             {
                 return ListIterate.collect(nodes, node -> node.accept(new ExecutionNodeExecutor(identity, executionState)));
@@ -92,6 +121,39 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
         }
     }
 
+    private List<Result> executePartially(final List<ExecutionNode> nodes, final Identity identity, final ExecutionState executionState)
+    {
+        // the calling thread executes nodes as well, threads are only needed for the others
+        int threadsWanted = Math.min(nodes.size(), maxConcurrencyPerRequest) - 1;
+        int threadsAcquired = 0;
+        while (!executor.isShutdown() && threadsAcquired < threadsWanted && availableThreads.tryAcquire())
+        {
+            threadsAcquired++;
+        }
+        if (threadsAcquired == 0 && nodes.size() > 1)
+        {
+            MetricsHandler.incrementConcurrentExecutionFallbackCount(poolDescription);
+        }
+
+        try (Scope scope = GlobalTracer.get().buildSpan(threadsAcquired == 0 ? "Sequential Execution Triggered" : "Parallel Execution Triggered").startActive(true))
+        {
+            scope.span().setTag("threads", threadsAcquired);
+            PartialExecution execution = new PartialExecution(nodes, identity, executionState);
+            List<CompletableFuture<Void>> workers = FastList.newList();
+            for (int i = 0; i < threadsAcquired; i++)
+            {
+                workers.add(CompletableFuture.runAsync(execution::run, executor));
+            }
+            execution.run();
+            CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).join();
+            return execution.results();
+        }
+        finally
+        {
+            availableThreads.release(threadsAcquired);
+        }
+    }
+
     private List<Result> executeConcurrently(final List<ExecutionNode> nodes, final Identity identity, final ExecutionState executionState)
     {
         List<CompletableFuture<Pair<Result, ExecutionState>>> elements = FastList.newList();
@@ -128,6 +190,67 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
         return results;
     }
 
+    private class PartialExecution
+    {
+        private final List<ExecutionNode> nodes;
+        private final Identity identity;
+        private final ExecutionState executionState;
+        private final StreamProvider streamProvider = StreamProviderHolder.streamProviderThreadLocal.get();
+        private final long start = System.currentTimeMillis();
+        private final AtomicInteger nextNode = new AtomicInteger();
+        private final Result[] results;
+        private final ExecutionState[] executionStates;
+        private volatile Throwable failure;
+
+        private PartialExecution(List<ExecutionNode> nodes, Identity identity, ExecutionState executionState)
+        {
+            this.nodes = nodes;
+            this.identity = identity;
+            this.executionState = executionState;
+            this.results = new Result[nodes.size()];
+            this.executionStates = new ExecutionState[nodes.size()];
+            MetricsHandler.incrementConcurrentExecutionQueueDepth(poolDescription, nodes.size());
+        }
+
+        private void run()
+        {
+            StreamProviderHolder.streamProviderThreadLocal.set(this.streamProvider);
+            int index;
+            while ((index = this.nextNode.getAndIncrement()) < this.nodes.size())
+            {
+                MetricsHandler.decrementConcurrentExecutionQueueDepth(poolDescription, 1);
+                if (this.failure != null)
+                {
+                    continue;
+                }
+                MetricsHandler.observeConcurrentExecutionWaitTime(poolDescription, this.start, System.currentTimeMillis());
+                try (Scope scope = GlobalTracer.get().buildSpan(String.format("Execution for child - %d", index)).startActive(true))
+                {
+                    ExecutionState executionStateForThread = this.executionState.copy();
+                    this.results[index] = this.nodes.get(index).accept(new ExecutionNodeExecutor(this.identity, executionStateForThread));
+                    this.executionStates[index] = executionStateForThread;
+                }
+                catch (Throwable t)
+                {
+                    this.failure = t;
+                }
+            }
+        }
+
+        private List<Result> results()
+        {
+            if (this.failure != null)
+            {
+                throw this.failure instanceof RuntimeException ? (RuntimeException) this.failure : new RuntimeException(this.failure);
+            }
+            for (ExecutionState state : this.executionStates)
+            {
+                this.executionState.activities.addAll(state.activities.select(a -> !this.executionState.activities.contains(a)));
+            }
+            return FastList.newListWith(this.results);
+        }
+    }
+
     @Override
     public String toString()
     {
@@ -146,6 +269,10 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
         jsonGenerator.writeString(this.poolDescription);
         jsonGenerator.writeFieldName("poolSize");
         jsonGenerator.writeNumber(this.poolSize);
+        jsonGenerator.writeFieldName("mode");
+        jsonGenerator.writeString(this.mode.name());
+        jsonGenerator.writeFieldName("maxConcurrencyPerRequest");
+        jsonGenerator.writeNumber(this.maxConcurrencyPerRequest);
         jsonGenerator.writeFieldName("executor");
         jsonGenerator.writeString(this.delegatedExecutor.toString());
         jsonGenerator.writeFieldName("availableThreads");
@@ -15,10 +15,57 @@
 
 package org.finos.legend.engine.plan.execution.graphFetch;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 
 public class AdaptiveBatching
 {
+    private static final Cache<String, GraphFetchBatchProfile> BATCH_PROFILES = CacheBuilder.newBuilder().maximumSize(1_000).build();
+
+    /**
+     * Profile of the batches of the root graph fetch node identified by the key (its root query), shared by all
+     * executions of the plan. The batches include the store local children of the root, see {@link GraphFetchBatchProfile}.
+     */
+    public static GraphFetchBatchProfile getBatchProfile(String graphFetchNodeKey)
+    {
+        return BATCH_PROFILES.asMap().computeIfAbsent(graphFetchNodeKey, k -> new GraphFetchBatchProfile());
+    }
+
+    /**
+     * Batch size steered on memory utilization as {@link #getAdaptiveBatchSize(ExecutionState)}, grown faster when the
+     * profile shows that the round trip to the store accounts for more than the configured share of a batch latency.
+     * The batch size picked from latencies never goes beyond the soft memory limit for the memory utilization per
+     * object recorded in the profile.
+     */
+    public static long getAdaptiveBatchSize(ExecutionState executionState, GraphFetchBatchProfile batchProfile)
+    {
+        long batchSize = getAdaptiveBatchSize(executionState);
+        if (batchProfile == null || !executionState.getGraphFetchExecutionConfiguration().shouldUseLatencyAwareBatching())
+        {
+            return batchSize;
+        }
+        long latencyAwareBatchSize = getLatencyAwareBatchSize(executionState.getGraphFetchExecutionConfiguration(), batchProfile);
+        if (latencyAwareBatchSize > batchSize)
+        {
+            executionState.adaptiveGraphBatchStats.previousBatchSize = latencyAwareBatchSize;
+            return latencyAwareBatchSize;
+        }
+        return batchSize;
+    }
+
+    static long getLatencyAwareBatchSize(GraphFetchExecutionConfiguration graphFetchExecutionConfiguration, GraphFetchBatchProfile batchProfile)
+    {
+        long latencyBatchSize = batchProfile.getBatchSizeForRoundTripOverhead(graphFetchExecutionConfiguration.getGraphFetchRoundTripOverheadPercentage() / 100.0);
+        double memoryUtilizationPerObject = batchProfile.getMemoryUtilizationPerObject();
+        if (latencyBatchSize <= 0 || memoryUtilizationPerObject <= 0)
+        {
+            return -1;
+        }
+        long memoryBatchSize = (long) (graphFetchExecutionConfiguration.getGraphFetchBatchMemorySoftLimit() / memoryUtilizationPerObject);
+        return Math.min(latencyBatchSize, memoryBatchSize);
+    }
+
     public static long getAdaptiveBatchSize(ExecutionState executionState)
     {
         if (executionState.adaptiveGraphBatchStats == null)
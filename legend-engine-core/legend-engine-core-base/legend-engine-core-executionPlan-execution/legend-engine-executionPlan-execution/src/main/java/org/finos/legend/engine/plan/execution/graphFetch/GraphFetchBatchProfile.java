@@ -0,0 +1,124 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.graphFetch;
+
+/**
+ * Stats of the last batches executed for a graph fetch node, kept across executions of the plan.
+ * <p>
+ * The latency of a batch is modelled as a fixed round trip cost plus a cost per object, fitted by least squares over
+ * the last {@link #SAMPLE_WINDOW} batches.
+ * <p>
+ * Profiles are only recorded for root graph fetch nodes, as only the root picks a batch size: store local children
+ * fetch the objects of the root batch, so their latency is part of the recorded root batch latency, and cross store
+ * children run on the batches the root produced. A profile per child node would have no batch size to steer.
+ */
+public class GraphFetchBatchProfile
+{
+    static final int SAMPLE_WINDOW = 20;
+
+    private final long[] objectCounts = new long[SAMPLE_WINDOW];
+    private final long[] memoryUtilizations = new long[SAMPLE_WINDOW];
+    private final long[] latenciesInNanos = new long[SAMPLE_WINDOW];
+    private long batchCount;
+
+    public synchronized void recordBatch(long objectCount, long memoryUtilization, long latencyInNanos)
+    {
+        if (objectCount <= 0)
+        {
+            return;
+        }
+        int index = (int) (this.batchCount % SAMPLE_WINDOW);
+        this.objectCounts[index] = objectCount;
+        this.memoryUtilizations[index] = memoryUtilization;
+        this.latenciesInNanos[index] = latencyInNanos;
+        this.batchCount++;
+    }
+
+    public synchronized long getBatchCount()
+    {
+        return this.batchCount;
+    }
+
+    /**
+     * Average memory utilization per object over the recorded batches, or -1 if no batch was recorded
+     */
+    public synchronized double getMemoryUtilizationPerObject()
+    {
+        int samples = this.sampleCount();
+        long objects = 0;
+        long memory = 0;
+        for (int i = 0; i < samples; i++)
+        {
+            objects += this.objectCounts[i];
+            memory += this.memoryUtilizations[i];
+        }
+        return samples == 0 ? -1 : memory / (double) objects;
+    }
+
+    /**
+     * Smallest batch size for which the fixed round trip cost is at most the given share of the batch latency.
+     * Returns {@link Long#MAX_VALUE} if no cost per object is measurable, and -1 if the recorded batches cannot tell
+     * the fixed cost apart from the cost per object, or show no fixed cost.
+     */
+    public synchronized long getBatchSizeForRoundTripOverhead(double maxRoundTripOverhead)
+    {
+        int samples = this.sampleCount();
+        if (samples < 2)
+        {
+            return -1;
+        }
+
+        double meanObjects = 0;
+        double meanLatency = 0;
+        for (int i = 0; i < samples; i++)
+        {
+            meanObjects += this.objectCounts[i];
+            meanLatency += this.latenciesInNanos[i];
+        }
+        meanObjects /= samples;
+        meanLatency /= samples;
+
+        double objectsVariance = 0;
+        double covariance = 0;
+        for (int i = 0; i < samples; i++)
+        {
+            double objectsDelta = this.objectCounts[i] - meanObjects;
+            objectsVariance += objectsDelta * objectsDelta;
+            covariance += objectsDelta * (this.latenciesInNanos[i] - meanLatency);
+        }
+        if (objectsVariance == 0)
+        {
+            return -1;
+        }
+
+        double latencyPerObject = covariance / objectsVariance;
+        double roundTripLatency = latencyPerObject > 0 ? meanLatency - latencyPerObject * meanObjects : meanLatency;
+        if (roundTripLatency <= 0)
+        {
+            return -1;
+        }
+        if (latencyPerObject <= 0)
+        {
+            return Long.MAX_VALUE;
+        }
+        double batchSize = Math.ceil(roundTripLatency * (1 - maxRoundTripOverhead) / (maxRoundTripOverhead * latencyPerObject));
+        return batchSize >= Long.MAX_VALUE ? Long.MAX_VALUE : Math.max(1, (long) batchSize);
+    }
+
+    private int sampleCount()
+    {
+        return (int) Math.min(this.batchCount, SAMPLE_WINDOW);
+    }
+}
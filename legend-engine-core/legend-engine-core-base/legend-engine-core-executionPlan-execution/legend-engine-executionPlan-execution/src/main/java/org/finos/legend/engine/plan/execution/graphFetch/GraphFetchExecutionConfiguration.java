@@ -22,6 +22,8 @@ public class GraphFetchExecutionConfiguration
     public static final long DEFAULT_SOFT_MEMORY_LIMIT_PERCENTAGE = 50;
     public static final boolean DEFAULT_USE_ADAPTIVE_BATCHING = false;
     public static final long DEFAULT_BATCH_SIZE = 1000;
+    public static final boolean DEFAULT_USE_LATENCY_AWARE_BATCHING = false;
+    public static final long DEFAULT_ROUND_TRIP_OVERHEAD_PERCENTAGE = 10;
 
     public static final long SOFT_MEMORY_TO_USE_FULL_MEMORY_PERCENTAGE = 100;
 
@@ -36,6 +38,10 @@ public class GraphFetchExecutionConfiguration
     @JsonProperty
     private final long defaultBatchSize;
     @JsonProperty
+    private final boolean useLatencyAwareBatching;
+    @JsonProperty
+    private final long roundTripOverheadPercentage;
+    @JsonProperty
     private final boolean parallelizeGraphFetchQueries;
     @JsonProperty
     private ParallelGraphFetchExecutionConfig parallelGraphFetchExecutionConfig;
@@ -46,6 +52,8 @@ public class GraphFetchExecutionConfiguration
         this.softMemoryLimitPercentage = DEFAULT_SOFT_MEMORY_LIMIT_PERCENTAGE;
         this.useAdaptiveBatching = DEFAULT_USE_ADAPTIVE_BATCHING;
         this.defaultBatchSize = DEFAULT_BATCH_SIZE;
+        this.useLatencyAwareBatching = DEFAULT_USE_LATENCY_AWARE_BATCHING;
+        this.roundTripOverheadPercentage = DEFAULT_ROUND_TRIP_OVERHEAD_PERCENTAGE;
         this.parallelizeGraphFetchQueries = DEFAULT_PARALLELIZE_GRAPHFETCH_QUERIES;
         this.parallelGraphFetchExecutionConfig = new ParallelGraphFetchExecutionConfig();
     }
@@ -56,16 +64,25 @@ public class GraphFetchExecutionConfiguration
         this.softMemoryLimitPercentage = DEFAULT_SOFT_MEMORY_LIMIT_PERCENTAGE;
         this.useAdaptiveBatching = DEFAULT_USE_ADAPTIVE_BATCHING;
         this.defaultBatchSize = DEFAULT_BATCH_SIZE;
+        this.useLatencyAwareBatching = DEFAULT_USE_LATENCY_AWARE_BATCHING;
+        this.roundTripOverheadPercentage = DEFAULT_ROUND_TRIP_OVERHEAD_PERCENTAGE;
         this.parallelizeGraphFetchQueries = true;
         this.parallelGraphFetchExecutionConfig = parallelGraphFetchExecutionConfig;
     }
 
     public GraphFetchExecutionConfiguration(long graphFetchBatchMemoryLimit, long graphFetchSoftMemoryLimitPercentage, boolean useAdaptiveBatching, long graphFetchDefaultBatchSize)
+    {
+        this(graphFetchBatchMemoryLimit, graphFetchSoftMemoryLimitPercentage, useAdaptiveBatching, graphFetchDefaultBatchSize, DEFAULT_USE_LATENCY_AWARE_BATCHING, DEFAULT_ROUND_TRIP_OVERHEAD_PERCENTAGE);
+    }
+
+    public GraphFetchExecutionConfiguration(long graphFetchBatchMemoryLimit, long graphFetchSoftMemoryLimitPercentage, boolean useAdaptiveBatching, long graphFetchDefaultBatchSize, boolean useLatencyAwareBatching, long roundTripOverheadPercentage)
     {
         this.batchMemoryLimit = graphFetchBatchMemoryLimit;
         this.softMemoryLimitPercentage = graphFetchSoftMemoryLimitPercentage;
         this.useAdaptiveBatching = useAdaptiveBatching;
         this.defaultBatchSize = graphFetchDefaultBatchSize;
+        this.useLatencyAwareBatching = useLatencyAwareBatching;
+        this.roundTripOverheadPercentage = roundTripOverheadPercentage;
         this.parallelizeGraphFetchQueries = DEFAULT_PARALLELIZE_GRAPHFETCH_QUERIES;
         this.parallelGraphFetchExecutionConfig = new ParallelGraphFetchExecutionConfig();
     }
@@ -76,6 +93,8 @@ public class GraphFetchExecutionConfiguration
         this.softMemoryLimitPercentage = SOFT_MEMORY_TO_USE_FULL_MEMORY_PERCENTAGE;
         this.useAdaptiveBatching = DEFAULT_USE_ADAPTIVE_BATCHING;
         this.defaultBatchSize = DEFAULT_BATCH_SIZE;
+        this.useLatencyAwareBatching = DEFAULT_USE_LATENCY_AWARE_BATCHING;
+        this.roundTripOverheadPercentage = DEFAULT_ROUND_TRIP_OVERHEAD_PERCENTAGE;
         this.parallelizeGraphFetchQueries = DEFAULT_PARALLELIZE_GRAPHFETCH_QUERIES;
         this.parallelGraphFetchExecutionConfig = new ParallelGraphFetchExecutionConfig();
     }
@@ -105,6 +124,23 @@ public class GraphFetchExecutionConfiguration
         return defaultBatchSize;
     }
 
+    /**
+     * Whether adaptive batching should also use the latencies observed for previous batches of the same graph fetch,
+     * see {@link AdaptiveBatching#getAdaptiveBatchSize(org.finos.legend.engine.plan.execution.nodes.state.ExecutionState, GraphFetchBatchProfile)}
+     */
+    public boolean shouldUseLatencyAwareBatching()
+    {
+        return useAdaptiveBatching && useLatencyAwareBatching;
+    }
+
+    /**
+     * Share of a batch execution time which may be spent on the fixed cost of the round trip to the store
+     */
+    public long getGraphFetchRoundTripOverheadPercentage()
+    {
+        return roundTripOverheadPercentage;
+    }
+
     public ParallelGraphFetchExecutionConfig getParallelGraphFetchExecutionConfig()
     {
         return parallelGraphFetchExecutionConfig;
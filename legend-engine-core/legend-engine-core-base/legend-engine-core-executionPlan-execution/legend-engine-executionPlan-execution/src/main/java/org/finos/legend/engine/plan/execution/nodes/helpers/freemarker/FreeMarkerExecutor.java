@@ -14,6 +14,10 @@
 
 package org.finos.legend.engine.plan.execution.nodes.helpers.freemarker;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import freemarker.core.TemplateDateFormatFactory;
 import freemarker.template.Configuration;
 import freemarker.template.ObjectWrapper;
@@ -42,6 +46,20 @@ public class FreeMarkerExecutor
     public static Pattern pattern = Pattern.compile("(\\$)[\\{](?:[^\\{\\}]+|[\\{][^\\{\\}]*[\\}])*[\\}]");
     private static ObjectWrapper objectWrapper = FreeMarkerExecutor.freemarkerConfig.getObjectWrapper();
     public static String overridePropertyForTemplateModel = "overrideTemplateModel";
+    public static String TEMPLATE_CACHE_WEIGHT_SYSTEM_PROPERTY = "org.finos.legend.engine.execution.freeMarkerTemplateCacheWeight";
+    private static final String[] FREEMARKER_MARKUP = {"${", "#{", "<#", "</#", "<@", "</@", "[#", "[/#", "[@", "[/@", "[="};
+
+    // one instance of each distinct template functions string, shared by the keys of all the templates parsed with it
+    private static final Interner<String> templateFunctionsInterner = Interners.newWeakInterner();
+    // the SQL of a plan does not change between executions, templates are parsed once per SQL and template functions.
+    // Each template holds its own parse of the template functions, so it is weighed by the length of both.
+    private static final Cache<TemplateKey, Template> templates = CacheBuilder.newBuilder()
+            .maximumWeight(Long.getLong(TEMPLATE_CACHE_WEIGHT_SYSTEM_PROPERTY, 50_000_000L))
+            .weigher((TemplateKey key, Template template) -> (int) Math.min(Integer.MAX_VALUE, (long) key.text.length() + key.templateFunctions.length()))
+            .build();
+    private static final Cache<String, Boolean> templateFunctionsWithoutOutput = CacheBuilder.newBuilder()
+            .maximumSize(100)
+            .build();
 
     static
     {
@@ -60,6 +78,13 @@ public class FreeMarkerExecutor
 
     public static String process(String input, ExecutionState executionState, String dbType, String databaseTimeZone)
     {
+        String templateFunctions = templateFunctionsInterner.intern(String.join("", executionState.getTemplateFunctions()));
+        String plainText = asPlainText(input, templateFunctions);
+        if (plainText != null)
+        {
+            return plainText;
+        }
+
         Map<String, Object> variableMap = new HashMap<>();
         executionState.getResults().forEach((k, v) ->
         {
@@ -81,7 +106,6 @@ public class FreeMarkerExecutor
                 variableMap.put(k, v);  // This is here for evaluating conditional checks only and should not be actually processed to extract value
             }
         });
-        String templateFunctions = String.join("", executionState.getTemplateFunctions());
         variableMap.put("instanceOf", new FreemarkerInstanceOfMethod());
 
         return StringUtils.isBlank(templateFunctions) ? process(input, variableMap, templateFunctions) : processRecursively(input, variableMap, templateFunctions);
@@ -146,12 +170,15 @@ public class FreeMarkerExecutor
 
     private static String process(String input, TemplateHashModelOverride variableMap, String templateFunctions)
     {
+        String plainText = asPlainText(input, templateFunctions);
+        if (plainText != null)
+        {
+            return plainText;
+        }
         StringWriter stringWriter = new StringWriter();
         try
         {
-            Template template = new Template("template", new StringReader(templateFunctions + input.replace("\\\"", "\"")), freemarkerConfig);
-            template.setCustomDateFormats(customDateFormats);
-            template.setDateFormat("@alloyDate");
+            Template template = getTemplate(input.replace("\\\"", "\""), templateFunctions);
             template.process(variableMap, stringWriter);
             return stringWriter.toString();
         }
@@ -160,4 +187,102 @@ public class FreeMarkerExecutor
             throw new RuntimeException("Issue processing freemarker function.  Template with error: " + stringWriter.toString(), e);
         }
     }
+
+    static Template getTemplate(String text, String templateFunctions) throws Exception
+    {
+        TemplateKey key = new TemplateKey(text, templateFunctions);
+        Template template = templates.getIfPresent(key);
+        if (template == null)
+        {
+            // templates are safe to share across threads once configured
+            template = new Template("template", new StringReader(templateFunctions + text), freemarkerConfig);
+            template.setCustomDateFormats(customDateFormats);
+            template.setDateFormat("@alloyDate");
+            templates.put(key, template);
+        }
+        return template;
+    }
+
+    /*
+        The input as processed by FreeMarker when it has no FreeMarker markup, null otherwise. Template functions only change the
+        output of such an input if they output something themselves, or if they share their last line with a blank first line of the
+        input (FreeMarker strips the white space of lines with tags only).
+     */
+    static String asPlainText(String input, String templateFunctions)
+    {
+        String text = input.replace("\\\"", "\"");
+        for (String markup : FREEMARKER_MARKUP)
+        {
+            if (text.contains(markup))
+            {
+                return null;
+            }
+        }
+        if (templateFunctions.isEmpty())
+        {
+            return text;
+        }
+        int firstLineEnd = StringUtils.indexOfAny(text, '\n', '\r');
+        if (StringUtils.isBlank(firstLineEnd == -1 ? text : text.substring(0, firstLineEnd)))
+        {
+            return null;
+        }
+        Boolean withoutOutput = templateFunctionsWithoutOutput.getIfPresent(templateFunctions);
+        if (withoutOutput == null)
+        {
+            withoutOutput = hasNoOutput(templateFunctions);
+            templateFunctionsWithoutOutput.put(templateFunctions, withoutOutput);
+        }
+        return withoutOutput ? text : null;
+    }
+
+    private static boolean hasNoOutput(String templateFunctions)
+    {
+        try
+        {
+            StringWriter stringWriter = new StringWriter();
+            getTemplate("x", templateFunctions).process(new TemplateHashModelOverride(Maps.mutable.empty(), templateFunctions), stringWriter);
+            return "x".equals(stringWriter.toString());
+        }
+        catch (Exception e)
+        {
+            return false;
+        }
+    }
+
+    private static final class TemplateKey
+    {
+        private final String text;
+        private final String templateFunctions;
+        private final int hashCode;
+
+        private TemplateKey(String text, String templateFunctions)
+        {
+            this.text = text;
+            this.templateFunctions = templateFunctionsInterner.intern(templateFunctions);
+            this.hashCode = 31 * text.hashCode() + this.templateFunctions.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (!(other instanceof TemplateKey))
+            {
+                return false;
+            }
+            TemplateKey that = (TemplateKey) other;
+            // template functions are interned
+            return this.hashCode == that.hashCode && this.templateFunctions == that.templateFunctions && this.text.equals(that.text);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
 }
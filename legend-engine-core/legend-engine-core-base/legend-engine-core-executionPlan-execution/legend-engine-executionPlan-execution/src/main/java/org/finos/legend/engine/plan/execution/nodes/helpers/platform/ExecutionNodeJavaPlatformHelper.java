@@ -14,6 +14,8 @@
 
 package org.finos.legend.engine.plan.execution.nodes.helpers.platform;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.tuple.Pair;
@@ -34,15 +36,16 @@ import org.finos.legend.engine.shared.core.identity.credential.KerberosUtils;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
 import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
-import org.finos.legend.engine.shared.javaCompiler.StringJavaSource;
 import org.slf4j.Logger;
 
 import javax.security.auth.Subject;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -266,34 +269,15 @@ public class ExecutionNodeJavaPlatformHelper
         {
             // TODO Confirm we can delete this
             MutableMap<String, String> compiledClassesWithByteCode = getCompiledClasses(node);
-            List<StringJavaSource> classesToCompile = javaClasses.stream()
+            List<JavaClass> classesToCompile = javaClasses.stream()
                     .filter(c -> !compiledClassesWithByteCode.containsKey(JavaHelper.getJavaClassFullName(c)))
-                    .map(JavaHelper::buildStringJavaSource)
                     .collect(Collectors.toList());
 
-            EngineJavaCompiler compiler = new EngineJavaCompiler(executionState.getJavaCompiler());
-
-            long start = System.currentTimeMillis();
-
-            try
-            {
-                if (!compiledClassesWithByteCode.isEmpty())
-                {
-                    compiler.load(compiledClassesWithByteCode);
-                }
-
-                if (!classesToCompile.isEmpty())
-                {
-                    LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.JAVA_COMPILATION_START, "Node: " + node.getClass().getName()).toString());
-                    compiler.compile(classesToCompile);
-                    LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.JAVA_COMPILATION_STOP, (double) System.currentTimeMillis() - start).toString());
-                }
-            }
-            catch (Exception jce)
-            {
-                LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.JAVA_COMPILATION_ERROR, new ErrorResult(1, jce).getMessage()).toString());
-                throw jce;
-            }
+            // the classes of a node are loaded (or compiled) once per plan compiler, and their class loader reused by later executions
+            EngineJavaCompiler planCompiler = executionState.getJavaCompiler();
+            EngineJavaCompiler compiler = (planCompiler == null) ?
+                    newNodeCompiler(null, node, compiledClassesWithByteCode, classesToCompile, identity) :
+                    planCompiler.getOrCreateChild(nodeClassesKey(compiledClassesWithByteCode, classesToCompile), p -> newNodeCompiler(p, node, compiledClassesWithByteCode, classesToCompile, identity));
 
             return compiler.getClassLoader().loadClass(_class);
         }
@@ -307,6 +291,48 @@ public class ExecutionNodeJavaPlatformHelper
         }
     }
 
+    private static EngineJavaCompiler newNodeCompiler(EngineJavaCompiler planCompiler, ExecutionNode node, MutableMap<String, String> compiledClassesWithByteCode, List<JavaClass> classesToCompile, Identity identity)
+    {
+        EngineJavaCompiler compiler = new EngineJavaCompiler(planCompiler);
+
+        long start = System.currentTimeMillis();
+
+        try
+        {
+            if (!compiledClassesWithByteCode.isEmpty())
+            {
+                compiler.load(compiledClassesWithByteCode);
+            }
+
+            if (!classesToCompile.isEmpty())
+            {
+                LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.JAVA_COMPILATION_START, "Node: " + node.getClass().getName()).toString());
+                compiler.compile(classesToCompile.stream().map(JavaHelper::buildStringJavaSource).collect(Collectors.toList()));
+                LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.JAVA_COMPILATION_STOP, (double) System.currentTimeMillis() - start).toString());
+            }
+        }
+        catch (Exception jce)
+        {
+            LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.JAVA_COMPILATION_ERROR, new ErrorResult(1, jce).getMessage()).toString());
+            if (jce instanceof RuntimeException)
+            {
+                throw (RuntimeException) jce;
+            }
+            throw new RuntimeException(jce);
+        }
+        return compiler;
+    }
+
+    private static String nodeClassesKey(MutableMap<String, String> compiledClassesWithByteCode, List<JavaClass> classesToCompile)
+    {
+        Hasher hasher = Hashing.sha256().newHasher();
+        compiledClassesWithByteCode.keysView().toSortedList().forEach(className -> hasher.putString(className, StandardCharsets.UTF_8).putString(compiledClassesWithByteCode.get(className), StandardCharsets.UTF_8));
+        classesToCompile.stream()
+                .sorted(Comparator.comparing(JavaHelper::getJavaClassFullName))
+                .forEach(c -> hasher.putString(JavaHelper.getJavaClassFullName(c), StandardCharsets.UTF_8).putString(String.valueOf(c.source), StandardCharsets.UTF_8));
+        return hasher.hash().toString();
+    }
+
     private static MutableMap<String, String> getCompiledClasses(ExecutionNode node)
     {
         JavaPlatformImplementation platformImplementation = (JavaPlatformImplementation) node.implementation;
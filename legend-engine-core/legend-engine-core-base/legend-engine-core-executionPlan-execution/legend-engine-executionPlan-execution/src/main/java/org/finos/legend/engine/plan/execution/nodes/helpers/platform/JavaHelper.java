@@ -32,6 +32,7 @@ import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
 import org.finos.legend.engine.shared.javaCompiler.ClassPathFilters;
 import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
+import org.finos.legend.engine.shared.javaCompiler.JavaCompilationCache;
 import org.finos.legend.engine.shared.javaCompiler.JavaCompileException;
 import org.finos.legend.engine.shared.javaCompiler.JavaVersion;
 import org.finos.legend.engine.shared.javaCompiler.SingleFileCompiler;
@@ -81,6 +82,29 @@ public class JavaHelper
         }
     }
 
+    /**
+     * Compile the plans (e.g. the plans of known services at startup), so that the bytecode of their classes is in the
+     * Java compilation cache when they are executed. Plans which fail to compile are skipped. Returns the number of plans
+     * compiled.
+     */
+    public static int warmUpJavaCompilationCache(Iterable<? extends SingleExecutionPlan> plans, Identity identity)
+    {
+        int compiled = 0;
+        for (SingleExecutionPlan plan : plans)
+        {
+            try
+            {
+                compilePlan(plan, identity);
+                compiled++;
+            }
+            catch (Exception e)
+            {
+                LOGGER.warn("Error compiling plan while warming up the Java compilation cache", e);
+            }
+        }
+        return compiled;
+    }
+
     public static StringJavaSource buildStringJavaSource(JavaClass jc)
     {
         return StringJavaSource.newStringJavaSource(jc._package, jc.name, jc.source);
@@ -88,7 +112,10 @@ public class JavaHelper
 
     private static EngineJavaCompiler createNewJavaCompiler()
     {
-        return new EngineJavaCompiler(JavaVersion.JAVA_8, ClassPathFilters.any(ListIterate.collect(ExecutionPlanJavaCompilerExtensionLoader.extensions(), ExecutionPlanJavaCompilerExtension::getExtraClassPathFilter, Lists.mutable.of(new ExecutionPlanDependenciesFilter()))));
+        EngineJavaCompiler compiler = new EngineJavaCompiler(JavaVersion.JAVA_8, ClassPathFilters.any(ListIterate.collect(ExecutionPlanJavaCompilerExtensionLoader.extensions(), ExecutionPlanJavaCompilerExtension::getExtraClassPathFilter, Lists.mutable.of(new ExecutionPlanDependenciesFilter()))));
+        // plan compilers all use the same class path filter, and can share compiled bytecode
+        compiler.setCompilationCache(JavaCompilationCache.getDefault());
+        return compiler;
     }
 
     private static EngineJavaCompiler compilePlanFast(SingleExecutionPlan singleExecutionPlan) throws JavaCompileException, IOException, CompileException
@@ -24,7 +24,6 @@ import org.finos.legend.engine.plan.execution.result.serialization.CsvSerializer
 import org.finos.legend.engine.plan.execution.result.serialization.ExecutionResultObjectMapperFactory;
 
 import java.io.BufferedWriter;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
@@ -53,8 +52,7 @@ public class StreamingObjectResultCSVSerializer extends CsvSerializer
     @Override
     public void stream(OutputStream targetStream) throws IOException
     {
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        Writer out = new BufferedWriter(new OutputStreamWriter(byteArrayOutputStream));
+        Writer out = new BufferedWriter(new OutputStreamWriter(targetStream));
         final CSVPrinter csvPrinter = new CSVPrinter(out, withHeader ? this.csvFormat.withFirstRecordAsHeader() : this.csvFormat);
         final ObjectMapper objectMapper = ExecutionResultObjectMapperFactory.getNewObjectMapper();
         try
@@ -98,7 +96,6 @@ public class StreamingObjectResultCSVSerializer extends CsvSerializer
                 }
             });
             csvPrinter.close();
-            byteArrayOutputStream.writeTo(targetStream);
         }
         catch (Exception e)
         {
@@ -114,7 +111,6 @@ public class StreamingObjectResultCSVSerializer extends CsvSerializer
             {
                 this.streamingObjectResult.close();
             }
-            byteArrayOutputStream.close();
         }
     }
 
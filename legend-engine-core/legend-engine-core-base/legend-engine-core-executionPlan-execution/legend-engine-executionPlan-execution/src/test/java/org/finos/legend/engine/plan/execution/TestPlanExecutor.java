@@ -16,10 +16,13 @@ package org.finos.legend.engine.plan.execution;
 
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.execution.cache.executionPlan.ExecutionPlanCache;
+import org.finos.legend.engine.plan.execution.cache.executionPlan.ExecutionPlanCacheBuilder;
 import org.finos.legend.engine.plan.execution.nodes.helpers.freemarker.FreeMarkerExecutor;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.ExecutionPlan;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
 import org.finos.legend.engine.shared.core.api.request.RequestContext;
 import org.finos.legend.engine.shared.core.identity.Identity;
@@ -31,6 +34,30 @@ import java.util.Map;
 
 public class TestPlanExecutor
 {
+    private static final String PLAN = "{\"_type\":\"simple\",\"authDependent\":false,\"templateFunctions\":[],\"rootExecutionNode\":{\"_type\":\"constant\",\"resultType\":{\"_type\":\"dataType\",\"dataType\":\"String\"}}}";
+
+    @Test
+    public void testSerializedPlansDeserializedOnceWithPlanCache()
+    {
+        ExecutionPlanCache cache = ExecutionPlanCacheBuilder.buildWithMaximumSize(10);
+        PlanExecutor planExecutor = PlanExecutor.newPlanExecutorBuilder().withExecutionPlanCache(cache).build();
+
+        ExecutionPlan plan = planExecutor.readCachedExecutionPlan(PLAN);
+        Assert.assertTrue(plan instanceof SingleExecutionPlan);
+        Assert.assertSame(plan, planExecutor.readCachedExecutionPlan(new String(PLAN.toCharArray())));
+        Assert.assertNotSame(plan, planExecutor.readCachedExecutionPlan(PLAN.replace("String", "Integer")));
+        Assert.assertEquals(2, cache.getCache().estimatedSize());
+        Assert.assertEquals(1, cache.getCache().stats().hitCount());
+    }
+
+    @Test
+    public void testSerializedPlansDeserializedOnEachCallWithoutPlanCache()
+    {
+        PlanExecutor planExecutor = PlanExecutor.newPlanExecutorBuilder().build();
+        Assert.assertNull(planExecutor.getExecutionPlanCache());
+        Assert.assertNotSame(planExecutor.readCachedExecutionPlan(PLAN), planExecutor.readCachedExecutionPlan(PLAN));
+    }
+
     @Test
     public void testStateWithReferralHeaderPlaceHolder()
     {
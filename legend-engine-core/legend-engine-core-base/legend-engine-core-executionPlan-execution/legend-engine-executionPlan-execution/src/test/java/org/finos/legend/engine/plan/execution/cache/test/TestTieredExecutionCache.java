@@ -0,0 +1,215 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.cache.test;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.engine.plan.execution.cache.TieredExecutionCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TestTieredExecutionCache
+{
+    @Test
+    public void testHotTierIsBoundedByEstimatedSize()
+    {
+        TieredExecutionCache<Integer, String> cache = TieredExecutionCache.newBuilder().hotTierMaximumBytes(2_000).build();
+
+        for (int i = 0; i < 100; i++)
+        {
+            cache.put(i, value(i));
+        }
+
+        Assert.assertTrue(cache.estimatedSize() < 100);
+        Assert.assertTrue(cache.stats().evictionCount() > 0);
+        Assert.assertEquals(cache.hotTierStats().evictionCount(), cache.stats().evictionCount());
+        Assert.assertEquals(0, cache.offHeapTierStats().requestCount());
+        Assert.assertEquals(value(99), cache.getIfPresent(99));
+    }
+
+    @Test
+    public void testValuesEvictedFromHotTierAreServedFromOffHeapTier()
+    {
+        TieredExecutionCache<Integer, List<String>> cache = TieredExecutionCache.newBuilder().hotTierMaximumBytes(2_000).offHeapTierMaximumBytes(1_000_000).build();
+
+        for (int i = 0; i < 100; i++)
+        {
+            cache.put(i, Lists.mutable.with(value(i), value(i + 1)));
+        }
+        Assert.assertEquals(100, cache.estimatedSize());
+        Assert.assertTrue(cache.hotTierStats().evictionCount() > 0);
+        Assert.assertEquals(0, cache.stats().evictionCount());
+
+        for (int i = 0; i < 100; i++)
+        {
+            Assert.assertEquals(Arrays.asList(value(i), value(i + 1)), cache.getIfPresent(i));
+        }
+        Assert.assertNull(cache.getIfPresent(100));
+
+        Assert.assertEquals(100, cache.stats().hitCount());
+        Assert.assertEquals(1, cache.stats().missCount());
+        Assert.assertTrue(cache.offHeapTierStats().hitCount() > 0);
+        Assert.assertEquals(cache.hotTierStats().missCount(), cache.offHeapTierStats().requestCount());
+    }
+
+    @Test
+    public void testGetLoadsMissingValues()
+    {
+        TieredExecutionCache<Integer, String> cache = TieredExecutionCache.newBuilder().offHeapTierMaximumBytes(1_000_000).build();
+
+        Assert.assertEquals("Value 1", cache.get(1, () -> "Value 1"));
+        Assert.assertEquals("Value 1", cache.get(1, () -> "Other value"));
+        Assert.assertThrows(RuntimeException.class, () -> cache.get(2, () ->
+        {
+            throw new IllegalStateException("boom");
+        }));
+
+        Assert.assertEquals(3, cache.stats().requestCount());
+        Assert.assertEquals(1, cache.stats().hitCount());
+        Assert.assertEquals(1, cache.stats().loadSuccessCount());
+        Assert.assertEquals(1, cache.stats().loadFailureCount());
+        Assert.assertEquals(1, cache.estimatedSize());
+    }
+
+    @Test
+    public void testInvalidateBothTiers()
+    {
+        TieredExecutionCache<Integer, String> cache = TieredExecutionCache.newBuilder().hotTierMaximumBytes(2_000).offHeapTierMaximumBytes(1_000_000).build();
+        cache.put(1, value(1));
+        cache.put(2, value(2));
+        cache.put(3, value(3));
+
+        cache.invalidate(1);
+        Assert.assertNull(cache.getIfPresent(1));
+        cache.invalidateAll(Arrays.asList(2));
+        Assert.assertNull(cache.getIfPresent(2));
+        Assert.assertEquals(1, cache.getAllPresent(Arrays.asList(1, 2, 3)).size());
+        cache.invalidateAll();
+        Assert.assertEquals(0, cache.estimatedSize());
+        Assert.assertNull(cache.getIfPresent(3));
+    }
+
+    @Test
+    public void testValueEvictedWhenPutIsKeptOffHeap()
+    {
+        TieredExecutionCache<Integer, String> cache = TieredExecutionCache.newBuilder().hotTierMaximumBytes(100).offHeapTierMaximumBytes(1_000_000).build();
+        cache.put(1, value(1));
+        cache.put(1, value(2));
+
+        // too large for the hot tier, the value is moved to the off-heap tier as it is put, and the previous one dropped
+        Assert.assertEquals(1, cache.estimatedSize());
+        Assert.assertEquals(value(2), cache.getIfPresent(1));
+        cache.invalidate(1);
+        Assert.assertNull(cache.getIfPresent(1));
+    }
+
+    @Test
+    public void testConcurrentPutsAndInvalidationsWhileEvicting() throws Exception
+    {
+        // values are evicted from the tiny hot tier by the puts of every thread, while being put again or invalidated
+        TieredExecutionCache<Integer, String> cache = TieredExecutionCache.newBuilder().hotTierMaximumBytes(1_000).offHeapTierMaximumBytes(16 * 1024 * 1024).build();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            List<Future<?>> futures = Lists.mutable.empty();
+            for (int t = 0; t < threads; t++)
+            {
+                int thread = t;
+                futures.add(executor.submit(() ->
+                {
+                    for (int i = 0; i < 2_000; i++)
+                    {
+                        int key = thread * 1_000_000 + i % 50;
+                        cache.put(key, value(i));
+                        cache.put(key, value(i + 1));
+                        // a value may be missed while moving to the off-heap tier, but a replaced one is never served
+                        String current = cache.getIfPresent(key);
+                        Assert.assertTrue(current == null || value(i + 1).equals(current));
+                        cache.invalidate(key);
+                        Assert.assertNull(cache.getIfPresent(key));
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Assert.assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    public void testNonSerializableValuesCachedWithoutOffHeapTier()
+    {
+        TieredExecutionCache<Integer, Object> cache = TieredExecutionCache.newBuilder().build();
+        Object value = new Object();
+        cache.put(1, value);
+        Assert.assertSame(value, cache.getIfPresent(1));
+    }
+
+    @Test
+    public void testNonSerializableValuesRejectedWithOffHeapTier()
+    {
+        TieredExecutionCache<Integer, Object> cache = TieredExecutionCache.newBuilder().offHeapTierMaximumBytes(1_000_000).build();
+        Assert.assertThrows(IllegalArgumentException.class, () -> cache.put(1, new Object()));
+        Assert.assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    public void testHotTierServesCachedInstances()
+    {
+        TieredExecutionCache<Integer, List<String>> cache = TieredExecutionCache.newBuilder().offHeapTierMaximumBytes(1_000_000).build();
+        List<String> value = Lists.mutable.with(value(1));
+        cache.put(1, value);
+
+        // changes made while the value is in the hot tier are seen
+        value.add(value(2));
+        Assert.assertSame(value, cache.getIfPresent(1));
+        Assert.assertEquals(0, cache.offHeapTierAllocatedBytes());
+    }
+
+    @Test
+    public void testOffHeapTierMemoryIsBoundedAndReused()
+    {
+        TieredExecutionCache<Integer, String> cache = TieredExecutionCache.newBuilder().hotTierMaximumBytes(1_000).offHeapTierMaximumBytes(64 * 1024).build();
+
+        for (int i = 0; i < 1_000; i++)
+        {
+            cache.put(i, value(i));
+        }
+        Assert.assertTrue(cache.offHeapTierAllocatedBytes() <= 64 * 1024);
+        Assert.assertTrue(cache.offHeapTierStats().evictionCount() > 0);
+        Assert.assertEquals(cache.offHeapTierStats().evictionCount(), cache.stats().evictionCount());
+
+        // the most recently evicted values are still served
+        Assert.assertEquals(value(990), cache.getIfPresent(990));
+        Assert.assertNull(cache.getIfPresent(0));
+    }
+
+    private static String value(int i)
+    {
+        return String.format("%0100d", i);
+    }
+}
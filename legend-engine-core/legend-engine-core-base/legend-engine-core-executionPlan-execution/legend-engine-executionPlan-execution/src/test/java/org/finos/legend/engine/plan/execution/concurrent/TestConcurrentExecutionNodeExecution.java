@@ -30,7 +30,12 @@ public class TestConcurrentExecutionNodeExecution
 {
     public static List<Result> executePlanConcurrently(PlanExecutor.ExecuteArgs executeArgs, int concurrentExecutionNodeExecutorPoolSize, int planExecutionCount, int planExecutionPoolSize, String executorPoolStateAssertMessage)
     {
-        try (ConcurrentExecutionNodeExecutorPool concurrentExecutionNodeExecutorPool = new ConcurrentExecutionNodeExecutorPool(concurrentExecutionNodeExecutorPoolSize, "Pool for concurrent testing"))
+        return executePlanConcurrently(executeArgs, concurrentExecutionNodeExecutorPoolSize, ConcurrentExecutionNodeExecutorPool.Mode.ALL_OR_NOTHING, concurrentExecutionNodeExecutorPoolSize, planExecutionCount, planExecutionPoolSize, executorPoolStateAssertMessage);
+    }
+
+    public static List<Result> executePlanConcurrently(PlanExecutor.ExecuteArgs executeArgs, int concurrentExecutionNodeExecutorPoolSize, ConcurrentExecutionNodeExecutorPool.Mode mode, int maxConcurrencyPerRequest, int planExecutionCount, int planExecutionPoolSize, String executorPoolStateAssertMessage)
+    {
+        try (ConcurrentExecutionNodeExecutorPool concurrentExecutionNodeExecutorPool = new ConcurrentExecutionNodeExecutorPool(concurrentExecutionNodeExecutorPoolSize, "Pool for concurrent testing", mode, maxConcurrencyPerRequest))
         {
             PlanExecutor planExecutor = PlanExecutor.newPlanExecutorWithAvailableStoreExecutors();
             planExecutor.injectConcurrentExecutionNodeExecutorPool(concurrentExecutionNodeExecutorPool);
@@ -0,0 +1,134 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.graphFetch;
+
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+public class TestLatencyAwareAdaptiveBatching
+{
+    private static final long MEMORY_LIMIT = 10_000_000;
+    private static final long MEMORY_PER_OBJECT = 200;
+    private static final long OBJECT_COUNT = 200_000;
+
+    // Remote warehouse: 2 seconds per round trip, 20 micro seconds per object
+    private static final long ROUND_TRIP_LATENCY = TimeUnit.SECONDS.toNanos(2);
+    private static final long LATENCY_PER_OBJECT = TimeUnit.MICROSECONDS.toNanos(20);
+
+    @Test
+    public void testBatchSizeForRoundTripOverhead()
+    {
+        GraphFetchBatchProfile profile = new GraphFetchBatchProfile();
+        Assert.assertEquals(-1, profile.getBatchSizeForRoundTripOverhead(0.1));
+        Assert.assertEquals(-1, profile.getMemoryUtilizationPerObject(), 0);
+
+        profile.recordBatch(100, 100 * MEMORY_PER_OBJECT, latency(100));
+        Assert.assertEquals(-1, profile.getBatchSizeForRoundTripOverhead(0.1));
+        profile.recordBatch(0, 0, ROUND_TRIP_LATENCY);
+        Assert.assertEquals(1, profile.getBatchCount());
+
+        profile.recordBatch(1_000, 1_000 * MEMORY_PER_OBJECT, latency(1_000));
+        // 2s round trip is 10% of the batch latency at 900_000 objects of 20us
+        Assert.assertEquals(900_000, profile.getBatchSizeForRoundTripOverhead(0.1), 1);
+        Assert.assertEquals(MEMORY_PER_OBJECT, profile.getMemoryUtilizationPerObject(), 0);
+    }
+
+    @Test
+    public void testNoRoundTripCost()
+    {
+        GraphFetchBatchProfile profile = new GraphFetchBatchProfile();
+        profile.recordBatch(100, 0, 100 * LATENCY_PER_OBJECT);
+        profile.recordBatch(1_000, 0, 1_000 * LATENCY_PER_OBJECT);
+        Assert.assertEquals(-1, profile.getBatchSizeForRoundTripOverhead(0.1));
+
+        GraphFetchBatchProfile constantLatencyProfile = new GraphFetchBatchProfile();
+        constantLatencyProfile.recordBatch(100, 0, ROUND_TRIP_LATENCY);
+        constantLatencyProfile.recordBatch(1_000, 0, ROUND_TRIP_LATENCY);
+        Assert.assertEquals(Long.MAX_VALUE, constantLatencyProfile.getBatchSizeForRoundTripOverhead(0.1));
+    }
+
+    @Test
+    public void testLatencyAwareBatchSizeIsBoundedBySoftMemoryLimit()
+    {
+        GraphFetchBatchProfile profile = new GraphFetchBatchProfile();
+        profile.recordBatch(100, 100 * MEMORY_PER_OBJECT, latency(100));
+        profile.recordBatch(1_000, 1_000 * MEMORY_PER_OBJECT, latency(1_000));
+
+        Assert.assertEquals(MEMORY_LIMIT / 2 / MEMORY_PER_OBJECT, AdaptiveBatching.getLatencyAwareBatchSize(configuration(true), profile));
+    }
+
+    @Test
+    public void testLatencyAwareBatchingIsOffByDefault()
+    {
+        GraphFetchBatchProfile profile = new GraphFetchBatchProfile();
+        profile.recordBatch(100, 100 * MEMORY_PER_OBJECT, latency(100));
+        profile.recordBatch(1_000, 1_000 * MEMORY_PER_OBJECT, latency(1_000));
+
+        ExecutionState executionState = new ExecutionState(Maps.mutable.empty(), Collections.emptyList(), Collections.emptyList(), true, new GraphFetchExecutionConfiguration(MEMORY_LIMIT, GraphFetchExecutionConfiguration.DEFAULT_SOFT_MEMORY_LIMIT_PERCENTAGE, true, GraphFetchExecutionConfiguration.DEFAULT_BATCH_SIZE));
+        Assert.assertEquals(64, AdaptiveBatching.getAdaptiveBatchSize(executionState, profile));
+    }
+
+    // Replays a fetch against the remote warehouse, feeding back the stats of each batch
+    @Test
+    public void testReplayReducesTotalLatencyWithinMemoryLimit()
+    {
+        long memoryOnlyLatency = replay(configuration(false), new GraphFetchBatchProfile());
+
+        GraphFetchBatchProfile profile = new GraphFetchBatchProfile();
+        long firstExecutionLatency = replay(configuration(true), profile);
+        Assert.assertTrue(firstExecutionLatency + " < " + memoryOnlyLatency, firstExecutionLatency < memoryOnlyLatency);
+
+        // the profile is kept across executions, the second one ramps up from the first batch
+        long secondExecutionLatency = replay(configuration(true), profile);
+        Assert.assertTrue(secondExecutionLatency + " < " + firstExecutionLatency, secondExecutionLatency < firstExecutionLatency);
+    }
+
+    private static long replay(GraphFetchExecutionConfiguration configuration, GraphFetchBatchProfile profile)
+    {
+        ExecutionState executionState = new ExecutionState(Maps.mutable.empty(), Collections.emptyList(), Collections.emptyList(), true, configuration);
+        long remaining = OBJECT_COUNT;
+        long totalLatency = 0;
+        while (remaining > 0)
+        {
+            long batchSize = AdaptiveBatching.getAdaptiveBatchSize(executionState, profile);
+            long objectCount = Math.min(batchSize, remaining);
+            long memoryUtilization = objectCount * MEMORY_PER_OBJECT;
+            Assert.assertTrue(memoryUtilization <= configuration.getGraphFetchBatchMemoryHardLimit());
+
+            long latency = latency(objectCount);
+            executionState.adaptiveGraphBatchStats.previousBatchMemoryUtilization = memoryUtilization;
+            profile.recordBatch(objectCount, memoryUtilization, latency);
+
+            totalLatency += latency;
+            remaining -= objectCount;
+        }
+        return totalLatency;
+    }
+
+    private static GraphFetchExecutionConfiguration configuration(boolean useLatencyAwareBatching)
+    {
+        return new GraphFetchExecutionConfiguration(MEMORY_LIMIT, GraphFetchExecutionConfiguration.DEFAULT_SOFT_MEMORY_LIMIT_PERCENTAGE, true, GraphFetchExecutionConfiguration.DEFAULT_BATCH_SIZE, useLatencyAwareBatching, GraphFetchExecutionConfiguration.DEFAULT_ROUND_TRIP_OVERHEAD_PERCENTAGE);
+    }
+
+    private static long latency(long objectCount)
+    {
+        return ROUND_TRIP_LATENCY + objectCount * LATENCY_PER_OBJECT;
+    }
+}
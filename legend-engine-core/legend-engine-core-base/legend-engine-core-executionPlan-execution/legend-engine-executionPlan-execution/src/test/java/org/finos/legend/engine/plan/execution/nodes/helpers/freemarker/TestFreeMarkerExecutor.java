@@ -162,6 +162,41 @@ public class TestFreeMarkerExecutor
                 "Encountered \"\\\", listagg(\\\"\", but was expecting one of:", RuntimeException.class, () -> processRecursivelyWithFlagSwitching(sqlQuery6, new HashMap<String, String>(), "", ""));
     }
 
+    @Test
+    public void testPlainTextNotProcessedByFreemarker()
+    {
+        String query = "select \\\"root\\\".name as \\\"name\\\" from person as \\\"root\\\" where \\\"root\\\".age > 3";
+        String expected = "select \"root\".name as \"name\" from person as \"root\" where \"root\".age > 3";
+        Assert.assertEquals(expected, FreeMarkerExecutor.asPlainText(query, ""));
+        Assert.assertEquals(expected, FreeMarkerExecutor.asPlainText(query, collectionSizeTemplate()));
+        ExecutionState state = new ExecutionState(Maps.mutable.empty(), Collections.singletonList(collectionSizeTemplate()), Collections.emptyList(), false, 0);
+        Assert.assertEquals(expected, FreeMarkerExecutor.process(query, state));
+
+        // markup, or template functions which could change the output, need FreeMarker
+        Assert.assertNull(FreeMarkerExecutor.asPlainText("select ${name}", ""));
+        Assert.assertNull(FreeMarkerExecutor.asPlainText("select 1 <#if true>where 1 = 1</#if>", ""));
+        Assert.assertNull(FreeMarkerExecutor.asPlainText("select 1 <#-- comment -->", ""));
+        Assert.assertNull(FreeMarkerExecutor.asPlainText("\nselect 1", collectionSizeTemplate()));
+        Assert.assertNull(FreeMarkerExecutor.asPlainText("select 1", "<#function f>x</#function>header "));
+        Assert.assertEquals("header select 1", FreeMarkerExecutor.process("select 1", new HashMap<String, Object>(), "<#function f>x</#function>header "));
+    }
+
+    @Test
+    public void testParsedTemplatesReused() throws Exception
+    {
+        String query = "select ${collectionSize(testCollection)}";
+        Assert.assertSame(FreeMarkerExecutor.getTemplate(query, collectionSizeTemplate()), FreeMarkerExecutor.getTemplate(query, collectionSizeTemplate()));
+        Assert.assertNotSame(FreeMarkerExecutor.getTemplate(query, collectionSizeTemplate()), FreeMarkerExecutor.getTemplate(query, ""));
+        // equal template functions built separately share the cached template
+        Assert.assertSame(FreeMarkerExecutor.getTemplate(query, collectionSizeTemplate()), FreeMarkerExecutor.getTemplate(query, new StringBuilder(collectionSizeTemplate()).toString()));
+
+        Map<String, Object> rootMap = new HashMap<>();
+        rootMap.put("testCollection", Lists.mutable.with(1, 2));
+        Assert.assertEquals("select 2", processRecursively(query, rootMap, collectionSizeTemplate()));
+        rootMap.put("testCollection", Lists.mutable.with(1, 2, 3));
+        Assert.assertEquals("select 3", processRecursively(query, rootMap, collectionSizeTemplate()));
+    }
+
     public static String collectionSizeTemplate()
     {
         return "<#function collectionSize collection>" +
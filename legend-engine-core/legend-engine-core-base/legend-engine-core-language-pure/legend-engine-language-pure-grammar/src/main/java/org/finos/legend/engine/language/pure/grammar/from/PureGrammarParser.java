@@ -43,12 +43,16 @@ import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 public class PureGrammarParser
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(PureGrammarParser.class);
     private static final String DEFAULT_SECTION_BEGIN = "\n###" + DomainParser.name + "\n";
+    private static final boolean PARALLEL_SECTION_PARSING = Boolean.parseBoolean(System.getProperty("org.finos.legend.engine.grammar.parallelSectionParsing", "true"));
 
     private final DEPRECATED_PureGrammarParserLibrary parsers;
     private final PureGrammarParserExtensions extensions;
@@ -126,11 +130,60 @@ public class PureGrammarParser
         // in the consumer, we should ensure this does not leak and gets persisted to SDLC or Services per se
         sectionIndex.name = "SectionIndex";
         sectionIndex._package = "__internal__";
-        sectionIndex.sections = ListIterate.collect(parser.definition().section(), sectionCtx -> this.visitSection(sectionCtx, parserLibrary, walkerSourceInformation, parserContext, builder::addElement, returnSourceInfo));
+        List<CodeParserGrammar.SectionContext> sectionContexts = parser.definition().section();
+        if (PARALLEL_SECTION_PARSING && sectionContexts.size() > 1)
+        {
+            sectionIndex.sections = this.visitSectionsInParallel(sectionContexts, parserLibrary, walkerSourceInformation, parserContext, builder::addElement, returnSourceInfo);
+        }
+        else
+        {
+            sectionIndex.sections = ListIterate.collect(sectionContexts, sectionCtx -> this.visitSection(sectionCtx, parserLibrary, walkerSourceInformation, parserContext, builder::addElement, returnSourceInfo));
+        }
 
         return builder.withElement(sectionIndex).build();
     }
 
+    /**
+     * Sections are parsed independently of each other, so they can be dispatched to their parsers concurrently. Their
+     * elements are then added in section order, and the error of the first failing section is thrown, as when parsing
+     * them one after the other.
+     */
+    private List<Section> visitSectionsInParallel(List<CodeParserGrammar.SectionContext> sectionContexts, DEPRECATED_PureGrammarParserLibrary parserLibrary, ParseTreeWalkerSourceInformation walkerSourceInformation, PureGrammarParserContext parserContext, Consumer<PackageableElement> elementConsumer, boolean returnSourceInfo)
+    {
+        List<ParsedSection> parsedSections = sectionContexts.parallelStream().map(sectionCtx ->
+        {
+            ParsedSection parsedSection = new ParsedSection();
+            try
+            {
+                parsedSection.section = this.visitSection(sectionCtx, parserLibrary, walkerSourceInformation, parserContext, parsedSection.elements::add, returnSourceInfo);
+            }
+            catch (RuntimeException e)
+            {
+                parsedSection.exception = e;
+            }
+            return parsedSection;
+        }).collect(Collectors.toList());
+
+        List<Section> sections = new ArrayList<>(parsedSections.size());
+        for (ParsedSection parsedSection : parsedSections)
+        {
+            if (parsedSection.exception != null)
+            {
+                throw parsedSection.exception;
+            }
+            parsedSection.elements.forEach(elementConsumer);
+            sections.add(parsedSection.section);
+        }
+        return sections;
+    }
+
+    private static class ParsedSection
+    {
+        private final List<PackageableElement> elements = new ArrayList<>();
+        private Section section;
+        private RuntimeException exception;
+    }
+
     private Section visitSection(CodeParserGrammar.SectionContext ctx, DEPRECATED_PureGrammarParserLibrary parserLibrary, ParseTreeWalkerSourceInformation walkerSourceInformation, PureGrammarParserContext parserContext, Consumer<PackageableElement> elementConsumer, boolean returnSourceInfo)
     {
         String parserName = ctx.SECTION_START().getText().substring(4); // the prefix is `\n###` hence 4 characters
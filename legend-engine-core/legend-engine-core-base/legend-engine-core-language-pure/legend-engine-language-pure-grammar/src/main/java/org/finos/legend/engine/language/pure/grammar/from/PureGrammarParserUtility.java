@@ -14,9 +14,15 @@
 
 package org.finos.legend.engine.language.pure.grammar.from;
 
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RuleContext;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.commons.text.StringEscapeUtils;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.impl.utility.ListIterate;
@@ -31,6 +37,7 @@ import org.finos.legend.engine.shared.core.operational.errorManagement.EngineExc
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -41,6 +48,38 @@ public class PureGrammarParserUtility
     private static final String DOC_TAG = "doc";
     private static final Pattern VALID_STRING_PATTERN = Pattern.compile("[A-Za-z0-9_][A-Za-z0-9_$]*");
 
+    /**
+     * Parse the rule with the faster SLL prediction mode first. SLL fails on syntax errors and on the rare inputs it
+     * cannot predict, in which case the rule is parsed again with the full LL prediction mode, and the error listeners
+     * of the parser report the syntax errors as usual.
+     */
+    public static <P extends Parser, T extends ParserRuleContext> T parseWithSLLFirst(P parser, Function<? super P, ? extends T> rule)
+    {
+        List<? extends ANTLRErrorListener> errorListeners = new ArrayList<>(parser.getErrorListeners());
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        T result;
+        try
+        {
+            result = rule.apply(parser);
+        }
+        catch (ParseCancellationException e)
+        {
+            result = null;
+        }
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        errorListeners.forEach(parser::addErrorListener);
+        if (result == null)
+        {
+            // reset rewinds the token stream, the tokens already lexed are not lexed again
+            parser.reset();
+            result = rule.apply(parser);
+        }
+        return result;
+    }
+
     /**
      * Convert string in grammar to string to be used in the graph
      *
@@ -162,6 +162,41 @@ public class TestGrammarParser
                 "}\n", "PARSER error at [1:7-10]: Unexpected token 'true'");
     }
 
+    @Test
+    public void testSectionsParsedInOrder()
+    {
+        // the error of the first failing section is reported
+        test("###Pure\n" +
+                "Class test::A\n" +
+                "{\n" +
+                "}\n" +
+                "###Pure\n" +
+                "Class test::B\n" +
+                "{\n" +
+                "} randomToken\n" +
+                "###Pure\n" +
+                "Class false::me\n" +
+                "{\n" +
+                "}\n", "PARSER error at [8:3-13]: Unexpected token");
+
+        PureModelContextData pureModelContextData = PureGrammarParser.newInstance().parseModel("###Pure\n" +
+                "Class test::A\n" +
+                "{\n" +
+                "}\n" +
+                "###Pure\n" +
+                "Class test::B\n" +
+                "{\n" +
+                "}\n" +
+                "Class test::C\n" +
+                "{\n" +
+                "}\n" +
+                "###Pure\n" +
+                "Class test::D\n" +
+                "{\n" +
+                "}\n");
+        Assert.assertEquals(FastList.newListWith("test::A", "test::B", "test::C", "test::D", "__internal__::SectionIndex"), ListIterate.collect(pureModelContextData.getElements(), PackageableElement::getPath));
+    }
+
     @Test
     public void testInvalidPropertyAggregationKind()
     {
@@ -0,0 +1,186 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache of the models resolved for cacheable contexts, weighed by their estimated size and evicted least recently used
+ * once the maximum weight is reached.
+ * <p>
+ * Concurrent requests for a model which is not cached share a single load. A model which does not fit in the remaining
+ * weight is only cached once it has been requested admissionFrequency times, so that a model requested once does not
+ * evict models in use.
+ */
+class ModelCache<V>
+{
+    private static final int REQUEST_COUNTS_MAXIMUM_SIZE = 10_000;
+
+    private final String name;
+    private final LongFunction<V> weigher;
+    private final long maximumWeight;
+    private final int admissionFrequency;
+    private final Cache<PureModelContext, V> cache;
+    private final Cache<PureModelContext, AtomicInteger> requestCounts;
+    private final ConcurrentMap<PureModelContext, CompletableFuture<V>> loads = new ConcurrentHashMap<>();
+
+    /**
+     * @param weigher estimated size of a value in bytes
+     */
+    ModelCache(String name, LongFunction<V> weigher, long maximumWeight, long expireAfterAccessMinutes, int admissionFrequency)
+    {
+        this.name = name;
+        this.weigher = weigher;
+        this.maximumWeight = toKilobytes(maximumWeight);
+        this.admissionFrequency = admissionFrequency;
+
+        RemovalListener<PureModelContext, V> removalListener = notification ->
+        {
+            MetricsHandler.decrementCacheWeight(this.name, this.weigh(notification.getValue()) * 1024.0);
+            if (notification.wasEvicted())
+            {
+                MetricsHandler.incrementCacheEvictionCount(this.name);
+            }
+        };
+        this.cache = CacheBuilder.newBuilder()
+                .recordStats()
+                // a single segment, so that the whole maximum weight is available to a large model
+                .concurrencyLevel(1)
+                .maximumWeight(this.maximumWeight)
+                .<PureModelContext, V>weigher((key, value) ->
+                {
+                    int addedWeight = this.weigh(value);
+                    MetricsHandler.incrementCacheWeight(this.name, addedWeight * 1024.0);
+                    return addedWeight;
+                })
+                .expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES)
+                .removalListener(removalListener)
+                .build();
+        this.requestCounts = CacheBuilder.newBuilder()
+                .maximumSize(REQUEST_COUNTS_MAXIMUM_SIZE)
+                .expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    Cache<PureModelContext, V> getCache()
+    {
+        return this.cache;
+    }
+
+    /**
+     * Estimated weight of the cached values, in kilobytes
+     */
+    long getWeight()
+    {
+        return this.cache.asMap().values().stream().mapToLong(this::weigh).sum();
+    }
+
+    V get(PureModelContext key, Function0<V> loader)
+    {
+        V value = this.cache.getIfPresent(key);
+        if (value != null)
+        {
+            MetricsHandler.incrementCacheHitCount(this.name);
+            return value;
+        }
+        MetricsHandler.incrementCacheMissCount(this.name);
+        this.requestCounts.asMap().computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> inFlightLoad = this.loads.putIfAbsent(key, load);
+        if (inFlightLoad != null)
+        {
+            return join(inFlightLoad);
+        }
+        try
+        {
+            // the model may have been cached by a load which completed since the lookup above
+            value = this.cache.getIfPresent(key);
+            if (value == null)
+            {
+                value = loader.value();
+                this.admit(key, value);
+            }
+            load.complete(value);
+            return value;
+        }
+        catch (RuntimeException | Error e)
+        {
+            // not kept: the next request loads the model again
+            load.completeExceptionally(e);
+            throw e;
+        }
+        finally
+        {
+            this.loads.remove(key, load);
+        }
+    }
+
+    private void admit(PureModelContext key, V value)
+    {
+        // the cache enforces the maximum weight by evicting, this only decides whether the model is worth evicting for
+        AtomicInteger requests = this.requestCounts.getIfPresent(key);
+        if ((requests != null && requests.get() >= this.admissionFrequency) || this.getWeight() + this.weigh(value) <= this.maximumWeight)
+        {
+            this.cache.put(key, value);
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> load)
+    {
+        try
+        {
+            return load.join();
+        }
+        catch (CompletionException e)
+        {
+            // same exception as for the request which loaded the model
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new EngineException("Engine was not able to load the model", cause);
+        }
+    }
+
+    private int weigh(V value)
+    {
+        return (int) Math.min(Integer.MAX_VALUE, toKilobytes(this.weigher.longValueOf(value)) + 1);
+    }
+
+    private static long toKilobytes(long bytes)
+    {
+        return bytes / 1024;
+    }
+}
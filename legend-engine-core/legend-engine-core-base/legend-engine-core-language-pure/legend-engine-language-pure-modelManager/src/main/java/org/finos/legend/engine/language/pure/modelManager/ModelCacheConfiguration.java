@@ -0,0 +1,34 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+public class ModelCacheConfiguration
+{
+    public static final long DEFAULT_EXPIRE_AFTER_ACCESS_MINUTES = 30;
+    public static final long DEFAULT_COMPILED_MODEL_BYTES_PER_ELEMENT = 65_536L; /* 64KB */
+    public static final long DEFAULT_MODEL_DATA_BYTES_PER_ELEMENT = 8_192L; /* 8KB */
+    public static final int DEFAULT_ADMISSION_FREQUENCY = 2;
+
+    // approximate size in bytes of all the compiled models held by the cache, a quarter of the heap by default
+    public long compiledModelMaximumWeight = Runtime.getRuntime().maxMemory() / 4;
+    // approximate size in bytes of all the model data held by the cache, a sixteenth of the heap by default
+    public long modelDataMaximumWeight = Runtime.getRuntime().maxMemory() / 16;
+    // estimated size of a compiled model / of model data, per packageable element
+    public long compiledModelBytesPerElement = DEFAULT_COMPILED_MODEL_BYTES_PER_ELEMENT;
+    public long modelDataBytesPerElement = DEFAULT_MODEL_DATA_BYTES_PER_ELEMENT;
+    public long expireAfterAccessMinutes = DEFAULT_EXPIRE_AFTER_ACCESS_MINUTES;
+    // number of requests for a model after which it is cached even if that means evicting other models
+    public int admissionFrequency = DEFAULT_ADMISSION_FREQUENCY;
+}
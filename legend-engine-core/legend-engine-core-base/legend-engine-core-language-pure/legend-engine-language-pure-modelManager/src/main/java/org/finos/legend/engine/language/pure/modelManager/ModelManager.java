@@ -16,14 +16,17 @@ package org.finos.legend.engine.language.pure.modelManager;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import io.opentracing.Scope;
+import io.opentracing.Span;
 import io.opentracing.Tracer;
 import io.opentracing.util.GlobalTracer;
 
-import java.util.concurrent.ExecutionException;
+import java.security.AccessControlContext;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.TimeUnit;
 
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.procedure.Procedure;
@@ -47,6 +50,7 @@ import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.operational.Assert;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 
 public class ModelManager
 {
@@ -61,12 +65,15 @@ public class ModelManager
     // TODO: consider renaming this to UNSAFE/DEPRECATED_objectMapper
     //-------------------------------------------------------------------------------------------------
     public static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
-    public final Cache<PureModelContext, PureModel> pureModelCache = CacheBuilder.newBuilder().recordStats().softValues().expireAfterAccess(30, TimeUnit.MINUTES).build();
-    public final Cache<PureModelContext, PureModelContextData> pureModelContextCache = CacheBuilder.newBuilder().recordStats().softValues().expireAfterAccess(30, TimeUnit.MINUTES).build();
+    public final Cache<PureModelContext, PureModel> pureModelCache;
+    public final Cache<PureModelContext, PureModelContextData> pureModelContextCache;
+    private final ModelCache<PureModel> compiledModels;
+    private final ModelCache<PureModelContextData> modelData;
     private final DeploymentMode deploymentMode;
     private final MutableList<ModelLoader> modelLoaders;
     private final Tracer tracer;
     private final ForkJoinPool forkJoinPool;
+    private final PureModelContextDataSnapshotStore snapshotStore;
 
     public ModelManager(DeploymentMode mode, ModelLoader... modelLoaders)
     {
@@ -80,18 +87,36 @@ public class ModelManager
 
     public ModelManager(DeploymentMode mode, ForkJoinPool forkJoinPool, Tracer tracer, ModelLoader... modelLoaders)
     {
+        this(mode, forkJoinPool, tracer, (PureModelContextDataSnapshotStore) null, modelLoaders);
+    }
+
+    public ModelManager(DeploymentMode mode, ForkJoinPool forkJoinPool, Tracer tracer, PureModelContextDataSnapshotStore snapshotStore, ModelLoader... modelLoaders)
+    {
+        this(mode, forkJoinPool, tracer, snapshotStore, new ModelCacheConfiguration(), modelLoaders);
+    }
+
+    /**
+     * @param snapshotStore optional store of the model data resolved for cacheable contexts, read before falling back to the model loaders
+     */
+    public ModelManager(DeploymentMode mode, ForkJoinPool forkJoinPool, Tracer tracer, PureModelContextDataSnapshotStore snapshotStore, ModelCacheConfiguration cacheConfiguration, ModelLoader... modelLoaders)
+    {
+        this.compiledModels = new ModelCache<>("pure_model", m -> m.getPackageableElements().size() * cacheConfiguration.compiledModelBytesPerElement, cacheConfiguration.compiledModelMaximumWeight, cacheConfiguration.expireAfterAccessMinutes, cacheConfiguration.admissionFrequency);
+        this.modelData = new ModelCache<>("pure_model_context_data", d -> d.getElements().size() * cacheConfiguration.modelDataBytesPerElement, cacheConfiguration.modelDataMaximumWeight, cacheConfiguration.expireAfterAccessMinutes, cacheConfiguration.admissionFrequency);
+        this.pureModelCache = this.compiledModels.getCache();
+        this.pureModelContextCache = this.modelData.getCache();
         this.tracer = tracer;
         this.modelLoaders = Lists.mutable.of(modelLoaders);
         this.modelLoaders.forEach((Procedure<ModelLoader>) loader -> loader.setModelManager(this));
         this.deploymentMode = mode;
         this.forkJoinPool = forkJoinPool;
+        this.snapshotStore = snapshotStore;
     }
 
     // Remove clientVersion
     public PureModel loadModel(PureModelContext context, String clientVersion, Identity identity, String packageOffset)
     {
         PureModelProcessParameter modelProcessParameter = PureModelProcessParameter.newBuilder().withPackagePrefix(packageOffset).withForkJoinPool(this.forkJoinPool).build();
-        return loadModelOrData(context, clientVersion, identity, pureModelCache, p -> Compiler.compile(p, this.deploymentMode, identity.getName(), null, modelProcessParameter));
+        return loadModelOrData(context, clientVersion, identity, this.compiledModels, p -> this.compile(p, identity, modelProcessParameter));
     }
 
     // Remove clientVersion
@@ -100,7 +125,7 @@ public class ModelManager
         try (Scope scope = tracer.buildSpan("Load Model").startActive(true))
         {
             scope.span().setTag("context", context.getClass().getSimpleName());
-            return loadModelOrData(context, clientVersion, identity, pureModelContextCache, p -> p);
+            return loadModelOrData(context, clientVersion, identity, this.modelData, p -> p);
         }
     }
 
@@ -109,10 +134,18 @@ public class ModelManager
     {
         PureModelContextData data = this.loadData(context, clientVersion, identity);
         PureModelProcessParameter modelProcessParameter = PureModelProcessParameter.newBuilder().withPackagePrefix(packageOffset).withForkJoinPool(this.forkJoinPool).build();
-        PureModel model = loadModelOrData(context, clientVersion, identity, pureModelCache, p -> Compiler.compile(p, this.deploymentMode, identity.getName(), null, modelProcessParameter), data);
+        PureModel model = loadModelOrData(context, clientVersion, identity, this.compiledModels, p -> this.compile(p, identity, modelProcessParameter), data);
         return Tuples.pair(data, model);
     }
 
+    private PureModel compile(PureModelContextData data, Identity identity, PureModelProcessParameter modelProcessParameter)
+    {
+        long start = System.currentTimeMillis();
+        PureModel pureModel = Compiler.compile(data, this.deploymentMode, identity.getName(), null, modelProcessParameter);
+        MetricsHandler.observeModelLoadTime("compilation", start, System.currentTimeMillis());
+        return pureModel;
+    }
+
     // Remove clientVersion
     public String getLambdaReturnType(LambdaFunction lambda, PureModelContext context, String clientVersion, Identity identity)
     {
@@ -121,34 +154,32 @@ public class ModelManager
     }
 
 
-    private <T> T loadModelOrData(PureModelContext context, String clientVersion, Identity identity, Cache<PureModelContext, T> pointerCache, Function<PureModelContextData, T> mayCompileFunction)
+    /**
+     * Whether the model behind this context is immutable, and hence safe to cache anything derived from it
+     */
+    public boolean shouldCache(PureModelContext context)
+    {
+        return context instanceof PureModelContextPointer && this.modelLoaderForContext(context).shouldCache(context);
+    }
+
+    private <T> T loadModelOrData(PureModelContext context, String clientVersion, Identity identity, ModelCache<T> pointerCache, Function<PureModelContextData, T> mayCompileFunction)
     {
         return loadModelOrData(context, clientVersion, identity, pointerCache, mayCompileFunction, null);
     }
 
-    private <T> T loadModelOrData(PureModelContext context, String clientVersion, Identity identity, Cache<PureModelContext, T> pointerCache, Function<PureModelContextData, T> mayCompileFunction, PureModelContextData preResolvedData)
+    private <T> T loadModelOrData(PureModelContext context, String clientVersion, Identity identity, ModelCache<T> pointerCache, Function<PureModelContextData, T> mayCompileFunction, PureModelContextData preResolvedData)
     {
         if (context instanceof PureModelContextCombination)
         {
             Pair<MutableList<PureModelContextData>, MutableList<PureModelContextPointer>> concreteVsPointer = recursivelyDiscriminateDataAndPointersLeaves((PureModelContextCombination) context);
             MutableList<PureModelContextData> concretes = concreteVsPointer.getOne();
             MutableList<PureModelContextPointer> pointers = concreteVsPointer.getTwo();
-            PureModelContextData globalContext;
-            if (!pointers.isEmpty())
-            {
-                PureModelContextData initial = resolvePointerAndCache(pointers.get(0), identity, pureModelContextCache, cacheKey -> loadModelDataFromStorage(cacheKey, clientVersion, identity));
-                PureModelContextData aggregated = pointers.subList(1, pointers.size()).injectInto(initial, (a, b) -> a.combine(resolvePointerAndCache(b, identity, pureModelContextCache, cacheKey -> loadModelDataFromStorage(cacheKey, clientVersion, identity))));
-                globalContext = concretes.injectInto(aggregated, (a, b) -> a.combine(b));
-            }
-            else if (!concretes.isEmpty())
-            {
-                globalContext = concretes.subList(1, concretes.size()).injectInto(concretes.get(0), (a, b) -> a.combine(b));
-            }
-            else
+            if (pointers.isEmpty() && concretes.isEmpty())
             {
                 throw new RuntimeException("No content to process");
             }
-            return mayCompileFunction.apply(globalContext);
+            MutableList<PureModelContextData> allData = this.resolvePointers(pointers, clientVersion, identity).withAll(concretes);
+            return mayCompileFunction.apply(combine(allData));
         }
         else if (context instanceof PureModelContextConcrete)
         {
@@ -161,12 +192,90 @@ public class ModelManager
     }
 
 
+    /**
+     * Resolve the pointers concurrently on the fork join pool of this model manager, if any, each in its own span.
+     * The access control context of the caller (e.g. the Kerberos subject) is propagated to the resolving threads.
+     */
+    private MutableList<PureModelContextData> resolvePointers(MutableList<PureModelContextPointer> pointers, String clientVersion, Identity identity)
+    {
+        Span parentSpan = this.tracer.activeSpan();
+        if (this.forkJoinPool == null || pointers.size() <= 1)
+        {
+            return pointers.collect(pointer -> this.resolvePointer(pointer, clientVersion, identity, parentSpan));
+        }
+
+        AccessControlContext accessControlContext = AccessController.getContext();
+        MutableList<CompletableFuture<PureModelContextData>> futures = pointers.collect(pointer -> CompletableFuture.supplyAsync(() ->
+                AccessController.doPrivileged((PrivilegedAction<PureModelContextData>) () -> this.resolvePointer(pointer, clientVersion, identity, parentSpan), accessControlContext), this.forkJoinPool));
+        try
+        {
+            return futures.collect(CompletableFuture::join);
+        }
+        catch (CompletionException e)
+        {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new EngineException("Engine was not able to load the model", e);
+        }
+    }
+
+    private PureModelContextData resolvePointer(PureModelContextPointer pointer, String clientVersion, Identity identity, Span parentSpan)
+    {
+        try (Scope scope = this.tracer.buildSpan("Resolve Pointer").asChildOf(parentSpan).startActive(true))
+        {
+            if (pointer.sdlcInfo != null)
+            {
+                scope.span().setTag("sdlc", pointer.sdlcInfo.getClass().getSimpleName());
+                scope.span().setTag("version", String.valueOf(pointer.sdlcInfo.version));
+            }
+            return resolvePointerAndCache(pointer, identity, this.modelData, cacheKey -> loadModelDataFromStorage(cacheKey, clientVersion, identity));
+        }
+    }
+
+    /**
+     * Merge all the model data at once, the first element with a given path wins
+     */
+    private static PureModelContextData combine(MutableList<PureModelContextData> allData)
+    {
+        if (allData.size() == 1)
+        {
+            return allData.get(0);
+        }
+        PureModelContextData.Builder builder = PureModelContextData.newBuilder();
+        allData.forEach(builder::addPureModelContextData);
+        return builder.distinct().sorted().build();
+    }
+
     private PureModelContextData loadModelDataFromStorage(PureModelContext context, String clientVersion, Identity identity)
     {
         try (Scope scope = tracer.buildSpan("Load Model").startActive(true))
         {
             scope.span().setTag("context", context.getClass().getSimpleName());
-            return this.modelLoaderForContext(context).load(identity, context, clientVersion, scope.span());
+            ModelLoader loader = this.modelLoaderForContext(context);
+            PureModelContext snapshotKey = (this.snapshotStore != null && loader.shouldCache(context)) ? loader.cacheKey(context, identity) : null;
+
+            long start = System.currentTimeMillis();
+            if (snapshotKey != null)
+            {
+                PureModelContextData snapshot = this.snapshotStore.load(snapshotKey);
+                if (snapshot != null)
+                {
+                    MetricsHandler.observeModelLoadTime("snapshot", start, System.currentTimeMillis());
+                    scope.span().setTag("snapshot", true);
+                    return snapshot;
+                }
+            }
+
+            PureModelContextData data = loader.load(identity, context, clientVersion, scope.span());
+            MetricsHandler.observeModelLoadTime("storage", start, System.currentTimeMillis());
+            if (snapshotKey != null)
+            {
+                this.snapshotStore.saveAsync(snapshotKey, data);
+            }
+            return data;
         }
     }
 
@@ -214,20 +323,13 @@ public class ModelManager
         return Tuples.pair(concrete, pointers);
     }
 
-    private <Z> Z resolvePointerAndCache(PureModelContext context, Identity identity, Cache<PureModelContext, Z> cache, Function<PureModelContext, Z> resolver)
+    private <Z> Z resolvePointerAndCache(PureModelContext context, Identity identity, ModelCache<Z> cache, Function<PureModelContext, Z> resolver)
     {
         ModelLoader loader = this.modelLoaderForContext(context);
         if (loader.shouldCache(context))
         {
             PureModelContext cacheKey = loader.cacheKey(context, identity);
-            try
-            {
-                return cache.get(cacheKey, () -> resolver.apply(context));
-            }
-            catch (ExecutionException e)
-            {
-                throw new EngineException("Engine was not able to cache", e);
-            }
+            return cache.get(cacheKey, () -> resolver.apply(context));
         }
         return resolver.apply(context);
     }
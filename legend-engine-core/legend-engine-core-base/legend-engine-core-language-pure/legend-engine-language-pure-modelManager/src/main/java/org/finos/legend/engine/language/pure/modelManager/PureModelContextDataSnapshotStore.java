@@ -0,0 +1,293 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * On-disk snapshots of the model data resolved for immutable model contexts (e.g. released project versions), keyed
+ * by the model loader cache key, so that a restarted server does not have to fetch the model data from storage again.
+ * <p>
+ * Snapshots are only written for contexts the model loader allows to cache, on a background writer so that requests do
+ * not wait for them. A snapshot which cannot be read back (e.g. written by an incompatible protocol version) is deleted
+ * and treated as missing.
+ * <p>
+ * After each write, snapshots not read or written within the time to live are deleted, then the least recently used
+ * ones until the directory is within its maximum size.
+ */
+public class PureModelContextDataSnapshotStore
+{
+    public static final long DEFAULT_MAXIMUM_SIZE_BYTES = 1024L * 1024 * 1024; /* 1GB */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofDays(30);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PureModelContextDataSnapshotStore.class);
+    private static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+    private static final String SNAPSHOT_SUFFIX = ".json";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final long maximumSizeBytes;
+    private final Duration timeToLive;
+    private final Executor writer;
+
+    public PureModelContextDataSnapshotStore(Path directory)
+    {
+        this(directory, DEFAULT_MAXIMUM_SIZE_BYTES, DEFAULT_TIME_TO_LIVE);
+    }
+
+    public PureModelContextDataSnapshotStore(Path directory, long maximumSizeBytes, Duration timeToLive)
+    {
+        this(directory, maximumSizeBytes, timeToLive, Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("model-snapshot-writer-%d").setDaemon(true).build()));
+    }
+
+    /**
+     * @param writer executor the snapshots are written and cleaned up on
+     */
+    public PureModelContextDataSnapshotStore(Path directory, long maximumSizeBytes, Duration timeToLive, Executor writer)
+    {
+        this.directory = directory;
+        this.maximumSizeBytes = maximumSizeBytes;
+        this.timeToLive = timeToLive;
+        this.writer = writer;
+    }
+
+    public Path getDirectory()
+    {
+        return this.directory;
+    }
+
+    public PureModelContextData load(PureModelContext cacheKey)
+    {
+        String key = serializeKey(cacheKey);
+        Path file = this.snapshotFile(key);
+        if (!Files.exists(file))
+        {
+            return null;
+        }
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file)))
+        {
+            Snapshot snapshot = objectMapper.readValue(inputStream, Snapshot.class);
+            if (!key.equals(snapshot.key))
+            {
+                return null;
+            }
+            touch(file);
+            return snapshot.data;
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to read model snapshot {}, deleting it", file, e);
+            deleteIfExists(file);
+            return null;
+        }
+    }
+
+    /**
+     * Write the snapshot of the model data on the background writer, replacing any previous one atomically. The future
+     * completes with false if it could not be written.
+     */
+    public CompletableFuture<Boolean> saveAsync(PureModelContext cacheKey, PureModelContextData data)
+    {
+        String key = serializeKey(cacheKey);
+        return CompletableFuture.supplyAsync(() -> this.write(key, data), this.writer);
+    }
+
+    /**
+     * Write the snapshot of the model data, replacing any previous one atomically. Returns false if it could not be written.
+     */
+    public boolean save(PureModelContext cacheKey, PureModelContextData data)
+    {
+        return this.write(serializeKey(cacheKey), data);
+    }
+
+    private boolean write(String key, PureModelContextData data)
+    {
+        Path file = this.snapshotFile(key);
+        Path temporaryFile = null;
+        try
+        {
+            Files.createDirectories(this.directory);
+            temporaryFile = Files.createTempFile(this.directory, file.getFileName().toString(), TEMPORARY_SUFFIX);
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(temporaryFile)))
+            {
+                objectMapper.writeValue(outputStream, new Snapshot(key, data));
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to write model snapshot {}", file, e);
+            if (temporaryFile != null)
+            {
+                deleteIfExists(temporaryFile);
+            }
+            return false;
+        }
+        finally
+        {
+            this.cleanUp();
+        }
+    }
+
+    /**
+     * Delete the snapshots (and leftover temporary files) older than the time to live, then the least recently used
+     * snapshots until the directory is within its maximum size.
+     */
+    public void cleanUp()
+    {
+        if (!Files.isDirectory(this.directory))
+        {
+            return;
+        }
+        long expiredBefore = System.currentTimeMillis() - this.timeToLive.toMillis();
+        List<SnapshotFile> snapshots = new ArrayList<>();
+        long totalSize = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory))
+        {
+            for (Path file : files)
+            {
+                String name = file.getFileName().toString();
+                if (!name.endsWith(SNAPSHOT_SUFFIX) && !name.endsWith(TEMPORARY_SUFFIX))
+                {
+                    continue;
+                }
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                long lastUsed = attributes.lastModifiedTime().toMillis();
+                if (lastUsed < expiredBefore)
+                {
+                    deleteIfExists(file);
+                }
+                else if (name.endsWith(SNAPSHOT_SUFFIX))
+                {
+                    snapshots.add(new SnapshotFile(file, lastUsed, attributes.size()));
+                    totalSize += attributes.size();
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to clean up model snapshot directory {}", this.directory, e);
+            return;
+        }
+        snapshots.sort(Comparator.comparingLong(f -> f.lastUsed));
+        for (int i = 0; totalSize > this.maximumSizeBytes && i < snapshots.size(); i++)
+        {
+            deleteIfExists(snapshots.get(i).file);
+            totalSize -= snapshots.get(i).size;
+        }
+    }
+
+    private Path snapshotFile(String key)
+    {
+        return this.directory.resolve(Hashing.sha256().hashString(key, StandardCharsets.UTF_8) + SNAPSHOT_SUFFIX);
+    }
+
+    private static String serializeKey(PureModelContext cacheKey)
+    {
+        try
+        {
+            return objectMapper.writeValueAsString(cacheKey);
+        }
+        catch (IOException e)
+        {
+            throw new EngineException("Unable to serialize model context snapshot key", e);
+        }
+    }
+
+    // the modification time tracks the last use of a snapshot, for the clean up
+    private static void touch(Path file)
+    {
+        try
+        {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to update the last use of model snapshot {}", file, e);
+        }
+    }
+
+    private static void deleteIfExists(Path file)
+    {
+        try
+        {
+            Files.deleteIfExists(file);
+        }
+        catch (IOException e)
+        {
+            // left for the next save to replace
+            LOGGER.warn("Unable to delete model snapshot file {}", file, e);
+        }
+    }
+
+    private static class SnapshotFile
+    {
+        private final Path file;
+        private final long lastUsed;
+        private final long size;
+
+        private SnapshotFile(Path file, long lastUsed, long size)
+        {
+            this.file = file;
+            this.lastUsed = lastUsed;
+            this.size = size;
+        }
+    }
+
+    private static class Snapshot
+    {
+        public String key;
+        public PureModelContextData data;
+
+        private Snapshot()
+        {
+        }
+
+        private Snapshot(String key, PureModelContextData data)
+        {
+            this.key = key;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPointer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestModelCache
+{
+    private static final int KILOBYTE = 1024;
+
+    @Test
+    public void testModelsCachedWhileTheyFit()
+    {
+        ModelCache<String> cache = new ModelCache<>("test", String::length, 10 * KILOBYTE, 30, 2);
+        AtomicInteger loads = new AtomicInteger();
+
+        Assert.assertEquals("a", cache.get(pointer("1"), () -> model("a", 3, loads)).substring(0, 1));
+        Assert.assertEquals("b", cache.get(pointer("2"), () -> model("b", 3, loads)).substring(0, 1));
+        Assert.assertEquals(2, cache.getCache().size());
+        Assert.assertEquals(8, cache.getWeight());
+
+        cache.get(pointer("1"), () -> model("a", 3, loads));
+        cache.get(pointer("2"), () -> model("b", 3, loads));
+        Assert.assertEquals(2, loads.get());
+        Assert.assertEquals(2, cache.getCache().stats().hitCount());
+    }
+
+    @Test
+    public void testModelRequestedOnceDoesNotEvictCachedModels()
+    {
+        ModelCache<String> cache = new ModelCache<>("test", String::length, 12 * KILOBYTE, 30, 2);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(pointer("1"), () -> model("a", 3, loads));
+        cache.get(pointer("2"), () -> model("b", 3, loads));
+
+        // does not fit in the remaining weight: served but not cached
+        Assert.assertEquals("c", cache.get(pointer("3"), () -> model("c", 6, loads)).substring(0, 1));
+        Assert.assertNull(cache.getCache().getIfPresent(pointer("3")));
+        Assert.assertNotNull(cache.getCache().getIfPresent(pointer("1")));
+        Assert.assertNotNull(cache.getCache().getIfPresent(pointer("2")));
+
+        // requested again: admitted, evicting the least recently used model
+        cache.get(pointer("3"), () -> model("c", 6, loads));
+        Assert.assertNotNull(cache.getCache().getIfPresent(pointer("3")));
+        Assert.assertNull(cache.getCache().getIfPresent(pointer("1")));
+        Assert.assertNotNull(cache.getCache().getIfPresent(pointer("2")));
+        Assert.assertEquals(4, loads.get());
+        Assert.assertEquals(11, cache.getWeight());
+    }
+
+    @Test
+    public void testWeightReleasedOnInvalidation()
+    {
+        ModelCache<String> cache = new ModelCache<>("test", String::length, 10 * KILOBYTE, 30, 2);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(pointer("1"), () -> model("a", 3, loads));
+        Assert.assertEquals(4, cache.getWeight());
+
+        cache.getCache().invalidateAll();
+        Assert.assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    public void testConcurrentRequestsShareOneLoad() throws Exception
+    {
+        // does not fit in the cache, so every request which does not share a load loads the model again
+        ModelCache<String> cache = new ModelCache<>("test", String::length, 4 * KILOBYTE, 30, 10);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> results = new CopyOnWriteArrayList<>();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++)
+        {
+            threads[i] = new Thread(() -> results.add(cache.get(pointer("1"), () ->
+            {
+                try
+                {
+                    release.await();
+                }
+                catch (InterruptedException e)
+                {
+                    throw new RuntimeException(e);
+                }
+                return model("a", 6, loads);
+            })));
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+        {
+            while (thread.getState() != Thread.State.WAITING)
+            {
+                Thread.sleep(1);
+            }
+        }
+        release.countDown();
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        Assert.assertEquals(4, results.size());
+        Assert.assertEquals(1, loads.get());
+        Assert.assertEquals(0, cache.getCache().size());
+    }
+
+    @Test
+    public void testLoadFailuresPropagated()
+    {
+        ModelCache<String> cache = new ModelCache<>("test", String::length, 10 * KILOBYTE, 30, 1);
+        IllegalStateException e = Assert.assertThrows(IllegalStateException.class, () -> cache.get(pointer("1"), () ->
+        {
+            throw new IllegalStateException("Compilation error");
+        }));
+        Assert.assertEquals("Compilation error", e.getMessage());
+        Assert.assertEquals(0, cache.getCache().size());
+    }
+
+    private static String model(String name, int kilobytes, AtomicInteger loads)
+    {
+        loads.incrementAndGet();
+        StringBuilder builder = new StringBuilder(name);
+        while (builder.length() < kilobytes * KILOBYTE)
+        {
+            builder.append(name);
+        }
+        return builder.toString();
+    }
+
+    private static PureModelContextPointer pointer(String version)
+    {
+        AlloySDLC sdlc = new AlloySDLC();
+        sdlc.groupId = "com.test";
+        sdlc.artifactId = "artifact";
+        sdlc.version = version;
+        PureModelContextPointer pointer = new PureModelContextPointer();
+        pointer.sdlcInfo = sdlc;
+        return pointer;
+    }
+}
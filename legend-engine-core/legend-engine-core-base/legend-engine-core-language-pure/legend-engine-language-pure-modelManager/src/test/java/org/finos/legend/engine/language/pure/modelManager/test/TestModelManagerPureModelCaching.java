@@ -16,6 +16,7 @@ package org.finos.legend.engine.language.pure.modelManager.test;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.opentracing.Span;
+import io.opentracing.util.GlobalTracer;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.map.MutableMap;
@@ -23,7 +24,9 @@ import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
 import org.finos.legend.engine.language.pure.modelManager.ModelLoader;
 import org.finos.legend.engine.language.pure.modelManager.ModelManager;
+import org.finos.legend.engine.language.pure.modelManager.PureModelContextDataSnapshotStore;
 import org.finos.legend.engine.protocol.Protocol;
+import org.finos.legend.engine.protocol.pure.m3.PackageableElement;
 import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PackageableElementPointer;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
@@ -36,17 +39,31 @@ import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.utility.ListIterate;
 
 public class TestModelManagerPureModelCaching
 {
     private static ObjectMapper mapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void testPureModelCaching()
     {
@@ -301,6 +318,151 @@ public class TestModelManagerPureModelCaching
         Assert.assertEquals(1, loadCount.get());
     }
 
+    @Test
+    public void testPointersResolvedConcurrently() throws Exception
+    {
+        PureModelContextPointer pointerA = makePointer("com.test", "concurrentA", "1.0.0");
+        PureModelContextPointer pointerB = makePointer("com.test", "concurrentB", "1.0.0");
+        PureModelContextData blockA = PureGrammarParser.newInstance().parseModel("Class x::A\n{\n   name : String[1];\n}");
+        PureModelContextData blockB = PureGrammarParser.newInstance().parseModel("Class x::B\n{\n   a : x::A[1];\n}");
+        PureModelContextData blockC = PureGrammarParser.newInstance().parseModel("Class x::C\n{\n   b : x::B[1];\n}");
+
+        // each load waits for the other one to start, which only happens if they run concurrently
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        AtomicInteger loadCount = new AtomicInteger(0);
+        CountingMockModelLoader loader = new CountingMockModelLoader(Maps.mutable.with(pointerA, blockA, pointerB, blockB), loadCount)
+        {
+            @Override
+            public PureModelContextData load(Identity identity, PureModelContext context, String clientVersion, Span parentSpan)
+            {
+                bothStarted.countDown();
+                try
+                {
+                    Assert.assertTrue(bothStarted.await(30, TimeUnit.SECONDS));
+                }
+                catch (InterruptedException e)
+                {
+                    throw new RuntimeException(e);
+                }
+                return super.load(identity, context, clientVersion, parentSpan);
+            }
+        };
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        try
+        {
+            PureModelContextCombination combination = new PureModelContextCombination();
+            combination.contexts = Lists.mutable.with(pointerA, pointerB, blockC);
+
+            ModelManager manager = new ModelManager(DeploymentMode.TEST, forkJoinPool, loader);
+            PureModel pureModel = manager.loadModel(combination, null, new Identity("X"), null);
+            Assert.assertNotNull(pureModel.getClass("x::A"));
+            Assert.assertNotNull(pureModel.getClass("x::B"));
+            Assert.assertNotNull(pureModel.getClass("x::C"));
+            Assert.assertEquals(2, loadCount.get());
+            Assert.assertEquals(2, manager.pureModelContextCache.size());
+        }
+        finally
+        {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    @Test
+    public void testLoadModelFromSnapshotAfterRestart() throws Exception
+    {
+        PureModelContextData blockA = PureGrammarParser.newInstance().parseModel(
+                "Class x::A\n{\n   name : String[1];\n}");
+        PureModelContextPointer pointer = makePointer("com.test", "artifact6", "1.0.0");
+        PureModelContextDataSnapshotStore snapshotStore = new PureModelContextDataSnapshotStore(temporaryFolder.getRoot().toPath(), PureModelContextDataSnapshotStore.DEFAULT_MAXIMUM_SIZE_BYTES, PureModelContextDataSnapshotStore.DEFAULT_TIME_TO_LIVE, Runnable::run);
+        Identity identity = new Identity("X");
+
+        AtomicInteger loadCount = new AtomicInteger(0);
+        ModelManager manager = new ModelManager(DeploymentMode.TEST, null, GlobalTracer.get(), snapshotStore, new CountingMockModelLoader(Maps.mutable.with(pointer, blockA), loadCount));
+        manager.loadModel(pointer, null, identity, null);
+        Assert.assertEquals(1, loadCount.get());
+        Assert.assertEquals(1, Files.list(snapshotStore.getDirectory()).count());
+
+        // A new model manager, as after a restart, loads the data from the snapshot
+        AtomicInteger loadCountAfterRestart = new AtomicInteger(0);
+        ModelManager restartedManager = new ModelManager(DeploymentMode.TEST, null, GlobalTracer.get(), snapshotStore, new CountingMockModelLoader(Maps.mutable.with(pointer, blockA), loadCountAfterRestart));
+        PureModel model = restartedManager.loadModel(pointer, null, identity, null);
+        Assert.assertNotNull(model.getClass("x::A"));
+        Assert.assertEquals(0, loadCountAfterRestart.get());
+        Assert.assertEquals(ListIterate.collect(blockA.getElements(), PackageableElement::getPath), ListIterate.collect(restartedManager.loadData(pointer, null, identity).getElements(), PackageableElement::getPath));
+    }
+
+    @Test
+    public void testUnreadableSnapshotIsReplaced() throws Exception
+    {
+        PureModelContextData blockA = PureGrammarParser.newInstance().parseModel(
+                "Class x::A\n{\n   name : String[1];\n}");
+        PureModelContextPointer pointer = makePointer("com.test", "artifact7", "1.0.0");
+        PureModelContextDataSnapshotStore snapshotStore = new PureModelContextDataSnapshotStore(temporaryFolder.getRoot().toPath(), PureModelContextDataSnapshotStore.DEFAULT_MAXIMUM_SIZE_BYTES, PureModelContextDataSnapshotStore.DEFAULT_TIME_TO_LIVE, Runnable::run);
+        Assert.assertTrue(snapshotStore.save(pointer, blockA));
+        Path snapshot = Files.list(snapshotStore.getDirectory()).findFirst().get();
+        Files.write(snapshot, "{\"key\":".getBytes(StandardCharsets.UTF_8));
+
+        AtomicInteger loadCount = new AtomicInteger(0);
+        ModelManager manager = new ModelManager(DeploymentMode.TEST, null, GlobalTracer.get(), snapshotStore, new CountingMockModelLoader(Maps.mutable.with(pointer, blockA), loadCount));
+        Assert.assertNotNull(manager.loadModel(pointer, null, new Identity("X"), null).getClass("x::A"));
+        Assert.assertEquals(1, loadCount.get());
+        Assert.assertNotNull(snapshotStore.load(pointer));
+    }
+
+    @Test
+    public void testSnapshotOnlyForCacheableContexts()
+    {
+        PureModelContextPointer pointer = makePointer("com.test", "artifact8", "1.0.0");
+        PureModelContextDataSnapshotStore snapshotStore = new PureModelContextDataSnapshotStore(temporaryFolder.getRoot().toPath(), PureModelContextDataSnapshotStore.DEFAULT_MAXIMUM_SIZE_BYTES, PureModelContextDataSnapshotStore.DEFAULT_TIME_TO_LIVE, Runnable::run);
+        Assert.assertNull(snapshotStore.load(pointer));
+
+        ModelManager manager = new ModelManager(DeploymentMode.TEST, null, GlobalTracer.get(), snapshotStore, new MockModelLoader(Maps.mutable.empty())
+        {
+            @Override
+            public boolean shouldCache(PureModelContext context)
+            {
+                return false;
+            }
+        });
+        manager.loadData(pointer, null, new Identity("X"));
+        Assert.assertNull(snapshotStore.load(pointer));
+    }
+
+    @Test
+    public void testSnapshotsAreCleanedUpByAgeAndSize() throws Exception
+    {
+        PureModelContextData blockA = PureGrammarParser.newInstance().parseModel(
+                "Class x::A\n{\n   name : String[1];\n}");
+        PureModelContextPointer pointer1 = makePointer("com.test", "artifact9", "1.0.0");
+        PureModelContextPointer pointer2 = makePointer("com.test", "artifact9", "2.0.0");
+        PureModelContextPointer pointer3 = makePointer("com.test", "artifact9", "3.0.0");
+        PureModelContextDataSnapshotStore unbounded = new PureModelContextDataSnapshotStore(temporaryFolder.getRoot().toPath(), Long.MAX_VALUE, Duration.ofDays(1), Runnable::run);
+        Assert.assertTrue(unbounded.save(pointer1, blockA));
+        Assert.assertTrue(unbounded.save(pointer2, blockA));
+        long snapshotSize = Files.size(Files.list(unbounded.getDirectory()).findFirst().get());
+
+        // a snapshot past its time to live is deleted
+        for (Path file : Files.list(unbounded.getDirectory()).toArray(Path[]::new))
+        {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - Duration.ofDays(2).toMillis()));
+        }
+        Assert.assertNotNull(unbounded.load(pointer2));
+        unbounded.cleanUp();
+        Assert.assertNull(unbounded.load(pointer1));
+        Assert.assertNotNull(unbounded.load(pointer2));
+
+        // the least recently used snapshot is deleted to stay within the maximum size
+        PureModelContextDataSnapshotStore bounded = new PureModelContextDataSnapshotStore(temporaryFolder.getRoot().toPath(), 2 * snapshotSize, Duration.ofDays(1), Runnable::run);
+        Files.setLastModifiedTime(Files.list(bounded.getDirectory()).findFirst().get(), FileTime.fromMillis(System.currentTimeMillis() - 1000));
+        Assert.assertTrue(bounded.saveAsync(pointer3, blockA).get());
+        Assert.assertTrue(bounded.save(pointer1, blockA));
+        Assert.assertEquals(2, Files.list(bounded.getDirectory()).count());
+        Assert.assertNull(bounded.load(pointer2));
+        Assert.assertNotNull(bounded.load(pointer3));
+        Assert.assertNotNull(bounded.load(pointer1));
+    }
+
     private static PureModelContextPointer makePointer(String groupId, String artifactId, String version)
     {
         PureModelContextPointer pointer = new PureModelContextPointer();
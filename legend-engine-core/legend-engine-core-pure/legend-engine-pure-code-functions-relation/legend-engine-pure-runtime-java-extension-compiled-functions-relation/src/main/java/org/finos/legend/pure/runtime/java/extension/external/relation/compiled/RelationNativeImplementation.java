@@ -549,12 +549,18 @@ public class RelationNativeImplementation
 
 
     public static <T, V> Relation<? extends Object> join(Relation<? extends T> rel1, Relation<? extends V> rel2, Enum joinKind, Function3 pureFunction, ExecutionSupport es)
+    {
+        return join(rel1, rel2, joinKind, pureFunction, null, es);
+    }
+
+    public static <T, V> Relation<? extends Object> join(Relation<? extends T> rel1, Relation<? extends V> rel2, Enum joinKind, Function3 pureFunction, Object _func, ExecutionSupport es)
     {
         ProcessorSupport ps = ((CompiledExecutionSupport) es).getProcessorSupport();
 
         TestTDSCompiled tds1 = RelationNativeImplementation.getTDS(rel1, es);
         TestTDSCompiled tds2 = RelationNativeImplementation.getTDS(rel2, es);
-        TestTDSCompiled tds = (TestTDSCompiled) tds1.join(tds2);
+        // rows which cannot satisfy the equalities of the join function are not joined
+        TestTDSCompiled tds = (TestTDSCompiled) tds1.joinCandidates(tds2, _func instanceof LambdaFunction ? (LambdaFunction<?>) _func : null, ps);
 
         MutableIntSet list = new IntHashSet();
         for (int i = 0; i < tds.getRowCount(); i++)
@@ -63,6 +63,8 @@ public class Join extends AbstractNative implements Native
         result.append(transformedParams.get(2));
         result.append(", ");
         result.append(extractLambda(transformedParams.get(3)));
+        result.append(", ");
+        result.append(transformedParams.get(3));
         result.append(", es)\n");
         return result.toString();
     }
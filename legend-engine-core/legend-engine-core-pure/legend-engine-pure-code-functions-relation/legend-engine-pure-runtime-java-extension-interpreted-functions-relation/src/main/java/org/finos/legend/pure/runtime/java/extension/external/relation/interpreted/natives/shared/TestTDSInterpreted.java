@@ -32,6 +32,7 @@ import org.finos.legend.pure.m3.navigation.type.Type;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.primitive.date.PureDate;
+import org.finos.legend.pure.runtime.java.extension.external.relation.shared.TDSColumn;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.TestTDS;
 
 import static org.finos.legend.pure.m3.navigation.ValueSpecificationBootstrap.*;
@@ -67,58 +68,58 @@ public class TestTDSInterpreted extends TestTDS
 
     public CoreInstance getValueAsCoreInstance(String columnName, int rowNum)
     {
-        Object dataAsObject = dataByColumnName.get(columnName);
-        if (dataAsObject == null)
+        TDSColumn column = dataByColumnName.get(columnName);
+        if (column == null)
         {
             throw new RuntimeException("The column " + columnName + " can't be found in the TDS");
         }
         org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type pureType = pureTypesByColumnName.get(columnName)._rawType();
         CoreInstance result;
-        Object[] data = (Object[]) dataAsObject;
+        Object value = column.get(rowNum);
         if (processorSupport.type_subTypeOf(pureType, processorSupport.package_getByUserPath(M3Paths.Integer)))
         {
-            result = data[rowNum] == null ? ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(_Package.getByUserPath(M3Paths.Integer, processorSupport), processorSupport), true, processorSupport) : newIntegerLiteral(modelRepository, (Long) data[rowNum], processorSupport);
+            result = value == null ? ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(_Package.getByUserPath(M3Paths.Integer, processorSupport), processorSupport), true, processorSupport) : newIntegerLiteral(modelRepository, (Long) value, processorSupport);
         }
         else if (processorSupport.type_subTypeOf(pureType, processorSupport.package_getByUserPath(M3Paths.Variant)))
         {
-            result = data[rowNum] == null ? ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(_Package.getByUserPath(M3Paths.Variant, processorSupport), processorSupport), true, processorSupport) : wrapValueSpecification((Variant) data[rowNum], true, processorSupport);
+            result = value == null ? ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(_Package.getByUserPath(M3Paths.Variant, processorSupport), processorSupport), true, processorSupport) : wrapValueSpecification((Variant) value, true, processorSupport);
         }
         else if (processorSupport.type_subTypeOf(pureType, processorSupport.package_getByUserPath(M3Paths.String)))
         {
-            result = data[rowNum] == null ? ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(_Package.getByUserPath(M3Paths.String, processorSupport), processorSupport), true, processorSupport) : newStringLiteral(modelRepository, (String) data[rowNum], processorSupport);
+            result = value == null ? ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(_Package.getByUserPath(M3Paths.String, processorSupport), processorSupport), true, processorSupport) : newStringLiteral(modelRepository, (String) value, processorSupport);
         }
         else if (processorSupport.type_subTypeOf(pureType, processorSupport.package_getByUserPath(M3Paths.Boolean)))
         {
-            result = data[rowNum] == null ? ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(_Package.getByUserPath(M3Paths.Boolean, processorSupport), processorSupport), true, processorSupport) : newBooleanLiteral(modelRepository, (Boolean) data[rowNum], processorSupport);
+            result = value == null ? ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(_Package.getByUserPath(M3Paths.Boolean, processorSupport), processorSupport), true, processorSupport) : newBooleanLiteral(modelRepository, (Boolean) value, processorSupport);
         }
         else if (processorSupport.type_subTypeOf(pureType, processorSupport.package_getByUserPath(M3Paths.Float)))
         {
-            result = data[rowNum] == null ? ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(_Package.getByUserPath(M3Paths.Float, processorSupport), processorSupport), true, processorSupport) : newFloatLiteral(modelRepository, BigDecimal.valueOf((Double) data[rowNum]), processorSupport);
+            result = value == null ? ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(_Package.getByUserPath(M3Paths.Float, processorSupport), processorSupport), true, processorSupport) : newFloatLiteral(modelRepository, BigDecimal.valueOf((Double) value), processorSupport);
         }
         else if (processorSupport.type_subTypeOf(pureType, processorSupport.package_getByUserPath(M3Paths.Date)))
         {
-            result = data[rowNum] == null ? ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(_Package.getByUserPath(M3Paths.Date, processorSupport), processorSupport), true, processorSupport) : newDateLiteral(modelRepository, (PureDate) data[rowNum], processorSupport);
+            result = value == null ? ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(_Package.getByUserPath(M3Paths.Date, processorSupport), processorSupport), true, processorSupport) : newDateLiteral(modelRepository, (PureDate) value, processorSupport);
         }
         else if (processorSupport.type_subTypeOf(pureType, processorSupport.package_getByUserPath(M3Paths.Decimal)))
         {
-            result = data[rowNum] == null ? ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(_Package.getByUserPath(M3Paths.Decimal, processorSupport), processorSupport), true, processorSupport) : wrapValueSpecification(modelRepository.newDecimalCoreInstance((BigDecimal) data[rowNum]), true, processorSupport);
+            result = value == null ? ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(_Package.getByUserPath(M3Paths.Decimal, processorSupport), processorSupport), true, processorSupport) : wrapValueSpecification(modelRepository.newDecimalCoreInstance((BigDecimal) value), true, processorSupport);
         }
         else if (processorSupport.type_subTypeOf(pureType, processorSupport.package_getByUserPath(M3Paths.Number)))
         {
-            result = data[rowNum] == null ? ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(_Package.getByUserPath(M3Paths.Number, processorSupport), processorSupport), true, processorSupport) : wrapValueSpecification((data[rowNum] instanceof BigDecimal ? modelRepository.newDecimalCoreInstance((BigDecimal) data[rowNum]) : modelRepository.newFloatCoreInstance(BigDecimal.valueOf((double) data[rowNum]))), true, processorSupport);
+            result = value == null ? ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(_Package.getByUserPath(M3Paths.Number, processorSupport), processorSupport), true, processorSupport) : wrapValueSpecification((value instanceof BigDecimal ? modelRepository.newDecimalCoreInstance((BigDecimal) value) : modelRepository.newFloatCoreInstance(BigDecimal.valueOf((double) value))), true, processorSupport);
         }
         else if (processorSupport.instance_instanceOf(pureType, M3Paths.Enumeration))
         {
-            if (data[rowNum] == null)
+            if (value == null)
             {
                 result = ValueSpecificationBootstrap.wrapValueSpecification_ResultGenericTypeIsKnown(Lists.mutable.empty(), Type.wrapGenericType(pureType, processorSupport), true, processorSupport);
             }
             else
             {
-                CoreInstance enumValue = Enumeration.findEnum(pureType, (String) data[rowNum]);
+                CoreInstance enumValue = Enumeration.findEnum(pureType, (String) value);
                 if (enumValue == null)
                 {
-                    throw new RuntimeException("Unknown enum value '" + data[rowNum] + "' for type '" + pureType._name() + "'");
+                    throw new RuntimeException("Unknown enum value '" + value + "' for type '" + pureType._name() + "'");
                 }
                 result = wrapValueSpecification(enumValue, true, processorSupport);
             }
@@ -41,8 +41,8 @@ public class ColumnValue
     public String toString()
     {
         MutableList<String> res;
-        Object[] val = (Object[]) result;
-        res = extracted(i -> String.valueOf(val[i]), val.length);
+        TDSColumn val = TDSColumn.fromArray(result);
+        res = extracted(i -> String.valueOf(val.get(i)), val.size());
         return "ColumnValue{" +
                 "name='" + name + '\'' +
                 ", pureType=" + pureType +
@@ -0,0 +1,761 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.extension.external.relation.shared;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The values of a {@link TestTDS} column. Integer, Float and Boolean columns read from CSV, or built from arrays of
+ * these types, keep their values unboxed with a bitmap of nulls, and String columns keep a code per row into a
+ * dictionary of their distinct values. Other columns keep an array of objects.
+ * <p>
+ * Sorting, comparing and copying rows work on the typed storage, without boxing the values. Only
+ * {@link #set(int, Object)} mutates a column; the other operations return new columns.
+ */
+public abstract class TDSColumn
+{
+    public static TDSColumn fromArray(Object array)
+    {
+        if (array instanceof TDSColumn)
+        {
+            return (TDSColumn) array;
+        }
+        if (array instanceof Long[])
+        {
+            return LongColumn.fromArray((Long[]) array);
+        }
+        if (array instanceof Double[])
+        {
+            return DoubleColumn.fromArray((Double[]) array);
+        }
+        if (array instanceof Boolean[])
+        {
+            return BooleanColumn.fromArray((Boolean[]) array);
+        }
+        if (array instanceof String[])
+        {
+            return StringColumn.fromArray((String[]) array);
+        }
+        return new ObjectColumn((Object[]) array);
+    }
+
+    public static TDSColumn ofNulls(int size)
+    {
+        return new ObjectColumn(new Object[size]);
+    }
+
+    public abstract int size();
+
+    public abstract Object get(int row);
+
+    public abstract boolean isNull(int row);
+
+    /**
+     * Set the value of a row, returning this column, or a column of objects with the values of this column when the
+     * value cannot be held by its typed storage
+     */
+    public abstract TDSColumn set(int row, Object value);
+
+    /**
+     * The column with the values of the given rows, in that order
+     */
+    public abstract TDSColumn gather(int[] rows);
+
+    public abstract TDSColumn copy();
+
+    public TDSColumn slice(int from, int to)
+    {
+        return gather(range(from, to));
+    }
+
+    /**
+     * The column with the values of this column followed by the values of the other column
+     */
+    public TDSColumn append(TDSColumn other)
+    {
+        if (other.size() == 0)
+        {
+            return copy();
+        }
+        if (size() == 0)
+        {
+            return other.copy();
+        }
+        int size = size();
+        Object[] values = new Object[size + other.size()];
+        for (int i = 0; i < size; i++)
+        {
+            values[i] = get(i);
+        }
+        for (int i = 0; i < other.size(); i++)
+        {
+            values[size + i] = other.get(i);
+        }
+        return new ObjectColumn(values);
+    }
+
+    /**
+     * Compare two rows of this column, nulls last
+     */
+    public abstract int compare(int row, int otherRow);
+
+    public boolean sameValue(int row, int otherRow)
+    {
+        return compare(row, otherRow) == 0;
+    }
+
+    public boolean sameValue(int row, TDSColumn other, int otherRow)
+    {
+        return Objects.equals(get(row), other.get(otherRow));
+    }
+
+    public Object[] toArray()
+    {
+        Object[] values = new Object[size()];
+        for (int i = 0; i < values.length; i++)
+        {
+            values[i] = get(i);
+        }
+        return values;
+    }
+
+    static int[] range(int from, int to)
+    {
+        int[] rows = new int[to - from];
+        for (int i = 0; i < rows.length; i++)
+        {
+            rows[i] = from + i;
+        }
+        return rows;
+    }
+
+    private static BitSet gatherBits(BitSet bits, int[] rows)
+    {
+        BitSet result = new BitSet(rows.length);
+        if (!bits.isEmpty())
+        {
+            for (int i = 0; i < rows.length; i++)
+            {
+                if (bits.get(rows[i]))
+                {
+                    result.set(i);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static BitSet appendBits(BitSet bits, int size, BitSet otherBits)
+    {
+        BitSet result = (BitSet) bits.clone();
+        otherBits.stream().forEach(i -> result.set(size + i));
+        return result;
+    }
+
+    private static int compareNulls(boolean isNull, boolean otherIsNull)
+    {
+        return isNull ? (otherIsNull ? 0 : 1) : -1;
+    }
+
+    private static final class LongColumn extends TDSColumn
+    {
+        private final long[] values;
+        private final BitSet nulls;
+
+        private LongColumn(long[] values, BitSet nulls)
+        {
+            this.values = values;
+            this.nulls = nulls;
+        }
+
+        private static LongColumn fromArray(Long[] array)
+        {
+            long[] values = new long[array.length];
+            BitSet nulls = new BitSet(array.length);
+            for (int i = 0; i < array.length; i++)
+            {
+                if (array[i] == null)
+                {
+                    nulls.set(i);
+                }
+                else
+                {
+                    values[i] = array[i];
+                }
+            }
+            return new LongColumn(values, nulls);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.values.length;
+        }
+
+        @Override
+        public Object get(int row)
+        {
+            return this.nulls.get(row) ? null : this.values[row];
+        }
+
+        @Override
+        public boolean isNull(int row)
+        {
+            return this.nulls.get(row);
+        }
+
+        @Override
+        public TDSColumn set(int row, Object value)
+        {
+            if (value == null)
+            {
+                this.nulls.set(row);
+                return this;
+            }
+            if (value instanceof Long)
+            {
+                this.values[row] = (Long) value;
+                this.nulls.clear(row);
+                return this;
+            }
+            return new ObjectColumn(toArray()).set(row, value);
+        }
+
+        @Override
+        public TDSColumn gather(int[] rows)
+        {
+            long[] result = new long[rows.length];
+            for (int i = 0; i < rows.length; i++)
+            {
+                result[i] = this.values[rows[i]];
+            }
+            return new LongColumn(result, gatherBits(this.nulls, rows));
+        }
+
+        @Override
+        public TDSColumn copy()
+        {
+            return new LongColumn(this.values.clone(), (BitSet) this.nulls.clone());
+        }
+
+        @Override
+        public TDSColumn append(TDSColumn other)
+        {
+            if (!(other instanceof LongColumn))
+            {
+                return super.append(other);
+            }
+            LongColumn longColumn = (LongColumn) other;
+            long[] result = Arrays.copyOf(this.values, this.values.length + longColumn.values.length);
+            System.arraycopy(longColumn.values, 0, result, this.values.length, longColumn.values.length);
+            return new LongColumn(result, appendBits(this.nulls, this.values.length, longColumn.nulls));
+        }
+
+        @Override
+        public int compare(int row, int otherRow)
+        {
+            boolean isNull = this.nulls.get(row);
+            boolean otherIsNull = this.nulls.get(otherRow);
+            return (isNull || otherIsNull) ? compareNulls(isNull, otherIsNull) : Long.compare(this.values[row], this.values[otherRow]);
+        }
+
+        @Override
+        public boolean sameValue(int row, TDSColumn other, int otherRow)
+        {
+            if (other instanceof LongColumn)
+            {
+                LongColumn longColumn = (LongColumn) other;
+                boolean isNull = this.nulls.get(row);
+                return isNull ? longColumn.nulls.get(otherRow) : (!longColumn.nulls.get(otherRow) && this.values[row] == longColumn.values[otherRow]);
+            }
+            return super.sameValue(row, other, otherRow);
+        }
+    }
+
+    private static final class DoubleColumn extends TDSColumn
+    {
+        private final double[] values;
+        private final BitSet nulls;
+
+        private DoubleColumn(double[] values, BitSet nulls)
+        {
+            this.values = values;
+            this.nulls = nulls;
+        }
+
+        private static DoubleColumn fromArray(Double[] array)
+        {
+            double[] values = new double[array.length];
+            BitSet nulls = new BitSet(array.length);
+            for (int i = 0; i < array.length; i++)
+            {
+                if (array[i] == null)
+                {
+                    nulls.set(i);
+                }
+                else
+                {
+                    values[i] = array[i];
+                }
+            }
+            return new DoubleColumn(values, nulls);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.values.length;
+        }
+
+        @Override
+        public Object get(int row)
+        {
+            return this.nulls.get(row) ? null : this.values[row];
+        }
+
+        @Override
+        public boolean isNull(int row)
+        {
+            return this.nulls.get(row);
+        }
+
+        @Override
+        public TDSColumn set(int row, Object value)
+        {
+            if (value == null)
+            {
+                this.nulls.set(row);
+                return this;
+            }
+            if (value instanceof Double)
+            {
+                this.values[row] = (Double) value;
+                this.nulls.clear(row);
+                return this;
+            }
+            return new ObjectColumn(toArray()).set(row, value);
+        }
+
+        @Override
+        public TDSColumn gather(int[] rows)
+        {
+            double[] result = new double[rows.length];
+            for (int i = 0; i < rows.length; i++)
+            {
+                result[i] = this.values[rows[i]];
+            }
+            return new DoubleColumn(result, gatherBits(this.nulls, rows));
+        }
+
+        @Override
+        public TDSColumn copy()
+        {
+            return new DoubleColumn(this.values.clone(), (BitSet) this.nulls.clone());
+        }
+
+        @Override
+        public TDSColumn append(TDSColumn other)
+        {
+            if (!(other instanceof DoubleColumn))
+            {
+                return super.append(other);
+            }
+            DoubleColumn doubleColumn = (DoubleColumn) other;
+            double[] result = Arrays.copyOf(this.values, this.values.length + doubleColumn.values.length);
+            System.arraycopy(doubleColumn.values, 0, result, this.values.length, doubleColumn.values.length);
+            return new DoubleColumn(result, appendBits(this.nulls, this.values.length, doubleColumn.nulls));
+        }
+
+        @Override
+        public int compare(int row, int otherRow)
+        {
+            boolean isNull = this.nulls.get(row);
+            boolean otherIsNull = this.nulls.get(otherRow);
+            // Double.compare orders as Double.compareTo and equals do
+            return (isNull || otherIsNull) ? compareNulls(isNull, otherIsNull) : Double.compare(this.values[row], this.values[otherRow]);
+        }
+
+        @Override
+        public boolean sameValue(int row, TDSColumn other, int otherRow)
+        {
+            if (other instanceof DoubleColumn)
+            {
+                DoubleColumn doubleColumn = (DoubleColumn) other;
+                boolean isNull = this.nulls.get(row);
+                return isNull ? doubleColumn.nulls.get(otherRow) : (!doubleColumn.nulls.get(otherRow) && Double.compare(this.values[row], doubleColumn.values[otherRow]) == 0);
+            }
+            return super.sameValue(row, other, otherRow);
+        }
+    }
+
+    private static final class BooleanColumn extends TDSColumn
+    {
+        private final BitSet values;
+        private final BitSet nulls;
+        private final int size;
+
+        private BooleanColumn(BitSet values, BitSet nulls, int size)
+        {
+            this.values = values;
+            this.nulls = nulls;
+            this.size = size;
+        }
+
+        private static BooleanColumn fromArray(Boolean[] array)
+        {
+            BitSet values = new BitSet(array.length);
+            BitSet nulls = new BitSet(array.length);
+            for (int i = 0; i < array.length; i++)
+            {
+                if (array[i] == null)
+                {
+                    nulls.set(i);
+                }
+                else if (array[i])
+                {
+                    values.set(i);
+                }
+            }
+            return new BooleanColumn(values, nulls, array.length);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.size;
+        }
+
+        @Override
+        public Object get(int row)
+        {
+            return this.nulls.get(row) ? null : this.values.get(row);
+        }
+
+        @Override
+        public boolean isNull(int row)
+        {
+            return this.nulls.get(row);
+        }
+
+        @Override
+        public TDSColumn set(int row, Object value)
+        {
+            if (value == null)
+            {
+                this.nulls.set(row);
+                return this;
+            }
+            if (value instanceof Boolean)
+            {
+                this.values.set(row, (Boolean) value);
+                this.nulls.clear(row);
+                return this;
+            }
+            return new ObjectColumn(toArray()).set(row, value);
+        }
+
+        @Override
+        public TDSColumn gather(int[] rows)
+        {
+            return new BooleanColumn(gatherBits(this.values, rows), gatherBits(this.nulls, rows), rows.length);
+        }
+
+        @Override
+        public TDSColumn copy()
+        {
+            return new BooleanColumn((BitSet) this.values.clone(), (BitSet) this.nulls.clone(), this.size);
+        }
+
+        @Override
+        public TDSColumn append(TDSColumn other)
+        {
+            if (!(other instanceof BooleanColumn))
+            {
+                return super.append(other);
+            }
+            BooleanColumn booleanColumn = (BooleanColumn) other;
+            return new BooleanColumn(appendBits(this.values, this.size, booleanColumn.values), appendBits(this.nulls, this.size, booleanColumn.nulls), this.size + booleanColumn.size);
+        }
+
+        @Override
+        public int compare(int row, int otherRow)
+        {
+            boolean isNull = this.nulls.get(row);
+            boolean otherIsNull = this.nulls.get(otherRow);
+            return (isNull || otherIsNull) ? compareNulls(isNull, otherIsNull) : Boolean.compare(this.values.get(row), this.values.get(otherRow));
+        }
+    }
+
+    /**
+     * Strings coded into a dictionary shared by the columns gathered from the same column. The dictionary only grows,
+     * so codes stay valid for all the columns sharing it.
+     */
+    private static final class StringColumn extends TDSColumn
+    {
+        private static final int NULL_CODE = -1;
+
+        private final int[] codes;
+        private final Dictionary dictionary;
+
+        private StringColumn(int[] codes, Dictionary dictionary)
+        {
+            this.codes = codes;
+            this.dictionary = dictionary;
+        }
+
+        private static StringColumn fromArray(String[] array)
+        {
+            Dictionary dictionary = new Dictionary();
+            int[] codes = new int[array.length];
+            for (int i = 0; i < array.length; i++)
+            {
+                codes[i] = array[i] == null ? NULL_CODE : dictionary.code(array[i]);
+            }
+            return new StringColumn(codes, dictionary);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.codes.length;
+        }
+
+        @Override
+        public Object get(int row)
+        {
+            int code = this.codes[row];
+            return code == NULL_CODE ? null : this.dictionary.value(code);
+        }
+
+        @Override
+        public boolean isNull(int row)
+        {
+            return this.codes[row] == NULL_CODE;
+        }
+
+        @Override
+        public TDSColumn set(int row, Object value)
+        {
+            if (value == null)
+            {
+                this.codes[row] = NULL_CODE;
+                return this;
+            }
+            if (value instanceof String)
+            {
+                this.codes[row] = this.dictionary.code((String) value);
+                return this;
+            }
+            return new ObjectColumn(toArray()).set(row, value);
+        }
+
+        @Override
+        public TDSColumn gather(int[] rows)
+        {
+            int[] result = new int[rows.length];
+            for (int i = 0; i < rows.length; i++)
+            {
+                result[i] = this.codes[rows[i]];
+            }
+            return new StringColumn(result, this.dictionary);
+        }
+
+        @Override
+        public TDSColumn copy()
+        {
+            return new StringColumn(this.codes.clone(), this.dictionary);
+        }
+
+        @Override
+        public TDSColumn append(TDSColumn other)
+        {
+            if (!(other instanceof StringColumn))
+            {
+                return super.append(other);
+            }
+            StringColumn stringColumn = (StringColumn) other;
+            int[] result = Arrays.copyOf(this.codes, this.codes.length + stringColumn.codes.length);
+            for (int i = 0; i < stringColumn.codes.length; i++)
+            {
+                int code = stringColumn.codes[i];
+                result[this.codes.length + i] = (code == NULL_CODE || stringColumn.dictionary == this.dictionary) ? code : this.dictionary.code(stringColumn.dictionary.value(code));
+            }
+            return new StringColumn(result, this.dictionary);
+        }
+
+        @Override
+        public int compare(int row, int otherRow)
+        {
+            int code = this.codes[row];
+            int otherCode = this.codes[otherRow];
+            if (code == otherCode)
+            {
+                return 0;
+            }
+            if (code == NULL_CODE || otherCode == NULL_CODE)
+            {
+                return compareNulls(code == NULL_CODE, otherCode == NULL_CODE);
+            }
+            return this.dictionary.value(code).compareTo(this.dictionary.value(otherCode));
+        }
+
+        @Override
+        public boolean sameValue(int row, int otherRow)
+        {
+            // a value has a single code in a dictionary
+            return this.codes[row] == this.codes[otherRow];
+        }
+
+        @Override
+        public boolean sameValue(int row, TDSColumn other, int otherRow)
+        {
+            if (other instanceof StringColumn && ((StringColumn) other).dictionary == this.dictionary)
+            {
+                return this.codes[row] == ((StringColumn) other).codes[otherRow];
+            }
+            return super.sameValue(row, other, otherRow);
+        }
+    }
+
+    private static final class Dictionary
+    {
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+
+        private synchronized int code(String value)
+        {
+            return this.codes.computeIfAbsent(value, v ->
+            {
+                this.values.add(v);
+                return this.values.size() - 1;
+            });
+        }
+
+        private synchronized String value(int code)
+        {
+            return this.values.get(code);
+        }
+    }
+
+    private static final class ObjectColumn extends TDSColumn
+    {
+        private final Object[] values;
+
+        private ObjectColumn(Object[] values)
+        {
+            this.values = values;
+        }
+
+        @Override
+        public int size()
+        {
+            return this.values.length;
+        }
+
+        @Override
+        public Object get(int row)
+        {
+            return this.values[row];
+        }
+
+        @Override
+        public boolean isNull(int row)
+        {
+            return this.values[row] == null;
+        }
+
+        @Override
+        public TDSColumn set(int row, Object value)
+        {
+            if (value == null || this.values.getClass().getComponentType().isInstance(value))
+            {
+                this.values[row] = value;
+                return this;
+            }
+            Object[] widened = Arrays.copyOf(this.values, this.values.length, Object[].class);
+            widened[row] = value;
+            return new ObjectColumn(widened);
+        }
+
+        @Override
+        public TDSColumn gather(int[] rows)
+        {
+            // keep the component type, as the array of values of a Pure type
+            Object[] result = (Object[]) Array.newInstance(this.values.getClass().getComponentType(), rows.length);
+            for (int i = 0; i < rows.length; i++)
+            {
+                result[i] = this.values[rows[i]];
+            }
+            return new ObjectColumn(result);
+        }
+
+        @Override
+        public TDSColumn copy()
+        {
+            return new ObjectColumn(this.values.clone());
+        }
+
+        @Override
+        public TDSColumn slice(int from, int to)
+        {
+            return new ObjectColumn(Arrays.copyOfRange(this.values, from, to));
+        }
+
+        @Override
+        public TDSColumn append(TDSColumn other)
+        {
+            if (!(other instanceof ObjectColumn) || !this.values.getClass().equals(((ObjectColumn) other).values.getClass()))
+            {
+                return super.append(other);
+            }
+            Object[] otherValues = ((ObjectColumn) other).values;
+            Object[] result = Arrays.copyOf(this.values, this.values.length + otherValues.length);
+            System.arraycopy(otherValues, 0, result, this.values.length, otherValues.length);
+            return new ObjectColumn(result);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public int compare(int row, int otherRow)
+        {
+            Object value = this.values[row];
+            Object otherValue = this.values[otherRow];
+            if (value == null || otherValue == null)
+            {
+                return (value == null && otherValue == null) ? 0 : compareNulls(value == null, otherValue == null);
+            }
+            return ((Comparable<Object>) value).compareTo(otherValue);
+        }
+
+        @Override
+        public boolean sameValue(int row, int otherRow)
+        {
+            return Objects.equals(this.values[row], this.values[otherRow]);
+        }
+
+        @Override
+        public Object[] toArray()
+        {
+            return this.values.clone();
+        }
+    }
+}
@@ -21,7 +21,6 @@ import io.deephaven.csv.reading.CsvReader;
 import io.deephaven.csv.sinks.SinkFactory;
 
 import java.io.ByteArrayInputStream;
-import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
@@ -30,6 +29,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.eclipse.collections.api.RichIterable;
@@ -37,13 +37,14 @@ import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.primitive.IntSet;
 import org.eclipse.collections.api.set.primitive.MutableIntSet;
 import org.eclipse.collections.api.tuple.Pair;
-import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
 import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.ListIterate;
@@ -78,8 +79,10 @@ public abstract class TestTDS
     public static final byte BOOLEAN_AS_BYTE_SENTINEL = Byte.MIN_VALUE;
     public static final long DATE_TIME_AS_LONG_SENTINEL = Long.MIN_VALUE;
 
+    private static final int PARALLEL_GATHER_THRESHOLD = 1 << 16;
+
     protected MutableMap<String, GenericType> pureTypesByColumnName = Maps.mutable.empty();
-    protected MutableMap<String, Object> dataByColumnName = Maps.mutable.empty();
+    protected MutableMap<String, TDSColumn> dataByColumnName = Maps.mutable.empty();
     protected MutableList<String> columnsOrdered = Lists.mutable.empty();
     protected long rowCount;
 
@@ -106,7 +109,7 @@ public abstract class TestTDS
         this.columnsOrdered = columnOrdered;
         this.pureTypesByColumnName = pureTypesByColumnName;
         this.rowCount = rows;
-        this.columnsOrdered.forEach(c -> this.dataByColumnName.put(c, new Object[(int) this.rowCount]));
+        this.columnsOrdered.forEach(c -> this.dataByColumnName.put(c, TDSColumn.ofNulls((int) this.rowCount)));
     }
 
     protected void build(CsvReader.Result result, MutableList<GenericType> types, ProcessorSupport processorSupport)
@@ -127,7 +130,7 @@ public abstract class TestTDS
             String name = column.name().trim();
             columnsOrdered.add(name);
             pureTypesByColumnName.put(name, c.getTwo());
-            dataByColumnName.put(name, getDataAsType(column, pureType, (int) rowCount, processorSupport));
+            dataByColumnName.put(name, TDSColumn.fromArray(getDataAsType(column, pureType, (int) rowCount, processorSupport)));
         });
     }
 
@@ -142,7 +145,7 @@ public abstract class TestTDS
 
         for (String col : this.columnsOrdered)
         {
-            testTDS.dataByColumnName.put(col, new Object[(int) testTDS.rowCount]);
+            testTDS.dataByColumnName.put(col, TDSColumn.ofNulls((int) testTDS.rowCount));
         }
         return testTDS;
     }
@@ -153,7 +156,7 @@ public abstract class TestTDS
 
     public Object getValue(String columnName, int rowNum)
     {
-        return ((Object[]) dataByColumnName.get(columnName))[rowNum];
+        return dataByColumnName.get(columnName).get(rowNum);
     }
 
     private Object getDataAsType(CsvReader.ResultColumn c, GenericType genericType, int rowCount, ProcessorSupport processorSupport)
@@ -377,7 +380,7 @@ public abstract class TestTDS
         Arrays.fill(array, Boolean.TRUE);
         res.columnsOrdered.forEach(c ->
         {
-            res.dataByColumnName.put(c, new Object[1]);
+            res.dataByColumnName.put(c, TDSColumn.ofNulls(1));
         });
         return res;
     }
@@ -421,6 +424,80 @@ public abstract class TestTDS
     }
 
     public TestTDS join(TestTDS otherTDS)
+    {
+        int size = (int) (rowCount * otherTDS.rowCount);
+        TestTDS res = newJoinTDS(otherTDS, size);
+
+        if (size != 0)
+        {
+            int[] rows = new int[size];
+            int[] otherRows = new int[size];
+            for (int i = 0; i < this.rowCount; i++)
+            {
+                for (int j = 0; j < otherTDS.rowCount; j++)
+                {
+                    rows[i * (int) otherTDS.rowCount + j] = i;
+                    otherRows[i * (int) otherTDS.rowCount + j] = j;
+                }
+            }
+            res.copyRows(this, rows);
+            res.copyRows(otherTDS, otherRows);
+        }
+        return res;
+    }
+
+    /**
+     * Join the rows of this TDS and otherTDS which can satisfy the join function: when the join function is (a
+     * conjunction including) equalities between columns of both sides, only the pairs of rows with equal values in
+     * these columns are joined, using a hash join. Otherwise, all the pairs of rows are joined.
+     * <p>
+     * The join function still needs to be applied to the rows of the result, which are in the same order as in
+     * {@link #join(TestTDS)}.
+     */
+    public TestTDS joinCandidates(TestTDS otherTDS, LambdaFunction<?> joinFunction, ProcessorSupport processorSupport)
+    {
+        MutableList<Pair<String, String>> keys = this.findEquiJoinKeys(otherTDS, joinFunction, processorSupport);
+        return keys.isEmpty() ? this.join(otherTDS) : this.hashJoin(otherTDS, keys);
+    }
+
+    /**
+     * Join the rows of this TDS and otherTDS having equal values in the columns of the keys (this TDS column, otherTDS
+     * column). Null values are equal to each other.
+     */
+    public TestTDS hashJoin(TestTDS otherTDS, ListIterable<Pair<String, String>> keys)
+    {
+        ListIterable<String> columns = keys.collect(Pair::getOne);
+        ListIterable<String> otherColumns = keys.collect(Pair::getTwo);
+
+        MutableMap<Object, MutableIntList> otherRowsByKey = Maps.mutable.empty();
+        for (int j = 0; j < otherTDS.rowCount; j++)
+        {
+            otherRowsByKey.getIfAbsentPut(otherTDS.joinKey(otherColumns, j), IntLists.mutable::empty).add(j);
+        }
+
+        MutableIntList rows = IntLists.mutable.empty();
+        MutableIntList otherRows = IntLists.mutable.empty();
+        for (int i = 0; i < this.rowCount; i++)
+        {
+            MutableIntList matches = otherRowsByKey.get(this.joinKey(columns, i));
+            if (matches != null)
+            {
+                int row = i;
+                matches.forEach(j ->
+                {
+                    rows.add(row);
+                    otherRows.add(j);
+                });
+            }
+        }
+
+        TestTDS res = newJoinTDS(otherTDS, rows.size());
+        res.copyRows(this, rows.toArray());
+        res.copyRows(otherTDS, otherRows.toArray());
+        return res;
+    }
+
+    private TestTDS newJoinTDS(TestTDS otherTDS, int rows)
     {
         MutableList<String> columnOrdered = Lists.mutable.empty();
         columnOrdered.addAll(this.columnsOrdered);
@@ -429,69 +506,161 @@ public abstract class TestTDS
         MutableMap<String, GenericType> pureTypesByColumnName = Maps.mutable.empty();
         pureTypesByColumnName.putAll(this.pureTypesByColumnName);
         pureTypesByColumnName.putAll(otherTDS.pureTypesByColumnName);
-        columnOrdered = columnOrdered.distinct();
-        TestTDS res = newTDS(columnOrdered, pureTypesByColumnName, (int) (rowCount * otherTDS.rowCount));
+        return newTDS(columnOrdered, pureTypesByColumnName, rows);
+    }
 
-        if (res.rowCount != 0)
+    private void copyRows(TestTDS srcTDS, int[] srcRows)
+    {
+        this.dataByColumnName.putAll(srcTDS.gatherColumns(srcRows));
+    }
+
+    /**
+     * The columns with the values of the given rows, in that order. The columns of large TDSs are gathered in parallel.
+     */
+    private MutableMap<String, TDSColumn> gatherColumns(int[] rows)
+    {
+        MutableList<String> columnNames = this.dataByColumnName.keysView().toList();
+        TDSColumn[] columns = new TDSColumn[columnNames.size()];
+        IntStream indices = IntStream.range(0, columns.length);
+        (rows.length < PARALLEL_GATHER_THRESHOLD ? indices : indices.parallel()).forEach(i -> columns[i] = this.dataByColumnName.get(columnNames.get(i)).gather(rows));
+        MutableMap<String, TDSColumn> result = Maps.mutable.ofInitialCapacity(columns.length);
+        for (int i = 0; i < columns.length; i++)
         {
-            for (int i = 0; i < this.rowCount; i++)
+            result.put(columnNames.get(i), columns[i]);
+        }
+        return result;
+    }
+
+    private Object joinKey(ListIterable<String> columns, int row)
+    {
+        if (columns.size() == 1)
+        {
+            return normalizeJoinKeyValue(this.getValue(columns.getFirst(), row));
+        }
+        MutableList<Object> key = Lists.mutable.ofInitialCapacity(columns.size());
+        columns.forEach(c -> key.add(normalizeJoinKeyValue(this.getValue(c, row))));
+        return key;
+    }
+
+    private static Object normalizeJoinKeyValue(Object value)
+    {
+        // Integer columns can hold different Number types for equal Pure values
+        return value instanceof Number ? (Object) ((Number) value).longValue() : value;
+    }
+
+    private MutableList<Pair<String, String>> findEquiJoinKeys(TestTDS otherTDS, LambdaFunction<?> joinFunction, ProcessorSupport processorSupport)
+    {
+        MutableList<Pair<String, String>> keys = Lists.mutable.empty();
+        if (joinFunction != null && joinFunction._expressionSequence().size() == 1)
+        {
+            FunctionType fType = (FunctionType) Function.computeFunctionType(joinFunction, processorSupport);
+            MutableList<String> signatureParameters = fType._parameters().collect(VariableExpressionAccessor::_name).toList();
+            if (signatureParameters.size() == 2 && !signatureParameters.get(0).equals(signatureParameters.get(1)))
             {
-                for (int j = 0; j < otherTDS.rowCount; j++)
+                this.collectEquiJoinKeys(otherTDS, joinFunction._expressionSequence().getFirst(), signatureParameters, keys, processorSupport);
+            }
+        }
+        return keys;
+    }
+
+    private void collectEquiJoinKeys(TestTDS otherTDS, ValueSpecification vs, MutableList<String> signatureParameters, MutableList<Pair<String, String>> keys, ProcessorSupport processorSupport)
+    {
+        if (!(vs instanceof SimpleFunctionExpression))
+        {
+            return;
+        }
+        SimpleFunctionExpression fe = (SimpleFunctionExpression) vs;
+        String funcName = fe._func().getName();
+        String truncatedFuncName = funcName.contains("_") ? funcName.substring(0, funcName.indexOf("_")) : funcName;
+        MutableList<? extends ValueSpecification> parameters = fe._parametersValues().toList();
+        if (truncatedFuncName.equals("and"))
+        {
+            parameters.forEach(p -> this.collectEquiJoinKeys(otherTDS, p, signatureParameters, keys, processorSupport));
+        }
+        else if ((truncatedFuncName.equals("equal") || truncatedFuncName.equals("eq")) && parameters.size() == 2)
+        {
+            Pair<String, String> left = columnAccess(parameters.get(0));
+            Pair<String, String> right = columnAccess(parameters.get(1));
+            if (left != null && right != null && signatureParameters.contains(left.getOne()) && signatureParameters.contains(right.getOne()) && !left.getOne().equals(right.getOne()))
+            {
+                String column = left.getOne().equals(signatureParameters.get(0)) ? left.getTwo() : right.getTwo();
+                String otherColumn = left.getOne().equals(signatureParameters.get(0)) ? right.getTwo() : left.getTwo();
+                String keyType = joinKeyType(this.pureTypesByColumnName.get(column), processorSupport);
+                if (keyType != null && keyType.equals(joinKeyType(otherTDS.pureTypesByColumnName.get(otherColumn), processorSupport)))
                 {
-                    for (String column : this.dataByColumnName.keysView())
-                    {
-                        res.setValue(column, i * (int) otherTDS.rowCount + j, this, i);
-                    }
-                    for (String column : otherTDS.dataByColumnName.keysView())
-                    {
-                        res.setValue(column, i * (int) otherTDS.rowCount + j, otherTDS, j);
-                    }
+                    keys.add(Tuples.pair(column, otherColumn));
                 }
             }
         }
-        return res;
+    }
+
+    private static Pair<String, String> columnAccess(ValueSpecification vs)
+    {
+        if (vs instanceof SimpleFunctionExpression)
+        {
+            SimpleFunctionExpression fe = (SimpleFunctionExpression) vs;
+            if (fe._parametersValues().size() == 1 && fe._parametersValues().getFirst() instanceof VariableExpression)
+            {
+                return Tuples.pair(((VariableExpression) fe._parametersValues().getFirst())._name(), fe._func()._name());
+            }
+        }
+        return null;
+    }
+
+    private static String joinKeyType(GenericType genericType, ProcessorSupport processorSupport)
+    {
+        // only types for which Pure equality is Java equality (once normalized) can be hashed
+        Type type = genericType == null ? null : genericType._rawType();
+        if (type == null)
+        {
+            return null;
+        }
+        for (String path : Lists.mutable.with(M3Paths.String, M3Paths.Integer, M3Paths.Boolean))
+        {
+            if (processorSupport.type_subTypeOf(type, processorSupport.package_getByUserPath(path)))
+            {
+                return path;
+            }
+        }
+        return null;
     }
 
     public void setValue(String columnName, int row, TestTDS srcTDS, int srcRow)
     {
-        Object[] dataAsObject = (Object[]) dataByColumnName.get(columnName);
-        dataAsObject[row] = ((Object[]) srcTDS.dataByColumnName.get(columnName))[srcRow];
+        TDSColumn column = dataByColumnName.get(columnName);
+        TDSColumn updated = column.set(row, srcTDS.dataByColumnName.get(columnName).get(srcRow));
+        if (updated != column)
+        {
+            dataByColumnName.put(columnName, updated);
+        }
     }
 
     public TestTDS copy()
     {
         TestTDS result = newTDS(Lists.mutable.withAll(columnsOrdered), Maps.mutable.withMap(this.pureTypesByColumnName), (int) rowCount);
         result.dataByColumnName = Maps.mutable.empty();
-        dataByColumnName.forEachKey(columnName ->
-        {
-            Object dataAsObject = dataByColumnName.get(columnName);
-            Object copy = Arrays.copyOf((Object[]) dataAsObject, (int) rowCount);
-            result.dataByColumnName.put(columnName, copy);
-        });
+        dataByColumnName.forEachKeyValue((columnName, column) -> result.dataByColumnName.put(columnName, column.copy()));
         return result;
     }
 
     public TestTDS drop(IntSet rows)
     {
-        TestTDS copy = this.copy();
-        int size = rows.size();
-        copy.dataByColumnName.forEachKey(columnName ->
+        boolean[] dropped = new boolean[(int) this.rowCount];
+        rows.forEach(r -> dropped[r] = true);
+        int[] kept = new int[(int) this.rowCount - rows.size()];
+        int j = 0;
+        for (int i = 0; i < this.rowCount; i++)
         {
-            Object dataAsObject = copy.dataByColumnName.get(columnName);
-            Object[] src = (Object[]) dataAsObject;
-            Object[] target = (Object[]) Array.newInstance(src.getClass().getComponentType(), (int) copy.rowCount - size);
-            int j = 0;
-            for (int i = 0; i < copy.rowCount; i++)
+            if (!dropped[i])
             {
-                if (!rows.contains(i))
-                {
-                    target[j++] = src[i];
-                }
+                kept[j++] = i;
             }
-            copy.dataByColumnName.put(columnName, target);
-        });
-        copy.rowCount = copy.rowCount - size;
-        return copy;
+        }
+        // created empty, the columns are gathered below from the source columns
+        TestTDS result = newTDS(Lists.mutable.withAll(columnsOrdered), Maps.mutable.withMap(this.pureTypesByColumnName), 0);
+        result.rowCount = kept.length;
+        result.copyRows(this, kept);
+        return result;
     }
 
     public long getRowCount()
@@ -503,16 +672,7 @@ public abstract class TestTDS
     {
         TestTDS result = newTDS(Lists.mutable.withAll(columnsOrdered), Maps.mutable.withMap(pureTypesByColumnName), (int) (this.rowCount + tds2.rowCount));
 
-        dataByColumnName.forEachKey(columnName ->
-        {
-            Object dataAsObject1 = dataByColumnName.get(columnName);
-            Object dataAsObject2 = tds2.dataByColumnName.get(columnName);
-            Object copy;
-            Object[] _copy = Arrays.copyOf((Object[]) dataAsObject1, (int) result.rowCount);
-            System.arraycopy((Object[]) dataAsObject2, 0, _copy, (int) rowCount, (int) tds2.rowCount);
-            copy = _copy;
-            result.dataByColumnName.put(columnName, copy);
-        });
+        dataByColumnName.forEachKeyValue((columnName, column) -> result.dataByColumnName.put(columnName, column.append(tds2.dataByColumnName.get(columnName))));
         return result;
     }
 
@@ -528,21 +688,19 @@ public abstract class TestTDS
 
     public TestTDS addColumn(String name, GenericType type, Multiplicity multiplicity)
     {
-        Object res;
-        res = new Object[(int) this.rowCount];
-        return addColumn(name, type, multiplicity, res);
+        return addColumn(name, type, multiplicity, TDSColumn.ofNulls((int) this.rowCount));
     }
 
     public TestTDS addColumn(String name, GenericType type, Multiplicity multiplicity, Object res)
     {
-        boolean[] array = new boolean[Array.getLength(res)];
-        Arrays.fill(array, Boolean.FALSE);
-        return addColumn(name, type, multiplicity, res, array);
+        TDSColumn column = TDSColumn.fromArray(res);
+        return addColumn(name, type, multiplicity, column, new boolean[column.size()]);
     }
 
     public TestTDS addColumn(String name, GenericType type, Multiplicity multiplicity, Object res, boolean[] nulls)
     {
-        int size = Array.getLength(res);
+        TDSColumn column = TDSColumn.fromArray(res);
+        int size = column.size();
         if (this.rowCount == 0)
         {
             this.rowCount = size;
@@ -551,7 +709,7 @@ public abstract class TestTDS
         {
             throw new RuntimeException("Error!");
         }
-        this.dataByColumnName.put(name, res);
+        this.dataByColumnName.put(name, column);
         this.pureTypesByColumnName.put(name, type);
         this.columnsOrdered.add(name);
         return this;
@@ -578,7 +736,7 @@ public abstract class TestTDS
     {
         TestTDS copy = this.copy();
         GenericType pureType = copy.pureTypesByColumnName.get(oldName);
-        Object data = copy.dataByColumnName.get(oldName);
+        TDSColumn data = copy.dataByColumnName.get(oldName);
         copy.pureTypesByColumnName.put(newName, pureType);
         copy.dataByColumnName.put(newName, data);
         copy.columnsOrdered.add(newName);
@@ -590,13 +748,8 @@ public abstract class TestTDS
 
     public TestTDS slice(int from, int to)
     {
-        TestTDS copy = this.copy();
-        copy.dataByColumnName.forEachKey(columnName ->
-        {
-            Object dataAsObject = copy.dataByColumnName.get(columnName);
-
-            copy.dataByColumnName.put(columnName, Arrays.copyOfRange((Object[]) dataAsObject, from, to));
-        });
+        TestTDS copy = newTDS(Lists.mutable.withAll(columnsOrdered), Maps.mutable.withMap(this.pureTypesByColumnName), 0);
+        dataByColumnName.forEachKeyValue((columnName, column) -> copy.dataByColumnName.put(columnName, column.slice(from, to)));
         copy.rowCount = (long) to - from;
         return copy;
     }
@@ -606,115 +759,112 @@ public abstract class TestTDS
         return this.sort(Lists.mutable.with(sortInfos));
     }
 
+    /**
+     * Sort the rows on all the sort infos at once, and return the sorted TDS with the ranges of rows having equal values
+     * in the sorted columns. Rows with equal values in the sorted columns keep their order, reversed once per
+     * descending sort info.
+     */
     public Pair<TestTDS, MutableList<Pair<Integer, Integer>>> sort(ListIterable<SortInfo> sortInfos)
     {
-        TestTDS copy = this.copy();
         MutableList<Pair<Integer, Integer>> ranges = Lists.mutable.empty();
-        this.sort(copy, sortInfos, 0, (int) rowCount, ranges);
-        return Tuples.pair(copy, ranges);
-    }
-
-    public MutableMap<String, GenericType> getPureTypesByColumnName()
-    {
-        return pureTypesByColumnName;
-    }
-
-    public TestTDS distinct(MutableList<String> columns)
-    {
-        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> res = this.sort(columns.collect(c -> new SortInfo(c, SortDirection.ASC)));
-        TestTDS result = res.getOne()._distinct(res.getTwo());
-        return result.select(columns.toList());
-    }
-
-    public TestTDS _distinct(MutableList<Pair<Integer, Integer>> ranges)
-    {
-        MutableIntSet drop = new IntHashSet();
-        ranges.forEach(r ->
+        int size = (int) rowCount;
+        if (size == 0)
         {
-            for (int i = r.getOne() + 1; i < r.getTwo(); i++)
-            {
-                drop.add(i);
-            }
-        });
-        return this.drop(drop);
-    }
+            return Tuples.pair(this.copy(), ranges);
+        }
 
+        TDSColumn[] keys = new TDSColumn[sortInfos.size()];
+        boolean[] descending = new boolean[sortInfos.size()];
+        boolean reverseTies = false;
+        for (int k = 0; k < sortInfos.size(); k++)
+        {
+            keys[k] = this.dataByColumnName.get(sortInfos.get(k).columnName);
+            descending[k] = sortInfos.get(k).direction == SortDirection.DESC;
+            reverseTies ^= descending[k];
+        }
+        boolean finalReverseTies = reverseTies;
 
-    private void sort(TestTDS copy, ListIterable<SortInfo> sortInfos, int start, int end, MutableList<Pair<Integer, Integer>> ranges)
-    {
-        if (copy.rowCount == 0)
+        Integer[] indices = new Integer[size];
+        for (int i = 0; i < size; i++)
         {
-            return;
+            indices[i] = i;
         }
-        SortInfo currentSort = sortInfos.getFirst();
-        this.sortOneLevel(copy, currentSort, start, end);
-        if (!sortInfos.isEmpty())
+        // parallelSort is stable and only splits the work for large arrays, the comparator only reads the columns
+        Arrays.parallelSort(indices, (a, b) ->
         {
-            String columnName = currentSort.columnName;
-            Object dataAsObject = copy.dataByColumnName.get(columnName);
-
-            Object[] src = (Object[]) dataAsObject;
-            Object val = src[start];
-            int subStart = start;
-            for (int i = start; i < end; i++)
+            for (int k = 0; k < keys.length; k++)
             {
-                if (!Objects.equals(src[i], val) || (Objects.equals(src[i], val) && i == end - 1))
+                // nulls are sorted last in ascending order
+                int c = descending[k] ? keys[k].compare(b, a) : keys[k].compare(a, b);
+                if (c != 0)
                 {
-                    int realEnd = (Objects.equals(src[i], val) && i == end - 1) ? end : i;
-                    if (sortInfos.size() > 1)
-                    {
-                        sort(copy, sortInfos.subList(1, sortInfos.size()), subStart, realEnd, ranges);
-                    }
-                    else
-                    {
-                        ranges.add(Tuples.pair(subStart, realEnd));
-                    }
-                    val = src[i];
-                    subStart = i;
+                    return c;
                 }
             }
+            return finalReverseTies ? Integer.compare(b, a) : Integer.compare(a, b);
+        });
+        int[] sortedRows = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            sortedRows[i] = indices[i];
         }
-        if (ranges.getLast() != null)
+
+        // created empty, the columns are gathered below from the source columns
+        TestTDS sorted = newTDS(Lists.mutable.withAll(columnsOrdered), Maps.mutable.withMap(this.pureTypesByColumnName), 0);
+        sorted.rowCount = size;
+        sorted.copyRows(this, sortedRows);
+
+        TDSColumn[] sortedKeys = sortInfos.collect(sortInfo -> sorted.dataByColumnName.get(sortInfo.columnName)).toArray(new TDSColumn[0]);
+        int start = 0;
+        for (int i = 1; i <= size; i++)
         {
-            int lastVal = ranges.getLast().getTwo();
-            if (lastVal < end)
+            if (i == size || !sameSortValues(sortedKeys, i - 1, i))
             {
-                ranges.add(Tuples.pair(lastVal, end));
+                ranges.add(Tuples.pair(start, i));
+                start = i;
             }
         }
+        return Tuples.pair(sorted, ranges);
     }
 
-    private void sortOneLevel(TestTDS copy, SortInfo sortInfo, int start, int end)
+    private static boolean sameSortValues(TDSColumn[] keys, int row, int otherRow)
     {
-        String columnName = sortInfo.columnName;
-        MutableList<Pair<Integer, Comparable<Object>>> list = Lists.mutable.empty();
-        for (int i = start; i < end; i++)
+        for (TDSColumn key : keys)
         {
-            list.add(Tuples.pair(i, (Comparable<Object>) copy.getValue(columnName, i)));
-        }
-        list.sortThis(Comparators.bySecondOfPair(Comparators.safeNullsHigh(Comparators.byFunction(p -> p))));
-        if (sortInfo.direction == SortDirection.DESC)
-        {
-            list.reverseThis();
+            if (!key.sameValue(row, otherRow))
+            {
+                return false;
+            }
         }
-        this.reorder(copy, list.collect(Pair::getOne), start, end);
+        return true;
     }
 
-    private void reorder(TestTDS copy, MutableList<Integer> indices, int start, int end)
+    public MutableMap<String, GenericType> getPureTypesByColumnName()
     {
-        for (String columnName : copy.dataByColumnName.keysView())
+        return pureTypesByColumnName;
+    }
+
+    public TestTDS distinct(MutableList<String> columns)
+    {
+        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> res = this.sort(columns.collect(c -> new SortInfo(c, SortDirection.ASC)));
+        TestTDS result = res.getOne()._distinct(res.getTwo());
+        return result.select(columns.toList());
+    }
+
+    public TestTDS _distinct(MutableList<Pair<Integer, Integer>> ranges)
+    {
+        MutableIntSet drop = new IntHashSet();
+        ranges.forEach(r ->
         {
-            Object dataAsObject = copy.dataByColumnName.get(columnName);
-            Object[] src = (Object[]) dataAsObject;
-            Object[] result = (Object[]) Array.newInstance(src.getClass().getComponentType(), (int) copy.rowCount);
-            for (int i = 0; i < indices.size(); i++)
+            for (int i = r.getOne() + 1; i < r.getTwo(); i++)
             {
-                result[i] = src[indices.get(i)];
+                drop.add(i);
             }
-            System.arraycopy(result, 0, src, start, end - start);
-        }
+        });
+        return this.drop(drop);
     }
 
+
     public String toString()
     {
         RichIterable<String> columns = this.columnsOrdered;
@@ -763,14 +913,10 @@ public abstract class TestTDS
 
         TestTDS missingTDS = newTDS(res.columnsOrdered.clone(), pureTypesByColumnName, missings.size());
 
-        int cursor = 0;
-        for (Integer missing : missings)
+        int[] missingRows = missings.stream().mapToInt(Integer::intValue).toArray();
+        for (String col : columnsOrdered)
         {
-            for (String col : columnsOrdered)
-            {
-                missingTDS.setValue(col, cursor, leftS, missing);
-            }
-            cursor++;
+            missingTDS.dataByColumnName.put(col, leftS.dataByColumnName.get(col).gather(missingRows));
         }
         return res.concatenate(missingTDS);
     }
@@ -780,9 +926,7 @@ public abstract class TestTDS
         boolean valid = true;
         for (String col : cols)
         {
-            Object firstDataAsObject = dataByColumnName.get(col);
-            Object secondDataAsObject = second.dataByColumnName.get(col);
-            valid = valid && Objects.equals(((Object[]) firstDataAsObject)[rowFirst], (((Object[]) secondDataAsObject)[rowSecond]));
+            valid = valid && dataByColumnName.get(col).sameValue(rowFirst, second.dataByColumnName.get(col), rowSecond);
         }
         return valid;
     }
@@ -947,12 +1091,12 @@ public abstract class TestTDS
         {
             int size = (int) tds.rowCount;
             String name = newColInfo.getColumnName();
-            Object dataAsObject;
             boolean[] isNull = new boolean[size];
             Arrays.fill(isNull, Boolean.TRUE);
             TestTDS sortedByNonTransposeColumnsOne = sortedByNonTransposeColumns.getOne();
             MutableList<Pair<Integer, Integer>> sortedByNonTransposeColumnsTwo = sortedByNonTransposeColumns.getTwo();
 
+            TDSColumn aggColumn = sortedByNonTransposeColumnsOne.dataByColumnName.get(newColInfo.getAggColumnName());
             Object[] values = new Object[size];
             for (int i = 0; i < size; i++)
             {
@@ -960,12 +1104,11 @@ public abstract class TestTDS
                 {
                     if (newColInfo.match(sortedByNonTransposeColumnsOne, j))
                     {
-                        values[i] = ((Object[]) sortedByNonTransposeColumnsOne.dataByColumnName.get(newColInfo.getAggColumnName()))[j];
+                        values[i] = aggColumn.get(j);
                     }
                 }
             }
-            dataAsObject = values;
-            tds.dataByColumnName.put(name, dataAsObject);
+            tds.dataByColumnName.put(name, TDSColumn.fromArray(values));
             tds.columnsOrdered.add(name);
             tds.pureTypesByColumnName.put(name, newColInfo.getPureType());
             return tds;
@@ -0,0 +1,83 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.extension.relation;
+
+import org.finos.legend.pure.runtime.java.extension.external.relation.shared.TDSColumn;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestTDSColumn
+{
+    @Test
+    public void testLongColumn()
+    {
+        TDSColumn column = TDSColumn.fromArray(new Long[]{3L, null, 1L, 2L});
+        Assert.assertArrayEquals(new Object[]{1L, 2L, 3L, null}, column.gather(new int[]{2, 3, 0, 1}).toArray());
+        Assert.assertTrue(column.isNull(1));
+        Assert.assertTrue(column.compare(0, 2) > 0);
+        Assert.assertTrue(column.compare(1, 0) > 0);
+        Assert.assertEquals(0, column.compare(1, 1));
+        Assert.assertArrayEquals(new Object[]{3L, null, 1L, 2L, 5L}, column.append(TDSColumn.fromArray(new Long[]{5L})).toArray());
+    }
+
+    @Test
+    public void testDoubleAndBooleanColumns()
+    {
+        TDSColumn doubles = TDSColumn.fromArray(new Double[]{1.5, null, -0.5});
+        Assert.assertArrayEquals(new Object[]{-0.5, 1.5, null}, doubles.gather(new int[]{2, 0, 1}).toArray());
+        Assert.assertTrue(doubles.compare(2, 0) < 0);
+
+        TDSColumn booleans = TDSColumn.fromArray(new Boolean[]{true, null, false});
+        Assert.assertArrayEquals(new Object[]{false, null, true, true}, booleans.append(booleans).gather(new int[]{5, 4, 3, 0}).toArray());
+        Assert.assertTrue(booleans.compare(2, 0) < 0);
+        Assert.assertTrue(booleans.compare(1, 2) > 0);
+    }
+
+    @Test
+    public void testStringColumn()
+    {
+        TDSColumn column = TDSColumn.fromArray(new String[]{"b", null, "a", "b"});
+        Assert.assertTrue(column.sameValue(0, 3));
+        Assert.assertFalse(column.sameValue(0, 2));
+        Assert.assertTrue(column.compare(2, 0) < 0);
+        Assert.assertTrue(column.compare(1, 2) > 0);
+
+        TDSColumn other = TDSColumn.fromArray(new String[]{"c", "a"});
+        Assert.assertTrue(column.sameValue(2, other, 1));
+        Assert.assertArrayEquals(new Object[]{"b", null, "a", "b", "c", "a"}, column.append(other).toArray());
+
+        // gathered columns share the dictionary of their source
+        TDSColumn gathered = column.gather(new int[]{3, 2});
+        Assert.assertTrue(gathered.sameValue(0, column, 0));
+        gathered.set(1, "d");
+        Assert.assertArrayEquals(new Object[]{"b", "d"}, gathered.toArray());
+        Assert.assertArrayEquals(new Object[]{"b", null, "a", "b"}, column.toArray());
+    }
+
+    @Test
+    public void testSetValueOfAnotherType()
+    {
+        TDSColumn column = TDSColumn.fromArray(new Long[]{1L, 2L});
+        TDSColumn updated = column.set(0, "x");
+        Assert.assertNotSame(column, updated);
+        Assert.assertArrayEquals(new Object[]{"x", 2L}, updated.toArray());
+        Assert.assertArrayEquals(new Object[]{1L, 2L}, column.toArray());
+
+        TDSColumn nulls = TDSColumn.ofNulls(2);
+        Assert.assertSame(nulls, nulls.set(1, 5L));
+        Assert.assertArrayEquals(new Object[]{null, 5L, 1L, 2L}, nulls.append(column).toArray());
+        Assert.assertArrayEquals(new Object[]{1L, 2L}, TDSColumn.ofNulls(0).append(column).toArray());
+    }
+}
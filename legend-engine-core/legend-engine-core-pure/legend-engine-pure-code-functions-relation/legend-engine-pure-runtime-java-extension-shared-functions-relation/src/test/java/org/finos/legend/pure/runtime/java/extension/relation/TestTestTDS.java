@@ -15,6 +15,10 @@
 package org.finos.legend.pure.runtime.java.extension.relation;
 
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.factory.primitive.IntSets;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortDirection;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortInfo;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.TestTDS;
@@ -84,6 +88,39 @@ public class TestTestTDS
     }
 
 
+    @org.junit.Test
+    public void testSortTies()
+    {
+        String initialTDS = "id, name, otherOne\n" +
+                "1, A, X\n" +
+                "2, B, X\n" +
+                "1, C, X\n" +
+                "2, D, Y\n" +
+                "1, E, X";
+        TestTDS tds = new TestTDSImpl(initialTDS);
+
+        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> asc = tds.sort(Lists.mutable.with(new SortInfo("id", SortDirection.ASC), new SortInfo("otherOne", SortDirection.ASC)));
+        Assert.assertEquals("id, name, otherOne\n" +
+                "1, A, X\n" +
+                "1, C, X\n" +
+                "1, E, X\n" +
+                "2, B, X\n" +
+                "2, D, Y", asc.getOne().toString());
+        Assert.assertEquals("[0:3, 3:4, 4:5]", asc.getTwo().toString());
+
+        // ties are reversed by each descending sort
+        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> desc = tds.sort(Lists.mutable.with(new SortInfo("id", SortDirection.DESC), new SortInfo("otherOne", SortDirection.ASC)));
+        Assert.assertEquals("id, name, otherOne\n" +
+                "2, B, X\n" +
+                "2, D, Y\n" +
+                "1, E, X\n" +
+                "1, C, X\n" +
+                "1, A, X", desc.getOne().toString());
+        Assert.assertEquals("[0:1, 1:2, 2:5]", desc.getTwo().toString());
+
+        Assert.assertEquals(initialTDS, tds.toString());
+    }
+
     @org.junit.Test
     public void testGetRanges()
     {
@@ -324,6 +361,42 @@ public class TestTestTDS
         Assert.assertEquals(initialTds2, tds2.toString());
     }
 
+    @org.junit.Test
+    public void testHashJoin()
+    {
+        String initialTds1 = "id, name\n" +
+                "1, A\n" +
+                "2, B\n" +
+                "3, C\n" +
+                "2, D";
+
+        String initialTds2 = "otherId, otherName, extra\n" +
+                "2, B, X\n" +
+                "4, A, Y\n" +
+                "2, D, Z\n" +
+                "1, A, W";
+
+        TestTDS tds1 = new TestTDSImpl(initialTds1);
+        TestTDS tds2 = new TestTDSImpl(initialTds2);
+
+        TestTDS t = tds1.hashJoin(tds2, Lists.mutable.with(Tuples.pair("id", "otherId")));
+        Assert.assertEquals("id, name, otherId, otherName, extra\n" +
+                "1, A, 1, A, W\n" +
+                "2, B, 2, B, X\n" +
+                "2, B, 2, D, Z\n" +
+                "2, D, 2, B, X\n" +
+                "2, D, 2, D, Z", t.toString());
+
+        TestTDS t2 = tds1.hashJoin(tds2, Lists.mutable.with(Tuples.pair("id", "otherId"), Tuples.pair("name", "otherName")));
+        Assert.assertEquals("id, name, otherId, otherName, extra\n" +
+                "1, A, 1, A, W\n" +
+                "2, B, 2, B, X\n" +
+                "2, D, 2, D, Z", t2.toString());
+
+        Assert.assertEquals(initialTds1, tds1.toString());
+        Assert.assertEquals(initialTds2, tds2.toString());
+    }
+
     @org.junit.Test
     public void testJoinWithNull()
     {
@@ -409,6 +482,48 @@ public class TestTestTDS
     }
 
 
+    @org.junit.Test
+    public void testSortAndDropTypedColumnsWithNull()
+    {
+        String initialTDS = "id,name,active,ratio\n" +
+                "3,George,true,0.5\n" +
+                "null,null,null,null\n" +
+                "1,Pierre,false,1.5\n" +
+                "3,David,true,\n" +
+                "2,George,false,0.1";
+        TestTDS tds = new TestTDSImpl(initialTDS);
+
+        // nulls are last in ascending order, and first in descending order
+        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> byRatio = tds.sort(Lists.mutable.with(new SortInfo("active", SortDirection.DESC), new SortInfo("ratio", SortDirection.ASC)));
+        Assert.assertEquals("id, name, active, ratio\n" +
+                "NULL, NULL, NULL, NULL\n" +
+                "3, George, true, 0.5\n" +
+                "3, David, true, NULL\n" +
+                "2, George, false, 0.1\n" +
+                "1, Pierre, false, 1.5", byRatio.getOne().toString());
+        Assert.assertEquals("[0:1, 1:2, 2:3, 3:4, 4:5]", byRatio.getTwo().toString());
+
+        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> byName = tds.sort(Lists.mutable.with(new SortInfo("name", SortDirection.ASC), new SortInfo("active", SortDirection.ASC)));
+        Assert.assertEquals("id, name, active, ratio\n" +
+                "3, David, true, NULL\n" +
+                "2, George, false, 0.1\n" +
+                "3, George, true, 0.5\n" +
+                "1, Pierre, false, 1.5\n" +
+                "NULL, NULL, NULL, NULL", byName.getOne().toString());
+        Assert.assertEquals("[0:1, 1:2, 2:3, 3:4, 4:5]", byName.getTwo().toString());
+
+        Assert.assertEquals("id, name, active, ratio\n" +
+                "3, George, true, 0.5\n" +
+                "3, David, true, NULL", tds.drop(IntSets.mutable.with(1, 2, 4)).toString());
+
+        Assert.assertEquals("id, name, active, ratio\n" +
+                "3, George, true, 0.5\n" +
+                "NULL, NULL, NULL, NULL\n" +
+                "1, Pierre, false, 1.5\n" +
+                "3, David, true, NULL\n" +
+                "2, George, false, 0.1", tds.toString());
+    }
+
     @org.junit.Test
     public void testDate()
     {
@@ -66,6 +66,36 @@ public class MetricsHandler
             .labelNames("operation", "context")
             .register(getMetricsRegistry());
 
+    private static final Histogram RELATIONAL_FETCH_ROUND_TRIPS = Histogram.build().name("legend_engine_relational_fetch_round_trips")
+            .help("Measure the estimated number of database round trips needed to fetch a relational result")
+            .buckets(1, 2, 5, 10, 50, 100, 500, 1000, 5000, 10000)
+            .labelNames("databaseType")
+            .register(getMetricsRegistry());
+
+    private static final Histogram CONCURRENT_EXECUTION_WAIT_TIME = Histogram.build().name("legend_engine_concurrent_execution_wait_time")
+            .help("Measure how long child execution nodes wait for a thread of a concurrent execution pool")
+            .buckets(.001, .005, .01, .05, .1, .5, 1, 5, 10, 30)
+            .labelNames("pool")
+            .register(getMetricsRegistry());
+
+    private static final Histogram MODEL_LOAD_TIME = Histogram.build().name("legend_engine_model_load_time")
+            .help("Measure how long it takes to load model data from a snapshot or from storage, and to compile it")
+            .buckets(.01, .05, .1, .5, 1, 2, 5, 10, 30, 60, 120)
+            .labelNames("step")
+            .register(getMetricsRegistry());
+
+    private static final Histogram GRAPHQL_FIELD_EXECUTION_TIME = Histogram.build().name("legend_engine_graphql_field_execution_time")
+            .help("Measure how long it takes to execute the plan of a GraphQL root field or directive, including spooling its result")
+            .buckets(.01, .05, .1, .5, 1, 2, 5, 10, 30, 60, 120)
+            .labelNames("field", "mode")
+            .register(getMetricsRegistry());
+
+    private static final Histogram JAVA_COMPILATION_TIME = Histogram.build().name("legend_engine_java_compilation_time")
+            .help("Measure how long it takes to compile Java sources, or to load their bytecode from the compilation cache")
+            .buckets(.001, .01, .05, .1, .5, 1, 2, 5, 10, 30)
+            .labelNames("source")
+            .register(getMetricsRegistry());
+
     private static final Counter ALL_EXECUTIONS = Counter.build("legend_engine_executions", "Execution counter metric ").register();
     private static final Counter DATASTORE_SPEC_COUNT = Counter.build("legend_engine_datastore_spec_count", "Count datastore specifications").register(getMetricsRegistry());
     private static final Counter JAVA_COMPILATION_COUNT = Counter.build("legend_engine_java_compilation_count", "Count java compilations").register(getMetricsRegistry());
@@ -73,6 +103,12 @@ public class MetricsHandler
     private static final Gauge ACTIVE_CONNECTIONS =  Gauge.build("active_connections", "Active Connections in Pool").labelNames("poolName").register();
     private static final Gauge TOTAL_CONNECTIONS = Gauge.build("total_connections", "total Connections in Pool").labelNames("poolName").register();
     private static final Gauge IDLE_CONNECTIONS = Gauge.build("idle_connections", "Idle Connections in Pool").labelNames("poolName").register();
+    private static final Counter CACHE_HIT_COUNT = Counter.build("legend_engine_cache_hit_count", "Count cache hits").labelNames("cacheName").register(getMetricsRegistry());
+    private static final Counter CACHE_MISS_COUNT = Counter.build("legend_engine_cache_miss_count", "Count cache misses").labelNames("cacheName").register(getMetricsRegistry());
+    private static final Counter CACHE_EVICTION_COUNT = Counter.build("legend_engine_cache_eviction_count", "Count cache evictions").labelNames("cacheName").register(getMetricsRegistry());
+    private static final Gauge CONCURRENT_EXECUTION_QUEUE_DEPTH = Gauge.build("legend_engine_concurrent_execution_queue_depth", "Measure how many child execution nodes are waiting for a thread of a concurrent execution pool").labelNames("pool").register(getMetricsRegistry());
+    private static final Counter CONCURRENT_EXECUTION_FALLBACK_COUNT = Counter.build("legend_engine_concurrent_execution_fallback_count", "Count parallelizable executions run sequentially for lack of threads").labelNames("pool").register(getMetricsRegistry());
+    private static final Gauge CACHE_WEIGHT = Gauge.build("legend_engine_cache_weight", "Measure the estimated weight of the entries held by a cache").labelNames("cacheName").register(getMetricsRegistry());
 
     public static CollectorRegistry getMetricsRegistry()
     {
@@ -165,6 +201,71 @@ public class MetricsHandler
         TEMP_FILE_COUNT.dec();
     }
 
+    public static void incrementCacheHitCount(String cacheName)
+    {
+        CACHE_HIT_COUNT.labels(cacheName).inc();
+    }
+
+    public static void incrementCacheMissCount(String cacheName)
+    {
+        CACHE_MISS_COUNT.labels(cacheName).inc();
+    }
+
+    public static void incrementCacheEvictionCount(String cacheName)
+    {
+        CACHE_EVICTION_COUNT.labels(cacheName).inc();
+    }
+
+    public static void incrementCacheWeight(String cacheName, double weight)
+    {
+        CACHE_WEIGHT.labels(cacheName).inc(weight);
+    }
+
+    public static void decrementCacheWeight(String cacheName, double weight)
+    {
+        CACHE_WEIGHT.labels(cacheName).dec(weight);
+    }
+
+    public static void observeRelationalFetchRoundTrips(String databaseType, long roundTrips)
+    {
+        RELATIONAL_FETCH_ROUND_TRIPS.labels(returnLabelOrUnknown(databaseType)).observe(roundTrips);
+    }
+
+    public static void incrementConcurrentExecutionQueueDepth(String pool, int nodes)
+    {
+        CONCURRENT_EXECUTION_QUEUE_DEPTH.labels(returnLabelOrUnknown(pool)).inc(nodes);
+    }
+
+    public static void decrementConcurrentExecutionQueueDepth(String pool, int nodes)
+    {
+        CONCURRENT_EXECUTION_QUEUE_DEPTH.labels(returnLabelOrUnknown(pool)).dec(nodes);
+    }
+
+    public static void observeConcurrentExecutionWaitTime(String pool, long start, long end)
+    {
+        CONCURRENT_EXECUTION_WAIT_TIME.labels(returnLabelOrUnknown(pool)).observe((end - start) / 1000F);
+    }
+
+    public static void incrementConcurrentExecutionFallbackCount(String pool)
+    {
+        CONCURRENT_EXECUTION_FALLBACK_COUNT.labels(returnLabelOrUnknown(pool)).inc();
+    }
+
+    public static void observeModelLoadTime(String step, long start, long end)
+    {
+        MODEL_LOAD_TIME.labels(returnLabelOrUnknown(step)).observe((end - start) / 1000F);
+    }
+
+    public static void observeGraphQLFieldExecutionTime(String field, String mode, long start, long end)
+    {
+        GRAPHQL_FIELD_EXECUTION_TIME.labels(returnLabelOrUnknown(field), returnLabelOrUnknown(mode)).observe((end - start) / 1000F);
+    }
+
+    public static void observeJavaCompilationTime(String source, long start, long end)
+    {
+        JAVA_COMPILATION_TIME.labels(returnLabelOrUnknown(source)).observe((end - start) / 1000F);
+    }
+
     private static String returnLabelOrUnknown(String label)
     {
         return label != null ? label : "unknown";
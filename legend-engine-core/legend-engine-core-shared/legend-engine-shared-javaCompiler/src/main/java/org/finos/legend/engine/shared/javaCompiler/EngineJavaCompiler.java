@@ -14,18 +14,34 @@
 
 package org.finos.legend.engine.shared.javaCompiler;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import io.github.classgraph.ClassGraph;
+import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
 import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collections;
 import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
 import javax.lang.model.SourceVersion;
 import javax.tools.DiagnosticCollector;
 import javax.tools.JavaCompiler;
@@ -37,6 +53,7 @@ import javax.tools.ToolProvider;
 public class EngineJavaCompiler
 {
     private static final Map<ClassLoader, String> CLASSPATH_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<ClassLoader, String> CLASSPATH_DIGEST_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
 
     private final JavaCompiler compiler;
     private final MemoryFileManager memoryFileManager;
@@ -44,6 +61,11 @@ public class EngineJavaCompiler
     private final JavaVersion javaVersion;
     private final FilterControl filterControl;
     private MemoryClassLoader memoryClassLoader;
+    private JavaCompilationCache compilationCache;
+    // digests of the classes compiled or loaded by this compiler, to key compilations in the compilation cache
+    private final SortedMap<String, String> classDigests = new TreeMap<>();
+    private String contentDigest;
+    private final ConcurrentMap<String, EngineJavaCompiler> children = new ConcurrentHashMap<>();
 
     public EngineJavaCompiler(JavaVersion javaVersion, EngineJavaCompiler parent, ClassPathFilter filter)
     {
@@ -53,6 +75,7 @@ public class EngineJavaCompiler
         this.filterControl = new FilterControl(filter);
         this.memoryFileManager = new MemoryFileManager((parent == null) ? this.compiler.getStandardFileManager(null, null, null) : parent.memoryFileManager, this.filterControl);
         this.memoryClassLoader = newClassLoader();
+        this.compilationCache = (parent == null) ? null : parent.compilationCache;
     }
 
     public EngineJavaCompiler(JavaVersion javaVersion, ClassPathFilter filter)
@@ -77,13 +100,75 @@ public class EngineJavaCompiler
 
     public EngineJavaCompiler compile(Iterable<? extends StringJavaSource> javaSources) throws JavaCompileException
     {
+        long start = System.currentTimeMillis();
+        String classPath = getClassPath();
+        String key = (this.compilationCache == null) ? null : compilationKey(javaSources, classPath);
+        MapIterable<String, byte[]> cachedClasses = (key == null) ? null : this.compilationCache.get(key);
+        if (cachedClasses != null)
+        {
+            cachedClasses.forEachKeyValue(this::loadBytes);
+            this.memoryClassLoader = newClassLoader();
+            MetricsHandler.observeJavaCompilationTime("cache", start, System.currentTimeMillis());
+            return this;
+        }
+
         MetricsHandler.observeCount("Java compilation");
         MetricsHandler.incrementJavaCompilationCount();
-        compile(this.compiler, javaSources, this.memoryFileManager, this.javaVersion, getClassPath());
+        MutableMap<String, byte[]> previousClasses = this.memoryFileManager.getClassBytes();
+        compile(this.compiler, javaSources, this.memoryFileManager, this.javaVersion, classPath);
+        MutableMap<String, byte[]> compiledClasses = Maps.mutable.empty();
+        this.memoryFileManager.getClassBytes().forEachKeyValue((className, bytes) ->
+        {
+            // javac writes new byte arrays for the classes it compiles
+            if (previousClasses.get(className) != bytes)
+            {
+                compiledClasses.put(className, bytes);
+                this.recordClass(className, bytes);
+            }
+        });
+        if (key != null)
+        {
+            this.compilationCache.put(key, compiledClasses);
+        }
         this.memoryClassLoader = newClassLoader();
+        MetricsHandler.observeJavaCompilationTime("javac", start, System.currentTimeMillis());
         return this;
     }
 
+    /**
+     * Look up the bytecode of compilations in the cache before compiling, and cache the bytecode compiled. The cache is
+     * inherited by the compilers created with this compiler as parent afterwards.
+     */
+    public void setCompilationCache(JavaCompilationCache compilationCache)
+    {
+        this.compilationCache = compilationCache;
+    }
+
+    public JavaCompilationCache getCompilationCache()
+    {
+        return this.compilationCache;
+    }
+
+    /**
+     * Child compiler of this compiler for the key, created by the factory the first time and reused afterwards, so that
+     * classes loaded or compiled by the child are defined once for the lifetime of this compiler.
+     */
+    public EngineJavaCompiler getOrCreateChild(String key, Function<? super EngineJavaCompiler, ? extends EngineJavaCompiler> factory)
+    {
+        EngineJavaCompiler child = this.children.get(key);
+        if (child == null)
+        {
+            // created outside of the map so that a failure is not cached, and concurrent creations keep the first one
+            EngineJavaCompiler newChild = factory.valueOf(this);
+            child = this.children.putIfAbsent(key, newChild);
+            if (child == null)
+            {
+                child = newChild;
+            }
+        }
+        return child;
+    }
+
     public MutableMap<String, String> save()
     {
         return this.memoryFileManager.getEncodedClassSources();
@@ -115,9 +200,70 @@ public class EngineJavaCompiler
             throw new UncheckedIOException(e);
         }
         cl.setEncodedBytes(message);
+        this.recordClass(className, cl.getBytes());
         return this;
     }
 
+    private void loadBytes(String className, byte[] bytes)
+    {
+        ClassJavaSource cl;
+        try
+        {
+            cl = (ClassJavaSource) this.memoryFileManager.getJavaFileForOutput(StandardLocation.CLASS_PATH, className, JavaFileObject.Kind.CLASS, null);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        cl.setBytes(bytes);
+        this.recordClass(className, bytes);
+    }
+
+    private synchronized void recordClass(String className, byte[] bytes)
+    {
+        this.classDigests.put(className, Hashing.sha256().hashBytes(bytes).toString());
+        this.contentDigest = null;
+    }
+
+    /**
+     * Digest of the classes available to this compiler on top of the class path, i.e. loaded or compiled by this
+     * compiler and its parents
+     */
+    private String getContentDigest()
+    {
+        // the parent's digest is not kept, as the parent can load or compile classes after this compiler was created
+        String parentDigest = (this.parent == null) ? "" : this.parent.getContentDigest();
+        return Hashing.sha256().newHasher()
+                .putString(parentDigest, StandardCharsets.UTF_8)
+                .putString(this.getOwnContentDigest(), StandardCharsets.UTF_8)
+                .hash().toString();
+    }
+
+    private synchronized String getOwnContentDigest()
+    {
+        if (this.contentDigest == null)
+        {
+            Hasher hasher = Hashing.sha256().newHasher();
+            this.classDigests.forEach((className, digest) -> hasher.putString(className, StandardCharsets.UTF_8).putString(digest, StandardCharsets.UTF_8));
+            this.contentDigest = hasher.hash().toString();
+        }
+        return this.contentDigest;
+    }
+
+    private String compilationKey(Iterable<? extends StringJavaSource> javaSources, String classPath)
+    {
+        SortedMap<String, String> sources = new TreeMap<>();
+        javaSources.forEach(source -> sources.put(source.toUri().toString(), source.getCode()));
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putString(System.getProperty("java.vm.vendor") + System.getProperty("java.version"), StandardCharsets.UTF_8)
+                .putString(this.javaVersion.name(), StandardCharsets.UTF_8)
+                .putString((classPath == null) ? "" : classPath, StandardCharsets.UTF_8)
+                .putString(getClassPathDigest(), StandardCharsets.UTF_8)
+                .putString(getContentDigest(), StandardCharsets.UTF_8);
+        sources.forEach((uri, code) -> hasher.putString(uri, StandardCharsets.UTF_8).putInt(code.length()).putString(code, StandardCharsets.UTF_8));
+        return hasher.hash().toString();
+    }
+
     public ClassLoader getClassLoader()
     {
         return this.memoryClassLoader;
@@ -138,6 +284,68 @@ public class EngineJavaCompiler
         return CLASSPATH_CACHE.computeIfAbsent(Thread.currentThread().getContextClassLoader(), cl -> new ClassGraph().getClasspath());
     }
 
+    /**
+     * Digest of the size and modification time of the files on the class path, as jars (e.g. snapshots) and class
+     * directories can change between restarts while keeping their paths
+     */
+    private String getClassPathDigest()
+    {
+        return CLASSPATH_DIGEST_CACHE.computeIfAbsent(Thread.currentThread().getContextClassLoader(), cl -> classPathDigest(getClassPath()));
+    }
+
+    private static String classPathDigest(String classPath)
+    {
+        Hasher hasher = Hashing.sha256().newHasher();
+        if (classPath != null)
+        {
+            for (String entry : classPath.split(File.pathSeparator))
+            {
+                hasher.putString(entry, StandardCharsets.UTF_8);
+                try
+                {
+                    putFileStamps(hasher, Paths.get(entry));
+                }
+                catch (InvalidPathException ignored)
+                {
+                    // not a file, nothing to stamp
+                }
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putFileStamps(Hasher hasher, Path path)
+    {
+        if (Files.isDirectory(path))
+        {
+            try (Stream<Path> files = Files.walk(path))
+            {
+                files.filter(Files::isRegularFile).sorted().forEach(file -> putFileStamp(hasher, path.relativize(file).toString(), file));
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        }
+        else if (Files.isRegularFile(path))
+        {
+            putFileStamp(hasher, "", path);
+        }
+    }
+
+    private static void putFileStamp(Hasher hasher, String name, Path file)
+    {
+        try
+        {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            hasher.putString(name, StandardCharsets.UTF_8).putLong(attributes.size()).putLong(attributes.lastModifiedTime().toMillis());
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private static void compile(JavaCompiler compiler, Iterable<? extends StringJavaSource> javaSources, JavaFileManager fileManager, JavaVersion javaVersion, String classPath) throws JavaCompileException
     {
         MutableList<String> options = buildCompileOptions(javaVersion, classPath);
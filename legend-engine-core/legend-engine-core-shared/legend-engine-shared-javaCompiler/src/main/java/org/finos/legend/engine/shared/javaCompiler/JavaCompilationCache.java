@@ -0,0 +1,212 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.javaCompiler;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Cache of the bytecode produced by Java compilations, keyed by a digest of everything the compilation depends on: the
+ * sources, the classes already available to the compiler, the class path and the Java version (see
+ * {@link EngineJavaCompiler#setCompilationCache}). Equal sources compiled by different plans or executions are only
+ * compiled once per process, and once across restarts when the cache has a directory.
+ * <p>
+ * The class path filter of a compiler is not part of the key: a cache must only be shared by compilers using the same
+ * filter.
+ */
+public class JavaCompilationCache
+{
+    public static final String MAX_BYTES_SYSTEM_PROPERTY = "org.finos.legend.engine.javaCompiler.bytecodeCacheMaxBytes";
+    public static final String DIRECTORY_SYSTEM_PROPERTY = "org.finos.legend.engine.javaCompiler.bytecodeCacheDirectory";
+
+    private static final String CACHE_NAME = "javaCompilation";
+    private static final int FILE_FORMAT_VERSION = 1;
+    private static volatile JavaCompilationCache defaultCache;
+
+    private final Cache<String, MapIterable<String, byte[]>> cache;
+    private final Path directory;
+
+    public JavaCompilationCache(long maxBytes, Path directory)
+    {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, MapIterable<String, byte[]> classes) -> (int) Math.min(Integer.MAX_VALUE, classes.sumOfInt(bytes -> bytes.length)))
+                .build();
+        this.directory = directory;
+    }
+
+    /**
+     * Process wide cache, sized and persisted according to the {@value #MAX_BYTES_SYSTEM_PROPERTY} (default 128MB) and
+     * {@value #DIRECTORY_SYSTEM_PROPERTY} (default none) system properties.
+     */
+    public static JavaCompilationCache getDefault()
+    {
+        if (defaultCache == null)
+        {
+            synchronized (JavaCompilationCache.class)
+            {
+                if (defaultCache == null)
+                {
+                    String directory = System.getProperty(DIRECTORY_SYSTEM_PROPERTY);
+                    defaultCache = new JavaCompilationCache(Long.getLong(MAX_BYTES_SYSTEM_PROPERTY, 128L * 1024 * 1024), (directory == null || directory.isEmpty()) ? null : Paths.get(directory));
+                }
+            }
+        }
+        return defaultCache;
+    }
+
+    public Path getDirectory()
+    {
+        return this.directory;
+    }
+
+    public long size()
+    {
+        return this.cache.size();
+    }
+
+    public void invalidateAll()
+    {
+        this.cache.invalidateAll();
+    }
+
+    /**
+     * Classes (name to bytecode) compiled for the key, null if not cached
+     */
+    MapIterable<String, byte[]> get(String key)
+    {
+        MapIterable<String, byte[]> classes = this.cache.getIfPresent(key);
+        if ((classes == null) && (this.directory != null))
+        {
+            classes = this.read(key);
+            if (classes != null)
+            {
+                this.cache.put(key, classes);
+            }
+        }
+        if (classes == null)
+        {
+            MetricsHandler.incrementCacheMissCount(CACHE_NAME);
+        }
+        else
+        {
+            MetricsHandler.incrementCacheHitCount(CACHE_NAME);
+        }
+        return classes;
+    }
+
+    void put(String key, MapIterable<String, byte[]> classes)
+    {
+        this.cache.put(key, classes);
+        if (this.directory != null)
+        {
+            this.write(key, classes);
+        }
+    }
+
+    private MapIterable<String, byte[]> read(String key)
+    {
+        Path file = this.file(key);
+        if (!Files.exists(file))
+        {
+            return null;
+        }
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(file))))
+        {
+            if (inputStream.readInt() != FILE_FORMAT_VERSION)
+            {
+                return null;
+            }
+            int count = inputStream.readInt();
+            MutableMap<String, byte[]> classes = Maps.mutable.ofInitialCapacity(count);
+            for (int i = 0; i < count; i++)
+            {
+                String className = inputStream.readUTF();
+                byte[] bytes = new byte[inputStream.readInt()];
+                inputStream.readFully(bytes);
+                classes.put(className, bytes);
+            }
+            return classes;
+        }
+        catch (IOException e)
+        {
+            deleteIfExists(file);
+            return null;
+        }
+    }
+
+    private void write(String key, MapIterable<String, byte[]> classes)
+    {
+        Path file = this.file(key);
+        Path temporaryFile = null;
+        try
+        {
+            Files.createDirectories(this.directory);
+            temporaryFile = Files.createTempFile(this.directory, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile))))
+            {
+                outputStream.writeInt(FILE_FORMAT_VERSION);
+                outputStream.writeInt(classes.size());
+                for (String className : classes.keysView())
+                {
+                    byte[] bytes = classes.get(className);
+                    outputStream.writeUTF(className);
+                    outputStream.writeInt(bytes.length);
+                    outputStream.write(bytes);
+                }
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException e)
+        {
+            // the bytecode stays cached in memory
+            if (temporaryFile != null)
+            {
+                deleteIfExists(temporaryFile);
+            }
+        }
+    }
+
+    private Path file(String key)
+    {
+        return this.directory.resolve(key + ".classes");
+    }
+
+    private static void deleteIfExists(Path file)
+    {
+        try
+        {
+            Files.deleteIfExists(file);
+        }
+        catch (IOException ignored)
+        {
+            // left for the next write to replace
+        }
+    }
+}
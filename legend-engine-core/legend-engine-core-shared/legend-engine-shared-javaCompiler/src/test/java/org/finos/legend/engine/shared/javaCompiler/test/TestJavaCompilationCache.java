@@ -0,0 +1,177 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.javaCompiler.test;
+
+import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
+import org.finos.legend.engine.shared.javaCompiler.JavaCompilationCache;
+import org.finos.legend.engine.shared.javaCompiler.JavaCompileException;
+import org.finos.legend.engine.shared.javaCompiler.StringJavaSource;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TestJavaCompilationCache
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testCompiledBytecodeReused() throws Exception
+    {
+        JavaCompilationCache cache = new JavaCompilationCache(1024 * 1024, null);
+
+        EngineJavaCompiler first = compiler(cache).compile(Lists.mutable.with(exampleSource("ok")));
+        Assert.assertEquals(1, cache.size());
+
+        EngineJavaCompiler second = compiler(cache).compile(Lists.mutable.with(exampleSource("ok")));
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals(first.save(), second.save());
+        Assert.assertEquals("ok", execute(second, "Example"));
+        Assert.assertNotSame(first.getClassLoader().loadClass("engine.generated.Example"), second.getClassLoader().loadClass("engine.generated.Example"));
+
+        compiler(cache).compile(Lists.mutable.with(exampleSource("other")));
+        Assert.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testKeyedByClassesOfParent() throws Exception
+    {
+        JavaCompilationCache cache = new JavaCompilationCache(1024 * 1024, null);
+        EngineJavaCompiler firstParent = compiler(cache).compile(Lists.mutable.with(valueSource("first")));
+        EngineJavaCompiler secondParent = compiler(cache).compile(Lists.mutable.with(valueSource("second")));
+        Assert.assertEquals(2, cache.size());
+
+        StringJavaSource usingValue = StringJavaSource.newStringJavaSource("engine.generated", "UsingValue", "package engine.generated; public class UsingValue { public static String execute() { return Value.execute(); } }");
+        Assert.assertEquals("first", execute(new EngineJavaCompiler(firstParent).compile(Lists.mutable.with(usingValue)), "UsingValue"));
+        Assert.assertEquals("second", execute(new EngineJavaCompiler(secondParent).compile(Lists.mutable.with(usingValue)), "UsingValue"));
+        Assert.assertEquals(4, cache.size());
+
+        // classes loaded from bytecode are part of the key like compiled ones
+        EngineJavaCompiler loadedParent = compiler(cache).load(firstParent.save());
+        Assert.assertEquals("first", execute(new EngineJavaCompiler(loadedParent).compile(Lists.mutable.with(usingValue)), "UsingValue"));
+        Assert.assertEquals(4, cache.size());
+    }
+
+    @Test
+    public void testCompilationErrorsNotCached()
+    {
+        JavaCompilationCache cache = new JavaCompilationCache(1024 * 1024, null);
+        StringJavaSource invalid = StringJavaSource.newStringJavaSource("engine.generated", "Invalid", "package engine.generated; public class Invalid { int x = \"\"; }");
+        Assert.assertThrows(JavaCompileException.class, () -> compiler(cache).compile(Lists.mutable.with(invalid)));
+        Assert.assertThrows(JavaCompileException.class, () -> compiler(cache).compile(Lists.mutable.with(invalid)));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testPersistedBytecode() throws Exception
+    {
+        JavaCompilationCache cache = new JavaCompilationCache(1024 * 1024, this.folder.getRoot().toPath());
+        EngineJavaCompiler compiled = compiler(cache).compile(Lists.mutable.with(exampleSource("ok")));
+        try (Stream<?> files = Files.list(this.folder.getRoot().toPath()))
+        {
+            Assert.assertEquals(1, files.collect(Collectors.toList()).size());
+        }
+
+        // as after a restart
+        JavaCompilationCache restartedCache = new JavaCompilationCache(1024 * 1024, this.folder.getRoot().toPath());
+        Assert.assertEquals(0, restartedCache.size());
+        EngineJavaCompiler loaded = compiler(restartedCache).compile(Lists.mutable.with(exampleSource("ok")));
+        Assert.assertEquals(1, restartedCache.size());
+        Assert.assertEquals(compiled.save(), loaded.save());
+        Assert.assertEquals("ok", execute(loaded, "Example"));
+    }
+
+    @Test
+    public void testKeyedByClassPathFiles() throws Exception
+    {
+        JavaCompilationCache cache = new JavaCompilationCache(1024 * 1024, null);
+        File classes = this.folder.newFolder("classes");
+        Path resource = classes.toPath().resolve("resource.txt");
+        Files.write(resource, "first".getBytes(StandardCharsets.UTF_8));
+
+        compileWithClassPath(cache, classes);
+        compileWithClassPath(cache, classes);
+        Assert.assertEquals(1, cache.size());
+
+        // same class path, different content, as after redeploying a snapshot
+        Files.write(resource, "second, longer".getBytes(StandardCharsets.UTF_8));
+        compileWithClassPath(cache, classes);
+        Assert.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testChildCompilersReused()
+    {
+        EngineJavaCompiler parent = new EngineJavaCompiler();
+        AtomicInteger created = new AtomicInteger();
+        EngineJavaCompiler child = parent.getOrCreateChild("key", p ->
+        {
+            created.incrementAndGet();
+            return new EngineJavaCompiler(p);
+        });
+        Assert.assertSame(child, parent.getOrCreateChild("key", EngineJavaCompiler::new));
+        Assert.assertNotSame(child, parent.getOrCreateChild("other", EngineJavaCompiler::new));
+        Assert.assertEquals(1, created.get());
+    }
+
+    private static EngineJavaCompiler compiler(JavaCompilationCache cache)
+    {
+        EngineJavaCompiler compiler = new EngineJavaCompiler();
+        compiler.setCompilationCache(cache);
+        return compiler;
+    }
+
+    private static void compileWithClassPath(JavaCompilationCache cache, File classPathEntry) throws Exception
+    {
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classPathEntry.toURI().toURL()}, contextClassLoader))
+        {
+            thread.setContextClassLoader(classLoader);
+            Assert.assertEquals("ok", execute(compiler(cache).compile(Lists.mutable.with(exampleSource("ok"))), "Example"));
+        }
+        finally
+        {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    private static StringJavaSource exampleSource(String result)
+    {
+        return StringJavaSource.newStringJavaSource("engine.generated", "Example", "package engine.generated; public class Example { public static String execute() { return \"" + result + "\"; } }");
+    }
+
+    private static StringJavaSource valueSource(String result)
+    {
+        return StringJavaSource.newStringJavaSource("engine.generated", "Value", "package engine.generated; public class Value { public static String execute() { return \"" + result + "\"; } }");
+    }
+
+    private static String execute(EngineJavaCompiler compiler, String className) throws Exception
+    {
+        return (String) compiler.getClassLoader().loadClass("engine.generated." + className).getMethod("execute").invoke(null);
+    }
+}
@@ -0,0 +1,108 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.flatdata.grammar.driver;
+
+import org.finos.legend.engine.external.format.flatdata.metamodel.FlatData;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TestDelimitedParallelParsing extends AbstractDriverTest
+{
+    @Test
+    public void parallelParsingReadsSameRecordsInOrder()
+    {
+        List<String> lines = new ArrayList<>();
+        lines.add("NAME,ADDRESS,AGE");
+        for (int i = 0; i < 5_000; i++)
+        {
+            switch (i % 4)
+            {
+                case 0:
+                    lines.add("Person " + i + ",\"" + i + " Main St,\r\nLondon\"," + i);
+                    break;
+                case 1:
+                    lines.add("'Quote''s " + i + "',\"Say \"\"hi\"\"\"," + i);
+                    break;
+                case 2:
+                    lines.add("Escaped\\, " + i + ",," + i);
+                    break;
+                default:
+                    lines.add("Invalid " + i + ",\"Unclosed\" x,not a number");
+            }
+        }
+        String data = data("\r\n", true, lines.toArray(new String[0]));
+
+        List<String> serial = describe(deserialize(Person.class, parseFlatData(grammar("")), data));
+        List<String> parallel = describe(deserialize(Person.class, parseFlatData(grammar("  parsingParallelism: 4;\n")), data));
+
+        Assert.assertEquals(5_000, serial.size());
+        Assert.assertEquals(serial, parallel);
+    }
+
+    @Test
+    public void parallelParsingWithInvalidHeadings()
+    {
+        String data = data("\n", "NAME,\"ADDRESS", "Person 1,Address 1,1");
+
+        List<String> serial = describe(deserialize(Person.class, parseFlatData(grammar("")), data));
+        List<String> parallel = describe(deserialize(Person.class, parseFlatData(grammar("  parsingParallelism: 2;\n")), data));
+
+        Assert.assertEquals(1, serial.size());
+        Assert.assertEquals(serial, parallel);
+    }
+
+    private String grammar(String additionalProperties)
+    {
+        return "section default: DelimitedWithHeadings\n" +
+                "{\n" +
+                "  scope.untilEof;\n" +
+                "  delimiter: ',';\n" +
+                "  quoteChar: '\"';\n" +
+                "  escapingChar: '\\\\';\n" +
+                "  mayContainBlankLines;\n" +
+                additionalProperties +
+                "\n" +
+                "  Record\n" +
+                "  {\n" +
+                "    NAME    : STRING;\n" +
+                "    ADDRESS : STRING(optional);\n" +
+                "    AGE     : INTEGER;\n" +
+                "  }\n" +
+                "}";
+    }
+
+    private List<String> describe(List<IChecked<Person>> records)
+    {
+        return records.stream().map(record ->
+        {
+            Person person = record.getValue();
+            String value = person == null ? "null" : person.name + "|" + person.address + "|" + person.age;
+            String defects = record.getDefects().stream().map(d -> d.getEnforcementLevel() + ":" + d.getMessage()).collect(Collectors.joining(";"));
+            return value + "|" + record.getSource() + "|" + defects;
+        }).collect(Collectors.toList());
+    }
+
+    public static class Person
+    {
+        public String name;
+        public String address;
+        public Long age;
+    }
+}
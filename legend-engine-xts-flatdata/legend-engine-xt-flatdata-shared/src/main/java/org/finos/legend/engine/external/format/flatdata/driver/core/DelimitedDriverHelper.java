@@ -28,11 +28,13 @@ class DelimitedDriverHelper extends StreamingDriverHelper
     private static final String QUOTE_CHAR = "quoteChar";
     private static final String ESCAPING_CHAR = "escapingChar";
     private static final String NULL_STRING = "nullString";
+    private static final String PARSING_PARALLELISM = "parsingParallelism";
 
     final String delimiter;
     final String quoteChar;
     final String escapeChar;
     final List<String> nullStrings;
+    final int parsingParallelism;
 
     DelimitedDriverHelper(FlatDataSection section, FlatDataProcessingContext context)
     {
@@ -43,5 +45,6 @@ class DelimitedDriverHelper extends StreamingDriverHelper
         this.quoteChar = FlatDataUtils.getString(properties, QUOTE_CHAR).orElse(null);
         this.escapeChar = FlatDataUtils.getString(properties, ESCAPING_CHAR).orElse(null);
         this.nullStrings = FlatDataUtils.getStrings(properties, NULL_STRING).orElse(Collections.emptyList());
+        this.parsingParallelism = FlatDataUtils.getInteger(properties, PARSING_PARALLELISM).map(Math::toIntExact).orElse(1);
     }
 }
@@ -15,8 +15,10 @@
 package org.finos.legend.engine.external.format.flatdata.driver.core;
 
 import org.finos.legend.engine.external.format.flatdata.driver.core.connection.CharCursor;
+import org.finos.legend.engine.external.format.flatdata.driver.core.connection.StringCharCursor;
 import org.finos.legend.engine.external.format.flatdata.driver.core.util.DelimitedLine;
 import org.finos.legend.engine.external.format.flatdata.driver.core.util.LineReader;
+import org.finos.legend.engine.external.format.flatdata.driver.core.util.SimpleLine;
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.BasicDefect;
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IDefect;
 
@@ -40,11 +42,23 @@ public class DelimitedLineReader implements LineReader
     private final Runnable eolConsumer;
     private final Predicate<LineParser> delimiterTest;
     private final Consumer<LineParser> delimiterConsumer;
+    private final boolean valuesRequired;
     private boolean lastLineEndedInEol = false;
     private boolean lastBlankRowReturned = false;
 
     DelimitedLineReader(CharCursor cursor, String eol, String storePath, LongSupplier lineNumberSupplier, String delimiter, String quoteChar, String escapeChar)
     {
+        this(cursor, eol, storePath, lineNumberSupplier, delimiter, quoteChar, escapeChar, true);
+    }
+
+    /**
+     * When values are not required the reader only delimits records, returning their text as {@link SimpleLine}s
+     * which are later parsed by {@link #parseRecords}. This is the part of reading that has to be sequential, as the
+     * end of a record depends on the quoting of its values.
+     */
+    DelimitedLineReader(CharCursor cursor, String eol, String storePath, LongSupplier lineNumberSupplier, String delimiter, String quoteChar, String escapeChar, boolean valuesRequired)
+    {
+        this.valuesRequired = valuesRequired;
         this.cursor = cursor;
         this.storePath = storePath;
         this.lineNumberSupplier = lineNumberSupplier;
@@ -95,7 +109,7 @@ public class DelimitedLineReader implements LineReader
     }
 
     @Override
-    public DelimitedLine readLine()
+    public LineReader.Line readLine()
     {
         if (cursor.isEndOfData())
         {
@@ -110,6 +124,37 @@ public class DelimitedLineReader implements LineReader
         return lineParser.parseLine(lineNumberSupplier.getAsLong());
     }
 
+    /**
+     * Parses the values of records delimited by a reader that did not require them. Records are parsed as the text of
+     * a whole line so that the values and defects are the same as when parsed while reading.
+     */
+    static List<LineReader.Line> parseRecords(List<LineReader.Line> records, String eol, String storePath, String delimiter, String quoteChar, String escapeChar)
+    {
+        StringCharCursor recordCursor = new StringCharCursor("");
+        long[] lineNumber = new long[1];
+        DelimitedLineReader reader = new DelimitedLineReader(recordCursor, eol, storePath, () -> lineNumber[0], delimiter, quoteChar, escapeChar);
+
+        List<LineReader.Line> parsed = new ArrayList<>(records.size());
+        for (LineReader.Line record : records)
+        {
+            if (record instanceof DelimitedLine)
+            {
+                parsed.add(record);
+            }
+            else if (record.getText().isEmpty())
+            {
+                parsed.add(new DelimitedLine(record.getLineNumber(), "", Collections.emptyList(), Collections.emptyList()));
+            }
+            else
+            {
+                recordCursor.reset(record.getText());
+                lineNumber[0] = record.getLineNumber();
+                parsed.add(reader.readLine());
+            }
+        }
+        return parsed;
+    }
+
     private class LineParser
     {
         private FullLineData fullLine = new FullLineData();
@@ -124,7 +169,7 @@ public class DelimitedLineReader implements LineReader
         private List<IDefect> defects;
         private long lineNumber;
 
-        private DelimitedLine parseLine(long lineNumber)
+        private LineReader.Line parseLine(long lineNumber)
         {
             this.lineNumber = lineNumber;
             fullLine.init();
@@ -134,6 +179,10 @@ public class DelimitedLineReader implements LineReader
             value = null;
             values = new ArrayList<>(capacity);
             defects = Collections.emptyList();
+            if (!valuesRequired)
+            {
+                values = Collections.emptyList();
+            }
             try
             {
                 State state = startOfValue;
@@ -144,13 +193,17 @@ public class DelimitedLineReader implements LineReader
                     nextChar();
                 }
                 state.finish();
+                String text = fullLine.finish();
                 if (eolTest.test(this))
                 {
                     lastLineEndedInEol = true;
                     eolConsumer.run();
                 }
 
-                String text = fullLine.finish();
+                if (!valuesRequired)
+                {
+                    return new SimpleLine(lineNumber, text);
+                }
                 capacity = Math.max(capacity, values.size());
                 return new DelimitedLine(lineNumber, text, values, defects);
             }
@@ -188,6 +241,10 @@ public class DelimitedLineReader implements LineReader
 
         private void addDefect(String message)
         {
+            if (!valuesRequired)
+            {
+                return;
+            }
             IDefect defect = BasicDefect.newInvalidInputCriticalDefect(message + " at line " + lineNumber, storePath);
             if (defects.isEmpty())
             {
@@ -213,14 +270,24 @@ public class DelimitedLineReader implements LineReader
             fullLine.increment();
         }
 
+        // When only delimiting, the cursor stays at the start of the line until the whole line is read
         private char[] advanceCursor(int nChars)
         {
+            if (!valuesRequired)
+            {
+                return null;
+            }
             aheadOfCursor -= nChars;
             return cursor.advance(nChars);
         }
 
         private void bufferValueChars()
         {
+            if (!valuesRequired)
+            {
+                valueChars = 0;
+                return;
+            }
             String text = new String(advanceCursor(valueChars));
             this.value = this.value == null ? text : this.value + text;
             valueChars = 0;
@@ -237,8 +304,11 @@ public class DelimitedLineReader implements LineReader
 
         private void discardValue()
         {
-            cursor.advance(valueChars);
-            aheadOfCursor -= valueChars;
+            if (valuesRequired)
+            {
+                cursor.advance(valueChars);
+                aheadOfCursor -= valueChars;
+            }
             value = null;
             valueChars = 0;
         }
@@ -246,11 +316,20 @@ public class DelimitedLineReader implements LineReader
         private void addNullValue()
         {
             discardValue();
-            values.add(null);
+            if (valuesRequired)
+            {
+                values.add(null);
+            }
         }
 
         private void finishValue()
         {
+            if (!valuesRequired)
+            {
+                valueChars = 0;
+                skipChars = 0;
+                return;
+            }
             if (this.valueChars > 0 && this.value == null)
             {
                 values.add(new String(advanceCursor(valueChars)));
@@ -638,7 +717,7 @@ public class DelimitedLineReader implements LineReader
             private void init()
             {
                 lineLength = 0;
-                lineCursor = cursor.copy();
+                lineCursor = valuesRequired ? cursor.copy() : null;
             }
 
             private void increment()
@@ -648,12 +727,20 @@ public class DelimitedLineReader implements LineReader
 
             private String finish()
             {
+                if (lineCursor == null)
+                {
+                    aheadOfCursor -= lineLength;
+                    return new String(cursor.advance(lineLength));
+                }
                 return new String(lineCursor.advance(lineLength));
             }
 
             private void destroy()
             {
-                lineCursor.destroy();
+                if (lineCursor != null)
+                {
+                    lineCursor.destroy();
+                }
             }
         }
     }
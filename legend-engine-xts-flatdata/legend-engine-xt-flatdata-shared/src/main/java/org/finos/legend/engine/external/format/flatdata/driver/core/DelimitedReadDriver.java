@@ -33,6 +33,7 @@ public abstract class DelimitedReadDriver<T> extends StreamingReadDriver<T>
     static final String QUOTE_CHAR = "quoteChar";
     static final String ESCAPING_CHAR = "escapingChar";
     static final String NULL_STRING = "nullString";
+    static final String PARSING_PARALLELISM = "parsingParallelism";
 
     protected final DelimitedDriverHelper helper;
 
@@ -45,7 +46,19 @@ public abstract class DelimitedReadDriver<T> extends StreamingReadDriver<T>
     @Override
     protected LineReader createLineReader(CharCursor cursor, LongSupplier lineNumberSupplier)
     {
-        return new DelimitedLineReader(cursor, helper.eol, helper.context.getDefiningPath(), lineNumberSupplier, helper.delimiter, helper.quoteChar, helper.escapeChar);
+        return new DelimitedLineReader(cursor, helper.eol, helper.context.getDefiningPath(), lineNumberSupplier, helper.delimiter, helper.quoteChar, helper.escapeChar, helper.parsingParallelism <= 1);
+    }
+
+    @Override
+    protected int parsingParallelism()
+    {
+        return helper.parsingParallelism;
+    }
+
+    @Override
+    protected List<LineReader.Line> parseLines(List<LineReader.Line> lines)
+    {
+        return DelimitedLineReader.parseRecords(lines, helper.eol, helper.context.getDefiningPath(), helper.delimiter, helper.quoteChar, helper.escapeChar);
     }
 
     @Override
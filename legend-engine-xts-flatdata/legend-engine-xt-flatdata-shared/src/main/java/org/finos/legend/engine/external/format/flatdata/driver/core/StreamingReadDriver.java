@@ -24,10 +24,17 @@ import org.finos.legend.engine.external.format.flatdata.driver.core.variables.In
 import org.finos.legend.engine.external.format.flatdata.driver.spi.FlatDataReadDriver;
 import org.finos.legend.engine.external.format.flatdata.driver.spi.ParsedFlatDataToObject;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -43,6 +50,15 @@ public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
     };
 
     private static AtomicInteger nextRawThreadReaderId = new AtomicInteger(1);
+    private static AtomicInteger nextLineParserThreadId = new AtomicInteger(1);
+
+    private static final int PARSING_CHUNK_SIZE = 1000;
+    private static final ExecutorService LINE_PARSERS = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable ->
+    {
+        Thread thread = new Thread(runnable, "Line Parser " + nextLineParserThreadId.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    });
 
     protected final StreamingDriverHelper helper;
     protected final CommonDataHandler commonDataHandler;
@@ -62,6 +78,20 @@ public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
 
     protected abstract LineReader createLineReader(CharCursor cursor, LongSupplier lineNumberSupplier);
 
+    /**
+     * Number of chunks of lines parsed concurrently. When greater than one, lines read by the line reader are handed
+     * over in chunks to {@link #parseLines} and the parsed lines are made available in the order they were read.
+     */
+    protected int parsingParallelism()
+    {
+        return 1;
+    }
+
+    protected List<LineReader.Line> parseLines(List<LineReader.Line> lines)
+    {
+        return lines;
+    }
+
     @Override
     public void start()
     {
@@ -191,6 +221,7 @@ public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
         // Called on Producer (Raw Lines) Thread
         private void readLines()
         {
+            ParsedChunks parsedChunks = parsingParallelism() > 1 ? new ParsedChunks(parsingParallelism()) : null;
             try
             {
                 BooleanSupplier sectionHasConsumedAllItsRawLines;
@@ -217,9 +248,20 @@ public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
                 while (!sectionHasConsumedAllItsRawLines.getAsBoolean())
                 {
                     lastLine = lineReader.readLine();
-                    queue.put(lastLine);
+                    if (parsedChunks == null)
+                    {
+                        queue.put(lastLine);
+                    }
+                    else
+                    {
+                        parsedChunks.add(lastLine);
+                    }
                     lineCount++;
                 }
+                if (parsedChunks != null)
+                {
+                    parsedChunks.finish();
+                }
             }
             catch (InterruptedException e)
             {
@@ -227,11 +269,23 @@ public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
                 interrupted.set(true);
                 readFailed.set(true);
             }
+            catch (ExecutionException e)
+            {
+                readException.set(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+                readFailed.set(true);
+            }
             catch (Exception e)
             {
                 readException.set(e);
                 readFailed.set(true);
             }
+            finally
+            {
+                if (parsedChunks != null)
+                {
+                    parsedChunks.cancel();
+                }
+            }
 
             try
             {
@@ -293,6 +347,66 @@ public abstract class StreamingReadDriver<T> implements FlatDataReadDriver<T>
             throw new IllegalStateException("Interrupted whilst accessing raw lines");
         }
 
+        // Parses chunks of lines concurrently, bounded by the parallelism, and queues them in the order they were read
+        private class ParsedChunks
+        {
+            private final int parallelism;
+            private final Deque<Future<List<LineReader.Line>>> parsing = new ArrayDeque<>();
+            private List<LineReader.Line> chunk = new ArrayList<>(PARSING_CHUNK_SIZE);
+
+            ParsedChunks(int parallelism)
+            {
+                this.parallelism = parallelism;
+            }
+
+            void add(LineReader.Line line) throws InterruptedException, ExecutionException
+            {
+                chunk.add(line);
+                if (chunk.size() == PARSING_CHUNK_SIZE)
+                {
+                    submitChunk();
+                }
+            }
+
+            void finish() throws InterruptedException, ExecutionException
+            {
+                if (!chunk.isEmpty())
+                {
+                    submitChunk();
+                }
+                while (!parsing.isEmpty())
+                {
+                    queueFirstChunk();
+                }
+            }
+
+            void cancel()
+            {
+                parsing.forEach(future -> future.cancel(true));
+                parsing.clear();
+            }
+
+            private void submitChunk() throws InterruptedException, ExecutionException
+            {
+                if (parsing.size() == parallelism)
+                {
+                    queueFirstChunk();
+                }
+                List<LineReader.Line> lines = chunk;
+                parsing.addLast(LINE_PARSERS.submit(() -> parseLines(lines)));
+                chunk = new ArrayList<>(PARSING_CHUNK_SIZE);
+            }
+
+            private void queueFirstChunk() throws InterruptedException, ExecutionException
+            {
+                for (LineReader.Line line : parsing.getFirst().get())
+                {
+                    queue.put(line);
+                }
+                parsing.removeFirst();
+            }
+        }
+
         private void checkIfReaderHasFailed()
         {
             if (readFailed.get())
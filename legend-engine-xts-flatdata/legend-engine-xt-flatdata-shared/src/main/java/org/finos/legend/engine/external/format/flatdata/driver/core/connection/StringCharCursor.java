@@ -0,0 +1,93 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.flatdata.driver.core.connection;
+
+// Cursor is not multithreaded
+public class StringCharCursor implements CharCursor
+{
+    private String text;
+    // Index of the next character to be consumed
+    private int position;
+
+    public StringCharCursor(String text)
+    {
+        this.text = text;
+        this.position = 0;
+    }
+
+    private StringCharCursor(StringCharCursor copyOf)
+    {
+        this.text = copyOf.text;
+        this.position = copyOf.position;
+    }
+
+    /**
+     * Reuse this cursor to read another text from its start
+     */
+    public void reset(String text)
+    {
+        this.text = text;
+        this.position = 0;
+    }
+
+    @Override
+    public int advance()
+    {
+        return position < text.length() ? text.charAt(position++) : END_OF_DATA;
+    }
+
+    @Override
+    public char[] advance(int howMany)
+    {
+        if (howMany < 0)
+        {
+            throw new IllegalArgumentException("Cannot advance negatively");
+        }
+        int end = Math.min(position + howMany, text.length());
+        char[] chars = new char[end - position];
+        text.getChars(position, end, chars, 0);
+        position = end;
+        return chars;
+    }
+
+    @Override
+    public int peek(int ahead)
+    {
+        if (ahead <= 0)
+        {
+            throw new IllegalArgumentException("Cannot peek on characters that have been advanced");
+        }
+        int index = position + ahead - 1;
+        return index < text.length() ? text.charAt(index) : END_OF_DATA;
+    }
+
+    @Override
+    public boolean isEndOfData()
+    {
+        return position >= text.length();
+    }
+
+    @Override
+    public StringCharCursor copy()
+    {
+        return new StringCharCursor(this);
+    }
+
+    @Override
+    public void destroy()
+    {
+        // Nothing to release
+    }
+}
@@ -14,10 +14,10 @@
 
 package org.finos.legend.engine.query.graphQL.api.execute;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.opentracing.Scope;
 import io.opentracing.Span;
 import io.opentracing.tag.Tags;
@@ -37,7 +37,6 @@ import org.finos.legend.engine.language.pure.modelManager.sdlc.configuration.Met
 import org.finos.legend.engine.plan.execution.PlanExecutor;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.Result;
-import org.finos.legend.engine.plan.execution.result.json.JsonStreamingResult;
 import org.finos.legend.engine.plan.generation.PlanGenerator;
 import org.finos.legend.engine.plan.generation.transformers.PlanTransformer;
 import org.finos.legend.engine.plan.platform.PlanPlatform;
@@ -100,12 +99,19 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.StreamingOutput;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -126,14 +132,33 @@ public class GraphQLExecute extends GraphQL
     private final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
     private final GraphQLPlanCache graphQLPlanCache;
     private final List<IGraphQLDirectiveExtension> graphQLExecuteExtensions = Lists.mutable.empty();
+    private final ExecutorService rootFieldExecutor;
+    private final int rootFieldMemoryThreshold;
+
+    private static final String SEQUENTIAL = "sequential";
+    private static final String CONCURRENT = "concurrent";
+    public static final int DEFAULT_ROOT_FIELD_PARALLELISM = 8;
+    public static final int DEFAULT_ROOT_FIELD_MEMORY_THRESHOLD = 1024 * 1024; /* 1MB */
 
     public GraphQLExecute(ModelManager modelManager, PlanExecutor planExecutor, MetaDataServerConfiguration metadataserver, Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> extensionsFunc, Iterable<? extends PlanTransformer> transformers, GraphQLPlanCache planCache)
+    {
+        this(modelManager, planExecutor, metadataserver, extensionsFunc, transformers, planCache, DEFAULT_ROOT_FIELD_PARALLELISM, DEFAULT_ROOT_FIELD_MEMORY_THRESHOLD);
+    }
+
+    /**
+     * @param rootFieldParallelism     maximum number of root field (and directive) plans executed concurrently, across queries
+     * @param rootFieldMemoryThreshold size in bytes of the result of a root field held in memory while waiting to be written,
+     *                                 beyond which it is spooled to a temporary file
+     */
+    public GraphQLExecute(ModelManager modelManager, PlanExecutor planExecutor, MetaDataServerConfiguration metadataserver, Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> extensionsFunc, Iterable<? extends PlanTransformer> transformers, GraphQLPlanCache planCache, int rootFieldParallelism, int rootFieldMemoryThreshold)
     {
         super(modelManager, metadataserver);
         this.planExecutor = planExecutor;
         this.transformers = transformers;
         this.extensionsFunc = extensionsFunc;
         this.graphQLPlanCache = planCache;
+        this.rootFieldExecutor = Executors.newFixedThreadPool(rootFieldParallelism, new ThreadFactoryBuilder().setNameFormat("graphql-root-field-%d").setDaemon(true).build());
+        this.rootFieldMemoryThreshold = rootFieldMemoryThreshold;
         for (IGraphQLDirectiveExtension graphQLExecuteExtension : ServiceLoader.load(IGraphQLDirectiveExtension.class))
         {
             this.graphQLExecuteExtensions.add(graphQLExecuteExtension);
@@ -334,64 +359,43 @@ public class GraphQLExecute extends GraphQL
                 (StreamingOutput) outputStream ->
                 {
                     long startTime = System.currentTimeMillis();
-                    try (JsonGenerator generator = new JsonFactory().createGenerator(outputStream)
-                            .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)
-                            .enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);)
+                    try (JsonGenerator generator = SpooledRootField.newGenerator(outputStream))
                     {
                         generator.writeStartObject();
-                        generator.setCodec(new ObjectMapper());
 
-                        planWithSerialized.stream().filter(serializedNamedPlans -> GraphQLExecutionHelper.isARootField(serializedNamedPlans.propertyName, graphQLQuery)).forEach(p ->
+                        List<SerializedNamedPlans> rootFieldPlans = planWithSerialized.stream().filter(serializedNamedPlans -> GraphQLExecutionHelper.isARootField(serializedNamedPlans.propertyName, graphQLQuery)).collect(Collectors.toList());
+                        Map<String, ?> extensions;
+                        if (rootFieldPlans.size() + GraphQLExecutionHelper.findDirectives(graphQLQuery).size() > 1)
                         {
-                            Result  result = null;
+                            // dispatch all the plans before writing the root fields in document order
+                            List<CompletableFuture<SpooledRootField>> rootFields = rootFieldPlans.stream().map(p -> CompletableFuture.supplyAsync(() -> this.executeAndSpoolRootField(identity, p, graphQLQuery, graphQLCacheKey), this.rootFieldExecutor)).collect(Collectors.toList());
+                            Map<String, CompletableFuture<Object>> directiveResults = this.executeDirectives(graphQLQuery, planWithSerialized, identity, this.rootFieldExecutor, CONCURRENT);
                             try
                             {
-                                Map<String, Result> parameterMap = GraphQLExecutionHelper.getParameterMap(graphQLQuery, p.propertyName);
-                                if (graphQLCacheKey.getVariables() != null && graphQLQuery.type == OperationType.mutation)
-                                {
-                                    parameterMap.put("variable", new ConstantResult(graphQLCacheKey.getVariables()));
-                                }
-                                
-                                result = planExecutor.execute(p.serializedPlan, parameterMap, null, identity);
-
-                                if (result instanceof JsonStreamingResult)
-                                {
-                                    generator.writeFieldName("data");
-                                    generator.writeStartObject();
-                                    generator.writeFieldName(p.propertyName);
-                                    ((JsonStreamingResult) result).getJsonStream().accept(generator);
-                                }
-                                else if (result instanceof ConstantResult)
-                                {
-                                    generator.writeFieldName("result");
-                                    generator.writeStartObject();
-                                    generator.writeFieldName(objectMapper.writeValueAsString(((ConstantResult) result).getValue()));
-                                }
-                                else
+                                for (CompletableFuture<SpooledRootField> rootField : rootFields)
                                 {
-                                    throw new IllegalArgumentException("Unexpected Result Type : " + result.getClass().getName());
+                                    try (SpooledRootField spooledRootField = join(rootField))
+                                    {
+                                        spooledRootField.writeTo(generator);
+                                    }
                                 }
-                            }
-                            catch (IOException e)
-                            {
-                                observeError(e, graphQLCacheKey);
-                                throw new RuntimeException(e);
+                                generator.writeEndObject();
+                                extensions = this.computeExtensionsField(graphQLQuery, directiveResults);
                             }
                             catch (Exception e)
                             {
+                                // release the results of the root fields which have not been written
+                                rootFields.forEach(rootField -> rootField.thenAccept(SpooledRootField::close));
                                 observeError(e, graphQLCacheKey);
                                 throw e;
                             }
-                            finally
-                            {
-                                if (result != null)
-                                {
-                                    result.close();
-                                }
-                            }
-                        });
-                        generator.writeEndObject();
-                        Map<String, ?> extensions = this.computeExtensionsField(graphQLQuery, planWithSerialized, identity);
+                        }
+                        else
+                        {
+                            rootFieldPlans.forEach(p -> this.executeRootField(identity, p, graphQLQuery, graphQLCacheKey, generator));
+                            generator.writeEndObject();
+                            extensions = this.computeExtensionsField(graphQLQuery, this.executeDirectives(graphQLQuery, planWithSerialized, identity, Runnable::run, SEQUENTIAL));
+                        }
                         if (!extensions.isEmpty())
                         {
                             generator.writeFieldName("extensions");
@@ -409,25 +413,122 @@ public class GraphQLExecute extends GraphQL
                 }).build();
     }
 
-    private Map<String, ?> computeExtensionsField(OperationDefinition query, List<SerializedNamedPlans> serializedNamedPlans, Identity identity)
+    private Result executeRootFieldPlan(Identity identity, SerializedNamedPlans p, OperationDefinition graphQLQuery, GraphQLCacheKey graphQLCacheKey)
     {
-        Map<String, Map<String, Object>> m = new HashMap<>();
+        Map<String, Result> parameterMap = GraphQLExecutionHelper.getParameterMap(graphQLQuery, p.propertyName);
+        if (graphQLCacheKey.getVariables() != null && graphQLQuery.type == OperationType.mutation)
+        {
+            parameterMap.put("variable", new ConstantResult(graphQLCacheKey.getVariables()));
+        }
+        return planExecutor.execute(p.serializedPlan, parameterMap, null, identity);
+    }
+
+    private void executeRootField(Identity identity, SerializedNamedPlans p, OperationDefinition graphQLQuery, GraphQLCacheKey graphQLCacheKey, JsonGenerator generator)
+    {
+        long startTime = System.currentTimeMillis();
+        Result result = null;
+        try
+        {
+            result = this.executeRootFieldPlan(identity, p, graphQLQuery, graphQLCacheKey);
+            SpooledRootField.write(generator, p.propertyName, result, objectMapper);
+        }
+        catch (IOException e)
+        {
+            observeError(e, graphQLCacheKey);
+            throw new RuntimeException(e);
+        }
+        catch (Exception e)
+        {
+            observeError(e, graphQLCacheKey);
+            throw e;
+        }
+        finally
+        {
+            if (result != null)
+            {
+                result.close();
+            }
+            MetricsHandler.observeGraphQLFieldExecutionTime(p.propertyName, SEQUENTIAL, startTime, System.currentTimeMillis());
+        }
+    }
+
+    private SpooledRootField executeAndSpoolRootField(Identity identity, SerializedNamedPlans p, OperationDefinition graphQLQuery, GraphQLCacheKey graphQLCacheKey)
+    {
+        long startTime = System.currentTimeMillis();
+        Result result = null;
+        try (Scope ignored = GlobalTracer.get().buildSpan("graphql root field").withTag("field", p.propertyName).startActive(true))
+        {
+            result = this.executeRootFieldPlan(identity, p, graphQLQuery, graphQLCacheKey);
+            return SpooledRootField.spool(p.propertyName, result, objectMapper, this.rootFieldMemoryThreshold);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        finally
+        {
+            if (result != null)
+            {
+                result.close();
+            }
+            MetricsHandler.observeGraphQLFieldExecutionTime(p.propertyName, CONCURRENT, startTime, System.currentTimeMillis());
+        }
+    }
+
+    private Map<String, CompletableFuture<Object>> executeDirectives(OperationDefinition query, List<SerializedNamedPlans> serializedNamedPlans, Identity identity, Executor executor, String mode)
+    {
+        Map<String, CompletableFuture<Object>> results = new LinkedHashMap<>();
         List<Directive> directives = GraphQLExecutionHelper.findDirectives(query);
-        String rootFieldName = ((Field) query.selectionSet.get(0)).name; // assuming there's only one field in the selection set
         if (!directives.isEmpty())
         {
-            m.put(rootFieldName, new HashMap<>());
+            String rootFieldName = ((Field) query.selectionSet.get(0)).name; // assuming there's only one field in the selection set
             directives.forEach(directive ->
             {
-                SingleExecutionPlan plan = serializedNamedPlans.stream().filter(serializedNamedPlan -> serializedNamedPlan.propertyName.equals(GraphQLExecutionHelper.getPlanNameForDirective(rootFieldName, directive))).findFirst().get().serializedPlan;
-                Map<String, Result> parameterMap = GraphQLExecutionHelper.getParameterMap(query, rootFieldName);
-                Object object = getExtensionForDirective(directive).executeDirective(directive, plan, planExecutor, parameterMap, identity);
-                m.get(rootFieldName).put(directive.name, object);
+                String planName = GraphQLExecutionHelper.getPlanNameForDirective(rootFieldName, directive);
+                SingleExecutionPlan plan = serializedNamedPlans.stream().filter(serializedNamedPlan -> serializedNamedPlan.propertyName.equals(planName)).findFirst().get().serializedPlan;
+                results.put(directive.name, CompletableFuture.supplyAsync(() ->
+                {
+                    long startTime = System.currentTimeMillis();
+                    try
+                    {
+                        Map<String, Result> parameterMap = GraphQLExecutionHelper.getParameterMap(query, rootFieldName);
+                        return getExtensionForDirective(directive).executeDirective(directive, plan, planExecutor, parameterMap, identity);
+                    }
+                    finally
+                    {
+                        MetricsHandler.observeGraphQLFieldExecutionTime(planName, mode, startTime, System.currentTimeMillis());
+                    }
+                }, executor));
             });
         }
+        return results;
+    }
+
+    private Map<String, ?> computeExtensionsField(OperationDefinition query, Map<String, CompletableFuture<Object>> directiveResults)
+    {
+        Map<String, Map<String, Object>> m = new HashMap<>();
+        if (!directiveResults.isEmpty())
+        {
+            String rootFieldName = ((Field) query.selectionSet.get(0)).name; // assuming there's only one field in the selection set
+            m.put(rootFieldName, new HashMap<>());
+            directiveResults.forEach((directiveName, result) -> m.get(rootFieldName).put(directiveName, join(result)));
+        }
         return m;
     }
 
+    private static <T> T join(CompletableFuture<T> future)
+    {
+        try
+        {
+            return future.join();
+        }
+        catch (CompletionException e)
+        {
+            Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(cause);
+        }
+    }
+
     IGraphQLDirectiveExtension getExtensionForDirective(Directive directive)
     {
         List<IGraphQLDirectiveExtension> modifiedListOfExtensions = graphQLExecuteExtensions.stream().filter(
@@ -0,0 +1,153 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.query.graphQL.api.execute;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.FileBackedOutputStream;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.plan.execution.result.json.JsonStreamingResult;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Result of a root field plan executed ahead of its turn to be written to the response. The JSON of a streaming result
+ * is spooled in memory, then to a temporary file once it exceeds the memory threshold, so that the root fields of a
+ * query can be executed concurrently and still be written in document order.
+ */
+class SpooledRootField implements AutoCloseable
+{
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private final String propertyName;
+    private final FileBackedOutputStream json;
+    private final String constant;
+
+    private SpooledRootField(String propertyName, FileBackedOutputStream json, String constant)
+    {
+        this.propertyName = propertyName;
+        this.json = json;
+        this.constant = constant;
+    }
+
+    static SpooledRootField spool(String propertyName, Result result, ObjectMapper objectMapper, int memoryThreshold) throws IOException
+    {
+        if (result instanceof JsonStreamingResult)
+        {
+            FileBackedOutputStream json = new FileBackedOutputStream(memoryThreshold, true);
+            try (JsonGenerator generator = newGenerator(json))
+            {
+                ((JsonStreamingResult) result).getJsonStream().accept(generator);
+            }
+            catch (IOException | RuntimeException e)
+            {
+                json.reset();
+                throw e;
+            }
+            return new SpooledRootField(propertyName, json, null);
+        }
+        if (result instanceof ConstantResult)
+        {
+            return new SpooledRootField(propertyName, null, objectMapper.writeValueAsString(((ConstantResult) result).getValue()));
+        }
+        throw new IllegalArgumentException("Unexpected Result Type : " + result.getClass().getName());
+    }
+
+    static JsonGenerator newGenerator(OutputStream outputStream) throws IOException
+    {
+        JsonGenerator generator = new JsonFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)
+                .enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+        generator.setCodec(new ObjectMapper());
+        return generator;
+    }
+
+    /**
+     * Write the result the same way as when the plan result is streamed to the response directly
+     */
+    static void write(JsonGenerator generator, String propertyName, Result result, ObjectMapper objectMapper) throws IOException
+    {
+        if (result instanceof JsonStreamingResult)
+        {
+            writeDataFieldName(generator, propertyName);
+            ((JsonStreamingResult) result).getJsonStream().accept(generator);
+        }
+        else if (result instanceof ConstantResult)
+        {
+            writeConstant(generator, objectMapper.writeValueAsString(((ConstantResult) result).getValue()));
+        }
+        else
+        {
+            throw new IllegalArgumentException("Unexpected Result Type : " + result.getClass().getName());
+        }
+    }
+
+    void writeTo(JsonGenerator generator) throws IOException
+    {
+        if (this.json == null)
+        {
+            writeConstant(generator, this.constant);
+            return;
+        }
+        writeDataFieldName(generator, this.propertyName);
+        // writes the field value separator, the spooled value is then appended as is
+        generator.writeRawValue("");
+        try (Reader reader = new InputStreamReader(this.json.asByteSource().openStream(), StandardCharsets.UTF_8))
+        {
+            char[] buffer = new char[COPY_BUFFER_SIZE];
+            int read;
+            while ((read = reader.read(buffer)) != -1)
+            {
+                generator.writeRaw(buffer, 0, read);
+            }
+        }
+    }
+
+    @Override
+    public void close()
+    {
+        if (this.json != null)
+        {
+            try
+            {
+                this.json.reset();
+            }
+            catch (IOException ignored)
+            {
+                // the temporary file is deleted when the stream is finalized
+            }
+        }
+    }
+
+    private static void writeDataFieldName(JsonGenerator generator, String propertyName) throws IOException
+    {
+        generator.writeFieldName("data");
+        generator.writeStartObject();
+        generator.writeFieldName(propertyName);
+    }
+
+    private static void writeConstant(JsonGenerator generator, String constant) throws IOException
+    {
+        generator.writeFieldName("result");
+        generator.writeStartObject();
+        generator.writeFieldName(constant);
+    }
+}
@@ -0,0 +1,137 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.query.graphQL.api.execute;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.plan.execution.result.json.JsonStreamingResult;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+public class TestSpooledRootField
+{
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testSpooledFieldWrittenAsStreamedField() throws IOException
+    {
+        String streamed = write(generator ->
+        {
+            SpooledRootField.write(generator, "firms", firms(3), objectMapper);
+            generator.writeEndObject();
+        });
+
+        Assert.assertEquals("{\"data\":{\"firms\":[{\"legalName\":\"Firm 0\",\"revenue\":0.10},{\"legalName\":\"Firm 1\",\"revenue\":1.10},{\"legalName\":\"Firm 2\",\"revenue\":2.10}]}}", streamed);
+        // held in memory, and spooled to a temporary file
+        for (int memoryThreshold : new int[]{1024 * 1024, 16})
+        {
+            try (SpooledRootField spooled = SpooledRootField.spool("firms", firms(3), objectMapper, memoryThreshold))
+            {
+                Assert.assertEquals(streamed, write(generator ->
+                {
+                    spooled.writeTo(generator);
+                    generator.writeEndObject();
+                }));
+            }
+        }
+    }
+
+    @Test
+    public void testSpooledFieldsWrittenInDocumentOrder() throws IOException
+    {
+        try (SpooledRootField persons = SpooledRootField.spool("persons", firms(1), objectMapper, 16);
+             SpooledRootField firms = SpooledRootField.spool("firms", firms(2), objectMapper, 16))
+        {
+            String written = write(generator ->
+            {
+                firms.writeTo(generator);
+                persons.writeTo(generator);
+                generator.writeEndObject();
+            });
+            Assert.assertTrue(written, written.indexOf("\"firms\"") < written.indexOf("\"persons\""));
+        }
+    }
+
+    @Test
+    public void testConstantResult() throws IOException
+    {
+        Result result = new ConstantResult("mutated");
+        String streamed = write(generator -> SpooledRootField.write(generator, "update", result, objectMapper));
+        try (SpooledRootField spooled = SpooledRootField.spool("update", result, objectMapper, 16))
+        {
+            Assert.assertEquals(streamed, write(spooled::writeTo));
+        }
+    }
+
+    private static JsonStreamingResult firms(int count)
+    {
+        return new JsonStreamingResult(new JsonStreamingResult.JsonStreamHandler()
+        {
+            @Override
+            public void writeTo(JsonGenerator generator)
+            {
+                try
+                {
+                    generator.writeStartArray();
+                    for (int i = 0; i < count; i++)
+                    {
+                        generator.writeStartObject();
+                        generator.writeStringField("legalName", "Firm " + i);
+                        generator.writeNumberField("revenue", new BigDecimal(i + ".10"));
+                        generator.writeEndObject();
+                    }
+                    generator.writeEndArray();
+                }
+                catch (IOException e)
+                {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public Stream<ObjectNode> toStream()
+            {
+                throw new UnsupportedOperationException();
+            }
+        }, null);
+    }
+
+    private static String write(GeneratorConsumer body) throws IOException
+    {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (JsonGenerator generator = SpooledRootField.newGenerator(outputStream))
+        {
+            generator.writeStartObject();
+            body.accept(generator);
+            generator.writeEndObject();
+        }
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private interface GeneratorConsumer
+    {
+        void accept(JsonGenerator generator) throws IOException;
+    }
+}
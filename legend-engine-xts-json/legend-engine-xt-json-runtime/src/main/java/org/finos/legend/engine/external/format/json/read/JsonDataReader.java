@@ -22,6 +22,7 @@ import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
 import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
@@ -37,6 +38,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -45,6 +47,8 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -52,10 +56,48 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+/**
+ * Base class of the readers generated by the JSON binding. By default each record is read into a {@link JsonNode} tree
+ * which the generated read methods bind from. Bindings generated with token streaming bind each record directly from the
+ * {@link JsonParser} tokens instead, only buffering an object into a tree when its type key does not come first; the
+ * source of their checked values then only carries the record number.
+ */
 public abstract class JsonDataReader<T>
 {
+    // Factories and readers are thread safe, creating them for every reader is costly for small inputs
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final ObjectReader NODE_READER = new ObjectMapper().readerFor(JsonNode.class);
+    private static final ObjectReader BIG_DECIMAL_NODE_READER = NODE_READER.with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    private static final EnumSet<JsonNodeType> DECIMAL_NODE_TYPES = EnumSet.of(JsonNodeType.STRING, JsonNodeType.NUMBER);
+    private static final ClassValue<Set<String>> DECLARED_METHOD_NAMES = new ClassValue<Set<String>>()
+    {
+        @Override
+        protected Set<String> computeValue(Class<?> type)
+        {
+            return Arrays.stream(type.getDeclaredMethods()).map(Method::getName).collect(Collectors.toSet());
+        }
+    };
+    private static final ClassValue<ConcurrentMap<String, Method>> READ_METHODS = new ClassValue<ConcurrentMap<String, Method>>()
+    {
+        @Override
+        protected ConcurrentMap<String, Method> computeValue(Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private static final ClassValue<ConcurrentMap<String, Method>> PARSER_READ_METHODS = new ClassValue<ConcurrentMap<String, Method>>()
+    {
+        @Override
+        protected ConcurrentMap<String, Method> computeValue(Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private final JsonParser parser;
-    private final ObjectMapper objectMapper;
+    private final ObjectReader nodeReader;
+    private final boolean useBigDecimalForFloats;
+    private final boolean tokenStreaming;
 
     private boolean finishedReading = false;
     private boolean inArray = false;
@@ -66,13 +108,18 @@ public abstract class JsonDataReader<T>
     private JsonNode nextNode;
 
     private final Queue<IChecked<T>> queue = new LinkedList<>();
-    private final Set<String> declaredMethods = Arrays.stream(this.getClass().getDeclaredMethods()).map(Method::getName).collect(Collectors.toSet());
+    private final Set<String> declaredMethods = DECLARED_METHOD_NAMES.get(this.getClass());
 
     public JsonDataReader(InputStream in, boolean useBigDecimalForFloats, String pathOffset)
+    {
+        this(in, useBigDecimalForFloats, pathOffset, false);
+    }
+
+    public JsonDataReader(InputStream in, boolean useBigDecimalForFloats, String pathOffset, boolean tokenStreaming)
     {
         try
         {
-            JsonParser baseParser = new JsonFactory().createParser(in);
+            JsonParser baseParser = JSON_FACTORY.createParser(in);
             if (pathOffset != null)
             {
                 this.parser = new FilteringParserDelegate(baseParser, new JsonPointerBasedFilter(pathOffset), false, false);
@@ -82,11 +129,9 @@ public abstract class JsonDataReader<T>
                 this.parser = baseParser;
             }
 
-            this.objectMapper = new ObjectMapper();
-            if (useBigDecimalForFloats)
-            {
-                this.objectMapper.configure(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS, true);
-            }
+            this.nodeReader = useBigDecimalForFloats ? BIG_DECIMAL_NODE_READER : NODE_READER;
+            this.useBigDecimalForFloats = useBigDecimalForFloats;
+            this.tokenStreaming = tokenStreaming;
         }
         catch (IOException e)
         {
@@ -98,7 +143,9 @@ public abstract class JsonDataReader<T>
     {
         this.node = node;
         this.parser = null;
-        this.objectMapper = null;
+        this.nodeReader = null;
+        this.useBigDecimalForFloats = false;
+        this.tokenStreaming = false;
     }
 
     public Stream<IChecked<T>> startStream()
@@ -172,13 +219,26 @@ public abstract class JsonDataReader<T>
 
     protected abstract IChecked<T> readCheckedObject(JsonNode node, JsonDataRecord source);
 
+    /**
+     * Reads a record from the parser positioned on its first token, leaving the parser on its last token. Generated by
+     * bindings with token streaming only.
+     */
+    protected IChecked<T> readCheckedObject(JsonParser parser, JsonDataRecord source)
+    {
+        throw new UnsupportedOperationException("Token streaming is not enabled for " + getClass().getName());
+    }
+
     private Collection<IChecked<T>> readCheckedObjects()
     {
         try
         {
             this.recordCount++;
-            JsonNode node = this.objectMapper.readValue(this.parser, JsonNode.class);
-            return Collections.singleton(readCheckedObject(node, new JsonDataRecord(this.recordCount, node.toString())));
+            if (this.tokenStreaming)
+            {
+                return Collections.singleton(readCheckedObject(this.parser, new JsonDataRecord(this.recordCount, (String) null)));
+            }
+            JsonNode node = this.nodeReader.readValue(this.parser);
+            return Collections.singleton(readCheckedObject(node, JsonDataRecord.fromSource(this.recordCount, node)));
         }
         catch (IOException e)
         {
@@ -270,27 +330,29 @@ public abstract class JsonDataReader<T>
 
     protected Object readMethodInvoke(String name, JsonNode node)
     {
-        Method m;
-        try
-        {
-            m = this.getClass().getMethod(name, JsonNode.class);
-        }
-        catch (NoSuchMethodException e)
-        {
-            throw new RuntimeException("Could not find method " + name + "(" + JsonNode.class.getName() + ") on class " + getClass().getName(), e);
-        }
+        return readMethodInvoke(READ_METHODS, name, JsonNode.class, node);
+    }
+
+    protected Object readMethodInvoke(String name, JsonParser parser)
+    {
+        return readMethodInvoke(PARSER_READ_METHODS, name, JsonParser.class, parser);
+    }
+
+    private Object readMethodInvoke(ClassValue<ConcurrentMap<String, Method>> readMethods, String name, Class<?> parameterType, Object argument)
+    {
+        Method m = readMethods.get(this.getClass()).computeIfAbsent(name, n -> findReadMethod(n, parameterType));
 
         try
         {
-            return m.invoke(this, node);
+            return m.invoke(this, argument);
         }
         catch (IllegalAccessException e)
         {
-            throw new RuntimeException("Error executing method " + name + "(" + JsonNode.class.getName() + ") on class " + getClass().getName(), e);
+            throw new RuntimeException("Error executing method " + name + "(" + parameterType.getName() + ") on class " + getClass().getName(), e);
         }
         catch (InvocationTargetException e)
         {
-            StringBuilder sb = new StringBuilder("Error executing method ").append(name).append("(").append(JsonNode.class.getName()).append(") on class ").append(getClass().getName());
+            StringBuilder sb = new StringBuilder("Error executing method ").append(name).append("(").append(parameterType.getName()).append(") on class ").append(getClass().getName());
             String message;
             if ((e.getCause() != null) && ((message = e.getCause().getMessage()) != null))
             {
@@ -300,79 +362,50 @@ public abstract class JsonDataReader<T>
         }
     }
 
-    protected String acceptString(JsonNode node)
+    private Method findReadMethod(String name, Class<?> parameterType)
     {
         try
         {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE String";
-            this.check(Collections.singletonList(JsonNodeType.valueOf("STRING")),
-                    node.getNodeType(),
-                    errorMessage);
-            return node.textValue();
+            return this.getClass().getMethod(name, parameterType);
         }
-        catch (IllegalArgumentException e)
+        catch (NoSuchMethodException e)
         {
-            throw new DataParsingException(e.getMessage(), e);
+            throw new RuntimeException("Could not find method " + name + "(" + parameterType.getName() + ") on class " + getClass().getName(), e);
         }
     }
 
+    // The accept methods run for every value read, so types are checked before building any error message
+
+    protected String acceptString(JsonNode node)
+    {
+        checkNodeType(JsonNodeType.STRING, node, "String");
+        return node.textValue();
+    }
+
     protected boolean acceptBoolean(JsonNode node)
     {
-        try
-        {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE Boolean";
-            this.check(Collections.singletonList(JsonNodeType.valueOf("BOOLEAN")),
-                    node.getNodeType(),
-                    errorMessage);
-            return node.booleanValue();
-        }
-        catch (IllegalArgumentException e)
-        {
-            throw new DataParsingException(e.getMessage(), e);
-        }
+        checkNodeType(JsonNodeType.BOOLEAN, node, "Boolean");
+        return node.booleanValue();
     }
 
     protected long acceptInteger(JsonNode node)
     {
-        try
-        {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE Integer";
-            this.check(Collections.singletonList(JsonNodeType.valueOf("NUMBER")),
-                    node.getNodeType(),
-                    errorMessage);
-            return node.longValue();
-        }
-        catch (IllegalArgumentException e)
-        {
-            throw new DataParsingException(e.getMessage(), e);
-        }
+        checkNodeType(JsonNodeType.NUMBER, node, "Integer");
+        return node.longValue();
     }
 
     protected double acceptFloat(JsonNode node)
     {
-        try
-        {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE Float";
-            this.check(Collections.singletonList(JsonNodeType.valueOf("NUMBER")),
-                    node.getNodeType(),
-                    errorMessage);
-            return node.doubleValue();
-        }
-        catch (IllegalArgumentException e)
-        {
-            throw new DataParsingException(e.getMessage(), e);
-        }
+        checkNodeType(JsonNodeType.NUMBER, node, "Float");
+        return node.doubleValue();
     }
 
     protected BigDecimal acceptDecimal(JsonNode node)
     {
+        checkNodeType(DECIMAL_NODE_TYPES, node, "Decimal");
         try
         {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE Decimal";
-            this.check(Arrays.asList(JsonNodeType.valueOf("STRING"), JsonNodeType.valueOf("NUMBER")),
-                    node.getNodeType(),
-                    errorMessage);
-            return JsonNodeType.STRING.equals(node.getNodeType())
+            return node.isTextual()
                     ? new BigDecimal(node.textValue())
                     : node.decimalValue();
         }
@@ -384,13 +417,10 @@ public abstract class JsonDataReader<T>
 
     protected Number acceptNumber(JsonNode node)
     {
+        checkNodeType(DECIMAL_NODE_TYPES, node, "Number");
         try
         {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE Number";
-            this.check(Arrays.asList(JsonNodeType.valueOf("STRING"), JsonNodeType.valueOf("NUMBER")),
-                    node.getNodeType(),
-                    errorMessage);
-            return JsonNodeType.STRING.equals(node.getNodeType())
+            return node.isTextual()
                     ? new BigDecimal(node.textValue())
                     : (node.isDouble() ? node.doubleValue() : node.longValue());
         }
@@ -402,28 +432,24 @@ public abstract class JsonDataReader<T>
 
     protected PureDate acceptStrictDate(JsonNode node)
     {
-        try
-        {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE StrictDate";
-            this.check(Collections.singletonList(JsonNodeType.valueOf("STRING")),
-                    node.getNodeType(),
-                    errorMessage);
-            return PureDate.parsePureDate(node.textValue());
-        }
-        catch (IllegalArgumentException e)
-        {
-            throw new DataParsingException(e.getMessage(), e);
-        }
+        return acceptPureDate(node, "StrictDate");
     }
 
     protected PureDate acceptDateTime(JsonNode node)
     {
+        return acceptPureDate(node, "DateTime");
+    }
+
+    protected PureDate acceptDate(JsonNode node)
+    {
+        return acceptPureDate(node, "Date");
+    }
+
+    private PureDate acceptPureDate(JsonNode node, String pureType)
+    {
+        checkNodeType(JsonNodeType.STRING, node, pureType);
         try
         {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE DateTime";
-            this.check(Collections.singletonList(JsonNodeType.valueOf("STRING")),
-                    node.getNodeType(),
-                    errorMessage);
             return PureDate.parsePureDate(node.textValue());
         }
         catch (IllegalArgumentException e)
@@ -432,19 +458,19 @@ public abstract class JsonDataReader<T>
         }
     }
 
-    protected PureDate acceptDate(JsonNode node)
+    private void checkNodeType(JsonNodeType expectedNode, JsonNode node, String pureType)
     {
-        try
+        if (node.getNodeType() != expectedNode)
         {
-            String errorMessage = "Unexpected node type:" + node.getNodeType() + " for PURE Date";
-            this.check(Collections.singletonList(JsonNodeType.valueOf("STRING")),
-                    node.getNodeType(),
-                    errorMessage);
-            return PureDate.parsePureDate(node.textValue());
+            throw new DataParsingException("Unexpected node type:" + node.getNodeType() + " for PURE " + pureType);
         }
-        catch (IllegalArgumentException e)
+    }
+
+    private void checkNodeType(EnumSet<JsonNodeType> expectedNodes, JsonNode node, String pureType)
+    {
+        if (!expectedNodes.contains(node.getNodeType()))
         {
-            throw new DataParsingException(e.getMessage(), e);
+            throw new DataParsingException("Unexpected node type:" + node.getNodeType() + " for PURE " + pureType);
         }
     }
 
@@ -500,4 +526,316 @@ public abstract class JsonDataReader<T>
             throw new DataParsingException(errorMessage);
         }
     }
+
+    // Token streaming: the read methods generated for a class start on the START_OBJECT token of the object, or inside
+    // the object once its type key was read, and leave the parser on the last token of the value they read
+
+    protected String firstFieldName(JsonParser parser)
+    {
+        try
+        {
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.START_OBJECT)
+            {
+                token = parser.nextToken();
+            }
+            else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT)
+            {
+                // Not an object: read as an object without properties, as when reading from a tree
+                parser.skipChildren();
+                return null;
+            }
+            return token == JsonToken.FIELD_NAME ? parser.getCurrentName() : null;
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected String nextFieldName(JsonParser parser)
+    {
+        try
+        {
+            return parser.nextToken() == JsonToken.FIELD_NAME ? parser.getCurrentName() : null;
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected void startValue(JsonParser parser)
+    {
+        try
+        {
+            parser.nextToken();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected void skipValue(JsonParser parser)
+    {
+        try
+        {
+            parser.skipChildren();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the value of the type key the parser is on, leaving the parser on the token that follows it
+     */
+    protected String typeName(JsonParser parser)
+    {
+        try
+        {
+            JsonToken token = parser.nextToken();
+            String typeName = token == JsonToken.VALUE_STRING ? parser.getText() : null;
+            parser.skipChildren();
+            parser.nextToken();
+            return typeName;
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Buffers the rest of the object the parser is in, from the field name it is on
+     */
+    protected JsonNode readRemainingObject(JsonParser parser)
+    {
+        return readValueAsNode(parser);
+    }
+
+    protected JsonNode readValueAsNode(JsonParser parser)
+    {
+        try
+        {
+            return this.nodeReader.readValue(parser);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected boolean isScalarValue(JsonParser parser)
+    {
+        JsonToken token = parser.getCurrentToken();
+        return token != null && token.isScalarValue() && token != JsonToken.VALUE_NULL;
+    }
+
+    protected String acceptString(JsonParser parser)
+    {
+        checkTokenType(JsonNodeType.STRING, parser, "String");
+        return getText(parser);
+    }
+
+    protected boolean acceptBoolean(JsonParser parser)
+    {
+        checkTokenType(JsonNodeType.BOOLEAN, parser, "Boolean");
+        return parser.getCurrentToken() == JsonToken.VALUE_TRUE;
+    }
+
+    protected long acceptInteger(JsonParser parser)
+    {
+        checkTokenType(JsonNodeType.NUMBER, parser, "Integer");
+        try
+        {
+            return parser.getLongValue();
+        }
+        catch (IOException e)
+        {
+            throw new DataParsingException(e.getMessage(), e);
+        }
+    }
+
+    protected double acceptFloat(JsonParser parser)
+    {
+        checkTokenType(JsonNodeType.NUMBER, parser, "Float");
+        try
+        {
+            return parser.getDoubleValue();
+        }
+        catch (IOException e)
+        {
+            throw new DataParsingException(e.getMessage(), e);
+        }
+    }
+
+    protected BigDecimal acceptDecimal(JsonParser parser)
+    {
+        checkTokenType(DECIMAL_NODE_TYPES, parser, "Decimal");
+        try
+        {
+            return parser.getCurrentToken() == JsonToken.VALUE_STRING
+                    ? new BigDecimal(parser.getText())
+                    : parser.getDecimalValue();
+        }
+        catch (IOException | IllegalArgumentException e)
+        {
+            throw new DataParsingException(e.getMessage(), e);
+        }
+    }
+
+    protected Number acceptNumber(JsonParser parser)
+    {
+        checkTokenType(DECIMAL_NODE_TYPES, parser, "Number");
+        try
+        {
+            switch (parser.getCurrentToken())
+            {
+                case VALUE_STRING:
+                    return new BigDecimal(parser.getText());
+                case VALUE_NUMBER_FLOAT:
+                    return this.useBigDecimalForFloats ? parser.getDecimalValue() : parser.getDoubleValue();
+                default:
+                    return parser.getLongValue();
+            }
+        }
+        catch (IOException | IllegalArgumentException e)
+        {
+            throw new DataParsingException(e.getMessage(), e);
+        }
+    }
+
+    protected PureDate acceptStrictDate(JsonParser parser)
+    {
+        return acceptPureDate(parser, "StrictDate");
+    }
+
+    protected PureDate acceptDateTime(JsonParser parser)
+    {
+        return acceptPureDate(parser, "DateTime");
+    }
+
+    protected PureDate acceptDate(JsonParser parser)
+    {
+        return acceptPureDate(parser, "Date");
+    }
+
+    private PureDate acceptPureDate(JsonParser parser, String pureType)
+    {
+        checkTokenType(JsonNodeType.STRING, parser, pureType);
+        try
+        {
+            return PureDate.parsePureDate(getText(parser));
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new DataParsingException(e.getMessage(), e);
+        }
+    }
+
+    private static String getText(JsonParser parser)
+    {
+        try
+        {
+            return parser.getText();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void checkTokenType(JsonNodeType expectedNode, JsonParser parser, String pureType)
+    {
+        JsonNodeType nodeType = nodeType(parser.getCurrentToken());
+        if (nodeType != expectedNode)
+        {
+            skipValue(parser);
+            throw new DataParsingException("Unexpected node type:" + nodeType + " for PURE " + pureType);
+        }
+    }
+
+    private void checkTokenType(EnumSet<JsonNodeType> expectedNodes, JsonParser parser, String pureType)
+    {
+        JsonNodeType nodeType = nodeType(parser.getCurrentToken());
+        if (!expectedNodes.contains(nodeType))
+        {
+            skipValue(parser);
+            throw new DataParsingException("Unexpected node type:" + nodeType + " for PURE " + pureType);
+        }
+    }
+
+    // The node type a tree would have for the value starting with the token, so that defects read the same in both modes
+    private static JsonNodeType nodeType(JsonToken token)
+    {
+        if (token == null)
+        {
+            return JsonNodeType.MISSING;
+        }
+        switch (token)
+        {
+            case START_OBJECT:
+                return JsonNodeType.OBJECT;
+            case START_ARRAY:
+                return JsonNodeType.ARRAY;
+            case VALUE_STRING:
+                return JsonNodeType.STRING;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return JsonNodeType.NUMBER;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return JsonNodeType.BOOLEAN;
+            case VALUE_NULL:
+                return JsonNodeType.NULL;
+            case VALUE_EMBEDDED_OBJECT:
+                return JsonNodeType.POJO;
+            default:
+                return JsonNodeType.MISSING;
+        }
+    }
+
+    protected <U> List<U> acceptMany(JsonParser parser, Function<JsonParser, U> acceptor, Consumer<String> defectRecorder)
+    {
+        List<U> result = new ArrayList<>();
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL)
+        {
+            return result;
+        }
+        if (token == JsonToken.START_ARRAY)
+        {
+            try
+            {
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                {
+                    acceptOne(parser, acceptor, defectRecorder, result);
+                }
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        }
+        else
+        {
+            acceptOne(parser, acceptor, defectRecorder, result);
+        }
+        return result;
+    }
+
+    private static <U> void acceptOne(JsonParser parser, Function<JsonParser, U> acceptor, Consumer<String> defectRecorder, List<U> result)
+    {
+        try
+        {
+            result.add(acceptor.apply(parser));
+        }
+        catch (DataParsingException ex)
+        {
+            defectRecorder.accept(ex.getMessage());
+        }
+    }
 }
@@ -21,6 +21,7 @@ public class JsonDataRecord
     private final long number;
     private String record;
     private JsonNode jsonNode;
+    private JsonNode sourceNode;
 
     public JsonDataRecord(long number, String record)
     {
@@ -34,6 +35,17 @@ public class JsonDataRecord
         this.jsonNode = jsonNode;
     }
 
+    /**
+     * A record read from a stream whose text is only serialized when requested, as most queries do not return the
+     * source of checked values
+     */
+    static JsonDataRecord fromSource(long number, JsonNode sourceNode)
+    {
+        JsonDataRecord dataRecord = new JsonDataRecord(number, (String) null);
+        dataRecord.sourceNode = sourceNode;
+        return dataRecord;
+    }
+
     public long getNumber()
     {
         return number;
@@ -41,6 +53,11 @@ public class JsonDataRecord
 
     public String getRecord()
     {
+        if (record == null && sourceNode != null)
+        {
+            record = sourceNode.toString();
+            sourceNode = null;
+        }
         return record;
     }
 
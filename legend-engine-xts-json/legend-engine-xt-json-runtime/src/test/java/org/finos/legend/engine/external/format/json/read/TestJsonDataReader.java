@@ -0,0 +1,285 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.json.read;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.BasicChecked;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.BasicDefect;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
+import org.finos.legend.engine.plan.dependencies.store.inMemory.DataParsingException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TestJsonDataReader
+{
+    @Test
+    public void testReadArrayOfRecords()
+    {
+        List<IChecked<String>> records = read("[{\"name\": \"A\", \"age\": 1}, {\"name\": 2, \"age\": 2.5}, {\"name\": \"C\", \"age\": \"3\"}]", false);
+
+        Assert.assertEquals(3, records.size());
+        Assert.assertEquals("A|1", records.get(0).getValue());
+        Assert.assertEquals("{\"name\":\"A\",\"age\":1}", ((JsonDataRecord) records.get(0).getSource()).getRecord());
+        Assert.assertEquals(1, ((JsonDataRecord) records.get(0).getSource()).getNumber());
+
+        Assert.assertNull(records.get(1).getValue());
+        Assert.assertEquals("Unexpected node type:NUMBER for PURE String", records.get(1).getDefects().get(0).getMessage());
+        Assert.assertEquals("{\"name\":2,\"age\":2.5}", ((JsonDataRecord) records.get(1).getSource()).getRecord());
+
+        Assert.assertNull(records.get(2).getValue());
+        Assert.assertEquals("Unexpected node type:STRING for PURE Integer", records.get(2).getDefects().get(0).getMessage());
+        Assert.assertEquals(3, ((JsonDataRecord) records.get(2).getSource()).getNumber());
+    }
+
+    @Test
+    public void testReadSingleRecord()
+    {
+        List<IChecked<String>> records = read("{\"name\": \"A\", \"age\": 1}", false);
+        Assert.assertEquals(1, records.size());
+        Assert.assertEquals("A|1", records.get(0).getValue());
+    }
+
+    @Test
+    public void testAcceptMethods()
+    {
+        Reader reader = new Reader(node("{}"));
+
+        Assert.assertEquals(new BigDecimal("1.10"), reader.acceptDecimal(node("\"1.10\"")));
+        Assert.assertEquals(0, new BigDecimal("1.10").compareTo(reader.acceptDecimal(readNode("1.10", true))));
+        Assert.assertEquals(new BigDecimal("3"), reader.acceptNumber(node("\"3\"")));
+        Assert.assertEquals(2.5d, reader.acceptNumber(node("2.5")));
+        Assert.assertEquals(2.5d, reader.acceptFloat(node("2.5")), 0.0d);
+        Assert.assertTrue(reader.acceptBoolean(node("true")));
+        Assert.assertEquals("2020-01-02", reader.acceptStrictDate(node("\"2020-01-02\"")).toString());
+
+        assertDefect("Unexpected node type:NUMBER for PURE Boolean", () -> reader.acceptBoolean(node("1")));
+        assertDefect("Unexpected node type:BOOLEAN for PURE Decimal", () -> reader.acceptDecimal(node("true")));
+        assertDefect("Unexpected node type:NUMBER for PURE DateTime", () -> reader.acceptDateTime(node("1")));
+        Assert.assertThrows(DataParsingException.class, () -> reader.acceptDecimal(node("\"abc\"")));
+        Assert.assertThrows(DataParsingException.class, () -> reader.acceptDate(node("\"not a date\"")));
+    }
+
+    @Test
+    public void testReadRecordsFromTokens()
+    {
+        List<IChecked<String>> records = readTokens("[{\"@type\": \"P\", \"name\": \"A\", \"extra\": {\"age\": [5]}, \"age\": 1}, {\"name\": 2, \"age\": 2.5}, {\"name\": \"C\", \"age\": 3, \"@type\": \"P\"}, {}]");
+
+        Assert.assertEquals(4, records.size());
+        Assert.assertEquals("P:A|1", records.get(0).getValue());
+        Assert.assertNull(((JsonDataRecord) records.get(0).getSource()).getRecord());
+        Assert.assertEquals(1, ((JsonDataRecord) records.get(0).getSource()).getNumber());
+
+        // No type key first: the rest of the object is buffered and read from the tree
+        Assert.assertNull(records.get(1).getValue());
+        Assert.assertEquals("Unexpected node type:NUMBER for PURE String", records.get(1).getDefects().get(0).getMessage());
+        Assert.assertEquals("C|3", records.get(2).getValue());
+
+        Assert.assertNull(records.get(3).getValue());
+        Assert.assertEquals(4, ((JsonDataRecord) records.get(3).getSource()).getNumber());
+    }
+
+    @Test
+    public void testAcceptMethodsFromTokens()
+    {
+        Reader reader = new Reader(node("{}"));
+
+        Assert.assertEquals(new BigDecimal("1.10"), reader.acceptDecimal(parser("\"1.10\"")));
+        Assert.assertEquals(new BigDecimal("3"), reader.acceptNumber(parser("\"3\"")));
+        Assert.assertEquals(2.5d, reader.acceptNumber(parser("2.5")));
+        Assert.assertEquals(2L, reader.acceptNumber(parser("2")));
+        Assert.assertEquals(2.5d, reader.acceptFloat(parser("2.5")), 0.0d);
+        Assert.assertEquals(7L, reader.acceptInteger(parser("7")));
+        Assert.assertTrue(reader.acceptBoolean(parser("true")));
+        Assert.assertEquals("2020-01-02", reader.acceptStrictDate(parser("\"2020-01-02\"")).toString());
+
+        assertDefect("Unexpected node type:NUMBER for PURE Boolean", () -> reader.acceptBoolean(parser("1")));
+        assertDefect("Unexpected node type:BOOLEAN for PURE Decimal", () -> reader.acceptDecimal(parser("true")));
+        assertDefect("Unexpected node type:OBJECT for PURE String", () -> reader.acceptString(parser("{\"a\": 1}")));
+        Assert.assertThrows(DataParsingException.class, () -> reader.acceptDecimal(parser("\"abc\"")));
+        Assert.assertThrows(DataParsingException.class, () -> reader.acceptDate(parser("\"not a date\"")));
+    }
+
+    @Test
+    public void testAcceptManyFromTokensSkipsInvalidValues() throws IOException
+    {
+        Reader reader = new Reader(node("{}"));
+        List<String> defects = new ArrayList<>();
+
+        JsonParser parser = parser("[1, \"x\", [2, 3], {\"a\": 4}, 5]");
+        Assert.assertEquals(Arrays.asList(1L, 5L), reader.acceptMany(parser, reader::acceptInteger, defects::add));
+        Assert.assertEquals(Arrays.asList("Unexpected node type:STRING for PURE Integer", "Unexpected node type:ARRAY for PURE Integer", "Unexpected node type:OBJECT for PURE Integer"), defects);
+        Assert.assertEquals(JsonToken.END_ARRAY, parser.getCurrentToken());
+        Assert.assertNull(parser.nextToken());
+
+        Assert.assertEquals(Arrays.asList(6L), reader.acceptMany(parser("6"), reader::acceptInteger, defects::add));
+        Assert.assertTrue(reader.acceptMany(parser("null"), reader::acceptInteger, defects::add).isEmpty());
+    }
+
+    private static void assertDefect(String expected, Runnable accept)
+    {
+        DataParsingException e = Assert.assertThrows(DataParsingException.class, accept::run);
+        Assert.assertEquals(expected, e.getMessage());
+    }
+
+    private static List<IChecked<String>> read(String json, boolean useBigDecimalForFloats)
+    {
+        return new Reader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), useBigDecimalForFloats).startStream().collect(Collectors.toList());
+    }
+
+    private static List<IChecked<String>> readTokens(String json)
+    {
+        return new TokenReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))).startStream().collect(Collectors.toList());
+    }
+
+    private static JsonParser parser(String json)
+    {
+        try
+        {
+            JsonParser parser = new JsonFactory().createParser(json);
+            parser.nextToken();
+            return parser;
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static JsonNode node(String json)
+    {
+        return readNode(json, false);
+    }
+
+    private static JsonNode readNode(String json, boolean useBigDecimalForFloats)
+    {
+        List<IChecked<String>> records = new Reader(new ByteArrayInputStream(("[" + json + "]").getBytes(StandardCharsets.UTF_8)), useBigDecimalForFloats)
+        {
+            @Override
+            protected IChecked<String> readCheckedObject(JsonNode node, JsonDataRecord source)
+            {
+                return BasicChecked.newChecked(null, node);
+            }
+        }.startStream().collect(Collectors.toList());
+        return (JsonNode) records.get(0).getSource();
+    }
+
+    private static class Reader extends JsonDataReader<String>
+    {
+        Reader(ByteArrayInputStream in, boolean useBigDecimalForFloats)
+        {
+            super(in, useBigDecimalForFloats, null);
+        }
+
+        Reader(ByteArrayInputStream in, boolean useBigDecimalForFloats, boolean tokenStreaming)
+        {
+            super(in, useBigDecimalForFloats, null, tokenStreaming);
+        }
+
+        Reader(JsonNode node)
+        {
+            super(node);
+        }
+
+        @Override
+        protected IChecked<String> readCheckedObject(JsonNode node, JsonDataRecord source)
+        {
+            try
+            {
+                return BasicChecked.newChecked(acceptString(node.path("name")) + "|" + acceptInteger(node.path("age")), source);
+            }
+            catch (DataParsingException e)
+            {
+                return BasicChecked.newChecked(null, source, BasicDefect.newInvalidInputCriticalDefect(e.getMessage(), "Person"));
+            }
+        }
+    }
+
+    // Reads as the readers generated with token streaming do
+    private static class TokenReader extends Reader
+    {
+        private static final int NAME_HASH = "name".hashCode();
+        private static final int AGE_HASH = "age".hashCode();
+
+        TokenReader(ByteArrayInputStream in)
+        {
+            super(in, false, true);
+        }
+
+        @Override
+        protected IChecked<String> readCheckedObject(JsonParser parser, JsonDataRecord source)
+        {
+            String fieldName = firstFieldName(parser);
+            String type = null;
+            if ("@type".equals(fieldName))
+            {
+                type = typeName(parser);
+                fieldName = firstFieldName(parser);
+            }
+            else if (fieldName != null)
+            {
+                return readCheckedObject(readRemainingObject(parser), source);
+            }
+
+            List<String> defects = new ArrayList<>();
+            String name = null;
+            long age = 0L;
+            int ageCount = 0;
+            while (fieldName != null)
+            {
+                startValue(parser);
+                int fieldHash = fieldName.hashCode();
+                if (fieldHash == NAME_HASH && "name".equals(fieldName))
+                {
+                    List<String> names = acceptMany(parser, this::acceptString, defects::add);
+                    name = names.isEmpty() ? null : names.get(0);
+                }
+                else if (fieldHash == AGE_HASH && "age".equals(fieldName))
+                {
+                    try
+                    {
+                        age = acceptInteger(parser);
+                        ageCount = 1;
+                    }
+                    catch (DataParsingException e)
+                    {
+                        defects.add(e.getMessage());
+                    }
+                }
+                else
+                {
+                    skipValue(parser);
+                }
+                fieldName = nextFieldName(parser);
+            }
+            if (name == null || ageCount != 1 || !defects.isEmpty())
+            {
+                return BasicChecked.newChecked(null, source, BasicDefect.newInvalidInputCriticalDefect(String.join(", ", defects), "Person"));
+            }
+            return BasicChecked.newChecked(type + ":" + name + "|" + age, source);
+        }
+    }
+}
@@ -44,4 +44,10 @@ public class DataSplitRange
     {
         return upperBound;
     }
+
+    @Override
+    public String toString()
+    {
+        return "[" + lowerBound + ", " + upperBound + "]";
+    }
 }
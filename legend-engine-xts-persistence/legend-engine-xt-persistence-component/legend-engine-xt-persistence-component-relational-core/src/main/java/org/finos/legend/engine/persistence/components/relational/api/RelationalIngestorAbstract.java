@@ -15,6 +15,7 @@
 package org.finos.legend.engine.persistence.components.relational.api;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import org.eclipse.collections.api.tuple.Pair;
 import org.finos.legend.engine.persistence.components.common.*;
 import org.finos.legend.engine.persistence.components.executor.DigestInfo;
 import org.finos.legend.engine.persistence.components.executor.Executor;
@@ -23,7 +24,13 @@ import org.finos.legend.engine.persistence.components.importer.Importers;
 import org.finos.legend.engine.persistence.components.ingestmode.*;
 import org.finos.legend.engine.persistence.components.logicalplan.LogicalPlan;
 import org.finos.legend.engine.persistence.components.logicalplan.LogicalPlanFactory;
+import org.finos.legend.engine.persistence.components.logicalplan.conditions.Condition;
+import org.finos.legend.engine.persistence.components.logicalplan.conditions.Equals;
+import org.finos.legend.engine.persistence.components.logicalplan.conditions.Or;
 import org.finos.legend.engine.persistence.components.logicalplan.datasets.*;
+import org.finos.legend.engine.persistence.components.logicalplan.operations.Delete;
+import org.finos.legend.engine.persistence.components.logicalplan.values.FieldValue;
+import org.finos.legend.engine.persistence.components.logicalplan.values.NumericalValue;
 import org.finos.legend.engine.persistence.components.logicalplan.values.StringValue;
 import org.finos.legend.engine.persistence.components.planner.Planner;
 import org.finos.legend.engine.persistence.components.planner.Planners;
@@ -33,12 +40,14 @@ import org.finos.legend.engine.persistence.components.relational.SqlPlan;
 import org.finos.legend.engine.persistence.components.relational.api.optimizers.IngestModeOptimizer;
 import org.finos.legend.engine.persistence.components.relational.api.utils.ApiUtils;
 import org.finos.legend.engine.persistence.components.relational.api.utils.IngestionUtils;
+import org.finos.legend.engine.persistence.components.relational.exception.PartialDataSplitCommitException;
 import org.finos.legend.engine.persistence.components.executor.TabularData;
 import org.finos.legend.engine.persistence.components.relational.sqldom.SqlGen;
 import org.finos.legend.engine.persistence.components.relational.transformer.RelationalTransformer;
 import org.finos.legend.engine.persistence.components.schemaevolution.SchemaEvolution;
 import org.finos.legend.engine.persistence.components.transformer.TransformOptions;
 import org.finos.legend.engine.persistence.components.transformer.Transformer;
+import org.finos.legend.engine.persistence.components.util.Capability;
 import org.finos.legend.engine.persistence.components.util.MetadataDataset;
 import org.finos.legend.engine.persistence.components.util.MetadataUtils;
 import org.finos.legend.engine.persistence.components.util.PlaceholderValue;
@@ -56,6 +65,7 @@ import org.slf4j.LoggerFactory;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.finos.legend.engine.persistence.components.relational.api.utils.IngestionUtils.ADDITIONAL_METADATA_KEY_PATTERN;
 import static org.finos.legend.engine.persistence.components.relational.api.utils.IngestionUtils.ADDITIONAL_METADATA_VALUE_PATTERN;
@@ -386,6 +396,126 @@ public abstract class RelationalIngestorAbstract
         return performFullIngestion(connection, datasets, dataSplitRanges);
     }
 
+    /*
+    Perform ingestion from Staging to Target table based on the Ingest mode, ingesting independent data splits concurrently
+    Each data split connection runs its share of the data splits in its own transaction. The transactions are only committed
+    once every data split has succeeded, one after the other. The metadata rows and the post actions are then written on the
+    main connection, which holds the lock and is committed last, so that the request is only recorded as processed once all
+    its data splits are committed.
+    When a commit fails after some data splits were committed, the records of those data splits are deleted from the main
+    dataset so that the request can be retried; a PartialDataSplitCommitException is raised if they cannot be.
+    Dedup and versioning is committed before the data splits start so that the versioned staging data is visible to every
+    connection: it only writes the temporary staging dataset, which every attempt rebuilds and the post cleanup drops.
+    Only supported for sinks with the PARALLEL_DATA_SPLIT_INGESTION capability and ingest modes with independent data splits.
+    The data split connections are not closed.
+    */
+    public List<IngestorResult> performFullIngestionWithParallelDataSplits(RelationalConnection connection, List<RelationalConnection> dataSplitConnections, Datasets datasets)
+    {
+        LOGGER.info("Invoked performFullIngestionWithParallelDataSplits method");
+        validateParallelDataSplitIngestion(dataSplitConnections);
+
+        // 1. init
+        initExecutor(connection);
+        initDatasets(datasets);
+
+        // 2. Create Datasets
+        if (createDatasets())
+        {
+            createAllDatasets();
+            initializeLock();
+        }
+
+        // Evolve Schema
+        SchemaEvolutionResult schemaEvolutionResult = evolve();
+        List<Executor<SqlGen, TabularData, SqlPlan>> splitExecutors = new ArrayList<>();
+        for (RelationalConnection dataSplitConnection : dataSplitConnections)
+        {
+            Executor<SqlGen, TabularData, SqlPlan> splitExecutor = relationalSink().getRelationalExecutor(dataSplitConnection);
+            splitExecutor.setSqlLogging(sqlLogging());
+            splitExecutors.add(splitExecutor);
+        }
+        List<IngestorResult> result;
+
+        try
+        {
+            executor.begin();
+            acquireLock();
+
+            // idempotency Check
+            result = verifyIfRequestAlreadyProcessedPreviously(schemaEvolutionResult);
+            if (result.isEmpty())
+            {
+                // Dedup and Version, and find the data split ranges based on its result
+                Executor<SqlGen, TabularData, SqlPlan> stagingExecutor = splitExecutors.get(0);
+                List<DataSplitRange> dataSplitRanges;
+                stagingExecutor.begin();
+                try
+                {
+                    dedupAndVersion(stagingExecutor);
+                    dataSplitRanges = IngestionUtils.getDataSplitRanges(stagingExecutor, planner, transformer, ingestMode());
+                    stagingExecutor.commit();
+                }
+                catch (Exception e)
+                {
+                    stagingExecutor.revert();
+                    throw e;
+                }
+
+                // Perform Ingestion
+                List<Pair<IngestorResult, Map<String, PlaceholderValue>>> dataSplitResults;
+                splitExecutors.forEach(Executor::begin);
+                try
+                {
+                    LOGGER.info(String.format("Starting Parallel Ingestion with IngestMode: {%s}", enrichedIngestMode.getClass().getSimpleName()));
+                    dataSplitResults = IngestionUtils.performParallelIngestion(enrichedDatasets, transformer, planner, executor, splitExecutors, generatorResult, dataSplitRanges, enrichedIngestMode, schemaEvolutionResult, additionalMetadata(), executionTimestampClock());
+                }
+                catch (Exception e)
+                {
+                    splitExecutors.forEach(Executor::revert);
+                    throw e;
+                }
+
+                List<IngestorResult> committedResults = new ArrayList<>();
+                try
+                {
+                    commitDataSplits(splitExecutors, dataSplitResults, committedResults);
+                    // Record the data splits in the metadata dataset and clean up, committed only now that every data split is
+                    for (Pair<IngestorResult, Map<String, PlaceholderValue>> dataSplitResult : dataSplitResults)
+                    {
+                        IngestionUtils.insertMetadata(executor, generatorResult, dataSplitResult.getTwo());
+                    }
+                    executor.executePhysicalPlan(generatorResult.postActionsSqlPlan());
+                    executor.commit();
+                }
+                catch (Exception e)
+                {
+                    deleteCommittedDataSplits(committedResults, dataSplitResults, e);
+                    throw e;
+                }
+                result = dataSplitResults.stream().map(Pair::getOne).collect(Collectors.toList());
+            }
+            else
+            {
+                executor.commit();
+            }
+        }
+        catch (Exception e)
+        {
+            executor.revert();
+            throw e;
+        }
+        finally
+        {
+            splitExecutors.forEach(Executor::close);
+            executor.close();
+            // post Cleanup
+            postCleanup();
+        }
+
+        LOGGER.info("Ingestion completed");
+        return result;
+    }
+
     /*
     Get the latest staging filters stored in the metadata tables for a dataset
     */
@@ -478,6 +608,11 @@ public abstract class RelationalIngestorAbstract
     }
 
     public void dedupAndVersion()
+    {
+        dedupAndVersion(executor);
+    }
+
+    private void dedupAndVersion(Executor<SqlGen, TabularData, SqlPlan> executor)
     {
         if (generatorResult.deduplicationAndVersioningSqlPlan().isPresent())
         {
@@ -486,6 +621,85 @@ public abstract class RelationalIngestorAbstract
         }
     }
 
+    private void validateParallelDataSplitIngestion(List<RelationalConnection> dataSplitConnections)
+    {
+        if (!relationalSink().capabilities().contains(Capability.PARALLEL_DATA_SPLIT_INGESTION))
+        {
+            throw new UnsupportedOperationException("Parallel data split ingestion is not supported by the relational sink");
+        }
+        if (!IngestionUtils.dataSplitsIndependent(ingestMode()))
+        {
+            throw new UnsupportedOperationException("Parallel data split ingestion not supported for this ingest Mode : " + ingestMode().getClass().getSimpleName());
+        }
+        if (dataSplitConnections == null || dataSplitConnections.isEmpty())
+        {
+            throw new IllegalArgumentException("At least one data split connection is required for parallel data split ingestion");
+        }
+    }
+
+    private static void commitDataSplits(List<Executor<SqlGen, TabularData, SqlPlan>> splitExecutors, List<Pair<IngestorResult, Map<String, PlaceholderValue>>> dataSplitResults, List<IngestorResult> committedResults)
+    {
+        // Data split i is ingested by the connection i % parallelism, see IngestionUtils.performParallelIngestion
+        int parallelism = Math.min(splitExecutors.size(), dataSplitResults.size());
+        for (int worker = 0; worker < splitExecutors.size(); worker++)
+        {
+            try
+            {
+                splitExecutors.get(worker).commit();
+            }
+            catch (Exception e)
+            {
+                if (worker >= parallelism)
+                {
+                    // every data split was committed, this connection had none
+                    LOGGER.warn("Committing a data split connection without data splits failed", e);
+                    continue;
+                }
+                splitExecutors.subList(worker + 1, splitExecutors.size()).forEach(Executor::revert);
+                throw e;
+            }
+            for (int i = worker; i < dataSplitResults.size(); i += parallelism)
+            {
+                committedResults.add(dataSplitResults.get(i).getOne());
+            }
+        }
+    }
+
+    private void deleteCommittedDataSplits(List<IngestorResult> committedResults, List<Pair<IngestorResult, Map<String, PlaceholderValue>>> dataSplitResults, Exception cause)
+    {
+        if (committedResults.isEmpty())
+        {
+            return;
+        }
+        List<DataSplitRange> committed = committedResults.stream().map(result -> result.dataSplitRange().orElse(null)).collect(Collectors.toList());
+        List<DataSplitRange> uncommitted = dataSplitResults.stream().map(Pair::getOne).filter(result -> !committedResults.contains(result)).map(result -> result.dataSplitRange().orElse(null)).collect(Collectors.toList());
+        try
+        {
+            // The records of each data split carry its batch id
+            String batchIdField = ((AppendOnly) enrichedIngestMode).batchIdField();
+            List<Condition> batchIdConditions = new ArrayList<>();
+            for (IngestorResult committedResult : committedResults)
+            {
+                long batchId = committedResult.batchId().orElseThrow(IllegalStateException::new);
+                batchIdConditions.add(Equals.of(FieldValue.builder().datasetRef(enrichedDatasets.mainDataset().datasetReference()).fieldName(batchIdField).build(), NumericalValue.of(batchId)));
+            }
+            Delete delete = Delete.builder().dataset(enrichedDatasets.mainDataset()).condition(Or.of(batchIdConditions)).build();
+
+            executor.revert();
+            executor.begin();
+            acquireLock();
+            executor.executePhysicalPlan(transformer.generatePhysicalPlan(LogicalPlan.builder().addOps(delete).build()));
+            executor.commit();
+            LOGGER.warn(String.format("Data splits %s were committed but data splits %s could not be: the records of the committed data splits were deleted", committed, uncommitted));
+        }
+        catch (Exception e)
+        {
+            cause.addSuppressed(e);
+            LOGGER.error(String.format("Data splits %s were committed but data splits %s could not be and the records of the committed data splits could not be deleted", committed, uncommitted), cause);
+            throw new PartialDataSplitCommitException(committed, uncommitted, cause);
+        }
+    }
+
     private void initializeLock()
     {
         if (enableConcurrentSafety())
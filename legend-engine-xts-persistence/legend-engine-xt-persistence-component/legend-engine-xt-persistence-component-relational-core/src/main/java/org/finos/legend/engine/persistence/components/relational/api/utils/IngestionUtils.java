@@ -57,6 +57,11 @@ import java.sql.Timestamp;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -162,17 +167,7 @@ public class IngestionUtils
             Map<String, PlaceholderValue> placeHolderKeyValues = extractPlaceHolderKeyValues(datasets, executor, planner, transformer, ingestMode, dataSplitRange, additionalMetadata, executionTimestampClock, batchId);
             // Load main table, extract stats and update metadata table
             Map<StatisticName, Object> statisticsResultMap = loadData(executor, generatorResult, placeHolderKeyValues, executionTimestampClock);
-            IngestorResult result = IngestorResult.builder()
-                .putAllStatisticByName(statisticsResultMap)
-                .updatedDatasets(datasets)
-                .batchId(Optional.ofNullable(placeHolderKeyValues.containsKey(BATCH_ID_PATTERN) ? Integer.valueOf(placeHolderKeyValues.get(BATCH_ID_PATTERN).value()) : null))
-                .dataSplitRange(dataSplitRange)
-                .schemaEvolutionSql(schemaEvolutionResult.schemaEvolutionSql())
-                .status(IngestStatus.SUCCEEDED)
-                .ingestionTimestampUTC(placeHolderKeyValues.get(BATCH_START_TS_PATTERN).value())
-                .ingestionEndTimestampUTC(placeHolderKeyValues.get(BATCH_END_TS_PATTERN).value())
-                .build();
-            results.add(result);
+            results.add(buildIngestorResult(datasets, dataSplitRange, schemaEvolutionResult, placeHolderKeyValues, statisticsResultMap));
             dataSplitIndex++;
         }
         while (planner.dataSplitExecutionSupported() && dataSplitIndex < dataSplitsCount);
@@ -181,7 +176,112 @@ public class IngestionUtils
         return results;
     }
 
+    /*
+    - Data splits can be ingested concurrently only when no split reads what an earlier split wrote,
+      i.e. when each split only appends its own versions to the main dataset
+    */
+    public static boolean dataSplitsIndependent(IngestMode ingestMode)
+    {
+        return ingestMode instanceof AppendOnly && !((AppendOnly) ingestMode).filterExistingRecords();
+    }
+
+    /*
+    - Ingest independent data splits concurrently, each split executor running its share of the splits in its own transaction.
+    - Batch ids and optimization filter bounds are planned once with the given executor, split i getting the batch id it would
+      have had when ingested serially. Transactions and the post actions are left to the caller, which commits the split
+      executors only if every split succeeded.
+    - The metadata rows are not written: each result is returned with the placeholder values of its metadata row, for the
+      caller to insert with insertMetadata once the data splits are committed.
+    */
+    public static List<Pair<IngestorResult, Map<String, PlaceholderValue>>> performParallelIngestion(Datasets datasets, Transformer<SqlGen, SqlPlan> transformer, Planner planner, Executor<SqlGen, TabularData, SqlPlan> executor,
+                                                                List<Executor<SqlGen, TabularData, SqlPlan>> splitExecutors, GeneratorResult generatorResult, List<DataSplitRange> dataSplitRanges,
+                                                                IngestMode ingestMode, SchemaEvolutionResult schemaEvolutionResult, Map<String, Object> additionalMetadata, Clock executionTimestampClock)
+    {
+        List<Optional<DataSplitRange>> dataSplits = (dataSplitRanges == null || dataSplitRanges.isEmpty())
+            ? Collections.singletonList(Optional.empty())
+            : dataSplitRanges.stream().map(Optional::of).collect(Collectors.toList());
+
+        Map<String, PlaceholderValue> plannedPlaceHolderKeyValues = extractPlaceHolderKeyValues(datasets, executor, planner, transformer, ingestMode, Optional.empty(), additionalMetadata, executionTimestampClock, Optional.empty());
+        Optional<Long> firstBatchId = Optional.ofNullable(plannedPlaceHolderKeyValues.get(BATCH_ID_PATTERN)).map(value -> Long.valueOf(value.value()));
+
+        int parallelism = Math.min(splitExecutors.size(), dataSplits.size());
+        LOGGER.info(String.format("Ingesting %d data splits with %d connections", dataSplits.size(), parallelism));
+        List<Pair<IngestorResult, Map<String, PlaceholderValue>>> results = new ArrayList<>(Collections.nCopies(dataSplits.size(), null));
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        try
+        {
+            CompletionService<Void> completionService = new ExecutorCompletionService<>(workers);
+            for (int worker = 0; worker < parallelism; worker++)
+            {
+                Executor<SqlGen, TabularData, SqlPlan> splitExecutor = splitExecutors.get(worker);
+                int firstSplit = worker;
+                completionService.submit(() ->
+                {
+                    for (int i = firstSplit; i < dataSplits.size(); i += parallelism)
+                    {
+                        Map<String, PlaceholderValue> placeHolderKeyValues = new HashMap<>(plannedPlaceHolderKeyValues);
+                        if (firstBatchId.isPresent())
+                        {
+                            placeHolderKeyValues.put(BATCH_ID_PATTERN, PlaceholderValue.of(String.valueOf(firstBatchId.get() + i), false));
+                        }
+                        putDataSplitPlaceHolderKeyValues(placeHolderKeyValues, planner, dataSplits.get(i));
+                        placeHolderKeyValues.put(BATCH_START_TS_PATTERN, PlaceholderValue.of(LocalDateTime.now(executionTimestampClock).format(DATE_TIME_FORMATTER), false));
+
+                        Map<StatisticName, Object> statisticsResultMap = ingestData(splitExecutor, generatorResult, placeHolderKeyValues, executionTimestampClock);
+                        results.set(i, Tuples.pair(buildIngestorResult(datasets, dataSplits.get(i), schemaEvolutionResult, placeHolderKeyValues, statisticsResultMap), placeHolderKeyValues));
+                    }
+                    return null;
+                });
+            }
+            // Fail as soon as any split fails rather than waiting for the other connections
+            for (int worker = 0; worker < parallelism; worker++)
+            {
+                completionService.take().get();
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while ingesting data splits", e);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+        finally
+        {
+            workers.shutdownNow();
+        }
+        return results;
+    }
+
+    private static IngestorResult buildIngestorResult(Datasets datasets, Optional<DataSplitRange> dataSplitRange, SchemaEvolutionResult schemaEvolutionResult,
+                                                      Map<String, PlaceholderValue> placeHolderKeyValues, Map<StatisticName, Object> statisticsResultMap)
+    {
+        return IngestorResult.builder()
+            .putAllStatisticByName(statisticsResultMap)
+            .updatedDatasets(datasets)
+            .batchId(Optional.ofNullable(placeHolderKeyValues.containsKey(BATCH_ID_PATTERN) ? Integer.valueOf(placeHolderKeyValues.get(BATCH_ID_PATTERN).value()) : null))
+            .dataSplitRange(dataSplitRange)
+            .schemaEvolutionSql(schemaEvolutionResult.schemaEvolutionSql())
+            .status(IngestStatus.SUCCEEDED)
+            .ingestionTimestampUTC(placeHolderKeyValues.get(BATCH_START_TS_PATTERN).value())
+            .ingestionEndTimestampUTC(placeHolderKeyValues.get(BATCH_END_TS_PATTERN).value())
+            .build();
+    }
+
     private static Map<StatisticName, Object> loadData(Executor<SqlGen, TabularData, SqlPlan> executor, GeneratorResult generatorResult, Map<String, PlaceholderValue> placeHolderKeyValues, Clock executionTimestampClock)
+    {
+        Map<StatisticName, Object> statisticsResultMap = ingestData(executor, generatorResult, placeHolderKeyValues, executionTimestampClock);
+        insertMetadata(executor, generatorResult, placeHolderKeyValues);
+        return statisticsResultMap;
+    }
+
+    private static Map<StatisticName, Object> ingestData(Executor<SqlGen, TabularData, SqlPlan> executor, GeneratorResult generatorResult, Map<String, PlaceholderValue> placeHolderKeyValues, Clock executionTimestampClock)
     {
         // Extract preIngest Statistics
         Map<StatisticName, Object> statisticsResultMap = new HashMap<>(
@@ -191,14 +291,17 @@ public class IngestionUtils
         // Extract postIngest Statistics
         statisticsResultMap.putAll(
             executeStatisticsPhysicalPlan(executor, generatorResult.postIngestStatisticsSqlPlan(), placeHolderKeyValues));
-        // Execute metadata ingest SqlPlan
-        // add batchEndTimestamp
+        // Prepare the metadata row: add batchEndTimestamp and statistics
         placeHolderKeyValues.put(BATCH_END_TS_PATTERN, PlaceholderValue.of(LocalDateTime.now(executionTimestampClock).format(DATE_TIME_FORMATTER), false));
         placeHolderKeyValues.put(MetadataUtils.BATCH_STATISTICS_PATTERN, PlaceholderValue.of(writeValueAsString(statisticsResultMap), false));
-        executor.executePhysicalPlan(generatorResult.metadataIngestSqlPlan(), placeHolderKeyValues);
         return statisticsResultMap;
     }
 
+    public static void insertMetadata(Executor<SqlGen, TabularData, SqlPlan> executor, GeneratorResult generatorResult, Map<String, PlaceholderValue> placeHolderKeyValues)
+    {
+        executor.executePhysicalPlan(generatorResult.metadataIngestSqlPlan(), placeHolderKeyValues);
+    }
+
     public static Map<StatisticName, Object> executeStatisticsPhysicalPlan(Executor<SqlGen, TabularData, SqlPlan> executor,
                                                                      Map<StatisticName, SqlPlan> statisticsSqlPlan,
                                                                      Map<String, PlaceholderValue> placeHolderKeyValues)
@@ -229,8 +332,7 @@ public class IngestionUtils
         {
             result = result.withSchemaEvolutionSql(schemaEvolutionResult.schemaEvolutionSql());
         }
-        // Execute metadata ingest SqlPlan
-        // add batchEndTimestamp
+        // Prepare the metadata row: add batchEndTimestamp and statistics
         placeHolderKeyValues.put(BATCH_END_TS_PATTERN, PlaceholderValue.of(result.ingestionEndTimestampUTC(), false));
         placeHolderKeyValues.put(BULK_LOAD_BATCH_STATUS_PATTERN, PlaceholderValue.of(result.status().name(), false));
         placeHolderKeyValues.put(MetadataUtils.BATCH_STATISTICS_PATTERN, PlaceholderValue.of(writeValueAsString(result.statisticByName()), false));
@@ -282,11 +384,7 @@ public class IngestionUtils
         }
 
         // Handle data splits
-        if (planner.dataSplitExecutionSupported() && dataSplitRange.isPresent())
-        {
-            placeHolderKeyValues.put(SINGLE_QUOTE + LogicalPlanUtils.DATA_SPLIT_LOWER_BOUND_PLACEHOLDER + SINGLE_QUOTE, PlaceholderValue.of(String.valueOf(dataSplitRange.get().lowerBound()), false));
-            placeHolderKeyValues.put(SINGLE_QUOTE + LogicalPlanUtils.DATA_SPLIT_UPPER_BOUND_PLACEHOLDER + SINGLE_QUOTE, PlaceholderValue.of(String.valueOf(dataSplitRange.get().upperBound()), false));
-        }
+        putDataSplitPlaceHolderKeyValues(placeHolderKeyValues, planner, dataSplitRange);
 
         // Handle additional metadata
         try
@@ -306,6 +404,15 @@ public class IngestionUtils
         return placeHolderKeyValues;
     }
 
+    private static void putDataSplitPlaceHolderKeyValues(Map<String, PlaceholderValue> placeHolderKeyValues, Planner planner, Optional<DataSplitRange> dataSplitRange)
+    {
+        if (planner.dataSplitExecutionSupported() && dataSplitRange.isPresent())
+        {
+            placeHolderKeyValues.put(SINGLE_QUOTE + LogicalPlanUtils.DATA_SPLIT_LOWER_BOUND_PLACEHOLDER + SINGLE_QUOTE, PlaceholderValue.of(String.valueOf(dataSplitRange.get().lowerBound()), false));
+            placeHolderKeyValues.put(SINGLE_QUOTE + LogicalPlanUtils.DATA_SPLIT_UPPER_BOUND_PLACEHOLDER + SINGLE_QUOTE, PlaceholderValue.of(String.valueOf(dataSplitRange.get().upperBound()), false));
+        }
+    }
+
     public static Optional<Long> getNextBatchId(Datasets datasets, Executor<SqlGen, TabularData, SqlPlan> executor,
                                           Transformer<SqlGen, SqlPlan> transformer)
     {
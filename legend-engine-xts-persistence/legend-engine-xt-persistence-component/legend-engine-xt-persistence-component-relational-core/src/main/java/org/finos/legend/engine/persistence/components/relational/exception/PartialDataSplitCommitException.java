@@ -0,0 +1,54 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.persistence.components.relational.exception;
+
+import org.finos.legend.engine.persistence.components.relational.api.DataSplitRange;
+import org.finos.legend.engine.persistence.components.exception.PersistenceException;
+
+import java.util.List;
+
+/*
+Raised when the transactions of some data split connections were committed, the ingestion then failed and the records of the
+committed data splits could not be deleted: the data splits committed are in the target dataset without metadata rows, the
+others are not.
+*/
+public class PartialDataSplitCommitException extends PersistenceException
+{
+    private final List<DataSplitRange> committedDataSplitRanges;
+    private final List<DataSplitRange> uncommittedDataSplitRanges;
+
+    public PartialDataSplitCommitException(List<DataSplitRange> committedDataSplitRanges, List<DataSplitRange> uncommittedDataSplitRanges, Throwable cause)
+    {
+        super(String.format("Data splits %s were committed but data splits %s could not be, and the committed data splits could not be deleted: the target dataset holds a partial ingestion", committedDataSplitRanges, uncommittedDataSplitRanges), cause);
+        this.committedDataSplitRanges = committedDataSplitRanges;
+        this.uncommittedDataSplitRanges = uncommittedDataSplitRanges;
+    }
+
+    public List<DataSplitRange> getCommittedDataSplitRanges()
+    {
+        return committedDataSplitRanges;
+    }
+
+    public List<DataSplitRange> getUncommittedDataSplitRanges()
+    {
+        return uncommittedDataSplitRanges;
+    }
+
+    @Override
+    public boolean isRecoverable()
+    {
+        return false;
+    }
+}
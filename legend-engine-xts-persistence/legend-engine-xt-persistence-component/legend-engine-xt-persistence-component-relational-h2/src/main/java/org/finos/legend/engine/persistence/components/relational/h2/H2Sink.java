@@ -126,6 +126,7 @@ public class H2Sink extends AnsiSqlSink
         capabilities.add(Capability.DATA_TYPE_SCALE_CHANGE);
         capabilities.add(Capability.TRANSFORM_WHILE_COPY);
         capabilities.add(Capability.DRY_RUN);
+        capabilities.add(Capability.PARALLEL_DATA_SPLIT_INGESTION);
         CAPABILITIES = Collections.unmodifiableSet(capabilities);
 
         Map<Class<?>, LogicalPlanVisitor<?>> logicalPlanVisitorByClass = new HashMap<>();
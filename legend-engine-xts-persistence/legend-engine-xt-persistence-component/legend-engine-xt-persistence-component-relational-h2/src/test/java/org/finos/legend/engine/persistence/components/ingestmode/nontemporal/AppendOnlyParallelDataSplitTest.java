@@ -0,0 +1,264 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.persistence.components.ingestmode.nontemporal;
+
+import org.finos.legend.engine.persistence.components.BaseTest;
+import org.finos.legend.engine.persistence.components.TestUtils;
+import org.finos.legend.engine.persistence.components.common.Datasets;
+import org.finos.legend.engine.persistence.components.ingestmode.AppendOnly;
+import org.finos.legend.engine.persistence.components.ingestmode.audit.DateTimeAuditing;
+import org.finos.legend.engine.persistence.components.ingestmode.deduplication.FilterDuplicates;
+import org.finos.legend.engine.persistence.components.ingestmode.digest.UserProvidedDigestGenStrategy;
+import org.finos.legend.engine.persistence.components.ingestmode.versioning.AllVersionsStrategy;
+import org.finos.legend.engine.persistence.components.ingestmode.versioning.DigestBasedResolver;
+import org.finos.legend.engine.persistence.components.logicalplan.datasets.DatasetDefinition;
+import org.finos.legend.engine.persistence.components.relational.api.IngestorResult;
+import org.finos.legend.engine.persistence.components.relational.api.RelationalConnection;
+import org.finos.legend.engine.persistence.components.relational.api.RelationalIngestor;
+import org.finos.legend.engine.persistence.components.relational.h2.H2Sink;
+import org.finos.legend.engine.persistence.components.relational.exception.PartialDataSplitCommitException;
+import org.finos.legend.engine.persistence.components.relational.jdbc.JdbcConnection;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.finos.legend.engine.persistence.components.TestUtils.batchIdName;
+import static org.finos.legend.engine.persistence.components.TestUtils.batchUpdateTimeName;
+import static org.finos.legend.engine.persistence.components.TestUtils.dataSplitName;
+import static org.finos.legend.engine.persistence.components.TestUtils.digestName;
+import static org.finos.legend.engine.persistence.components.TestUtils.expiryDateName;
+import static org.finos.legend.engine.persistence.components.TestUtils.idName;
+import static org.finos.legend.engine.persistence.components.TestUtils.incomeName;
+import static org.finos.legend.engine.persistence.components.TestUtils.nameName;
+import static org.finos.legend.engine.persistence.components.TestUtils.startTimeName;
+import static org.finos.legend.engine.persistence.components.TestUtils.versionName;
+
+class AppendOnlyParallelDataSplitTest extends BaseTest
+{
+    private final String basePath = "src/test/resources/data/incremental-append-milestoning/";
+
+    /*
+    Scenario: With Auditing, AllVersion, Filter Duplicates, no filter existing - 3 data splits ingested by 2 data split connections
+    */
+    @Test
+    void testAppendOnlyWithParallelDataSplits() throws Exception
+    {
+        DatasetDefinition mainTable = TestUtils.getDefaultMainTable();
+        DatasetDefinition stagingTable = TestUtils.getStagingTableWithNonPkVersion();
+
+        // Create staging table
+        createStagingTableWithoutPks(stagingTable);
+
+        Datasets datasets = Datasets.of(mainTable, stagingTable);
+        String[] schema = new String[]{idName, nameName, incomeName, startTimeName, expiryDateName, digestName, versionName, batchUpdateTimeName, batchIdName};
+
+        String dataPass1 = basePath + "input/parallel_data_splits/data_pass1.csv";
+        String expectedDataPass1 = basePath + "expected/parallel_data_splits/expected_pass1.csv";
+        // 1. Load staging table
+        loadStagingDataWithVersion(dataPass1);
+
+        // 2. Execute the data splits in parallel
+        List<IngestorResult> results;
+        List<Connection> connections = new ArrayList<>();
+        try
+        {
+            List<RelationalConnection> dataSplitConnections = new ArrayList<>();
+            for (int i = 0; i < 2; i++)
+            {
+                Connection connection = H2Sink.createConnection(H2_USER_NAME, H2_PASSWORD, H2_JDBC_URL);
+                connections.add(connection);
+                dataSplitConnections.add(JdbcConnection.of(connection));
+            }
+            results = ingestor(appendOnly(false)).performFullIngestionWithParallelDataSplits(JdbcConnection.of(h2Sink.connection()), dataSplitConnections, datasets);
+        }
+        finally
+        {
+            for (Connection connection : connections)
+            {
+                connection.close();
+            }
+        }
+
+        // 3. Verify the data, the batch ids are the ones a serial ingestion would have used
+        List<Map<String, Object>> tableData = h2Sink.executeQuery("select * from \"TEST\".\"main\" order by \"batch_id\", \"id\"");
+        TestUtils.assertFileAndTableDataEquals(schema, expectedDataPass1, tableData);
+
+        Assertions.assertEquals(3, results.size());
+        int[] incomingRecordCounts = new int[]{4, 2, 1};
+        for (int i = 0; i < results.size(); i++)
+        {
+            IngestorResult result = results.get(i);
+            Assertions.assertEquals(i + 1, result.batchId().get());
+            Assertions.assertEquals(i + 1, result.dataSplitRange().get().lowerBound());
+            Assertions.assertEquals(i + 1, result.dataSplitRange().get().upperBound());
+            verifyStats(createExpectedStatsMap(incomingRecordCounts[i], 0, incomingRecordCounts[i], 0, 0), result.statisticByName());
+        }
+
+        List<Map<String, Object>> metadata = h2Sink.executeQuery("select \"table_batch_id\", \"batch_status\" from \"batch_metadata\" order by \"table_batch_id\"");
+        Assertions.assertEquals(3, metadata.size());
+        for (int i = 0; i < metadata.size(); i++)
+        {
+            Assertions.assertEquals(i + 1, metadata.get(i).get("table_batch_id"));
+            Assertions.assertEquals("SUCCEEDED", metadata.get(i).get("batch_status"));
+        }
+    }
+
+    /*
+    Scenario: 3 data splits ingested by 2 data split connections, the commit of the second connection fails after the first
+    connection committed data splits 1 and 3, then the request is retried
+    */
+    @Test
+    void testPartialCommitOfParallelDataSplitsCanBeRetried() throws Exception
+    {
+        DatasetDefinition mainTable = TestUtils.getDefaultMainTable();
+        DatasetDefinition stagingTable = TestUtils.getStagingTableWithNonPkVersion();
+        createStagingTableWithoutPks(stagingTable);
+        Datasets datasets = Datasets.of(mainTable, stagingTable);
+        String[] schema = new String[]{idName, nameName, incomeName, startTimeName, expiryDateName, digestName, versionName, batchUpdateTimeName, batchIdName};
+        loadStagingDataWithVersion(basePath + "input/parallel_data_splits/data_pass1.csv");
+        RelationalIngestor ingestor = RelationalIngestor.builder()
+            .ingestMode(appendOnly(false))
+            .relationalSink(H2Sink.get())
+            .executionTimestampClock(fixedClock_2000_01_01)
+            .collectStatistics(true)
+            .enableConcurrentSafety(true)
+            .ingestRequestId("REQUEST1")
+            .enableIdempotencyCheck(true)
+            .build();
+
+        // 1. The commit of the second connection fails: the data split committed by the first connection is deleted
+        List<Connection> connections = new ArrayList<>();
+        try
+        {
+            Connection committingConnection = H2Sink.createConnection(H2_USER_NAME, H2_PASSWORD, H2_JDBC_URL);
+            Connection failingConnection = H2Sink.createConnection(H2_USER_NAME, H2_PASSWORD, H2_JDBC_URL);
+            connections.add(committingConnection);
+            connections.add(failingConnection);
+            List<RelationalConnection> dataSplitConnections = Arrays.asList(JdbcConnection.of(committingConnection), JdbcConnection.of(failingOnCommit(failingConnection)));
+            RuntimeException e = Assertions.assertThrows(RuntimeException.class,
+                () -> ingestor.performFullIngestionWithParallelDataSplits(JdbcConnection.of(h2Sink.connection()), dataSplitConnections, datasets));
+            Assertions.assertFalse(e instanceof PartialDataSplitCommitException);
+        }
+        finally
+        {
+            for (Connection connection : connections)
+            {
+                connection.close();
+            }
+        }
+        Assertions.assertTrue(h2Sink.executeQuery("select * from \"TEST\".\"main\"").isEmpty());
+        Assertions.assertTrue(h2Sink.executeQuery("select * from \"batch_metadata\"").isEmpty());
+
+        // 2. The retry ingests every data split
+        List<IngestorResult> results;
+        connections.clear();
+        try
+        {
+            List<RelationalConnection> dataSplitConnections = new ArrayList<>();
+            for (int i = 0; i < 2; i++)
+            {
+                Connection connection = H2Sink.createConnection(H2_USER_NAME, H2_PASSWORD, H2_JDBC_URL);
+                connections.add(connection);
+                dataSplitConnections.add(JdbcConnection.of(connection));
+            }
+            results = ingestor.performFullIngestionWithParallelDataSplits(JdbcConnection.of(h2Sink.connection()), dataSplitConnections, datasets);
+        }
+        finally
+        {
+            for (Connection connection : connections)
+            {
+                connection.close();
+            }
+        }
+
+        Assertions.assertEquals(3, results.size());
+        Assertions.assertFalse(results.stream().anyMatch(IngestorResult::previouslyProcessed));
+        List<Map<String, Object>> tableData = h2Sink.executeQuery("select * from \"TEST\".\"main\" order by \"batch_id\", \"id\"");
+        TestUtils.assertFileAndTableDataEquals(schema, basePath + "expected/parallel_data_splits/expected_pass1.csv", tableData);
+        List<Map<String, Object>> metadata = h2Sink.executeQuery("select \"table_batch_id\", \"ingest_request_id\" from \"batch_metadata\" order by \"table_batch_id\"");
+        Assertions.assertEquals(3, metadata.size());
+        for (int i = 0; i < metadata.size(); i++)
+        {
+            Assertions.assertEquals(i + 1, metadata.get(i).get("table_batch_id"));
+            Assertions.assertEquals("REQUEST1", metadata.get(i).get("ingest_request_id"));
+        }
+    }
+
+    @Test
+    void testParallelDataSplitsNotSupportedWithFilterExistingRecords()
+    {
+        Datasets datasets = Datasets.of(TestUtils.getDefaultMainTable(), TestUtils.getStagingTableWithNonPkVersion());
+        RelationalIngestor ingestor = ingestor(appendOnly(true));
+        List<RelationalConnection> dataSplitConnections = Collections.singletonList(JdbcConnection.of(h2Sink.connection()));
+
+        UnsupportedOperationException e = Assertions.assertThrows(UnsupportedOperationException.class,
+            () -> ingestor.performFullIngestionWithParallelDataSplits(JdbcConnection.of(h2Sink.connection()), dataSplitConnections, datasets));
+        Assertions.assertEquals("Parallel data split ingestion not supported for this ingest Mode : AppendOnly", e.getMessage());
+    }
+
+    private static Connection failingOnCommit(Connection connection)
+    {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) ->
+        {
+            if ("commit".equals(method.getName()))
+            {
+                throw new SQLException("Commit failed", "08006");
+            }
+            try
+            {
+                return method.invoke(connection, args);
+            }
+            catch (InvocationTargetException e)
+            {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private AppendOnly appendOnly(boolean filterExistingRecords)
+    {
+        return AppendOnly.builder()
+            .digestGenStrategy(UserProvidedDigestGenStrategy.builder().digestField(digestName).build())
+            .deduplicationStrategy(FilterDuplicates.builder().build())
+            .versioningStrategy(AllVersionsStrategy.builder()
+                .versioningField(versionName)
+                .dataSplitFieldName(dataSplitName)
+                .mergeDataVersionResolver(DigestBasedResolver.INSTANCE)
+                .performStageVersioning(true)
+                .build())
+            .auditing(DateTimeAuditing.builder().dateTimeField(batchUpdateTimeName).build())
+            .filterExistingRecords(filterExistingRecords)
+            .build();
+    }
+
+    private RelationalIngestor ingestor(AppendOnly ingestMode)
+    {
+        return RelationalIngestor.builder()
+            .ingestMode(ingestMode)
+            .relationalSink(H2Sink.get())
+            .executionTimestampClock(fixedClock_2000_01_01)
+            .collectStatistics(true)
+            .build();
+    }
+}
@@ -167,6 +167,7 @@ public class SnowflakeSink extends AnsiSqlSink
         capabilities.add(Capability.DATA_TYPE_LENGTH_CHANGE);
         capabilities.add(Capability.TRANSFORM_WHILE_COPY);
         capabilities.add(Capability.DRY_RUN);
+        capabilities.add(Capability.PARALLEL_DATA_SPLIT_INGESTION);
         CAPABILITIES = Collections.unmodifiableSet(capabilities);
 
         Map<Class<?>, LogicalPlanVisitor<?>> logicalPlanVisitorByClass = new HashMap<>();
@@ -14,15 +14,54 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.postgres;
 
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.ImmutableMap;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.Column;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.IngestionMethod;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommands;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommandsVisitor;
+import org.postgresql.PGConnection;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class PostgresCommands extends RelationalDatabaseCommands
 {
+    // Legend relational types and JDBC type names which Postgres spells differently, any size or precision is dropped
+    private static final ImmutableMap<String, String> columnTypeToSqlTextMap = Maps.mutable.<String, String>empty()
+            .withKeyValue("BIT", "BOOLEAN")
+            .withKeyValue("TINYINT", "SMALLINT")
+            .withKeyValue("INT", "INTEGER")
+            .withKeyValue("FLOAT", "DOUBLE PRECISION")
+            .withKeyValue("DOUBLE", "DOUBLE PRECISION")
+            .withKeyValue("LONGVARCHAR", "TEXT")
+            .withKeyValue("LONGNVARCHAR", "TEXT")
+            .withKeyValue("CLOB", "TEXT")
+            .withKeyValue("NCLOB", "TEXT")
+            .withKeyValue("BINARY", "BYTEA")
+            .withKeyValue("VARBINARY", "BYTEA")
+            .withKeyValue("LONGVARBINARY", "BYTEA")
+            .withKeyValue("BLOB", "BYTEA")
+            .withKeyValue("SEMISTRUCTURED", "JSONB")
+            .withKeyValue("VARIANT", "JSONB")
+            .withKeyValue("TIMESTAMP_WITH_TIMEZONE", "TIMESTAMP WITH TIME ZONE")
+            .withKeyValue("TIME_WITH_TIMEZONE", "TIME WITH TIME ZONE")
+            .toImmutable();
+    // types whose size or precision is kept, under the Postgres name
+    private static final ImmutableMap<String, String> sizedColumnTypeToSqlTextMap = Maps.mutable.<String, String>empty()
+            .withKeyValue("CHAR", "CHAR")
+            .withKeyValue("NCHAR", "CHAR")
+            .withKeyValue("VARCHAR", "VARCHAR")
+            .withKeyValue("NVARCHAR", "VARCHAR")
+            .withKeyValue("DECIMAL", "DECIMAL")
+            .withKeyValue("NUMERIC", "NUMERIC")
+            .toImmutable();
+
     @Override
     public String dropTempTable(String tableName)
     {
@@ -35,10 +74,40 @@ public class PostgresCommands extends RelationalDatabaseCommands
         throw new UnsupportedOperationException("not yet implemented");
     }
 
+    @Override
+    public String createTempTable(String tableName, List<Column> columns)
+    {
+        return "CREATE TEMPORARY TABLE " + tableName + " " + columns.stream().map(c -> c.name + " " + toPostgresType(c.type)).collect(Collectors.joining(", ", "(", ")"));
+    }
+
+    static String toPostgresType(String type)
+    {
+        int sizeStart = type.indexOf('(');
+        String name = (sizeStart == -1 ? type : type.substring(0, sizeStart)).trim().toUpperCase();
+        String sized = sizedColumnTypeToSqlTextMap.get(name);
+        if (sized != null)
+        {
+            return sizeStart == -1 ? sized : sized + type.substring(sizeStart);
+        }
+        return columnTypeToSqlTextMap.getIfAbsentValue(name, type);
+    }
+
+    @Override
+    public void createAndStreamLoadTempTable(Connection connection, String tableName, List<Column> columns, InputStream csv) throws SQLException, IOException
+    {
+        try (Statement statement = connection.createStatement())
+        {
+            statement.execute(this.createTempTable(tableName, columns));
+        }
+        // as with CSVREAD from a temp file, unquoted empty values are nulls and quoted ones are empty strings
+        String copy = "COPY " + tableName + " FROM STDIN WITH (FORMAT csv, HEADER " + this.supportsHeaderOnCsvFile() + ")";
+        connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copy, csv);
+    }
+
     @Override
     public IngestionMethod getDefaultIngestionMethod()
     {
-        throw new UnsupportedOperationException("not yet implemented");
+        return IngestionMethod.CLIENT_STREAM;
     }
 
     @Override
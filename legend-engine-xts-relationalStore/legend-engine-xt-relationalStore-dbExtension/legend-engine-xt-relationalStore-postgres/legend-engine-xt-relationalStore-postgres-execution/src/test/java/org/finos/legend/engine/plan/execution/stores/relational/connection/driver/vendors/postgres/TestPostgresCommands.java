@@ -0,0 +1,131 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.postgres;
+
+import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.Column;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+public class TestPostgresCommands
+{
+    private static PostgreSQLContainer<?> postgreSQLContainer;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        if (DockerClientFactory.instance().isDockerAvailable())
+        {
+            postgreSQLContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres").withTag("16.10"));
+            postgreSQLContainer.start();
+        }
+    }
+
+    @AfterClass
+    public static void tearDown()
+    {
+        if (postgreSQLContainer != null)
+        {
+            postgreSQLContainer.stop();
+        }
+    }
+
+    @Test
+    public void testCreateTempTableMapsLegendTypes()
+    {
+        List<Column> columns = Lists.mutable.with(
+                new Column("a", "BIT"),
+                new Column("b", "TINYINT"),
+                new Column("c", "INT"),
+                new Column("d", "DOUBLE"),
+                new Column("e", "FLOAT"),
+                new Column("f", "VARCHAR(1000)"),
+                new Column("g", "NVARCHAR(20)"),
+                new Column("h", "DECIMAL(10, 2)"),
+                new Column("i", "TIMESTAMP"),
+                new Column("j", "DATE"),
+                new Column("k", "VARBINARY(16)"),
+                new Column("l", "SEMISTRUCTURED"),
+                new Column("m", "TIMESTAMP WITH TIME ZONE"));
+        Assert.assertEquals("CREATE TEMPORARY TABLE temp_1 (a BOOLEAN, b SMALLINT, c INTEGER, d DOUBLE PRECISION, e DOUBLE PRECISION, f VARCHAR(1000), g VARCHAR(20), h DECIMAL(10, 2), " +
+                        "i TIMESTAMP, j DATE, k BYTEA, l JSONB, m TIMESTAMP WITH TIME ZONE)",
+                new PostgresCommands().createTempTable("temp_1", columns));
+    }
+
+    @Test
+    public void testCreateAndStreamLoadTempTable() throws Exception
+    {
+        Assume.assumeTrue("Docker is required to load temp tables into Postgres", postgreSQLContainer != null);
+        String csv = "\"flag\",\"tiny\",\"amount\",\"total\",\"ratio\",\"price\",\"name\",\"created\",\"day\"\n" +
+                "true,1,100,10000000000,0.5,12.34,\"a, \"\"quoted\"\" name\",2020-01-01 10:00:00.000,2020-01-01\n" +
+                "false,,,,,,\"\",,\n";
+        List<Column> columns = Lists.mutable.with(
+                new Column("flag", "BIT"),
+                new Column("tiny", "TINYINT"),
+                new Column("amount", "INT"),
+                new Column("total", "BIGINT"),
+                new Column("ratio", "DOUBLE"),
+                new Column("price", "DECIMAL(10,2)"),
+                new Column("name", "VARCHAR(100)"),
+                new Column("created", "TIMESTAMP"),
+                new Column("day", "DATE"));
+
+        try (Connection connection = DriverManager.getConnection(postgreSQLContainer.getJdbcUrl(), postgreSQLContainer.getUsername(), postgreSQLContainer.getPassword());
+             Statement statement = connection.createStatement())
+        {
+            new PostgresCommands().createAndStreamLoadTempTable(connection, "temp_1", columns, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+            try (ResultSet resultSet = statement.executeQuery("select flag, tiny, amount, total, ratio, price, name, created, day from temp_1 order by flag desc"))
+            {
+                resultSet.next();
+                Assert.assertTrue(resultSet.getBoolean(1));
+                Assert.assertEquals(1, resultSet.getShort(2));
+                Assert.assertEquals(100, resultSet.getInt(3));
+                Assert.assertEquals(10000000000L, resultSet.getLong(4));
+                Assert.assertEquals(0.5, resultSet.getDouble(5), 0);
+                Assert.assertEquals(new BigDecimal("12.34"), resultSet.getBigDecimal(6));
+                Assert.assertEquals("a, \"quoted\" name", resultSet.getString(7));
+                Assert.assertEquals("2020-01-01 10:00:00.0", resultSet.getTimestamp(8).toString());
+                Assert.assertEquals("2020-01-01", resultSet.getDate(9).toString());
+                resultSet.next();
+                Assert.assertFalse(resultSet.getBoolean(1));
+                for (int i = 2; i <= 6; i++)
+                {
+                    Assert.assertNull(resultSet.getObject(i));
+                }
+                // a quoted empty value is an empty string
+                Assert.assertEquals("", resultSet.getString(7));
+                Assert.assertNull(resultSet.getObject(8));
+                Assert.assertNull(resultSet.getObject(9));
+                Assert.assertFalse(resultSet.next());
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.snowflake;
 
+import net.snowflake.client.jdbc.SnowflakeConnection;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.QuoteMode;
 import org.eclipse.collections.api.factory.Maps;
@@ -23,6 +24,10 @@ import org.finos.legend.engine.plan.execution.stores.relational.connection.drive
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommands;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommandsVisitor;
 
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -72,6 +77,21 @@ public class SnowflakeCommands extends RelationalDatabaseCommands
         return strings;
     }
 
+    @Override
+    public void createAndStreamLoadTempTable(Connection connection, String tableName, List<Column> columns, InputStream csv) throws SQLException
+    {
+        String stagePath = tableName.substring(tableName.lastIndexOf('.') + 1);
+        try (Statement statement = connection.createStatement())
+        {
+            statement.execute("CREATE TEMPORARY TABLE " + tableName + " " + columns.stream().map(c -> c.name + " " + columnTypeToSqlTextMap.getIfAbsentValue(c.type, c.type)).collect(Collectors.joining(",", "(", ")")));
+            statement.execute("CREATE OR REPLACE TEMPORARY STAGE " + tempStageName());
+            // the driver puts the stream on the stage, compressed, as the PUT of a client file would
+            connection.unwrap(SnowflakeConnection.class).uploadStream(tempStageName(), stagePath, csv, stagePath + ".csv", true);
+            statement.execute("COPY INTO " + tableName + " FROM @" + tempStageName() + "/" + stagePath + " file_format = (type = CSV field_optionally_enclosed_by= '\"')");
+            statement.execute("DROP STAGE " + tempStageName());
+        }
+    }
+
     @Override
     public String createTempTable(String tableName, List<Column> columns)
     {
@@ -81,7 +101,7 @@ public class SnowflakeCommands extends RelationalDatabaseCommands
     @Override
     public IngestionMethod getDefaultIngestionMethod()
     {
-        return IngestionMethod.CLIENT_FILE;
+        return IngestionMethod.CLIENT_STREAM;
     }
 
     public boolean supportsHeaderOnCsvFile()
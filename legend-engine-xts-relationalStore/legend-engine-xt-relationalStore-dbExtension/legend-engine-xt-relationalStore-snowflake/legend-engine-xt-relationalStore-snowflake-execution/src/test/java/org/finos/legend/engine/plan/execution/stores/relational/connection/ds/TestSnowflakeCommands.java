@@ -17,14 +17,23 @@ package org.finos.legend.engine.plan.execution.stores.relational.connection.ds;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.apache.commons.csv.QuoteMode;
+import net.snowflake.client.jdbc.SnowflakeConnection;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.impl.factory.Lists;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.Column;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.IngestionMethod;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.snowflake.SnowflakeCommands;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.List;
 
@@ -82,4 +91,66 @@ public class TestSnowflakeCommands
                         + "\"x\",\"y\",\"z\",\"0\",\"plain\"\r\n";
         assertEquals(expected, out.toString());
     }
+
+    @Test
+    public void testTempTableStreamLoad() throws Exception
+    {
+        SnowflakeCommands snowflakeCommands = new SnowflakeCommands();
+        assertEquals(IngestionMethod.CLIENT_STREAM, snowflakeCommands.getDefaultIngestionMethod());
+
+        List<String> sqlStatements = Lists.mutable.empty();
+        List<String> uploads = Lists.mutable.empty();
+        Statement statement = proxy(Statement.class, (method, args) ->
+        {
+            if (method.getName().equals("execute"))
+            {
+                sqlStatements.add((String) args[0]);
+                return false;
+            }
+            return null;
+        });
+        SnowflakeConnection snowflakeConnection = proxy(SnowflakeConnection.class, (method, args) ->
+        {
+            if (method.getName().equals("uploadStream"))
+            {
+                uploads.add(args[0] + " " + args[1] + " " + args[3] + " " + args[4] + " " + read((InputStream) args[2]));
+            }
+            return null;
+        });
+        Connection connection = proxy(Connection.class, (method, args) -> method.getName().equals("unwrap") ? snowflakeConnection : statement);
+
+        List<Column> columns = Lists.mutable.of(new Column("a", "VARCHAR(100)"), new Column("c", "BIT"));
+        snowflakeCommands.createAndStreamLoadTempTable(connection, "LEGEND_TEMP_DB.LEGEND_TEMP_SCHEMA.temp_1", columns, new ByteArrayInputStream("\"x\",\"true\"\r\n".getBytes()));
+
+        ImmutableList<String> expectedSQLStatements = Lists.immutable.of(
+                "CREATE TEMPORARY TABLE LEGEND_TEMP_DB.LEGEND_TEMP_SCHEMA.temp_1 (a VARCHAR(100),c BOOLEAN)",
+                "CREATE OR REPLACE TEMPORARY STAGE LEGEND_TEMP_DB.LEGEND_TEMP_SCHEMA.LEGEND_TEMP_STAGE",
+                "COPY INTO LEGEND_TEMP_DB.LEGEND_TEMP_SCHEMA.temp_1 FROM @LEGEND_TEMP_DB.LEGEND_TEMP_SCHEMA.LEGEND_TEMP_STAGE/temp_1 file_format = (type = CSV field_optionally_enclosed_by= '\"')",
+                "DROP STAGE LEGEND_TEMP_DB.LEGEND_TEMP_SCHEMA.LEGEND_TEMP_STAGE"
+        );
+        assertEquals(expectedSQLStatements, sqlStatements);
+        assertEquals(Lists.immutable.of("LEGEND_TEMP_DB.LEGEND_TEMP_SCHEMA.LEGEND_TEMP_STAGE temp_1 temp_1.csv true \"x\",\"true\"\r\n"), uploads);
+    }
+
+    private static String read(InputStream stream) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int read;
+        while ((read = stream.read()) != -1)
+        {
+            bytes.write(read);
+        }
+        return bytes.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Invocation invocation)
+    {
+        return (T) Proxy.newProxyInstance(TestSnowflakeCommands.class.getClassLoader(), new Class[]{type}, (p, method, args) -> invocation.invoke(method, args));
+    }
+
+    private interface Invocation
+    {
+        Object invoke(Method method, Object[] args) throws Exception;
+    }
 }
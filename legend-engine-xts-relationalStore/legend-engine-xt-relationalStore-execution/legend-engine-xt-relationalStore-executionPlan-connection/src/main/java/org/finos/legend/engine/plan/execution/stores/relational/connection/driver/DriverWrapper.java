@@ -70,9 +70,13 @@ public abstract class DriverWrapper implements Driver
             {
                 throw new IllegalStateException("Cannot find state for pool " + poolName);
             }
+            long start = System.nanoTime();
             Pair<String, Properties> res = ds.getAuthenticationStrategy().handleConnection(url, info, ds.getDatabaseManager());
+            long handled = System.nanoTime();
+            ds.getStatistics().recordCredentialAcquisition(handled - start);
             LOGGER.info("Handled connection by [{}] Authentication strategy for [{}]", ds.getAuthenticationStrategy().getKey().shortId(), poolName);
             Connection dbConnection = driver.connect(res.getOne(), handlePropertiesPriorToJDBCDriverConnection(res.getTwo()));
+            ds.getStatistics().recordConnectionBuild(System.nanoTime() - handled);
             LOGGER.info("[{}] Driver connected ", driver.getClass().getCanonicalName());
             int builtConnections = ds.buildConnection();
             LOGGER.info("Total [{}] connections built for data source [{}]", builtConnections, poolName);
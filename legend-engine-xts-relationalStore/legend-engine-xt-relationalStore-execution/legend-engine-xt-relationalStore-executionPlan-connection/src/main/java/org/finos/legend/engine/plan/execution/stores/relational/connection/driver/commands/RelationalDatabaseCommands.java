@@ -16,6 +16,13 @@ package org.finos.legend.engine.plan.execution.stores.relational.connection.driv
 
 import org.apache.commons.csv.CSVFormat;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
 import java.util.List;
 
 public abstract class RelationalDatabaseCommands
@@ -29,6 +36,15 @@ public abstract class RelationalDatabaseCommands
 
     public abstract List<String> createAndLoadTempTable(String tableName, List<Column> columns, String optionalCSVFileLocation);
 
+    /**
+     * Create a temp table and load it from the CSV the temp file would have been made of, as it is written (used with the
+     * CLIENT_STREAM ingestion method). The CSV is in the temp file format, with a header if supported.
+     */
+    public void createAndStreamLoadTempTable(Connection connection, String tableName, List<Column> columns, InputStream csv) throws SQLException, IOException
+    {
+        throw new RuntimeException("Streaming load not implemented for " + this.getClass().getSimpleName());
+    }
+
     public abstract <T> T accept(RelationalDatabaseCommandsVisitor<T> visitor);
 
     public String load(String tableName, String location)
@@ -63,6 +79,36 @@ public abstract class RelationalDatabaseCommands
         throw new RuntimeException("Create Temp not implemented for " + this.getClass().getSimpleName());
     }
 
+    /**
+     * Insert rows in batches of prepared statement parameters, leaving the conversion of the values to the column types
+     * to the database. The rows are read as strings, so that null and empty values are inserted as they were read.
+     */
+    protected void batchInsert(Connection connection, String tableName, int columnCount, ResultSet rows, int batchSize) throws SQLException
+    {
+        String insert = "INSERT INTO " + tableName + " VALUES (" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        try (PreparedStatement statement = connection.prepareStatement(insert))
+        {
+            int batched = 0;
+            while (rows.next())
+            {
+                for (int i = 1; i <= columnCount; i++)
+                {
+                    statement.setString(i, rows.getString(i));
+                }
+                statement.addBatch();
+                if (++batched == batchSize)
+                {
+                    statement.executeBatch();
+                    batched = 0;
+                }
+            }
+            if (batched > 0)
+            {
+                statement.executeBatch();
+            }
+        }
+    }
+
 //    public void buildTempTableFromResult(RelationalExecutionConfiguration config, Connection connection, StreamingResult result, String tableName)
 //    {
 //        buildTempTableFromResult(config, connection, result, tableName, this.getDefaultIngestionMethod());
@@ -20,13 +20,23 @@ import org.finos.legend.engine.plan.execution.stores.relational.connection.drive
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommands;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommandsVisitor;
 import org.finos.legend.engine.shared.core.util.ResourceHelpers;
+import org.h2.tools.Csv;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public class H2Commands extends RelationalDatabaseCommands
 {
+    private static final int STREAM_LOAD_BATCH_SIZE = 1000;
 
     @Override
     public String createTempTable(String tableName, List<Column> columns)
@@ -46,6 +56,21 @@ public class H2Commands extends RelationalDatabaseCommands
         return Lists.mutable.with("CREATE LOCAL TEMPORARY TABLE " + tableName + "(" + columns.stream().map(c -> c.name + " " + c.type).collect(Collectors.joining(", ")) + ") AS SELECT * FROM CSVREAD('" + optionalCSVFileLocation + "');");
     }
 
+    @Override
+    public void createAndStreamLoadTempTable(Connection connection, String tableName, List<Column> columns, InputStream csv) throws SQLException, IOException
+    {
+        // CSVREAD only reads files, the rows are inserted as they are read instead. They are read with the CSV reader of
+        // CSVREAD, so that empty values are nulls when unquoted and empty strings when quoted, as when loaded from a file
+        try (Statement statement = connection.createStatement())
+        {
+            statement.execute(this.createTempTable(tableName, columns));
+        }
+        try (ResultSet rows = new Csv().read(new InputStreamReader(csv, StandardCharsets.UTF_8), null))
+        {
+            this.batchInsert(connection, tableName, columns.size(), rows, STREAM_LOAD_BATCH_SIZE);
+        }
+    }
+
     @Override
     public IngestionMethod getDefaultIngestionMethod()
     {
@@ -64,6 +64,9 @@ public abstract class DataSourceSpecification
 
     public static MetricRegistry METRIC_REGISTRY;
 
+    // set while a pool is warmed up, whose connections are not user requests and are kept out of the pool statistics
+    private static final ThreadLocal<Boolean> WARMING_UP = ThreadLocal.withInitial(() -> false);
+
     static
     {
         //house keeper frequency can only be altered via system property and will affect all pools!!
@@ -162,6 +165,19 @@ public abstract class DataSourceSpecification
         return getConnection(identityState, dataSourceBuilder);
     }
 
+    public Connection getWarmUpConnectionUsingIdentity(Identity identity, Optional<CredentialSupplier> databaseCredentialSupplierHolder)
+    {
+        WARMING_UP.set(true);
+        try
+        {
+            return this.getConnectionUsingIdentity(identity, databaseCredentialSupplierHolder);
+        }
+        finally
+        {
+            WARMING_UP.remove();
+        }
+    }
+
     public Connection getConnectionForTests(IdentityState identityState, Supplier<DataSource> dataSourcePoolBuilder)
     {
         return getConnection(identityState, dataSourcePoolBuilder);
@@ -184,9 +200,17 @@ public abstract class DataSourceSpecification
                 // Logs and traces and stats -----
                 String poolName = dataSourceWithStatistics.getPoolName();
                 scope.span().setTag("Pool", poolName);
+                if (WARMING_UP.get())
+                {
+                    return authenticationStrategy.getConnection(dataSourceWithStatistics, identityState.getIdentity());
+                }
                 int requests = dataSourceWithStatistics.requestConnection();
                 LOGGER.info("Principal [{}] has requested [{}] connections for pool [{}]", principal, requests, poolName);
-                return authenticationStrategy.getConnection(dataSourceWithStatistics, identityState.getIdentity());
+                boolean poolSaturated = dataSourceWithStatistics.isSaturated();
+                long start = System.nanoTime();
+                Connection connection = authenticationStrategy.getConnection(dataSourceWithStatistics, identityState.getIdentity());
+                dataSourceWithStatistics.getStatistics().recordConnectionAcquisition(System.nanoTime() - start, poolSaturated);
+                return connection;
             }
             catch (ConnectionException ce)
             {
@@ -18,7 +18,9 @@ import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.st
 
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 public class DataSourceStatistics
 {
@@ -27,6 +29,13 @@ public class DataSourceStatistics
     private final AtomicInteger connectionErrors;
     private final AtomicLong firstConnectionRequest;
     private AtomicLong lastConnectionRequest;
+    // time to get a connection from the pool, waiting for one to be free or built when the pool is saturated
+    private final LatencyStatistics connectionAcquisitions = new LatencyStatistics();
+    private final LongAdder saturatedConnectionRequests = new LongAdder();
+    // time to open a physical connection (network, TLS and database authentication handshakes)
+    private final LatencyStatistics connectionBuilds = new LatencyStatistics();
+    // time for the authentication strategy to get the credentials of a physical connection
+    private final LatencyStatistics credentialAcquisitions = new LatencyStatistics();
 
     public DataSourceStatistics()
     {
@@ -108,6 +117,73 @@ public class DataSourceStatistics
         return this.connectionErrors.get();
     }
 
+    public void recordConnectionAcquisition(long durationInNanos, boolean poolSaturated)
+    {
+        this.connectionAcquisitions.record(durationInNanos);
+        if (poolSaturated)
+        {
+            this.saturatedConnectionRequests.increment();
+        }
+    }
+
+    public void recordConnectionBuild(long durationInNanos)
+    {
+        this.connectionBuilds.record(durationInNanos);
+    }
+
+    public void recordCredentialAcquisition(long durationInNanos)
+    {
+        this.credentialAcquisitions.record(durationInNanos);
+    }
+
+    public long getConnectionAcquisitions()
+    {
+        return this.connectionAcquisitions.getCount();
+    }
+
+    public double getAverageConnectionAcquisitionTimeInMillis()
+    {
+        return this.connectionAcquisitions.getAverageInMillis();
+    }
+
+    public double getMaxConnectionAcquisitionTimeInMillis()
+    {
+        return this.connectionAcquisitions.getMaxInMillis();
+    }
+
+    /**
+     * Connection requests made while every connection of the pool was in use
+     */
+    public long getSaturatedConnectionRequests()
+    {
+        return this.saturatedConnectionRequests.sum();
+    }
+
+    public double getAverageConnectionBuildTimeInMillis()
+    {
+        return this.connectionBuilds.getAverageInMillis();
+    }
+
+    public double getMaxConnectionBuildTimeInMillis()
+    {
+        return this.connectionBuilds.getMaxInMillis();
+    }
+
+    public long getCredentialAcquisitions()
+    {
+        return this.credentialAcquisitions.getCount();
+    }
+
+    public double getAverageCredentialAcquisitionTimeInMillis()
+    {
+        return this.credentialAcquisitions.getAverageInMillis();
+    }
+
+    public double getMaxCredentialAcquisitionTimeInMillis()
+    {
+        return this.credentialAcquisitions.getMaxInMillis();
+    }
+
     @Override
     public boolean equals(Object o)
     {
@@ -132,4 +208,36 @@ public class DataSourceStatistics
     {
         return Objects.hash(getBuiltConnections(), getRequestedConnections(), getTotalConnectionErrors(), getFirstConnectionRequest(), getLastConnectionRequest());
     }
+
+    private static class LatencyStatistics
+    {
+        private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long durationInNanos)
+        {
+            this.count.increment();
+            this.totalNanos.add(durationInNanos);
+            this.maxNanos.accumulateAndGet(durationInNanos, Math::max);
+        }
+
+        long getCount()
+        {
+            return this.count.sum();
+        }
+
+        double getAverageInMillis()
+        {
+            long n = this.count.sum();
+            return n == 0 ? 0 : this.totalNanos.sum() / NANOS_PER_MILLI / n;
+        }
+
+        double getMaxInMillis()
+        {
+            return this.maxNanos.get() / NANOS_PER_MILLI;
+        }
+    }
 }
@@ -141,6 +141,21 @@ public class DataSourceWithStatistics
         return dataSourceSpecification;
     }
 
+    /**
+     * Whether every connection of the pool is in use, and the pool cannot grow any more
+     */
+    public boolean isSaturated()
+    {
+        if (this.dataSource == null)
+        {
+            return false;
+        }
+        HikariDataSource hikariDataSource = (HikariDataSource) this.dataSource;
+        return hikariDataSource.getHikariPoolMXBean() != null &&
+                hikariDataSource.getHikariPoolMXBean().getIdleConnections() == 0 &&
+                hikariDataSource.getHikariPoolMXBean().getTotalConnections() >= hikariDataSource.getMaximumPoolSize();
+    }
+
     public boolean hasActiveConnections()
     {
         return this.dataSource != null && ((HikariDataSource) dataSource).getHikariPoolMXBean().getActiveConnections() > 0;
@@ -22,6 +22,7 @@ import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.tuple.Tuples;
+import org.finos.legend.engine.authentication.credential.CredentialSupplier;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.ConnectionKey;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceSpecification;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceStatistics;
@@ -34,6 +35,8 @@ import org.slf4j.LoggerFactory;
 import javax.sql.DataSource;
 import java.io.Closeable;
 import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -115,6 +118,8 @@ public class ConnectionStateManager implements Closeable
 
     public static final long DEFAULT_EVICTION_DURATION_IN_SECONDS = Duration.ofMinutes(10).getSeconds();
     public static String EVICTION_DURATION_SYSTEM_PROPERTY = "org.finos.legend.engine.execution.connectionStateEvictionDurationInSeconds";
+    public static final long DEFAULT_WARM_UP_REFRESH_PERIOD_IN_SECONDS = Duration.ofMinutes(1).getSeconds();
+    public static String WARM_UP_REFRESH_PERIOD_SYSTEM_PROPERTY = "org.finos.legend.engine.execution.connectionWarmUpRefreshPeriodInSeconds";
 
     public static String POOL_NAME_KEY = "POOL_NAME_KEY";
     private static final String SEPARATOR = "_";
@@ -129,9 +134,11 @@ public class ConnectionStateManager implements Closeable
                 .build();
         long evictionDurationInSeconds = resolveEvictionDuration();
         ConnectionStateHousekeepingTask connectionStateHousekeepingTask = new ConnectionStateHousekeepingTask(evictionDurationInSeconds);
-        EXECUTOR_SERVICE = Executors.newScheduledThreadPool(1, threadFactory);
+        EXECUTOR_SERVICE = Executors.newScheduledThreadPool(2, threadFactory);
         EXECUTOR_SERVICE.scheduleWithFixedDelay(connectionStateHousekeepingTask, 0, evictionDurationInSeconds, TimeUnit.SECONDS);
         LOGGER.info("ConnectionStateManager.HouseKeeper thread frequency. Time period={}, Time unit={}", evictionDurationInSeconds, TimeUnit.SECONDS);
+        long warmUpRefreshPeriodInSeconds = Long.getLong(WARM_UP_REFRESH_PERIOD_SYSTEM_PROPERTY, DEFAULT_WARM_UP_REFRESH_PERIOD_IN_SECONDS);
+        EXECUTOR_SERVICE.scheduleWithFixedDelay(new ConnectionWarmUpTask(), warmUpRefreshPeriodInSeconds, warmUpRefreshPeriodInSeconds, TimeUnit.SECONDS);
     }
 
     static long resolveEvictionDuration()
@@ -175,6 +182,7 @@ public class ConnectionStateManager implements Closeable
 
     private final KeyLockManager<String> poolLockManager = KeyLockManager.newManager();
     private final ConcurrentMutableMap<String, DataSourceWithStatistics> connectionPools = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<Pair<ConnectionKey, Supplier<Identity>>, PoolWarmUp> warmUps = ConcurrentHashMap.newMap();
 
     private Clock clock;
 
@@ -230,8 +238,9 @@ public class ConnectionStateManager implements Closeable
 
     protected Set<Pair<String, DataSourceStatistics>> findUnusedPoolsOlderThan(Duration duration)
     {
+        Set<String> warmedUpPools = this.getWarmedUpPools();
         return this.connectionPools.values().stream()
-                .filter(ds -> ds.getStatistics().getLastConnectionRequestAge() > duration.toMillis() && !ds.hasActiveConnections())
+                .filter(ds -> ds.getStatistics().getLastConnectionRequestAge() > duration.toMillis() && !ds.hasActiveConnections() && !warmedUpPools.contains(ds.getPoolName()))
                 .map(ds -> Tuples.pair(ds.getPoolName(), DataSourceStatistics.clone(ds.getStatistics())))
                 .collect(Collectors.toSet());
     }
@@ -334,6 +343,101 @@ public class ConnectionStateManager implements Closeable
         }
     }
 
+    /*
+        Warm up the pool of a datasource for an identity (typically a service account), so that the first queries after a deploy do not pay
+        for the credential acquisition and the connection handshakes. The pool is created straight away, with the minimum number of idle
+        connections of the datasource specification, and is not evicted while the warm-up is registered.
+        The warm-up is refreshed periodically with a fresh identity from the supplier: a pool whose identity is no longer valid (e.g expired
+        kerberos credentials) is re-created then, ahead of the next user request, and a pool evicted manually is created again.
+        Warm-ups are keyed by datasource and identity supplier, as the pool warmed up changes with the identity supplied (e.g its credentials),
+        and their connections are not counted in the requested connections and acquisition statistics of the pool.
+     */
+    public String warmUp(DataSourceSpecification dataSourceSpecification, Supplier<Identity> identitySupplier)
+    {
+        return this.warmUp(dataSourceSpecification, identitySupplier, Optional.empty());
+    }
+
+    public String warmUp(DataSourceSpecification dataSourceSpecification, Supplier<Identity> identitySupplier, Optional<CredentialSupplier> databaseCredentialSupplierHolder)
+    {
+        PoolWarmUp warmUp = new PoolWarmUp(dataSourceSpecification, identitySupplier, databaseCredentialSupplierHolder);
+        String poolName = warmUp.run();
+        this.warmUps.put(Tuples.pair(dataSourceSpecification.getConnectionKey(), identitySupplier), warmUp);
+        return poolName;
+    }
+
+    public boolean cancelWarmUp(String poolName)
+    {
+        return this.warmUps.removeIf((key, warmUp) -> poolName.equals(warmUp.poolName));
+    }
+
+    public Set<String> getWarmedUpPools()
+    {
+        return this.warmUps.valuesView().collect(warmUp -> warmUp.poolName).toSet();
+    }
+
+    void refreshWarmUps()
+    {
+        this.warmUps.forEachValue(warmUp ->
+        {
+            try
+            {
+                warmUp.run();
+            }
+            catch (Exception e)
+            {
+                LOGGER.error("ConnectionStateManager.WarmUp : refresh of pool {} failed", warmUp.poolName, e);
+            }
+        });
+    }
+
+    private class PoolWarmUp
+    {
+        private final DataSourceSpecification dataSourceSpecification;
+        private final Supplier<Identity> identitySupplier;
+        private final Optional<CredentialSupplier> databaseCredentialSupplierHolder;
+        private volatile String poolName;
+
+        private PoolWarmUp(DataSourceSpecification dataSourceSpecification, Supplier<Identity> identitySupplier, Optional<CredentialSupplier> databaseCredentialSupplierHolder)
+        {
+            this.dataSourceSpecification = dataSourceSpecification;
+            this.identitySupplier = identitySupplier;
+            this.databaseCredentialSupplierHolder = databaseCredentialSupplierHolder;
+        }
+
+        private String run()
+        {
+            Identity identity = this.identitySupplier.get();
+            String poolName = poolNameFor(identity, this.dataSourceSpecification.getConnectionKey());
+            this.poolName = poolName;
+            long start = System.nanoTime();
+            try (Connection ignored = this.dataSourceSpecification.getWarmUpConnectionUsingIdentity(identity, this.databaseCredentialSupplierHolder))
+            {
+                LOGGER.info("ConnectionStateManager.WarmUp : pool {} warmed up in {} ms", poolName, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            catch (SQLException e)
+            {
+                throw new RuntimeException(e);
+            }
+            return poolName;
+        }
+    }
+
+    static class ConnectionWarmUpTask implements Runnable
+    {
+        @Override
+        public void run()
+        {
+            try
+            {
+                ConnectionStateManager.getInstance().refreshWarmUps();
+            }
+            catch (Exception e)
+            {
+                LOGGER.error("ConnectionStateManager.WarmUp refresh failed {}", e);
+            }
+        }
+    }
+
     private void updateMetricsForConnectionPools()
     {
         this.connectionPools.forEach(p ->
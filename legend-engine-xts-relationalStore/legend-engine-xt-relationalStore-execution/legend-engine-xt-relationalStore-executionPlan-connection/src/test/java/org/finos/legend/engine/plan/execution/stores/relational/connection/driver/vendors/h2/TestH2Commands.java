@@ -0,0 +1,112 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.h2;
+
+import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.Column;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.IngestionMethod;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+public class TestH2Commands
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testCreateAndStreamLoadTempTable() throws Exception
+    {
+        H2Commands commands = new H2Commands();
+        Assert.assertEquals(IngestionMethod.CLIENT_FILE, commands.getDefaultIngestionMethod());
+
+        StringBuilder csv = new StringBuilder("\"name\",\"amount\",\"created\"\n");
+        csv.append("\"\",1,2020-01-01 10:00:00.000\n");
+        csv.append("\"a, \"\"quoted\"\" name\",,\n");
+        csv.append("b,2,\n");
+        csv.append(",3,\n");
+        for (int i = 0; i < 2500; i++)
+        {
+            csv.append("name").append(i).append(',').append(i).append(",2020-01-02 00:00:00.000\n");
+        }
+        List<Column> columns = Lists.mutable.with(new Column("name", "VARCHAR(100)"), new Column("amount", "INT"), new Column("created", "TIMESTAMP"));
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:testStreamLoad", "sa", "");
+             Statement statement = connection.createStatement())
+        {
+            commands.createAndStreamLoadTempTable(connection, "temp_1", columns, new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+
+            try (ResultSet resultSet = statement.executeQuery("select count(*), sum(amount) from temp_1"))
+            {
+                resultSet.next();
+                Assert.assertEquals(2504, resultSet.getInt(1));
+                Assert.assertEquals(6 + 2499 * 2500 / 2, resultSet.getInt(2));
+            }
+            try (ResultSet resultSet = statement.executeQuery("select name, amount, created from temp_1 where amount <= 3 and created is null or name = '' or name like 'a,%' order by amount"))
+            {
+                resultSet.next();
+                Assert.assertEquals("a, \"quoted\" name", resultSet.getString(1));
+                Assert.assertNull(resultSet.getObject(2));
+                Assert.assertNull(resultSet.getObject(3));
+                resultSet.next();
+                // a quoted empty value is an empty string, an unquoted one is null
+                Assert.assertEquals("", resultSet.getString(1));
+                Assert.assertEquals(1, resultSet.getInt(2));
+                Assert.assertEquals("2020-01-01 10:00:00.0", resultSet.getTimestamp(3).toString());
+                resultSet.next();
+                Assert.assertEquals("b", resultSet.getString(1));
+                Assert.assertNull(resultSet.getObject(3));
+                resultSet.next();
+                Assert.assertNull(resultSet.getString(1));
+                Assert.assertEquals(3, resultSet.getInt(2));
+                Assert.assertFalse(resultSet.next());
+            }
+
+            // the same rows as when loaded from a temp file
+            File file = temporaryFolder.newFile("temp_2.csv");
+            Files.write(file.toPath(), csv.toString().getBytes(StandardCharsets.UTF_8));
+            commands.createAndLoadTempTable("temp_2", columns, file.getAbsolutePath()).forEach(sql -> execute(statement, sql));
+            try (ResultSet resultSet = statement.executeQuery("select count(*) from ((select * from temp_1 except select * from temp_2) union all (select * from temp_2 except select * from temp_1))"))
+            {
+                resultSet.next();
+                Assert.assertEquals(0, resultSet.getInt(1));
+            }
+        }
+    }
+
+    private static void execute(Statement statement, String sql)
+    {
+        try
+        {
+            statement.execute(sql);
+        }
+        catch (SQLException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}
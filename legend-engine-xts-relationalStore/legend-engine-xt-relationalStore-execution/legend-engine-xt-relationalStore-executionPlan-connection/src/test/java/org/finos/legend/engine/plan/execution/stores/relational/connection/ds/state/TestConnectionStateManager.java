@@ -18,6 +18,7 @@ import io.prometheus.client.CollectorRegistry;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.authentication.strategy.TestDatabaseAuthenticationStrategy;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.h2.H2Manager;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceSpecification;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceStatistics;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceWithStatistics;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.specifications.LocalH2DataSourceSpecification;
 import org.finos.legend.engine.shared.core.identity.Credential;
@@ -36,7 +37,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
+import static org.finos.legend.engine.plan.execution.stores.relational.connection.ds.specifications.TestLocalH2ConcurrentConnectionAcquisition.plainTextCredentialSupplier;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -512,4 +516,84 @@ public class TestConnectionStateManager extends TestConnectionManagement
         when(mockCredential.isValid()).thenReturn(false);
         requestConnection(identityOne, ds1);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testWarmedUpPoolIsNotEvictedAndRefreshed() throws SQLException
+    {
+        Identity serviceAccount = new Identity("serviceAccount");
+        DataSourceSpecification ds1 = buildLocalDataSourceSpecification(Collections.emptyList());
+        ConnectionStateManager.ConnectionStateHousekeepingTask houseKeeper = new ConnectionStateManager.ConnectionStateHousekeepingTask(Duration.ofMinutes(5).getSeconds());
+
+        String pool = connectionStateManager.warmUp(ds1, () -> serviceAccount, plainTextCredentialSupplier());
+        Assert.assertEquals(connectionStateManager.poolNameFor(serviceAccount, ds1.getConnectionKey()), pool);
+        Assert.assertEquals(Collections.singleton(pool), connectionStateManager.getWarmedUpPools());
+        assertPoolExists(true, serviceAccount.getName(), ds1.getConnectionKey());
+
+        // warmed up pools are kept past the eviction duration
+        clock.advance(Duration.ofMinutes(11));
+        houseKeeper.run();
+        assertPoolExists(true, serviceAccount.getName(), ds1.getConnectionKey());
+
+        // a pool removed is created again when the warm up is refreshed
+        connectionStateManager.closeAndRemoveConnectionPool(pool);
+        assertPoolExists(false, serviceAccount.getName(), ds1.getConnectionKey());
+        connectionStateManager.refreshWarmUps();
+        assertPoolExists(true, serviceAccount.getName(), ds1.getConnectionKey());
+
+        Assert.assertTrue(connectionStateManager.cancelWarmUp(pool));
+        Assert.assertFalse(connectionStateManager.cancelWarmUp(pool));
+        clock.advance(Duration.ofMinutes(11));
+        houseKeeper.run();
+        assertPoolExists(false, serviceAccount.getName(), ds1.getConnectionKey());
+    }
+
+    @Test
+    public void testWarmUpFollowsSuppliedIdentity() throws SQLException
+    {
+        AtomicReference<Identity> serviceAccount = new AtomicReference<>(new Identity("serviceAccount1"));
+        Supplier<Identity> identitySupplier = serviceAccount::get;
+        DataSourceSpecification ds1 = buildLocalDataSourceSpecification(Collections.emptyList());
+        ConnectionStateManager.ConnectionStateHousekeepingTask houseKeeper = new ConnectionStateManager.ConnectionStateHousekeepingTask(Duration.ofMinutes(5).getSeconds());
+
+        String pool1 = connectionStateManager.warmUp(ds1, identitySupplier, plainTextCredentialSupplier());
+        Assert.assertEquals(pool1, connectionStateManager.warmUp(ds1, identitySupplier, plainTextCredentialSupplier()));
+        Assert.assertEquals(Collections.singleton(pool1), connectionStateManager.getWarmedUpPools());
+
+        // warm up connections are not user requests
+        DataSourceStatistics statistics = getDataSourceWithStatistics("serviceAccount1", ds1.getConnectionKey()).getStatistics();
+        Assert.assertEquals(0, statistics.getRequestedConnections());
+        Assert.assertEquals(0, statistics.getConnectionAcquisitions());
+
+        // the refresh warms up the pool of the identity supplied, and the pool of the previous identity is evicted when unused
+        serviceAccount.set(new Identity("serviceAccount2"));
+        connectionStateManager.refreshWarmUps();
+        String pool2 = connectionStateManager.poolNameFor(serviceAccount.get(), ds1.getConnectionKey());
+        Assert.assertEquals(Collections.singleton(pool2), connectionStateManager.getWarmedUpPools());
+        clock.advance(Duration.ofMinutes(11));
+        houseKeeper.run();
+        Assert.assertNull(connectionStateManager.getDataSourceByPoolName(pool1));
+        Assert.assertNotNull(connectionStateManager.getDataSourceByPoolName(pool2));
+
+        Assert.assertFalse(connectionStateManager.cancelWarmUp(pool1));
+        Assert.assertTrue(connectionStateManager.cancelWarmUp(pool2));
+        Assert.assertTrue(connectionStateManager.getWarmedUpPools().isEmpty());
+    }
+
+    @Test
+    public void testConnectionAcquisitionStatistics() throws SQLException
+    {
+        Identity user1 = new Identity("user1");
+        DataSourceSpecification ds1 = buildLocalDataSourceSpecification(Collections.emptyList());
+
+        requestConnection(user1, ds1).close();
+        requestConnection(user1, ds1).close();
+
+        DataSourceStatistics statistics = getDataSourceWithStatistics(user1.getName(), ds1.getConnectionKey()).getStatistics();
+        Assert.assertEquals(2, statistics.getConnectionAcquisitions());
+        Assert.assertEquals(0, statistics.getSaturatedConnectionRequests());
+        Assert.assertTrue(statistics.getCredentialAcquisitions() >= 1);
+        Assert.assertTrue(statistics.getAverageConnectionAcquisitionTimeInMillis() >= 0);
+        Assert.assertTrue(statistics.getMaxConnectionAcquisitionTimeInMillis() >= statistics.getAverageConnectionAcquisitionTimeInMillis());
+        Assert.assertTrue(statistics.getMaxConnectionBuildTimeInMillis() >= 0);
+    }
+}
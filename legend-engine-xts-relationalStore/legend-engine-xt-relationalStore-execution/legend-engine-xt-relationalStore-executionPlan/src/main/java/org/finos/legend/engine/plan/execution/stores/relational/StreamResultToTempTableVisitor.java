@@ -18,6 +18,8 @@ import com.google.common.collect.Iterators;
 import io.opentracing.Scope;
 import io.opentracing.util.GlobalTracer;
 import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.ResultNormalizer;
 import org.finos.legend.engine.plan.execution.result.StreamingResult;
 import org.finos.legend.engine.plan.execution.result.builder.tds.TDSBuilder;
@@ -41,19 +43,40 @@ import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
 import org.slf4j.Logger;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.file.Files;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class StreamResultToTempTableVisitor implements RelationalDatabaseCommandsVisitor<Boolean>
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(StreamResultToTempTableVisitor.class);
+    private static final int STREAM_PIPE_SIZE = 1024 * 1024;
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    // streaming loads from a pipe in progress at once, the others go through a temp file
+    private static final int STREAM_LOADER_MAX_THREADS = 16;
+    private static final ExecutorService STREAM_LOADER_EXECUTOR = new ThreadPoolExecutor(0, STREAM_LOADER_MAX_THREADS, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), new BasicThreadFactory.Builder()
+            .namingPattern("StreamResultToTempTableVisitor.Loader-%d")
+            .daemon(true)
+            .build());
 
     public RelationalExecutionConfiguration config;
     public Connection connection;
@@ -85,69 +108,57 @@ public class StreamResultToTempTableVisitor implements RelationalDatabaseCommand
 
     public Boolean streamResultToTable(RelationalDatabaseCommands dbCommands)
     {
-        if (ingestionMethod == IngestionMethod.CLIENT_FILE)
+        if (ingestionMethod == IngestionMethod.CLIENT_FILE || ingestionMethod == IngestionMethod.CLIENT_STREAM)
         {
+            CsvSerializer csvSerializer;
+            List<Column> columns;
             CSVFormat csvFormat = dbCommands.getCsvFormatForTempFile();
-            try (TemporaryFile tempFile = new TemporaryFile(config.tempPath))
+            boolean withHeader = dbCommands.supportsHeaderOnCsvFile();
+            if (result instanceof RelationalResult)
             {
-                CsvSerializer csvSerializer;
-                boolean withHeader = dbCommands.supportsHeaderOnCsvFile();
-                if (result instanceof RelationalResult)
+                RelationalResult relationalResult = (RelationalResult) result;
+                csvSerializer = new RelationalResultToCSVSerializer(relationalResult, withHeader, csvFormat);
+                if (result.getResultBuilder() instanceof TDSBuilder)
                 {
-                    csvSerializer = new RelationalResultToCSVSerializer((RelationalResult) result, withHeader, csvFormat);
-                    tempFile.writeFile(csvSerializer);
-                    try (Statement statement = connection.createStatement())
-                    {
-                        statement.execute(dbCommands.dropTempTable(tableName));
-
-                        RelationalResult relationalResult = (RelationalResult) result;
-
-                        if (result.getResultBuilder() instanceof TDSBuilder)
-                        {
-                            dbCommands.createAndLoadTempTable(tableName, relationalResult.getTdsColumns().stream().map(c -> new Column(c.name, c.relationalType)).collect(Collectors.toList()), tempFile.getTemporaryPathForFile()).forEach(x -> checkedExecute(statement, x));
-                        }
-                        else
-                        {
-                            dbCommands.createAndLoadTempTable(tableName, relationalResult.getSQLResultColumns().stream().map(c -> new Column(c.label, c.dataType)).collect(Collectors.toList()), tempFile.getTemporaryPathForFile()).forEach(x -> checkedExecute(statement, x));
-                        }
-                    }
-                }
-                else if (result instanceof RealizedRelationalResult)
-                {
-                    csvSerializer = new RealizedRelationalResultCSVSerializer((RealizedRelationalResult) result, this.databaseTimeZone, withHeader, false, csvFormat);
-                    tempFile.writeFile(csvSerializer);
-                    try (Statement statement = connection.createStatement())
-                    {
-                        statement.execute(dbCommands.dropTempTable(tableName));
-                        RealizedRelationalResult realizedRelationalResult = (RealizedRelationalResult) result;
-                        dbCommands.createAndLoadTempTable(tableName, realizedRelationalResult.columns.stream().map(c -> new Column(c.label, c.dataType)).collect(Collectors.toList()), tempFile.getTemporaryPathForFile()).forEach(x -> checkedExecute(statement, x));
-                    }
+                    columns = relationalResult.getTdsColumns().stream().map(c -> new Column(c.name, c.relationalType)).collect(Collectors.toList());
                 }
-                else if (result instanceof StreamingObjectResult)
+                else
                 {
-                    csvSerializer = new StreamingObjectResultCSVSerializer((StreamingObjectResult) result, withHeader, csvFormat);
-                    tempFile.writeFile(csvSerializer);
-                    try (Statement statement = connection.createStatement())
-                    {
-                        statement.execute(dbCommands.dropTempTable(tableName));
-                        dbCommands.createAndLoadTempTable(tableName, csvSerializer.getHeaderColumnsAndTypes().stream().map(c -> new Column(c.getOne(), RelationalExecutor.getRelationalTypeFromDataType(c.getTwo()))).collect(Collectors.toList()), tempFile.getTemporaryPathForFile()).forEach(x -> checkedExecute(statement, x));
-                    }
+                    columns = relationalResult.getSQLResultColumns().stream().map(c -> new Column(c.label, c.dataType)).collect(Collectors.toList());
                 }
-                else if (result instanceof TempTableStreamingResult)
+            }
+            else if (result instanceof RealizedRelationalResult)
+            {
+                RealizedRelationalResult realizedRelationalResult = (RealizedRelationalResult) result;
+                csvSerializer = new RealizedRelationalResultCSVSerializer(realizedRelationalResult, this.databaseTimeZone, withHeader, false, csvFormat);
+                columns = realizedRelationalResult.columns.stream().map(c -> new Column(c.label, c.dataType)).collect(Collectors.toList());
+            }
+            else if (result instanceof StreamingObjectResult)
+            {
+                csvSerializer = new StreamingObjectResultCSVSerializer((StreamingObjectResult) result, withHeader, csvFormat);
+                columns = csvSerializer.getHeaderColumnsAndTypes().stream().map(c -> new Column(c.getOne(), RelationalExecutor.getRelationalTypeFromDataType(c.getTwo()))).collect(Collectors.toList());
+            }
+            else if (result instanceof TempTableStreamingResult)
+            {
+                csvSerializer = new StreamingTempTableResultCSVSerializer((TempTableStreamingResult) result, withHeader, csvFormat);
+                columns = csvSerializer.getHeaderColumnsAndTypes().stream().map(c -> new Column(c.getOne(), RelationalExecutor.getRelationalTypeFromDataType(c.getTwo()))).collect(Collectors.toList());
+            }
+            else
+            {
+                throw new RuntimeException("Result not supported yet: " + result.getClass().getName());
+            }
+
+            try
+            {
+                // the result cannot be read while the table is loaded if both use the same connection
+                if (ingestionMethod == IngestionMethod.CLIENT_STREAM && !this.readsFromConnection(result))
                 {
-                    csvSerializer = new StreamingTempTableResultCSVSerializer((TempTableStreamingResult) result, withHeader, csvFormat);
-                    tempFile.writeFile(csvSerializer);
-                    try (Statement statement = connection.createStatement())
-                    {
-                        statement.execute(dbCommands.dropTempTable(tableName));
-                        dbCommands.createAndLoadTempTable(tableName, csvSerializer.getHeaderColumnsAndTypes().stream().map(c -> new Column(c.getOne(), RelationalExecutor.getRelationalTypeFromDataType(c.getTwo()))).collect(Collectors.toList()), tempFile.getTemporaryPathForFile()).forEach(x -> checkedExecute(statement, x));
-                    }
+                    this.streamToTable(dbCommands, csvSerializer, columns);
                 }
                 else
                 {
-                    throw new RuntimeException("Result not supported yet: " + result.getClass().getName());
+                    this.loadFromTempFile(dbCommands, csvSerializer, columns);
                 }
-
             }
             catch (Exception e)
             {
@@ -161,6 +172,102 @@ public class StreamResultToTempTableVisitor implements RelationalDatabaseCommand
         return true;
     }
 
+    private boolean readsFromConnection(Result result)
+    {
+        if (result instanceof RelationalResult)
+        {
+            return ((RelationalResult) result).getConnection() == this.connection;
+        }
+        if (result instanceof StreamingObjectResult)
+        {
+            return this.readsFromConnection(((StreamingObjectResult<?>) result).getChildResult());
+        }
+        return false;
+    }
+
+    private void loadFromTempFile(RelationalDatabaseCommands dbCommands, CsvSerializer csvSerializer, List<Column> columns) throws Exception
+    {
+        try (TemporaryFile tempFile = new TemporaryFile(config.tempPath))
+        {
+            tempFile.writeFile(csvSerializer);
+            try (Statement statement = connection.createStatement())
+            {
+                statement.execute(dbCommands.dropTempTable(tableName));
+                dbCommands.createAndLoadTempTable(tableName, columns, tempFile.getTemporaryPathForFile()).forEach(x -> checkedExecute(statement, x));
+            }
+        }
+    }
+
+    /*
+        The CSV is loaded while it is being serialized: the serializer writes to a pipe of bounded size, which the database
+        commands read from on a loader thread. The serializer blocks while the pipe is full, so neither a temp file nor the
+        whole CSV is ever held. When all the loader threads are busy, the CSV is written to a temp file instead, and
+        streamed from it on this thread.
+     */
+    private void streamToTable(RelationalDatabaseCommands dbCommands, CsvSerializer csvSerializer, List<Column> columns) throws Exception
+    {
+        try (Statement statement = connection.createStatement())
+        {
+            checkedExecute(statement, dbCommands.dropTempTable(tableName));
+        }
+        PipedInputStream csv = new PipedInputStream(STREAM_PIPE_SIZE);
+        OutputStream csvOutputStream = new BufferedOutputStream(new PipedOutputStream(csv), STREAM_BUFFER_SIZE);
+        Future<?> load;
+        try
+        {
+            load = STREAM_LOADER_EXECUTOR.submit(() ->
+            {
+                try (InputStream in = csv)
+                {
+                    LOGGER.info(new LogInfo(Identity.getAnonymousIdentity().getName(), LoggingEventType.EXECUTION_RELATIONAL_COMMIT, "Streaming load of temp table " + tableName, 0.0d).toString());
+                    dbCommands.createAndStreamLoadTempTable(connection, tableName, columns, in);
+                }
+                return null;
+            });
+        }
+        catch (RejectedExecutionException e)
+        {
+            csv.close();
+            this.streamFromTempFile(dbCommands, csvSerializer, columns);
+            return;
+        }
+        try (OutputStream out = csvOutputStream)
+        {
+            csvSerializer.stream(out);
+        }
+        catch (Exception e)
+        {
+            // a failed load closes the pipe, in which case its own error is the one to report
+            waitForLoad(load);
+            throw e;
+        }
+        waitForLoad(load);
+    }
+
+    private void streamFromTempFile(RelationalDatabaseCommands dbCommands, CsvSerializer csvSerializer, List<Column> columns) throws Exception
+    {
+        try (TemporaryFile tempFile = new TemporaryFile(config.tempPath))
+        {
+            tempFile.writeFile(csvSerializer);
+            try (InputStream in = Files.newInputStream(tempFile.path))
+            {
+                dbCommands.createAndStreamLoadTempTable(connection, tableName, columns, in);
+            }
+        }
+    }
+
+    private static void waitForLoad(Future<?> load) throws Exception
+    {
+        try
+        {
+            load.get();
+        }
+        catch (ExecutionException e)
+        {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
     public static boolean checkedExecute(Statement statement, String sql)
     {
         try (Scope ignored = GlobalTracer.get().buildSpan("temp table sql execution").withTag("sql", sql).startActive(true))
@@ -35,6 +35,8 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
     private CredentialProviderProvider credentialProviderProvider;
     @JsonProperty
     private RelationalGraphFetchExecutionConfig relationalGraphFetchExecutionConfig;
+    @JsonProperty
+    private RelationalResultFetchSizeConfig relationalResultFetchSizeConfig;
 
     @Override
     public StoreType getStoreType()
@@ -96,6 +98,11 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
         return this.relationalGraphFetchExecutionConfig;
     }
 
+    public RelationalResultFetchSizeConfig getRelationalResultFetchSizeConfig()
+    {
+        return this.relationalResultFetchSizeConfig;
+    }
+
     public static class Builder
     {
         public String tempPath;
@@ -105,6 +112,7 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
         private TemporaryTestDbConfiguration temporaryTestDbConfiguration;
         private CredentialProviderProvider credentialProviderProvider;
         private RelationalGraphFetchExecutionConfig relationalGraphFetchExecutionConfig;
+        private RelationalResultFetchSizeConfig relationalResultFetchSizeConfig;
 
         public Builder withTempPath(String tempPath)
         {
@@ -151,6 +159,12 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
             return this;
         }
 
+        public Builder withRelationalResultFetchSizeConfig(RelationalResultFetchSizeConfig config)
+        {
+            this.relationalResultFetchSizeConfig = config;
+            return this;
+        }
+
         public RelationalExecutionConfiguration build()
         {
             RelationalExecutionConfiguration relationalExecutionConfiguration = new RelationalExecutionConfiguration();
@@ -161,6 +175,7 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
             relationalExecutionConfiguration.temporarytestdb = this.temporaryTestDbConfiguration;
             relationalExecutionConfiguration.credentialProviderProvider = credentialProviderProvider;
             relationalExecutionConfiguration.relationalGraphFetchExecutionConfig = relationalGraphFetchExecutionConfig;
+            relationalExecutionConfiguration.relationalResultFetchSizeConfig = relationalResultFetchSizeConfig;
             return relationalExecutionConfiguration;
         }
     }
@@ -0,0 +1,89 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
+
+import java.util.Map;
+
+/**
+ * JDBC fetch size used when streaming relational results.
+ * <p>
+ * The fetch size set on the statement before execution is taken from {@link #fetchSizeByDatabaseType}, falling back to
+ * {@link #defaultFetchSize} (null leaves the driver default). When {@link #adaptive} is set, the fetch size is then
+ * re-sized on the result set once its shape is known, so that a round trip brings back about {@link #targetFetchBytes},
+ * bounded by {@link #minFetchSize} and {@link #maxFetchSize}.
+ */
+public class RelationalResultFetchSizeConfig
+{
+    public static final int DEFAULT_MIN_FETCH_SIZE = 100;
+    public static final int DEFAULT_MAX_FETCH_SIZE = 10_000;
+    public static final long DEFAULT_TARGET_FETCH_BYTES = 2L * 1024 * 1024;
+
+    @JsonProperty
+    private Map<String, Integer> fetchSizeByDatabaseType = Maps.mutable.with(DatabaseType.MemSQL.name(), 100);
+    @JsonProperty
+    private Integer defaultFetchSize;
+    @JsonProperty
+    private boolean adaptive = false;
+    @JsonProperty
+    private long targetFetchBytes = DEFAULT_TARGET_FETCH_BYTES;
+    @JsonProperty
+    private int minFetchSize = DEFAULT_MIN_FETCH_SIZE;
+    @JsonProperty
+    private int maxFetchSize = DEFAULT_MAX_FETCH_SIZE;
+
+    public RelationalResultFetchSizeConfig()
+    {
+    }
+
+    public RelationalResultFetchSizeConfig(Map<String, Integer> fetchSizeByDatabaseType, Integer defaultFetchSize, boolean adaptive, long targetFetchBytes, int minFetchSize, int maxFetchSize)
+    {
+        this.fetchSizeByDatabaseType = fetchSizeByDatabaseType;
+        this.defaultFetchSize = defaultFetchSize;
+        this.adaptive = adaptive;
+        this.targetFetchBytes = targetFetchBytes;
+        this.minFetchSize = minFetchSize;
+        this.maxFetchSize = maxFetchSize;
+    }
+
+    public Integer getFetchSize(String databaseType)
+    {
+        Integer fetchSize = this.fetchSizeByDatabaseType == null ? null : this.fetchSizeByDatabaseType.get(databaseType);
+        return fetchSize == null ? this.defaultFetchSize : fetchSize;
+    }
+
+    public boolean isAdaptive()
+    {
+        return this.adaptive;
+    }
+
+    public long getTargetFetchBytes()
+    {
+        return this.targetFetchBytes;
+    }
+
+    public int getMinFetchSize()
+    {
+        return this.minFetchSize;
+    }
+
+    public int getMaxFetchSize()
+    {
+        return this.maxFetchSize;
+    }
+}
@@ -0,0 +1,198 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.plugin;
+
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Key getters of graph fetch objects (primary keys and cross keys), resolved to plain functions instead of calling
+ * {@link Method#invoke} for every key of every object.
+ * <p>
+ * Accessors are generated with {@link LambdaMetafactory} when the class declaring the getter is visible from this
+ * class loader, and are otherwise bound method handles. They are cached per declaring class in a {@link ClassValue},
+ * so that the classes compiled for an execution plan can still be unloaded.
+ */
+final class GraphFetchKeyGetters
+{
+    private static final MethodType FUNCTION_TYPE = MethodType.methodType(Function.class);
+    private static final MethodType APPLY_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<ConcurrentMap<Method, Function<Object, Object>>> ACCESSORS = new ClassValue<ConcurrentMap<Method, Function<Object, Object>>>()
+    {
+        @Override
+        protected ConcurrentMap<Method, Function<Object, Object>> computeValue(Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final List<Method> methods;
+    private final Function<Object, Object>[] accessors;
+
+    @SuppressWarnings("unchecked")
+    private GraphFetchKeyGetters(List<Method> methods)
+    {
+        this.methods = methods;
+        this.accessors = new Function[methods.size()];
+        for (int i = 0; i < this.accessors.length; i++)
+        {
+            this.accessors[i] = accessor(methods.get(i));
+        }
+    }
+
+    static GraphFetchKeyGetters of(List<Method> methods)
+    {
+        return new GraphFetchKeyGetters(methods);
+    }
+
+    List<Method> getMethods()
+    {
+        return this.methods;
+    }
+
+    int size()
+    {
+        return this.accessors.length;
+    }
+
+    /**
+     * Key value of an object already resolved from its {@link org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked} wrapper
+     */
+    Object get(int index, Object resolvedObject)
+    {
+        return this.accessors[index].apply(resolvedObject);
+    }
+
+    /**
+     * Key values of an object, as one row used for both the result set and the transformed values of a key table
+     */
+    List<Object> keyRow(Object object)
+    {
+        Object resolvedObject = RelationalGraphFetchUtils.resolveValueIfIChecked(object);
+        Object[] row = new Object[this.accessors.length];
+        for (int i = 0; i < row.length; i++)
+        {
+            row[i] = this.accessors[i].apply(resolvedObject);
+        }
+        return FastList.newListWith(row);
+    }
+
+    static Function<Object, Object> accessor(Method method)
+    {
+        return ACCESSORS.get(method.getDeclaringClass()).computeIfAbsent(method, GraphFetchKeyGetters::generateAccessor);
+    }
+
+    private static Function<Object, Object> generateAccessor(Method method)
+    {
+        if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(method.getDeclaringClass().getModifiers()) || Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0 || method.getReturnType() == void.class)
+        {
+            return reflectiveAccessor(method);
+        }
+        try
+        {
+            MethodHandle getter = MethodHandles.publicLookup().unreflect(method);
+            if (isVisible(method.getDeclaringClass()) && isVisible(method.getReturnType()))
+            {
+                return lambdaAccessor(getter);
+            }
+            return methodHandleAccessor(getter.asType(APPLY_TYPE));
+        }
+        catch (Throwable e)
+        {
+            return reflectiveAccessor(method);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> lambdaAccessor(MethodHandle getter) throws Throwable
+    {
+        CallSite callSite = LambdaMetafactory.metafactory(
+                MethodHandles.lookup(),
+                "apply",
+                FUNCTION_TYPE,
+                APPLY_TYPE,
+                getter,
+                getter.type().wrap());
+        return (Function<Object, Object>) callSite.getTarget().invokeExact();
+    }
+
+    private static Function<Object, Object> methodHandleAccessor(MethodHandle getter)
+    {
+        return object ->
+        {
+            try
+            {
+                return (Object) getter.invokeExact(object);
+            }
+            catch (RuntimeException | Error e)
+            {
+                throw e;
+            }
+            catch (Throwable e)
+            {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    private static Function<Object, Object> reflectiveAccessor(Method method)
+    {
+        return object ->
+        {
+            try
+            {
+                return method.invoke(object);
+            }
+            catch (IllegalAccessException | InvocationTargetException e)
+            {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    // classes generated by the metafactory are defined in this class loader and link the getter by name
+    private static boolean isVisible(Class<?> type)
+    {
+        if (type.isPrimitive())
+        {
+            return true;
+        }
+        if (type.isArray())
+        {
+            return isVisible(type.getComponentType());
+        }
+        try
+        {
+            return Class.forName(type.getName(), false, GraphFetchKeyGetters.class.getClassLoader()) == type;
+        }
+        catch (ClassNotFoundException | LinkageError e)
+        {
+            return false;
+        }
+    }
+}
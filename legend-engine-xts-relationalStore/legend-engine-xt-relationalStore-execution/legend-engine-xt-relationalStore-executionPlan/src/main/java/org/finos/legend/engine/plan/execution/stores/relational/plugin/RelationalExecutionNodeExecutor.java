@@ -49,6 +49,7 @@ import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheBy
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheKey;
 import org.finos.legend.engine.plan.execution.concurrent.ParallelGraphFetchExecutionExecutorPool;
 import org.finos.legend.engine.plan.execution.graphFetch.AdaptiveBatching;
+import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchBatchProfile;
 import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
 import org.finos.legend.engine.plan.execution.nodes.helpers.ExecutionNodeResultHelper;
 import org.finos.legend.engine.plan.execution.nodes.helpers.platform.DefaultExecutionNodeContext;
@@ -147,7 +148,6 @@ import org.finos.legend.engine.shared.core.identity.Identity;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -160,6 +160,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Queue;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -685,7 +686,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                 if (Arrays.asList(executeClass.getInterfaces()).contains(IRelationalRootGraphNodeExecutor.class))
                 {
                     IRelationalRootGraphNodeExecutor executor = (IRelationalRootGraphNodeExecutor) executeClass.getConstructor().newInstance();
-                    List<Method> primaryKeyGetters = executor.primaryKeyGetters();
+                    GraphFetchKeyGetters primaryKeyGetters = GraphFetchKeyGetters.of(executor.primaryKeyGetters());
                     int primaryKeyCount = primaryKeyGetters.size();
 
                     /* Check if caching is enabled and fetch the cache if required */
@@ -846,7 +847,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                         String parentTempTableName = node.parentTempTableName;
                         RealizedRelationalResult parentRealizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.parentTempTableColumns);
 
-                        List<Method> crossKeyGetters = executor.parentCrossKeyGetters();
+                        GraphFetchKeyGetters crossKeyGetters = GraphFetchKeyGetters.of(executor.parentCrossKeyGetters());
                         int parentKeyCount = crossKeyGetters.size();
 
                         for (Object parentObject : parentObjects)
@@ -895,7 +896,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                             }
                         }
 
-                        List<Method> primaryKeyGetters = executor.primaryKeyGetters();
+                        GraphFetchKeyGetters primaryKeyGetters = GraphFetchKeyGetters.of(executor.primaryKeyGetters());
                         final int primaryKeyCount = primaryKeyGetters.size();
                         DoubleStrategyHashMap<Object, Object, SQLExecutionResult> currentMap = new DoubleStrategyHashMap<>(RelationalGraphFetchUtils.objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(primaryKeyGetters));
                         String databaseConnectionString = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().writeValueAsString(childResult.getSQLExecutionNode().connection);
@@ -969,7 +970,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         throw new RuntimeException("Not implemented!");
     }
 
-    private void executeRelationalChildren(RelationalGraphFetchExecutionNode node, String tempTableNameFromNode, RealizedRelationalResult realizedRelationalResult, DatabaseConnection databaseConnection, String databaseType, String databaseTimeZone, DoubleStrategyHashMap<Object, Object, SQLExecutionResult> parentMap, List<Method> parentKeyGetters)
+    private void executeRelationalChildren(RelationalGraphFetchExecutionNode node, String tempTableNameFromNode, RealizedRelationalResult realizedRelationalResult, DatabaseConnection databaseConnection, String databaseType, String databaseTimeZone, DoubleStrategyHashMap<Object, Object, SQLExecutionResult> parentMap, GraphFetchKeyGetters parentKeyGetters)
     {
         try (Scope ignored1 = GlobalTracer.get().buildSpan("Graph Query Relational: Execute Children").startActive(true))
         {
@@ -1090,6 +1091,11 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
     private static void loadValuesIntoTempTablesFromRelationalResult(ExecutionNode node, RealizedRelationalResult realizedRelationalResult, int batchSize, String quoteCharacterReplacement, String databaseTimeZone, ExecutionState threadExecutionState, Identity identity)
     {
+        if (loadValuesIntoTempTablesUsingBatchedInserts(node, realizedRelationalResult, batchSize, databaseTimeZone, threadExecutionState, identity))
+        {
+            return;
+        }
+
         final Function<Object, String> normalizer = getNormalizer(quoteCharacterReplacement, databaseTimeZone);
 
         Iterator<List<List<Object>>> rowBatchIterator = Iterators.partition(realizedRelationalResult.resultSetRows.iterator(), batchSize);
@@ -1113,6 +1119,59 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         }
     }
 
+    /**
+     * Load the rows with prepared statements executed in batches on the retained connection the temp table was created on.
+     * Returns false, leaving the rows to be rendered into the load queries, if any load query is not a plain
+     * INSERT ... VALUES ${temp_table_rows_from_result_set}, or if the type of any column is unknown.
+     */
+    private static boolean loadValuesIntoTempTablesUsingBatchedInserts(ExecutionNode node, RealizedRelationalResult realizedRelationalResult, int batchSize, String databaseTimeZone, ExecutionState threadExecutionState, Identity identity)
+    {
+        RelationalStoreExecutionState relationalStoreExecutionState = (RelationalStoreExecutionState) threadExecutionState.getStoreExecutionState(StoreType.Relational);
+        int[] sqlTypes = TempTableRowsBatchInserter.toSqlTypes(realizedRelationalResult.columns);
+        if (!(node instanceof SequenceExecutionNode) || !relationalStoreExecutionState.retainConnection() || sqlTypes == null)
+        {
+            return false;
+        }
+
+        MutableList<Pair<SQLExecutionNode, String>> inserts = Lists.mutable.empty();
+        for (ExecutionNode executionNode : ((SequenceExecutionNode) node).executionNodes)
+        {
+            String parameterizedInsert = executionNode instanceof SQLExecutionNode ? TempTableRowsBatchInserter.toParameterizedInsert(((SQLExecutionNode) executionNode).sqlQuery, realizedRelationalResult.columns.size()) : null;
+            if (parameterizedInsert == null)
+            {
+                return false;
+            }
+            inserts.add(Tuples.pair((SQLExecutionNode) executionNode, parameterizedInsert));
+        }
+
+        for (Pair<SQLExecutionNode, String> insert : inserts)
+        {
+            SQLExecutionNode sqlExecutionNode = insert.getOne();
+            BlockConnection blockConnection = relationalStoreExecutionState.getBlockConnectionContext().getBlockConnection(relationalStoreExecutionState, sqlExecutionNode.connection, identity);
+            if (sqlExecutionNode.onConnectionCloseRollbackQuery != null)
+            {
+                blockConnection.addRollbackQuery(sqlExecutionNode.onConnectionCloseRollbackQuery);
+            }
+            if (sqlExecutionNode.onConnectionCloseCommitQuery != null)
+            {
+                blockConnection.addCommitQuery(sqlExecutionNode.onConnectionCloseCommitQuery);
+            }
+            try
+            {
+                TempTableRowsBatchInserter.insert(blockConnection, insert.getTwo(), realizedRelationalResult.resultSetRows, sqlTypes, batchSize, databaseTimeZone);
+            }
+            catch (SQLException e)
+            {
+                throw new RuntimeException("Unable to ingest data into temp table", e);
+            }
+            finally
+            {
+                blockConnection.close();
+            }
+        }
+        return true;
+    }
+
     private static void ingestDataIntoTempTable(ExecutionNode executionNode, String result, ExecutionState executionState, Identity identity) throws IOException
     {
         if (executionNode instanceof SequenceExecutionNode)
@@ -1146,43 +1205,20 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         state.addResult(key, new ConstantResult(result));
     }
 
-    private void addKeyRowToRealizedRelationalResult(Object obj, List<Method> keyGetters, RealizedRelationalResult realizedRelationalResult) throws InvocationTargetException, IllegalAccessException
+    private void addKeyRowToRealizedRelationalResult(Object obj, GraphFetchKeyGetters keyGetters, RealizedRelationalResult realizedRelationalResult)
     {
-        int keyCount = keyGetters.size();
-        List<Object> pkRowTransformed = FastList.newList(keyCount);
-        List<Object> pkRowNormalized = FastList.newList(keyCount);
-
-        for (Method keyGetter : keyGetters)
-        {
-            Object key = keyGetter.invoke(RelationalGraphFetchUtils.resolveValueIfIChecked(obj));
-            pkRowTransformed.add(key);
-            pkRowNormalized.add(key);
-        }
-
-        realizedRelationalResult.addRow(pkRowNormalized, pkRowTransformed);
+        // key values are not normalized, so the same row serves as result set and transformed row
+        List<Object> pkRow = keyGetters.keyRow(obj);
+        realizedRelationalResult.addRow(pkRow, pkRow);
     }
 
-    private int addXStoreKeyRowToRealizedRelationalResult(Object obj, List<Method> keyGetters, RealizedRelationalResult realizedRelationalResult, boolean isMultiEqualXStoreExpression) throws InvocationTargetException, IllegalAccessException
+    private int addXStoreKeyRowToRealizedRelationalResult(Object obj, GraphFetchKeyGetters keyGetters, RealizedRelationalResult realizedRelationalResult, boolean isMultiEqualXStoreExpression)
     {
-        int keyCount = keyGetters.size();
-        List<Object> pkRowTransformed = FastList.newList(keyCount);
-        List<Object> pkRowNormalized = FastList.newList(keyCount);
-
-        boolean shouldAddRow = !isMultiEqualXStoreExpression;
-
-        for (Method keyGetter : keyGetters)
-        {
-            Object key = keyGetter.invoke(RelationalGraphFetchUtils.resolveValueIfIChecked(obj));
-            if (key != null)
-            {
-                shouldAddRow = true;
-            }
-            pkRowTransformed.add(key);
-            pkRowNormalized.add(key);
-        }
+        List<Object> pkRow = keyGetters.keyRow(obj);
+        boolean shouldAddRow = !isMultiEqualXStoreExpression || pkRow.stream().anyMatch(Objects::nonNull);
         if (shouldAddRow)
         {
-            realizedRelationalResult.addRow(pkRowNormalized, pkRowTransformed);
+            realizedRelationalResult.addRow(pkRow, pkRow);
         }
         return shouldAddRow ? 1 : 0;
     }
@@ -1437,7 +1473,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         }
     }
 
-    private void executeLocalRelationalGraphOperation(RelationalGraphFetchExecutionNode node, DoubleStrategyHashMap<Object, Object, SQLExecutionResult> parentMap, List<Method> parentKeyGetters)
+    private void executeLocalRelationalGraphOperation(RelationalGraphFetchExecutionNode node, DoubleStrategyHashMap<Object, Object, SQLExecutionResult> parentMap, GraphFetchKeyGetters parentKeyGetters)
     {
         GraphExecutionState graphExecutionState = (GraphExecutionState) executionState;
 
@@ -1471,7 +1507,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
                 if (nonPrimitiveNode)
                 {
-                    List<Method> primaryKeyGetters = executor.primaryKeyGetters();
+                    GraphFetchKeyGetters primaryKeyGetters = GraphFetchKeyGetters.of(executor.primaryKeyGetters());
                     int primaryKeyCount = primaryKeyGetters.size();
                     DoubleStrategyHashMap<Object, Object, SQLExecutionResult> currentMap = new DoubleStrategyHashMap<>(
                             RelationalGraphFetchUtils.objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(primaryKeyGetters)
@@ -1585,7 +1621,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
             IRelationalRootQueryTempTableGraphFetchExecutionNodeSpecifics nodeSpecifics = ExecutionNodeJavaPlatformHelper.getNodeSpecificsInstance(node, this.executionState, this.identity);
 
-            List<Method> primaryKeyGetters = nodeSpecifics.primaryKeyGetters();
+            GraphFetchKeyGetters primaryKeyGetters = GraphFetchKeyGetters.of(nodeSpecifics.primaryKeyGetters());
 
             /* Check if caching is enabled and fetch caches if required */
             List<Pair<String, String>> allInstanceSetImplementations = nodeSpecifics.allInstanceSetImplementations();
@@ -1598,6 +1634,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
             boolean isUnion = setIdCount > 1;
             AtomicLong batchIndex = new AtomicLong(0L);
+            GraphFetchBatchProfile batchProfile = this.executionState.getGraphFetchExecutionConfiguration().shouldUseLatencyAwareBatching() ? AdaptiveBatching.getBatchProfile(sqlExecutionResult.getSQLExecutionNode().sqlQuery) : null;
             Spliterator<GraphObjectsBatch> graphObjectsBatchSpliterator = new Spliterators.AbstractSpliterator<GraphObjectsBatch>(Long.MAX_VALUE, Spliterator.ORDERED)
             {
                 @Override
@@ -1605,7 +1642,8 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                 {
                     long batchSize;
                     boolean useAdaptiveBatching = executionState.getGraphFetchExecutionConfiguration().shouldUseAdaptiveBatching() && (node.batchSize == null);
-                    batchSize = useAdaptiveBatching ? AdaptiveBatching.getAdaptiveBatchSize(executionState) : (node.batchSize == null ? executionState.getGraphFetchExecutionConfiguration().getGraphFetchDefaultBatchSize() : node.batchSize);
+                    batchSize = useAdaptiveBatching ? AdaptiveBatching.getAdaptiveBatchSize(executionState, batchProfile) : (node.batchSize == null ? executionState.getGraphFetchExecutionConfiguration().getGraphFetchDefaultBatchSize() : node.batchSize);
+                    long batchStart = System.nanoTime();
 
                     /* Ensure all children run in the same connection */
                     RelationalStoreExecutionState relationalStoreExecutionState = (RelationalStoreExecutionState) executionState.getStoreExecutionState(StoreType.Relational);
@@ -1698,11 +1736,17 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                             x.getTwo().put(new RelationalGraphFetchUtils.RelationalObjectGraphFetchCacheKey(object, primaryKeyGetters), object);
                         });
 
+                        // the latency includes the store local children of the batch, cross store children run once it is handed over
+                        if (useAdaptiveBatching && batchProfile != null)
+                        {
+                            batchProfile.recordBatch(objectCount, relationalGraphObjectsBatch.getTotalObjectMemoryUtilization(), System.nanoTime() - batchStart);
+                        }
+
                         action.accept(relationalGraphObjectsBatch);
 
                         return !resultObjects.isEmpty();
                     }
-                    catch (SQLException | InvocationTargetException | IllegalAccessException e)
+                    catch (SQLException e)
                     {
                         throw new RuntimeException(e);
                     }
@@ -1868,7 +1912,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                     databaseConnection
             ); // child to parent map.
 
-            List<Method> primaryKeyGetters = nodeSpecifics.primaryKeyGetters();
+            GraphFetchKeyGetters primaryKeyGetters = GraphFetchKeyGetters.of(nodeSpecifics.primaryKeyGetters());
             DoubleStrategyHashMap<Object, Object, SQLExecutionResult> currentMap = new DoubleStrategyHashMap<>(RelationalGraphFetchUtils.objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(primaryKeyGetters)); // for the children
             realizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.columns);
 
@@ -1952,7 +1996,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                     return new ArrayList<>();
                 }
                 relationalGraphObjectsBatch.setNodeObjectsHashMap(node.nodeIndex, currentMap);
-                relationalGraphObjectsBatch.setNodePrimaryKeyGetters(node.nodeIndex, primaryKeyGetters);
+                relationalGraphObjectsBatch.setNodePrimaryKeyGetters(node.nodeIndex, primaryKeyGetters.getMethods());
 
                 return submitTasksToExecutorIfPossible(node, realizedRelationalResult, databaseConnection, databaseType, databaseTimeZone, relationalGraphObjectsBatch);
             };
@@ -2075,11 +2119,11 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
                 boolean cachingEnabled = false;
                 ExecutionCache<GraphFetchCacheKey, List<Object>> crossCache = relationalGraphObjectsBatch.getXStorePropertyCacheForNodeIndex(node.nodeIndex);
-                List<Method> parentCrossKeyGettersOrderedPerTargetProperties = null;
+                GraphFetchKeyGetters parentCrossKeyGettersOrderedPerTargetProperties = null;
                 if (crossCache != null)
                 {
                     cachingEnabled = true;
-                    parentCrossKeyGettersOrderedPerTargetProperties = nodeSpecifics.parentCrossKeyGettersOrderedByTargetProperties();
+                    parentCrossKeyGettersOrderedPerTargetProperties = GraphFetchKeyGetters.of(nodeSpecifics.parentCrossKeyGettersOrderedByTargetProperties());
                 }
 
                 List<Object> parentsToDeepFetch = new ArrayList<>();
@@ -2112,7 +2156,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                     Map<Object, List<Object>> parentToChildMap = new HashMap<>();
 
                     RealizedRelationalResult parentRealizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.parentTempTableColumns);
-                    List<Method> crossKeyGetters = nodeSpecifics.parentCrossKeyGetters();
+                    GraphFetchKeyGetters crossKeyGetters = GraphFetchKeyGetters.of(nodeSpecifics.parentCrossKeyGetters());
 
                     long rowCount = 0;
                     for (Object parentObject : parentsToDeepFetch)
@@ -2124,7 +2168,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                     {
                         if (cachingEnabled)
                         {
-                            List<Method> getters = parentCrossKeyGettersOrderedPerTargetProperties;
+                            GraphFetchKeyGetters getters = parentCrossKeyGettersOrderedPerTargetProperties;
                             parentToChildMap.forEach((p, cs) ->
                             {
                                 crossCache.put(
@@ -2211,7 +2255,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
                     RealizedRelationalResult realizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.columns);
 
-                    List<Method> primaryKeyGetters = nodeSpecifics.primaryKeyGetters();
+                    GraphFetchKeyGetters primaryKeyGetters = GraphFetchKeyGetters.of(nodeSpecifics.primaryKeyGetters());
                     DoubleStrategyHashMap<Object, Object, SQLExecutionResult> currentMap = new DoubleStrategyHashMap<>(
                             RelationalGraphFetchUtils.objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(primaryKeyGetters)
                     );
@@ -2274,7 +2318,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
                     if (cachingEnabled)
                     {
-                        List<Method> getters = parentCrossKeyGettersOrderedPerTargetProperties;
+                        GraphFetchKeyGetters getters = parentCrossKeyGettersOrderedPerTargetProperties;
                         parentToChildMap.forEach((p, cs) ->
                         {
                             relationalGraphObjectsBatch.addNewXStorePropertyCacheEntry(
@@ -2340,7 +2384,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         }
     }
 
-    private void executeRootTempTableNodeChildren(RelationalTempTableGraphFetchExecutionNode node, RealizedRelationalResult realizedRelationalResult, DatabaseConnection databaseConnection, String databaseType, String databaseTimeZone, DoubleStrategyHashMap<Object, Object, SQLExecutionResult> nodeObjectsMap, List<Method> nodePrimaryKeyGetters)
+    private void executeRootTempTableNodeChildren(RelationalTempTableGraphFetchExecutionNode node, RealizedRelationalResult realizedRelationalResult, DatabaseConnection databaseConnection, String databaseType, String databaseTimeZone, DoubleStrategyHashMap<Object, Object, SQLExecutionResult> nodeObjectsMap, GraphFetchKeyGetters nodePrimaryKeyGetters)
     {
         RelationalGraphObjectsBatch relationalGraphObjectsBatch = (RelationalGraphObjectsBatch) this.executionState.graphObjectsBatch;
 
@@ -2351,7 +2395,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         else
         {
             relationalGraphObjectsBatch.setNodeObjectsHashMap(node.nodeIndex, nodeObjectsMap);
-            relationalGraphObjectsBatch.setNodePrimaryKeyGetters(node.nodeIndex, nodePrimaryKeyGetters);
+            relationalGraphObjectsBatch.setNodePrimaryKeyGetters(node.nodeIndex, nodePrimaryKeyGetters.getMethods());
 
             Queue<DelayedGraphFetchResultWithExecInfo> submittedTasks = new LinkedList<>();
             submittedTasks.addAll(submitTasksToExecutorIfPossible(node, realizedRelationalResult, databaseConnection, databaseType, databaseTimeZone, relationalGraphObjectsBatch));
@@ -2421,7 +2465,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         List<String> parentPrimaryKeyColumnNames = UpperCaseColumnsIfDbConnectionIsNotCaseSensitive(parentPrimaryKeyColumnsSupplier.get(), databaseConnection);
         List<Integer> parentPrimaryKeyIndices = parentPrimaryKeyColumnNames.stream().map(FunctionHelper.unchecked(childResultSet::findColumn)).collect(Collectors.toList());
         DoubleStrategyHashMap<Object, Object, SQLExecutionResult> parentMap = relationalGraphObjectsBatch.getNodeObjectsHashMap(parentIndex);
-        RelationalGraphFetchUtils.switchSecondKeyHashingStrategy(parentMap, relationalGraphObjectsBatch.getNodePrimaryKeyGetters(parentIndex), parentPrimaryKeyIndices);
+        RelationalGraphFetchUtils.switchSecondKeyHashingStrategy(parentMap, GraphFetchKeyGetters.of(relationalGraphObjectsBatch.getNodePrimaryKeyGetters(parentIndex)), parentPrimaryKeyIndices);
         return parentMap;
     }
 
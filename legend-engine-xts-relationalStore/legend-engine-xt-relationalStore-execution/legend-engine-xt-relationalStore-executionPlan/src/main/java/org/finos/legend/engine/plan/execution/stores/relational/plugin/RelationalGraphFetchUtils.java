@@ -37,8 +37,6 @@ import org.finos.legend.engine.shared.core.collectionsExtensions.DoubleStrategyH
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.BiFunction;
@@ -48,60 +46,54 @@ import java.util.stream.Collectors;
 
 class RelationalGraphFetchUtils
 {
-    private static final Function<List<Method>, Function<Object, Integer>> OBJECT_KEYS_HASHING_FUNCTION =
+    private static final Function<GraphFetchKeyGetters, Function<Object, Integer>> OBJECT_KEYS_HASHING_FUNCTION =
             (getters) -> (obj) -> hashWithKeys(obj, getters);
 
-    private static final Function<List<Method>, BiFunction<Object, Object, Boolean>> OBJECT_KEYS_EQUALITY_FUNCTION =
+    private static final Function<GraphFetchKeyGetters, BiFunction<Object, Object, Boolean>> OBJECT_KEYS_EQUALITY_FUNCTION =
             (getters) -> (obj1, obj2) -> equalsWithKeys(obj1, obj2, getters);
 
     private static final Function<List<Integer>, Function<SQLExecutionResult, Integer>> SQL_RESULT_INDICES_HASHING_FUNCTION =
             (indices) -> (obj) -> hashSQLResultWithKeyIndices(obj, indices);
 
-    private static final BiFunction<List<Method>, List<Integer>, BiFunction<Object, SQLExecutionResult, Boolean>> OBJECT_SQL_RESULT_HETEROGENEOUS_EQUALS_FUNCTION =
+    private static final BiFunction<GraphFetchKeyGetters, List<Integer>, BiFunction<Object, SQLExecutionResult, Boolean>> OBJECT_SQL_RESULT_HETEROGENEOUS_EQUALS_FUNCTION =
             (getters, indices) -> (object, sqlResult) -> heterogeneousEqualsObjectAndSQLResult(object, sqlResult, getters, indices);
 
 
     static class RelationalObjectGraphFetchCacheKey extends GraphFetchCacheKey
     {
         Object relationalObject;
-        List<Method> keyGetters;
+        GraphFetchKeyGetters keyGetters;
+        private final int hash;
 
-        RelationalObjectGraphFetchCacheKey(Object relationalObject, List<Method> keyGetters)
+        RelationalObjectGraphFetchCacheKey(Object relationalObject, GraphFetchKeyGetters keyGetters)
         {
             this.relationalObject = relationalObject;
             this.keyGetters = keyGetters;
+            this.hash = hashWithKeys(relationalObject, keyGetters);
         }
 
         @Override
         public String getStringIdentifier()
         {
-            try
+            Object resolvedObject = resolveValueIfIChecked(this.relationalObject);
+            StringBuilder s = new StringBuilder("RelationalObjectGraphFetchCacheKey{");
+            for (int i = 0; i < this.keyGetters.size(); i++)
             {
-                StringBuilder s = new StringBuilder("RelationalObjectGraphFetchCacheKey{");
-                int i = 0;
-                for (Method getter : this.keyGetters)
+                Object val = this.keyGetters.get(i, resolvedObject);
+                s.append(val == null ? "NULL" : val.toString());
+                if (i != this.keyGetters.size() - 1)
                 {
-                    Object val = getter.invoke(resolveValueIfIChecked(this.relationalObject));
-                    s.append(val == null ? "NULL" : val.toString());
-                    i++;
-                    if (i != this.keyGetters.size())
-                    {
-                        s.append("|");
-                    }
+                    s.append("|");
                 }
-                s.append("}");
-                return s.toString();
-            }
-            catch (Exception e)
-            {
-                throw new RuntimeException(e);
             }
+            s.append("}");
+            return s.toString();
         }
 
         @Override
         protected int hash()
         {
-            return hashWithKeys(this.relationalObject, this.keyGetters);
+            return this.hash;
         }
 
         @Override
@@ -193,10 +185,12 @@ class RelationalGraphFetchUtils
         private static final long serialVersionUID = -5965677842102369070L;
 
         Object relationalObject;
-        List<Method> keyGetters;
+        GraphFetchKeyGetters keyGetters;
         List<Object> values;
+        private transient int hash;
+        private transient boolean hashComputed;
 
-        RelationalCrossObjectGraphFetchCacheKey(Object relationalObject, List<Method> keyGetters)
+        RelationalCrossObjectGraphFetchCacheKey(Object relationalObject, GraphFetchKeyGetters keyGetters)
         {
             this.relationalObject = relationalObject;
             this.keyGetters = keyGetters;
@@ -211,7 +205,12 @@ class RelationalGraphFetchUtils
         @Override
         protected int hash()
         {
-            return this.values != null ? hashWithValues(this.values) : hashWithKeys(this.relationalObject, this.keyGetters);
+            if (!this.hashComputed)
+            {
+                this.hash = this.values != null ? hashWithValues(this.values) : hashWithKeys(this.relationalObject, this.keyGetters);
+                this.hashComputed = true;
+            }
+            return this.hash;
         }
 
         @Override
@@ -231,18 +230,7 @@ class RelationalGraphFetchUtils
         {
             if (this.values == null)
             {
-                this.values = new ArrayList<>();
-                try
-                {
-                    for (Method getter : this.keyGetters)
-                    {
-                        this.values.add(getter.invoke(resolveValueIfIChecked(this.relationalObject)));
-                    }
-                }
-                catch (Exception e)
-                {
-                    throw new RuntimeException(e);
-                }
+                this.values = this.keyGetters.keyRow(this.relationalObject);
             }
             return this.values;
         }
@@ -259,7 +247,7 @@ class RelationalGraphFetchUtils
         }
     }
 
-    static DoubleHashingStrategy<Object, SQLExecutionResult> objectSQLResultDoubleHashStrategy(List<Method> keyGetters, List<Integer> keyIndices)
+    static DoubleHashingStrategy<Object, SQLExecutionResult> objectSQLResultDoubleHashStrategy(GraphFetchKeyGetters keyGetters, List<Integer> keyIndices)
     {
         return new DoubleHashingStrategy<>(
                 RelationalGraphFetchUtils.OBJECT_KEYS_HASHING_FUNCTION.apply(keyGetters),
@@ -269,7 +257,7 @@ class RelationalGraphFetchUtils
         );
     }
 
-    static DoubleHashingStrategy<Object, SQLExecutionResult> objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(List<Method> keyGetters)
+    static DoubleHashingStrategy<Object, SQLExecutionResult> objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(GraphFetchKeyGetters keyGetters)
     {
         return new DoubleHashingStrategy<>(
                 RelationalGraphFetchUtils.OBJECT_KEYS_HASHING_FUNCTION.apply(keyGetters),
@@ -279,7 +267,7 @@ class RelationalGraphFetchUtils
         );
     }
 
-    static void switchSecondKeyHashingStrategy(DoubleStrategyHashMap<Object, Object, SQLExecutionResult> hashMap, List<Method> keyGetters, List<Integer> keyIndices)
+    static void switchSecondKeyHashingStrategy(DoubleStrategyHashMap<Object, Object, SQLExecutionResult> hashMap, GraphFetchKeyGetters keyGetters, List<Integer> keyIndices)
     {
         hashMap.switchSecondKeyHashingStrategy(
                 SQL_RESULT_INDICES_HASHING_FUNCTION.apply(keyIndices),
@@ -338,24 +326,18 @@ class RelationalGraphFetchUtils
         return matchingUtilizedCache;
     }
 
-    private static int hashWithKeys(Object obj, List<Method> getters)
+    private static int hashWithKeys(Object obj, GraphFetchKeyGetters getters)
     {
-        try
-        {
-            int hash = 0;
-            int mul = 1;
-            for (Method getter : getters)
-            {
-                Object val = getter.invoke(resolveValueIfIChecked(obj));
-                hash = hash + mul * crossKeyValueHashCode(val);
-                mul = mul * 29;
-            }
-            return hash;
-        }
-        catch (Exception e)
+        Object resolvedObject = resolveValueIfIChecked(obj);
+        int hash = 0;
+        int mul = 1;
+        for (int i = 0; i < getters.size(); i++)
         {
-            throw new RuntimeException(e);
+            Object val = getters.get(i, resolvedObject);
+            hash = hash + mul * crossKeyValueHashCode(val);
+            mul = mul * 29;
         }
+        return hash;
     }
 
     private static int hashWithValues(List<Object> values)
@@ -370,66 +352,52 @@ class RelationalGraphFetchUtils
         return hash;
     }
 
-    private static boolean equalsWithKeys(Object obj1, Object obj2, List<Method> getters)
+    private static boolean equalsWithKeys(Object obj1, Object obj2, GraphFetchKeyGetters getters)
     {
-        try
+        if (obj1 == obj2)
         {
-            if (obj1 == obj2)
-            {
-                return true;
-            }
-            if (obj1 == null || obj2 == null)
-            {
-                return false;
-            }
-
-            for (Method getter : getters)
-            {
-                Object obj1Val = getter.invoke(resolveValueIfIChecked(obj1));
-                Object obj2Val = getter.invoke(resolveValueIfIChecked(obj2));
-                if (!Objects.equals(obj1Val, obj2Val))
-                {
-                    return false;
-                }
-            }
             return true;
         }
-        catch (Exception e)
+        if (obj1 == null || obj2 == null)
         {
-            throw new RuntimeException(e);
+            return false;
         }
-    }
 
-    private static boolean equalsWithDifferentKeys(Object obj1, Object obj2, List<Method> getters1, List<Method> getters2)
-    {
-        try
+        Object resolvedObj1 = resolveValueIfIChecked(obj1);
+        Object resolvedObj2 = resolveValueIfIChecked(obj2);
+        for (int i = 0; i < getters.size(); i++)
         {
-            if (obj1 == obj2)
-            {
-                return true;
-            }
-            if (obj1 == null || obj2 == null)
+            Object obj1Val = getters.get(i, resolvedObj1);
+            Object obj2Val = getters.get(i, resolvedObj2);
+            if (!Objects.equals(obj1Val, obj2Val))
             {
                 return false;
             }
+        }
+        return true;
+    }
 
-            int i = 0;
-            for (Method getter1 : getters1)
-            {
-                Object obj1Val = getter1.invoke(obj1);
-                Object obj2Val = getters2.get(i).invoke(obj2);
-                if (!Objects.equals(obj1Val, obj2Val))
-                {
-                    return false;
-                }
-                i++;
-            }
+    private static boolean equalsWithDifferentKeys(Object obj1, Object obj2, GraphFetchKeyGetters getters1, GraphFetchKeyGetters getters2)
+    {
+        if (obj1 == obj2)
+        {
             return true;
         }
-        catch (Exception e)
+        if (obj1 == null || obj2 == null)
         {
-            throw new RuntimeException(e);
+            return false;
+        }
+
+        for (int i = 0; i < getters1.size(); i++)
+        {
+            Object obj1Val = getters1.get(i, obj1);
+            Object obj2Val = getters2.get(i, obj2);
+            if (!Objects.equals(obj1Val, obj2Val))
+            {
+                return false;
+            }
         }
+        return true;
     }
 
     private static boolean equalsWithValues(List<Object> values1, List<Object> values2)
@@ -447,27 +415,19 @@ class RelationalGraphFetchUtils
         return true;
     }
 
-    private static boolean equalsWithKeysAndValues(Object obj, List<Method> getters, List<Object> values)
+    private static boolean equalsWithKeysAndValues(Object obj, GraphFetchKeyGetters getters, List<Object> values)
     {
-        try
+        Object resolvedObject = resolveValueIfIChecked(obj);
+        for (int i = 0; i < getters.size(); i++)
         {
-            int i = 0;
-            for (Method getter : getters)
+            Object obj1Val = getters.get(i, resolvedObject);
+            Object obj2Val = values.get(i);
+            if (!Objects.equals(obj1Val, obj2Val))
             {
-                Object obj1Val = getter.invoke(resolveValueIfIChecked(obj));
-                Object obj2Val = values.get(i);
-                if (!Objects.equals(obj1Val, obj2Val))
-                {
-                    return false;
-                }
-                i++;
+                return false;
             }
-            return true;
-        }
-        catch (Exception e)
-        {
-            throw new RuntimeException(e);
         }
+        return true;
     }
 
     private static int hashSQLResultWithKeyIndices(SQLExecutionResult sqlExecutionResult, List<Integer> indices)
@@ -490,15 +450,16 @@ class RelationalGraphFetchUtils
         }
     }
 
-    private static boolean heterogeneousEqualsObjectAndSQLResult(Object object, SQLExecutionResult sqlResult, List<Method> getters, List<Integer> indices)
+    private static boolean heterogeneousEqualsObjectAndSQLResult(Object object, SQLExecutionResult sqlResult, GraphFetchKeyGetters getters, List<Integer> indices)
     {
         try
         {
+            Object resolvedObject = resolveValueIfIChecked(object);
             int i = 0;
             for (int index : indices)
             {
                 Object thisVal = sqlResult.getTransformedValue(index);
-                Object thatVal = getters.get(i).invoke(resolveValueIfIChecked(object));
+                Object thatVal = getters.get(i, resolvedObject);
                 if (!crossKeyValuesEqual(thisVal, thatVal))
                 {
                     return false;
@@ -0,0 +1,218 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.plugin;
+
+import io.opentracing.Scope;
+import io.opentracing.util.GlobalTracer;
+import org.finos.legend.engine.plan.execution.result.ResultNormalizer;
+
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Loads the rows of a result set into a temp table with a single prepared {@code INSERT INTO ... VALUES (?, ..., ?)}
+ * statement executed in batches, instead of rendering the rows as literal value tuples into the SQL of each batch.
+ */
+class TempTableRowsBatchInserter
+{
+    static final String ROWS_PLACEHOLDER = "${temp_table_rows_from_result_set}";
+
+    private TempTableRowsBatchInserter()
+    {
+    }
+
+    /**
+     * Returns the parameterized statement for an {@code INSERT INTO <table> VALUES ${temp_table_rows_from_result_set}} load
+     * query, or null if the query has any other shape or other placeholders (in which case the rows have to be rendered
+     * into the query).
+     */
+    static String toParameterizedInsert(String sqlQuery, int columnCount)
+    {
+        String query = sqlQuery.trim();
+        int placeholderIndex = query.length() - ROWS_PLACEHOLDER.length();
+        if (columnCount <= 0 || !query.endsWith(ROWS_PLACEHOLDER) || query.indexOf(ROWS_PLACEHOLDER) != placeholderIndex || query.contains("<#"))
+        {
+            return null;
+        }
+        String insert = query.substring(0, placeholderIndex);
+        // any other placeholder is only resolved when the rows are rendered into the query
+        if (insert.contains("${") || !insert.trim().toUpperCase(Locale.ROOT).endsWith("VALUES"))
+        {
+            return null;
+        }
+        return insert + "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+    }
+
+    /**
+     * Returns the JDBC types of the temp table columns, from the relational types of the result columns the temp table
+     * is created with, or null if any of these types is unknown (in which case the rows have to be rendered into the
+     * query).
+     */
+    static int[] toSqlTypes(List<SQLResultColumn> columns)
+    {
+        int[] sqlTypes = new int[columns.size()];
+        for (int i = 0; i < sqlTypes.length; i++)
+        {
+            Integer sqlType = toSqlType(columns.get(i).dataType);
+            if (sqlType == null)
+            {
+                return null;
+            }
+            sqlTypes[i] = sqlType;
+        }
+        return sqlTypes;
+    }
+
+    private static Integer toSqlType(String dataType)
+    {
+        if (dataType == null)
+        {
+            return null;
+        }
+        String type = dataType.trim().toUpperCase(Locale.ROOT);
+        if (type.startsWith("VARCHAR") || type.startsWith("CHAR"))
+        {
+            return Types.VARCHAR;
+        }
+        if (type.startsWith("BIGINT"))
+        {
+            return Types.BIGINT;
+        }
+        if (type.startsWith("INTEGER"))
+        {
+            return Types.INTEGER;
+        }
+        if (type.startsWith("SMALLINT"))
+        {
+            return Types.SMALLINT;
+        }
+        if (type.startsWith("TINYINT"))
+        {
+            return Types.TINYINT;
+        }
+        if (type.startsWith("FLOAT") || type.startsWith("DOUBLE") || type.startsWith("REAL"))
+        {
+            return Types.DOUBLE;
+        }
+        if (type.startsWith("DECIMAL") || type.startsWith("NUMERIC") || type.startsWith("NUMBER"))
+        {
+            return Types.DECIMAL;
+        }
+        if (type.startsWith("BIT") || type.startsWith("BOOLEAN"))
+        {
+            return Types.BOOLEAN;
+        }
+        // before DATE, which DATETIME starts with
+        if (type.startsWith("TIMESTAMP") || type.startsWith("DATETIME"))
+        {
+            return Types.TIMESTAMP;
+        }
+        if (type.startsWith("DATE"))
+        {
+            return Types.DATE;
+        }
+        return null;
+    }
+
+    /**
+     * Inserts the rows, binding each value with the JDBC type of its column and executing the statement every batchSize
+     * rows. Returns the number of rows inserted.
+     */
+    static long insert(Connection connection, String parameterizedInsert, List<List<Object>> rows, int[] sqlTypes, int batchSize, String databaseTimeZone) throws SQLException
+    {
+        long rowCount = 0;
+        try (Scope ignored = GlobalTracer.get().buildSpan("temp table batch insert").withTag("sql", parameterizedInsert).startActive(true);
+             PreparedStatement statement = connection.prepareStatement(parameterizedInsert))
+        {
+            int pending = 0;
+            for (List<Object> row : rows)
+            {
+                for (int i = 0; i < row.size(); i++)
+                {
+                    bind(statement, i + 1, row.get(i), sqlTypes[i], databaseTimeZone);
+                }
+                statement.addBatch();
+                rowCount++;
+                if (++pending == batchSize)
+                {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0)
+            {
+                statement.executeBatch();
+            }
+        }
+        return rowCount;
+    }
+
+    private static void bind(PreparedStatement statement, int index, Object value, int sqlType, String databaseTimeZone) throws SQLException
+    {
+        if (value == null)
+        {
+            statement.setNull(index, sqlType);
+            return;
+        }
+        switch (sqlType)
+        {
+            case Types.VARCHAR:
+            {
+                statement.setString(index, value instanceof String ? (String) value : ResultNormalizer.normalizeToSql(value, databaseTimeZone).toString());
+                return;
+            }
+            case Types.DATE:
+            {
+                statement.setDate(index, value instanceof Date ? (Date) value : value instanceof java.util.Date ? new Date(((java.util.Date) value).getTime()) : Date.valueOf(normalizedDateTime(value, databaseTimeZone).substring(0, 10)));
+                return;
+            }
+            case Types.TIMESTAMP:
+            {
+                statement.setTimestamp(index, value instanceof Timestamp ? (Timestamp) value : value instanceof java.util.Date ? new Timestamp(((java.util.Date) value).getTime()) : toTimestamp(normalizedDateTime(value, databaseTimeZone)));
+                return;
+            }
+            case Types.BOOLEAN:
+            {
+                statement.setBoolean(index, value instanceof Number ? ((Number) value).intValue() != 0 : Boolean.parseBoolean(value.toString()));
+                return;
+            }
+            default:
+            {
+                // numbers, converted by the driver to the column type
+                statement.setObject(index, value, sqlType);
+            }
+        }
+    }
+
+    private static String normalizedDateTime(Object value, String databaseTimeZone)
+    {
+        // dates are converted to the database time zone, as in the literal value tuples
+        return ResultNormalizer.normalizeToSql(value, databaseTimeZone).toString().trim();
+    }
+
+    private static Timestamp toTimestamp(String dateTime)
+    {
+        return Timestamp.valueOf(dateTime.length() == 10 ? dateTime + " 00:00:00" : dateTime.replace('T', ' '));
+    }
+}
@@ -0,0 +1,131 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Typed access to a column of the current row of a result set, selected once from the result set metadata, so that
+ * serializers can read numeric and boolean columns without boxing the values.
+ * <p>
+ * A primitive getter must be followed by {@link #wasNull()} to tell a null apart from 0 / false.
+ * Columns of kind {@link Kind#OBJECT} have to be read through {@link RelationalResult#getValue(int)}.
+ */
+public class ColumnReader
+{
+    public enum Kind
+    {
+        LONG,
+        DOUBLE,
+        FLOAT,
+        BOOLEAN,
+        OBJECT
+    }
+
+    private final ResultSet resultSet;
+    private final int columnIndex;
+    private final Kind kind;
+
+    ColumnReader(ResultSet resultSet, int columnIndex, Kind kind)
+    {
+        this.resultSet = resultSet;
+        this.columnIndex = columnIndex;
+        this.kind = kind;
+    }
+
+    public int getColumnIndex()
+    {
+        return this.columnIndex;
+    }
+
+    public Kind getKind()
+    {
+        return this.kind;
+    }
+
+    public boolean isPrimitive()
+    {
+        return this.kind != Kind.OBJECT;
+    }
+
+    public long getLong() throws SQLException
+    {
+        return this.resultSet.getLong(this.columnIndex);
+    }
+
+    public double getDouble() throws SQLException
+    {
+        return this.resultSet.getDouble(this.columnIndex);
+    }
+
+    public float getFloat() throws SQLException
+    {
+        return this.resultSet.getFloat(this.columnIndex);
+    }
+
+    public boolean getBoolean() throws SQLException
+    {
+        return this.resultSet.getBoolean(this.columnIndex);
+    }
+
+    public boolean wasNull() throws SQLException
+    {
+        return this.resultSet.wasNull();
+    }
+
+    /**
+     * Readers for each column of a result set (index 0 for column 1), of the kind given by the result set metadata
+     */
+    public static ColumnReader[] forResultSet(ResultSet resultSet) throws SQLException
+    {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        ColumnReader[] readers = new ColumnReader[metaData.getColumnCount()];
+        for (int i = 1; i <= readers.length; i++)
+        {
+            readers[i - 1] = new ColumnReader(resultSet, i, kindOf(metaData, i));
+        }
+        return readers;
+    }
+
+    /**
+     * The kind of reader giving the same value as {@link ResultSet#getObject(int)}, once boxed, for this column
+     */
+    static Kind kindOf(ResultSetMetaData metaData, int columnIndex) throws SQLException
+    {
+        switch (metaData.getColumnType(columnIndex))
+        {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Kind.LONG;
+            case Types.BIGINT:
+                // unsigned 64 bits integers do not fit in a long, drivers return them as BigInteger
+                return metaData.isSigned(columnIndex) ? Kind.LONG : Kind.OBJECT;
+            case Types.DOUBLE:
+                // FLOAT is left out: drivers disagree on whether it is returned as Float or Double
+                return Kind.DOUBLE;
+            case Types.REAL:
+                return Kind.FLOAT;
+            case Types.BOOLEAN:
+                // BIT is left out: some drivers use it for bit strings, returned as byte[]
+                return Kind.BOOLEAN;
+            default:
+                return Kind.OBJECT;
+        }
+    }
+}
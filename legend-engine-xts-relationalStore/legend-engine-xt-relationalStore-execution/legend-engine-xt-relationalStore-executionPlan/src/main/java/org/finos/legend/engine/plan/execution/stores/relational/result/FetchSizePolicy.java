@@ -0,0 +1,126 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalResultFetchSizeConfig;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+
+public class FetchSizePolicy
+{
+    public static final FetchSizePolicy DEFAULT = new FetchSizePolicy(new RelationalResultFetchSizeConfig());
+
+    // per column bookkeeping (null flags, offsets...) added on top of the value itself
+    private static final int COLUMN_OVERHEAD_BYTES = 8;
+    // width assumed for variable length columns which do not report a usable size (e.g. VARCHAR without length, CLOB)
+    private static final int UNBOUNDED_COLUMN_BYTES = 256;
+
+    private final RelationalResultFetchSizeConfig config;
+
+    public FetchSizePolicy(RelationalResultFetchSizeConfig config)
+    {
+        this.config = config == null ? new RelationalResultFetchSizeConfig() : config;
+    }
+
+    /**
+     * Sets the configured fetch size for the database type, if any, on a statement about to be executed
+     */
+    public void beforeExecution(Statement statement, String databaseType) throws SQLException
+    {
+        Integer fetchSize = this.config.getFetchSize(databaseType);
+        if (fetchSize != null)
+        {
+            statement.setFetchSize(fetchSize);
+        }
+    }
+
+    /**
+     * Re-sizes the fetch size of an executed result set from its shape, when adaptive, and returns the fetch size requested from the driver
+     */
+    public int afterExecution(ResultSet resultSet, ResultSetMetaData metaData) throws SQLException
+    {
+        if (this.config.isAdaptive())
+        {
+            int fetchSize = adaptiveFetchSize(estimateRowBytes(metaData));
+            resultSet.setFetchSize(fetchSize);
+            return fetchSize;
+        }
+        return resultSet.getFetchSize();
+    }
+
+    public int adaptiveFetchSize(long rowBytes)
+    {
+        long fetchSize = this.config.getTargetFetchBytes() / Math.max(rowBytes, 1);
+        return (int) Math.max(this.config.getMinFetchSize(), Math.min(this.config.getMaxFetchSize(), fetchSize));
+    }
+
+    public static long estimateRowBytes(ResultSetMetaData metaData) throws SQLException
+    {
+        long rowBytes = 0;
+        for (int i = 1; i <= metaData.getColumnCount(); i++)
+        {
+            rowBytes += COLUMN_OVERHEAD_BYTES + estimateColumnBytes(metaData.getColumnType(i), metaData.getPrecision(i));
+        }
+        return rowBytes;
+    }
+
+    private static int estimateColumnBytes(int sqlType, int precision)
+    {
+        switch (sqlType)
+        {
+            case Types.BIT:
+            case Types.BOOLEAN:
+            case Types.TINYINT:
+                return 1;
+            case Types.SMALLINT:
+                return 2;
+            case Types.INTEGER:
+            case Types.REAL:
+            case Types.DATE:
+                return 4;
+            case Types.BIGINT:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.TIME:
+                return 8;
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return 12;
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return 16;
+            default:
+                // character and binary types: precision is the declared length, when reported
+                return precision > 0 && precision < UNBOUNDED_COLUMN_BYTES ? precision : UNBOUNDED_COLUMN_BYTES;
+        }
+    }
+
+    /**
+     * Number of round trips a driver honouring the fetch size needs to bring back the given number of rows, or -1 when the fetch size is
+     * not known (drivers report 0 when left to their own default)
+     */
+    public static long roundTrips(long rowCount, int fetchSize)
+    {
+        if (fetchSize <= 0)
+        {
+            return -1;
+        }
+        return rowCount / fetchSize + 1;
+    }
+}
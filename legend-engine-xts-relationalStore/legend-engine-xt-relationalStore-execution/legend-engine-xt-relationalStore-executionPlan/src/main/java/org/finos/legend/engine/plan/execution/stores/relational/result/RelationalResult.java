@@ -46,6 +46,7 @@ import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
@@ -85,12 +86,12 @@ import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.SQLExe
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSColumn;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSResultType;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseConnection;
-import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
 import org.finos.legend.engine.shared.core.api.request.RequestContext;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 import org.slf4j.Logger;
 
 public class RelationalResult extends StreamingResult implements IRelationalResult, StoreExecutable
@@ -123,6 +124,10 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
     public Builder builder;
     private Calendar calendar;
 
+    private int fetchSize;
+    private long fetchedRowCount = -1;
+    private ColumnReader[] columnReaders;
+
     public RelationalResult(MutableList<ExecutionActivity> activities, RelationalExecutionNode node, List<SQLResultColumn> sqlResultColumns, String databaseType, String databaseTimeZone, Connection connection, Identity identity, List<String> temporaryTables, Span topSpan)
     {
         this(activities, node, sqlResultColumns, databaseType, databaseTimeZone, connection, identity, temporaryTables, topSpan, new RequestContext());
@@ -134,6 +139,11 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
     }
 
     public RelationalResult(MutableList<ExecutionActivity> activities, RelationalExecutionNode node, List<SQLResultColumn> sqlResultColumns, String databaseType, String databaseTimeZone, Connection connection, Identity identity, List<String> temporaryTables, Span topSpan, RequestContext requestContext, boolean logSQLWithParamValues)
+    {
+        this(activities, node, sqlResultColumns, databaseType, databaseTimeZone, connection, identity, temporaryTables, topSpan, requestContext, logSQLWithParamValues, FetchSizePolicy.DEFAULT);
+    }
+
+    public RelationalResult(MutableList<ExecutionActivity> activities, RelationalExecutionNode node, List<SQLResultColumn> sqlResultColumns, String databaseType, String databaseTimeZone, Connection connection, Identity identity, List<String> temporaryTables, Span topSpan, RequestContext requestContext, boolean logSQLWithParamValues, FetchSizePolicy fetchSizePolicy)
     {
         super(activities);
         this.databaseType = databaseType;
@@ -145,10 +155,7 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         {
             this.connection = connection;
             this.statement = connection.createStatement();
-            if (DatabaseType.MemSQL.name().equals(databaseType))
-            {
-                this.statement.setFetchSize(100);
-            }
+            fetchSizePolicy.beforeExecution(this.statement, databaseType);
 
             if (requestContext != null)
             {
@@ -164,6 +171,7 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
             this.executedSQl = sql;
             LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTION_RELATIONAL_STOP, (double) System.currentTimeMillis() - start).toString());
             this.resultSetMetaData = resultSet.getMetaData();
+            this.fetchSize = fetchSizePolicy.afterExecution(this.resultSet, this.resultSetMetaData);
             this.columnCount = this.resultSetMetaData.getColumnCount();
             this.resultColumns = sqlResultColumns;
             this.resultDBColumnsMetaData = new SQLResultDBColumnsMetaData(this.resultColumns, this.resultSetMetaData);
@@ -208,6 +216,7 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
             this.resultSet = sqlExecutionResult.getResultSet();
             this.executedSQl = sqlExecutionResult.getExecutedSql();
             this.resultSetMetaData = sqlExecutionResult.getResultSetMetaData();
+            this.fetchSize = sqlExecutionResult.getFetchSize();
             this.columnCount = sqlExecutionResult.getColumnCount();
             this.sqlColumns = sqlExecutionResult.getColumnNames();
             this.columnListForSerializer = this.sqlColumns;
@@ -381,9 +390,27 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         return this.databaseTimeZone;
     }
 
+    /**
+     * Records how many rows were streamed out of the result set, to report the fetch round trips on close
+     */
+    public void setFetchedRowCount(long fetchedRowCount)
+    {
+        this.fetchedRowCount = fetchedRowCount;
+    }
+
     @Override
     public void close()
     {
+        if (fetchedRowCount >= 0)
+        {
+            long roundTrips = FetchSizePolicy.roundTrips(fetchedRowCount, fetchSize);
+            if (roundTrips >= 0)
+            {
+                MetricsHandler.observeRelationalFetchRoundTrips(this.databaseType, roundTrips);
+            }
+            fetchedRowCount = -1;
+        }
+
         if (temporaryTables != null && statement != null)
         {
             temporaryTables.forEach((Consumer<? super String>) table ->
@@ -466,6 +493,34 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         return this.setTransformers.size() == 1 ? this.setTransformers.get(0).transformers : this.setTransformers.get(this.resultSet.getInt("u_type")).transformers;
     }
 
+    /**
+     * Returns true when values of the column are serialized as read, i.e. whatever the row's set implementation, the column transformer is the identity
+     */
+    public boolean hasIdentityTransformer(int columnIndex)
+    {
+        return this.setTransformers.size() == 1 && this.setTransformers.get(0).transformers.get(columnIndex - 1) == Functions.identity();
+    }
+
+    /**
+     * Readers for each column (index 0 for column 1), giving unboxed access to the columns for which {@link #getValue(int)} is a plain getObject of a primitive
+     */
+    public ColumnReader[] getColumnReaders() throws SQLException
+    {
+        if (this.columnReaders == null)
+        {
+            ColumnReader[] readers = ColumnReader.forResultSet(this.resultSet);
+            for (int i = 1; i <= this.columnCount; i++)
+            {
+                if (resultDBColumnsMetaData.isTimestampColumn(i) || resultDBColumnsMetaData.isDateColumn(i) || resultDBColumnsMetaData.isArrayColumn(i) || resultDBColumnsMetaData.isVariantColumn(i) || resultDBColumnsMetaData.isBinaryColumn(i))
+                {
+                    readers[i - 1] = new ColumnReader(this.resultSet, i, ColumnReader.Kind.OBJECT);
+                }
+            }
+            this.columnReaders = readers;
+        }
+        return this.columnReaders;
+    }
+
     public Object getValue(int columnIndex) throws SQLException
     {
         Object result;
@@ -648,6 +703,11 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         return result;
     }
 
+    public Connection getConnection()
+    {
+        return this.connection;
+    }
+
     @Override
     public ResultSet getResultSet()
     {
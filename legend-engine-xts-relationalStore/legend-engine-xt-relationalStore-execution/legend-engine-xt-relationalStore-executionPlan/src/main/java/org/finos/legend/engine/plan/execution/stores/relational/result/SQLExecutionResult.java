@@ -51,6 +51,7 @@ public class SQLExecutionResult extends SQLResult
     private final String executedSql;
 
     private final int columnCount;
+    private final int fetchSize;
     private final List<String> columnNames = FastList.newList();
     private final List<ResultColumn> resultColumns = FastList.newList();
     private final List<SQLResultColumn> sqlResultColumns;
@@ -68,7 +69,12 @@ public class SQLExecutionResult extends SQLResult
 
     public SQLExecutionResult(List<ExecutionActivity> activities, SQLExecutionNode SQLExecutionNode, String databaseType, String databaseTimeZone, Connection connection, Identity identity, List<String> temporaryTables, Span topSpan, RequestContext requestContext, boolean logSQLWithParamValues)
     {
-        super("success", connection, SQLExecutionNode.connection, activities, databaseType, temporaryTables, requestContext);
+        this(activities, SQLExecutionNode, databaseType, databaseTimeZone, connection, identity, temporaryTables, topSpan, requestContext, logSQLWithParamValues, FetchSizePolicy.DEFAULT);
+    }
+
+    public SQLExecutionResult(List<ExecutionActivity> activities, SQLExecutionNode SQLExecutionNode, String databaseType, String databaseTimeZone, Connection connection, Identity identity, List<String> temporaryTables, Span topSpan, RequestContext requestContext, boolean logSQLWithParamValues, FetchSizePolicy fetchSizePolicy)
+    {
+        super("success", connection, SQLExecutionNode.connection, activities, databaseType, temporaryTables, requestContext, fetchSizePolicy);
         this.SQLExecutionNode = SQLExecutionNode;
         this.databaseTimeZone = databaseTimeZone;
         this.calendar = new GregorianCalendar(TimeZone.getTimeZone(databaseTimeZone));
@@ -89,6 +95,7 @@ public class SQLExecutionResult extends SQLResult
             this.executedSql = sql;
 
             this.resultSetMetaData = resultSet.getMetaData();
+            this.fetchSize = fetchSizePolicy.afterExecution(this.resultSet, this.resultSetMetaData);
 
             this.columnCount = this.resultSetMetaData.getColumnCount();
 
@@ -173,6 +180,11 @@ public class SQLExecutionResult extends SQLResult
         return this.columnCount;
     }
 
+    public int getFetchSize()
+    {
+        return this.fetchSize;
+    }
+
     public List<SQLResultColumn> getSqlResultColumns()
     {
         return sqlResultColumns;
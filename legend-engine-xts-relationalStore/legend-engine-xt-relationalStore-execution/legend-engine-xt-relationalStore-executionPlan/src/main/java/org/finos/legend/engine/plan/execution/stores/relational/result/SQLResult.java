@@ -21,7 +21,6 @@ import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.ResultVisitor;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutable;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
-import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseConnection;
 import org.finos.legend.engine.shared.core.api.request.RequestContext;
 import org.finos.legend.engine.shared.core.identity.Identity;
@@ -47,6 +46,11 @@ public abstract class SQLResult extends Result implements StoreExecutable
     private final RequestContext requestContext;
 
     public SQLResult(String status, Connection connection, DatabaseConnection protocolConnection, List<ExecutionActivity> activities, String databaseType, List<String> temporaryTables, RequestContext requestContext)
+    {
+        this(status, connection, protocolConnection, activities, databaseType, temporaryTables, requestContext, FetchSizePolicy.DEFAULT);
+    }
+
+    public SQLResult(String status, Connection connection, DatabaseConnection protocolConnection, List<ExecutionActivity> activities, String databaseType, List<String> temporaryTables, RequestContext requestContext, FetchSizePolicy fetchSizePolicy)
     {
         super(status, activities);
 
@@ -58,10 +62,7 @@ public abstract class SQLResult extends Result implements StoreExecutable
         try
         {
             this.statement = connection.createStatement();
-            if (DatabaseType.MemSQL.name().equals(databaseType))
-            {
-                this.statement.setFetchSize(100);
-            }
+            fetchSizePolicy.beforeExecution(this.statement, databaseType);
             if (protocolConnection.queryTimeOutInSeconds != null)
             {
                 this.statement.setQueryTimeout(protocolConnection.queryTimeOutInSeconds);
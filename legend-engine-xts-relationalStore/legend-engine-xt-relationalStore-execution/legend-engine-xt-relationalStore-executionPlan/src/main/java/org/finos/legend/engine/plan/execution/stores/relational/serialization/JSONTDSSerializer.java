@@ -109,6 +109,7 @@ public class JSONTDSSerializer extends Serializer
             if (relationalResult.resultSet.next())
             {
                 processRow(outputStream);
+                rowCount++;
             }
         }
         try (Scope scope = GlobalTracer.get().buildSpan("Relational Streaming: remaining rows").startActive(true))
@@ -117,8 +118,10 @@ public class JSONTDSSerializer extends Serializer
             {
                 outputStream.write(b_comma);
                 processRow(outputStream);
+                rowCount++;
             }
             scope.span().setTag("rowCount", rowCount);
+            relationalResult.setFetchedRowCount(rowCount);
             if (relationalResult.topSpan != null)
             {
                 relationalResult.topSpan.setTag("lastQueryRowCount", rowCount);
@@ -25,6 +25,7 @@ import org.finos.legend.engine.plan.execution.result.serialization.ExecutionResu
 import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.AggregationAwareActivity;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.result.ColumnReader;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
 import org.finos.legend.engine.plan.execution.stores.relational.result.ResultInterpreterExtension;
 import org.finos.legend.engine.plan.execution.stores.relational.result.ResultInterpreterExtensionLoader;
@@ -51,6 +52,7 @@ import java.util.Map;
     private final ObjectMapper objectMapper = ExecutionResultObjectMapperFactory.getNewObjectMapper();
     private final RelationalResult relationalResult;
     private final int batchSize;
+    private ColumnReader[] columnReaders;
 
     public RelationalResultToArrowIPCSerializer(RelationalResult relationalResult)
     {
@@ -190,6 +192,7 @@ import java.util.Map;
     {
         int totalRows = 0;
         int rowsInBatch = 0;
+        this.columnReaders = relationalResult.getColumnReaders();
         root.allocateNew();
 
         try (Scope ignored = GlobalTracer.get().buildSpan("Arrow Streaming: Fetch first row").startActive(true))
@@ -234,6 +237,7 @@ import java.util.Map;
             }
 
             rest.span().setTag("rowCount", totalRows);
+            relationalResult.setFetchedRowCount(totalRows);
             if (relationalResult.topSpan != null)
             {
                 relationalResult.topSpan.setTag("lastQueryRowCount", totalRows);
@@ -249,6 +253,11 @@ import java.util.Map;
         for (int i = 1; i <= columnCount; i++)
         {
             FieldVector v = root.getVector(i - 1);
+            if (columnReaders[i - 1].isPrimitive())
+            {
+                setPrimitiveValue(v, rowIdx, columnReaders[i - 1]);
+                continue;
+            }
             Object value = relationalResult.getValue(i);
             if (value == null || rs.wasNull())
             {
@@ -271,6 +280,68 @@ import java.util.Map;
         }
     }
 
+    // primitive columns are mapped by jdbcToArrow to int, floating point or bit vectors
+    private void setPrimitiveValue(FieldVector v, int idx, ColumnReader reader) throws Exception
+    {
+        switch (reader.getKind())
+        {
+            case LONG:
+            {
+                long value = reader.getLong();
+                if (reader.wasNull())
+                {
+                    setNull(v, idx);
+                }
+                else
+                {
+                    ((BaseIntVector) v).setWithPossibleTruncate(idx, value);
+                }
+                break;
+            }
+            case DOUBLE:
+            {
+                double value = reader.getDouble();
+                if (reader.wasNull())
+                {
+                    setNull(v, idx);
+                }
+                else
+                {
+                    ((Float8Vector) v).setSafe(idx, value);
+                }
+                break;
+            }
+            case FLOAT:
+            {
+                float value = reader.getFloat();
+                if (reader.wasNull())
+                {
+                    setNull(v, idx);
+                }
+                else
+                {
+                    ((Float4Vector) v).setSafe(idx, value);
+                }
+                break;
+            }
+            case BOOLEAN:
+            {
+                boolean value = reader.getBoolean();
+                if (reader.wasNull())
+                {
+                    setNull(v, idx);
+                }
+                else
+                {
+                    ((BitVector) v).setSafe(idx, value ? 1 : 0);
+                }
+                break;
+            }
+            default:
+                throw new IllegalStateException("Unexpected column kind: " + reader.getKind());
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private void setValue(FieldVector v, int idx, Object value) throws Exception
     {
@@ -16,16 +16,21 @@ package org.finos.legend.engine.plan.execution.stores.relational.serialization;
 
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.QuoteMode;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.engine.plan.execution.result.serialization.CsvSerializer;
+import org.finos.legend.engine.plan.execution.stores.relational.result.ColumnReader;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
 
 import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -71,7 +76,7 @@ public class RelationalResultToCSVSerializer extends CsvSerializer
         {
             Writer out = new BufferedWriter(new OutputStreamWriter(targetStream));
             csvPrinter = new CSVPrinter(out, this.csvFormat);
-            csvPrinter.printRecords(relationalResult.resultSet);
+            printRecords(csvPrinter);
             csvPrinter.close();
         }
         catch (Exception e)
@@ -95,6 +100,56 @@ public class RelationalResultToCSVSerializer extends CsvSerializer
         }
     }
 
+    // same records as CSVPrinter.printRecords(ResultSet), printing numeric and boolean columns without boxing their values
+    private void printRecords(CSVPrinter csvPrinter) throws SQLException, IOException
+    {
+        ResultSet resultSet = relationalResult.resultSet;
+        // NON_NUMERIC quoting depends on the type of the printed object, which has to remain the boxed value
+        ColumnReader[] readers = this.csvFormat.getQuoteMode() == QuoteMode.NON_NUMERIC ? null : relationalResult.getColumnReaders();
+        StringBuilder buffer = new StringBuilder();
+        long rowCount = 0;
+        while (resultSet.next())
+        {
+            for (int i = 1; i <= relationalResult.columnCount; i++)
+            {
+                if (readers != null && readers[i - 1].isPrimitive())
+                {
+                    csvPrinter.print(readPrimitive(readers[i - 1], buffer));
+                }
+                else
+                {
+                    csvPrinter.print(resultSet.getObject(i));
+                }
+            }
+            csvPrinter.println();
+            rowCount++;
+        }
+        relationalResult.setFetchedRowCount(rowCount);
+    }
+
+    private static CharSequence readPrimitive(ColumnReader reader, StringBuilder buffer) throws SQLException
+    {
+        buffer.setLength(0);
+        switch (reader.getKind())
+        {
+            case LONG:
+                buffer.append(reader.getLong());
+                break;
+            case DOUBLE:
+                buffer.append(reader.getDouble());
+                break;
+            case FLOAT:
+                buffer.append(reader.getFloat());
+                break;
+            case BOOLEAN:
+                buffer.append(reader.getBoolean());
+                break;
+            default:
+                throw new IllegalStateException("Unexpected column kind: " + reader.getKind());
+        }
+        return reader.wasNull() ? null : buffer;
+    }
+
     @Override
     public List<Pair<String, String>> getHeaderColumnsAndTypes()
     {
@@ -23,11 +23,13 @@ import io.opentracing.Scope;
 import io.opentracing.util.GlobalTracer;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.engine.plan.execution.result.serialization.ExecutionResultObjectMapperFactory;
 import org.finos.legend.engine.plan.execution.result.serialization.Serializer;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.AggregationAwareActivity;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.result.ColumnReader;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
 import org.finos.legend.engine.plan.execution.stores.relational.result.ResultInterpreterExtension;
 import org.finos.legend.engine.plan.execution.stores.relational.result.ResultInterpreterExtensionLoader;
@@ -53,7 +55,13 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
     private final byte[] b_values = "{\"values\": [".getBytes();
     private final byte[] b_end = "]}".getBytes();
     private final byte[] b_endResult = "}".getBytes();
+    private final byte[] b_null = "null".getBytes();
+    private final byte[] b_true = "true".getBytes();
+    private final byte[] b_false = "false".getBytes();
+    private final byte[] digits = new byte[20];
     private final ValueTransformer transformer = new ValueTransformer();
+    private ColumnReader[] primitiveReaders;
+    private MutableList<java.util.function.Function<Object, String>> converters;
 
     public RelationalResultToJsonDefaultSerializer(RelationalResult relationalResult)
     {
@@ -98,6 +106,7 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
     private void streamRows(OutputStream outputStream) throws Exception
     {
         int rowCount = 0;
+        prepareColumns();
         try (Scope scope = GlobalTracer.get().buildSpan("Relational Streaming: Fetch first row").startActive(true))
         {
             if (!relationalResult.resultSet.isClosed() && relationalResult.resultSet.next())
@@ -115,6 +124,7 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
                 rowCount++;
             }
             scope.span().setTag("rowCount", rowCount);
+            relationalResult.setFetchedRowCount(rowCount);
             if (relationalResult.topSpan != null)
             {
                 relationalResult.topSpan.setTag("lastQueryRowCount", rowCount);
@@ -125,19 +135,121 @@ public class RelationalResultToJsonDefaultSerializer extends Serializer
     private void processRow(OutputStream outputStream) throws IOException, SQLException
     {
         outputStream.write(b_values);
-
-
         for (int i = 1; i <= relationalResult.columnCount - 1; i++)
         {
-            Object value = relationalResult.getValue(i);
-
-            outputStream.write((transformer.transformWrappedRelationalValueForJSON(value, relationalResult.getTransformers().get(i - 1).andThen(purePrimitiveToJsonConverter))).getBytes());
+            writeValue(outputStream, i);
             outputStream.write(b_comma);
         }
-        outputStream.write((transformer.transformWrappedRelationalValueForJSON(relationalResult.getValue(relationalResult.columnCount), relationalResult.getTransformers().get(relationalResult.columnCount - 1).andThen(purePrimitiveToJsonConverter))).getBytes());
+        writeValue(outputStream, relationalResult.columnCount);
         outputStream.write(b_end);
     }
 
+    private void prepareColumns() throws SQLException
+    {
+        ColumnReader[] readers = relationalResult.getColumnReaders();
+        this.primitiveReaders = new ColumnReader[relationalResult.columnCount];
+        for (int i = 1; i <= relationalResult.columnCount; i++)
+        {
+            if (readers[i - 1].isPrimitive() && relationalResult.hasIdentityTransformer(i))
+            {
+                this.primitiveReaders[i - 1] = readers[i - 1];
+            }
+        }
+        if (relationalResult.setTransformers.size() == 1)
+        {
+            this.converters = relationalResult.setTransformers.get(0).transformers.collect(t -> t.andThen(purePrimitiveToJsonConverter));
+        }
+    }
+
+    private void writeValue(OutputStream outputStream, int columnIndex) throws IOException, SQLException
+    {
+        ColumnReader reader = this.primitiveReaders[columnIndex - 1];
+        if (reader != null)
+        {
+            writePrimitive(outputStream, reader);
+            return;
+        }
+        java.util.function.Function<Object, String> converter = this.converters == null ? relationalResult.getTransformers().get(columnIndex - 1).andThen(purePrimitiveToJsonConverter) : this.converters.get(columnIndex - 1);
+        outputStream.write(transformer.transformWrappedRelationalValueForJSON(relationalResult.getValue(columnIndex), converter).getBytes());
+    }
+
+    // same output as the pure primitive converter on the boxed value, without boxing it
+    private void writePrimitive(OutputStream outputStream, ColumnReader reader) throws IOException, SQLException
+    {
+        switch (reader.getKind())
+        {
+            case LONG:
+            {
+                long value = reader.getLong();
+                if (reader.wasNull())
+                {
+                    outputStream.write(b_null);
+                }
+                else
+                {
+                    writeLong(outputStream, value);
+                }
+                break;
+            }
+            case DOUBLE:
+            {
+                double value = reader.getDouble();
+                if (reader.wasNull() || Double.isNaN(value) || Double.isInfinite(value))
+                {
+                    outputStream.write(b_null);
+                }
+                else
+                {
+                    outputStream.write(Double.toString(value).getBytes());
+                }
+                break;
+            }
+            case FLOAT:
+            {
+                float value = reader.getFloat();
+                if (reader.wasNull() || Float.isNaN(value) || Float.isInfinite(value))
+                {
+                    outputStream.write(b_null);
+                }
+                else
+                {
+                    outputStream.write(Float.toString(value).getBytes());
+                }
+                break;
+            }
+            case BOOLEAN:
+            {
+                boolean value = reader.getBoolean();
+                outputStream.write(reader.wasNull() ? b_null : value ? b_true : b_false);
+                break;
+            }
+            default:
+                throw new IllegalStateException("Unexpected column kind: " + reader.getKind());
+        }
+    }
+
+    private void writeLong(OutputStream outputStream, long value) throws IOException
+    {
+        if (value == Long.MIN_VALUE)
+        {
+            outputStream.write(Long.toString(value).getBytes());
+            return;
+        }
+        int position = digits.length;
+        long remaining = Math.abs(value);
+        do
+        {
+            digits[--position] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        while (remaining != 0);
+        if (value < 0)
+        {
+            digits[--position] = '-';
+        }
+        outputStream.write(digits, position, digits.length - position);
+    }
+
 
     private void streamCollection(OutputStream outputStream, List collection) throws IOException
     {
@@ -110,6 +110,7 @@ public class RelationalResultToPureFormatSerializer extends Serializer
                 rowCount++;
             }
             scope.span().setTag("rowCount", rowCount);
+            relationalResult.setFetchedRowCount(rowCount);
             if (relationalResult.topSpan != null)
             {
                 relationalResult.topSpan.setTag("lastQueryRowCount", rowCount);
@@ -28,7 +28,6 @@ import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.TempTa
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
 
 import java.io.BufferedWriter;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
@@ -73,8 +72,7 @@ public class StreamingTempTableResultCSVSerializer extends CsvSerializer
     {
         final Stream<?> inputStream = this.tempTableStreamingResult.inputStream;
 
-        try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-             Writer out = new BufferedWriter(new OutputStreamWriter(byteArrayOutputStream));
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(targetStream));
              CSVPrinter csvPrinter = new CSVPrinter(out, this.csvFormat);)
         {
             String connectionTimeZone = this.tempTableStreamingResult.getRelationalDatabaseTimeZone();
@@ -125,7 +123,6 @@ public class StreamingTempTableResultCSVSerializer extends CsvSerializer
             }
 
             csvPrinter.close();
-            byteArrayOutputStream.writeTo(targetStream);
         }
         catch (Exception e)
         {
@@ -0,0 +1,137 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.plugin;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.BasicChecked;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+public class TestGraphFetchKeyGetters
+{
+    @Test
+    public void testKeyRowMatchesReflection() throws Exception
+    {
+        List<Method> methods = Lists.mutable.with(Person.class.getMethod("getId"), Person.class.getMethod("getName"), Person.class.getMethod("getAge"), Person.class.getMethod("isActive"));
+        GraphFetchKeyGetters keyGetters = GraphFetchKeyGetters.of(methods);
+
+        for (Person person : Arrays.asList(new Person("P1", "Smith", 42, true), new Person(null, null, 0, false)))
+        {
+            List<Object> expected = Lists.mutable.empty();
+            for (Method method : methods)
+            {
+                expected.add(method.invoke(person));
+            }
+            Assert.assertEquals(expected, keyGetters.keyRow(person));
+            Assert.assertEquals(expected, keyGetters.keyRow(BasicChecked.newChecked(person, null)));
+            for (int i = 0; i < methods.size(); i++)
+            {
+                Assert.assertEquals(expected.get(i), keyGetters.get(i, person));
+            }
+        }
+        Assert.assertSame(methods, keyGetters.getMethods());
+    }
+
+    @Test
+    public void testAccessorsCachedPerGetter() throws Exception
+    {
+        Assert.assertSame(GraphFetchKeyGetters.accessor(Person.class.getMethod("getId")), GraphFetchKeyGetters.accessor(Person.class.getMethod("getId")));
+        Assert.assertNotSame(GraphFetchKeyGetters.accessor(Person.class.getMethod("getId")), GraphFetchKeyGetters.accessor(Person.class.getMethod("getName")));
+    }
+
+    @Test
+    public void testInterfaceAndNonPublicGetters() throws Exception
+    {
+        GraphFetchKeyGetters interfaceGetters = GraphFetchKeyGetters.of(Lists.mutable.with(Keyed.class.getMethod("getKey")));
+        Assert.assertEquals(Lists.mutable.with("P2"), interfaceGetters.keyRow(new Person("P2", "Jones", 7, false)));
+
+        Method hidden = Hidden.class.getDeclaredMethod("getValue");
+        hidden.setAccessible(true);
+        GraphFetchKeyGetters hiddenGetters = GraphFetchKeyGetters.of(Lists.mutable.with(hidden));
+        Assert.assertEquals(Lists.mutable.with("hidden"), hiddenGetters.keyRow(new Hidden()));
+    }
+
+    @Test
+    public void testGetterExceptionPropagated() throws Exception
+    {
+        GraphFetchKeyGetters keyGetters = GraphFetchKeyGetters.of(Lists.mutable.with(Person.class.getMethod("getFailing")));
+        IllegalStateException e = Assert.assertThrows(IllegalStateException.class, () -> keyGetters.keyRow(new Person("P3", null, 1, true)));
+        Assert.assertEquals("failing getter", e.getMessage());
+    }
+
+    public interface Keyed
+    {
+        String getKey();
+    }
+
+    public static class Person implements Keyed
+    {
+        private final String id;
+        private final String name;
+        private final int age;
+        private final boolean active;
+
+        Person(String id, String name, int age, boolean active)
+        {
+            this.id = id;
+            this.name = name;
+            this.age = age;
+            this.active = active;
+        }
+
+        public String getId()
+        {
+            return this.id;
+        }
+
+        public String getName()
+        {
+            return this.name;
+        }
+
+        public int getAge()
+        {
+            return this.age;
+        }
+
+        public boolean isActive()
+        {
+            return this.active;
+        }
+
+        public String getFailing()
+        {
+            throw new IllegalStateException("failing getter");
+        }
+
+        @Override
+        public String getKey()
+        {
+            return this.id;
+        }
+    }
+
+    private static class Hidden
+    {
+        private String getValue()
+        {
+            return "hidden";
+        }
+    }
+}
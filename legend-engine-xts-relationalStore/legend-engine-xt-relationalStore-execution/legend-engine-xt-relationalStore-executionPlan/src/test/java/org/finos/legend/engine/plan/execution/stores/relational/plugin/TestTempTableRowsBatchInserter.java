@@ -0,0 +1,195 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.plugin;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class TestTempTableRowsBatchInserter
+{
+    private static final String LOAD_QUERY = "INSERT INTO %s VALUES ${temp_table_rows_from_result_set}";
+    private static final int[] SQL_TYPES = TempTableRowsBatchInserter.toSqlTypes(Lists.mutable.with(
+            new SQLResultColumn("id", "INTEGER"),
+            new SQLResultColumn("name", "VARCHAR(50)"),
+            new SQLResultColumn("birth", "DATE"),
+            new SQLResultColumn("updated", "TIMESTAMP"),
+            new SQLResultColumn("salary", "DECIMAL(10, 2)")));
+
+    private Connection connection;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        connection = DriverManager.getConnection("jdbc:h2:mem:tempTableRows;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement())
+        {
+            statement.execute("CREATE TABLE literal_rows(id INTEGER, name VARCHAR(50), birth DATE, updated TIMESTAMP, salary DECIMAL(10, 2))");
+            statement.execute("CREATE TABLE batched_rows(id INTEGER, name VARCHAR(50), birth DATE, updated TIMESTAMP, salary DECIMAL(10, 2))");
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        try (Statement statement = connection.createStatement())
+        {
+            statement.execute("DROP TABLE literal_rows");
+            statement.execute("DROP TABLE batched_rows");
+        }
+        connection.close();
+    }
+
+    @Test
+    public void testParameterizedInsert()
+    {
+        Assert.assertEquals("INSERT INTO temp_1 VALUES (?, ?, ?)", TempTableRowsBatchInserter.toParameterizedInsert("INSERT INTO temp_1 VALUES ${temp_table_rows_from_result_set}", 3));
+        Assert.assertEquals("insert into \"temp_1\" values (?)", TempTableRowsBatchInserter.toParameterizedInsert(" insert into \"temp_1\" values ${temp_table_rows_from_result_set}\n", 1));
+
+        Assert.assertNull(TempTableRowsBatchInserter.toParameterizedInsert("INSERT INTO temp_1 SELECT * FROM (VALUES ${temp_table_rows_from_result_set}) t", 3));
+        Assert.assertNull(TempTableRowsBatchInserter.toParameterizedInsert("INSERT INTO temp_1 VALUES ${temp_table_rows_from_result_set}, ${temp_table_rows_from_result_set}", 3));
+        Assert.assertNull(TempTableRowsBatchInserter.toParameterizedInsert("INSERT INTO temp_1 SELECT ${temp_table_rows_from_result_set}", 3));
+        Assert.assertNull(TempTableRowsBatchInserter.toParameterizedInsert("<#if x>INSERT INTO temp_1</#if> VALUES ${temp_table_rows_from_result_set}", 3));
+        Assert.assertNull(TempTableRowsBatchInserter.toParameterizedInsert("INSERT INTO temp_1 VALUES ${temp_table_rows_from_result_set}", 0));
+        Assert.assertNull(TempTableRowsBatchInserter.toParameterizedInsert("INSERT INTO ${tempTableName} VALUES ${temp_table_rows_from_result_set}", 3));
+    }
+
+    @Test
+    public void testSqlTypes()
+    {
+        Assert.assertArrayEquals(new int[]{Types.INTEGER, Types.VARCHAR, Types.DATE, Types.TIMESTAMP, Types.DECIMAL}, SQL_TYPES);
+        Assert.assertArrayEquals(new int[]{Types.BOOLEAN, Types.DOUBLE, Types.BIGINT}, TempTableRowsBatchInserter.toSqlTypes(Lists.mutable.with(new SQLResultColumn("a", "BIT"), new SQLResultColumn("b", "FLOAT"), new SQLResultColumn("c", "BIGINT"))));
+        Assert.assertArrayEquals(new int[]{Types.TIMESTAMP, Types.TIMESTAMP, Types.DATE}, TempTableRowsBatchInserter.toSqlTypes(Lists.mutable.with(new SQLResultColumn("a", "DATETIME"), new SQLResultColumn("b", "datetime2(7)"), new SQLResultColumn("c", "DATE"))));
+        Assert.assertNull(TempTableRowsBatchInserter.toSqlTypes(Lists.mutable.with(new SQLResultColumn("a", "INTEGER"), new SQLResultColumn("b", null))));
+        Assert.assertNull(TempTableRowsBatchInserter.toSqlTypes(Lists.mutable.with(new SQLResultColumn("a", "SEMISTRUCTURED"))));
+    }
+
+    @Test
+    public void testValuesBoundWithColumnTypes() throws Exception
+    {
+        // strictly typed databases (e.g. Postgres) reject VARCHAR parameters for non character columns
+        int[] sqlTypes = TempTableRowsBatchInserter.toSqlTypes(Lists.mutable.with(
+                new SQLResultColumn("id", "INTEGER"),
+                new SQLResultColumn("name", "VARCHAR(50)"),
+                new SQLResultColumn("birth", "DATE"),
+                new SQLResultColumn("updated", "TIMESTAMP"),
+                new SQLResultColumn("active", "BIT")));
+        Connection typedConnection = Mockito.mock(Connection.class);
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        Mockito.when(typedConnection.prepareStatement(Mockito.anyString())).thenReturn(statement);
+
+        Timestamp updated = Timestamp.valueOf("2020-01-02 03:04:05.123");
+        List<List<Object>> rows = Lists.mutable.with(
+                Arrays.asList(1, "Smith", Date.valueOf("1980-02-29"), updated, true),
+                Arrays.asList(2, null, null, null, null));
+        TempTableRowsBatchInserter.insert(typedConnection, "INSERT INTO temp_1 VALUES (?, ?, ?, ?, ?)", rows, sqlTypes, 10, "GMT");
+
+        Mockito.verify(statement).setObject(1, 1, Types.INTEGER);
+        Mockito.verify(statement).setString(2, "Smith");
+        Mockito.verify(statement).setDate(3, Date.valueOf("1980-02-29"));
+        Mockito.verify(statement).setTimestamp(4, updated);
+        Mockito.verify(statement).setBoolean(5, true);
+        Mockito.verify(statement).setObject(1, 2, Types.INTEGER);
+        Mockito.verify(statement).setNull(2, Types.VARCHAR);
+        Mockito.verify(statement).setNull(3, Types.DATE);
+        Mockito.verify(statement).setNull(4, Types.TIMESTAMP);
+        Mockito.verify(statement).setNull(5, Types.BOOLEAN);
+        Mockito.verify(statement, Mockito.times(2)).addBatch();
+        Mockito.verify(statement).executeBatch();
+    }
+
+    @Test
+    public void testBatchedRowsMatchValueTuples() throws Exception
+    {
+        List<List<Object>> rows = Lists.mutable.with(
+                Arrays.asList(1, "Smith", Date.valueOf("1980-02-29"), Timestamp.valueOf("2020-01-02 03:04:05.123"), 1234.5),
+                Arrays.asList(2, "O'Brien", null, null, null),
+                Arrays.asList(3, null, Date.valueOf("2001-12-31"), Timestamp.valueOf("2021-06-30 23:59:59"), 0L)
+        );
+
+        insertAsValueTuples("literal_rows", rows, 2);
+        long rowCount = TempTableRowsBatchInserter.insert(connection, TempTableRowsBatchInserter.toParameterizedInsert(String.format(LOAD_QUERY, "batched_rows"), 5), rows, SQL_TYPES, 2, "GMT");
+
+        Assert.assertEquals(3, rowCount);
+        Assert.assertEquals(select("literal_rows"), select("batched_rows"));
+    }
+
+    @Test
+    public void testRowsInsertedAcrossBatches() throws Exception
+    {
+        List<List<Object>> rows = Lists.mutable.empty();
+        for (int i = 0; i < 2_500; i++)
+        {
+            rows.add(Arrays.asList(i, "name" + i, Date.valueOf("2000-01-01"), null, i * 10L));
+        }
+
+        long rowCount = TempTableRowsBatchInserter.insert(connection, TempTableRowsBatchInserter.toParameterizedInsert(String.format(LOAD_QUERY, "batched_rows"), 5), rows, SQL_TYPES, 1_000, "GMT");
+
+        Assert.assertEquals(2_500, rowCount);
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("SELECT COUNT(*), COUNT(DISTINCT id), SUM(salary) FROM batched_rows"))
+        {
+            Assert.assertTrue(resultSet.next());
+            Assert.assertEquals(2_500, resultSet.getInt(1));
+            Assert.assertEquals(2_500, resultSet.getInt(2));
+            Assert.assertEquals(31_237_500L, resultSet.getLong(3));
+        }
+    }
+
+    private void insertAsValueTuples(String table, List<List<Object>> rows, int batchSize) throws Exception
+    {
+        Function<Object, String> normalizer = RelationalExecutionNodeExecutor.getNormalizer("''", "GMT");
+        try (Statement statement = connection.createStatement())
+        {
+            for (int i = 0; i < rows.size(); i += batchSize)
+            {
+                String valuesTuples = rows.subList(i, Math.min(i + batchSize, rows.size()))
+                        .stream()
+                        .map(row -> row.stream().map(normalizer).collect(Collectors.joining(",", "(", ")")))
+                        .collect(Collectors.joining(","));
+                statement.execute(String.format(LOAD_QUERY, table).replace(TempTableRowsBatchInserter.ROWS_PLACEHOLDER, valuesTuples));
+            }
+        }
+    }
+
+    private List<String> select(String table) throws Exception
+    {
+        List<String> rows = Lists.mutable.empty();
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("SELECT * FROM " + table + " ORDER BY id"))
+        {
+            while (resultSet.next())
+            {
+                rows.add(resultSet.getInt(1) + "|" + resultSet.getString(2) + "|" + resultSet.getDate(3) + "|" + resultSet.getTimestamp(4) + "|" + resultSet.getBigDecimal(5));
+            }
+        }
+        return rows;
+    }
+}
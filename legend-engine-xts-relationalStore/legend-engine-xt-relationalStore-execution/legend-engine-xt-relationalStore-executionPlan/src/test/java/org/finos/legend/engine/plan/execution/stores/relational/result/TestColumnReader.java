@@ -0,0 +1,110 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+public class TestColumnReader
+{
+    private Connection connection;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        connection = DriverManager.getConnection("jdbc:h2:mem:columnReader;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement())
+        {
+            statement.execute("CREATE TABLE measure(small SMALLINT, id INTEGER, big BIGINT, ratio DOUBLE, approx REAL, flag BOOLEAN, name VARCHAR(50), amount DECIMAL(10, 2), since DATE)");
+            statement.execute("INSERT INTO measure VALUES (1, 2, 9223372036854775807, 0.1, 1.1, TRUE, 'a', 3.25, DATE '2026-01-01')");
+            statement.execute("INSERT INTO measure VALUES (NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL)");
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        try (Statement statement = connection.createStatement())
+        {
+            statement.execute("DROP TABLE measure");
+        }
+        connection.close();
+    }
+
+    @Test
+    public void testKindsFromMetaData() throws Exception
+    {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT * FROM measure"))
+        {
+            ColumnReader[] readers = ColumnReader.forResultSet(resultSet);
+            Assert.assertEquals(9, readers.length);
+            Assert.assertEquals(ColumnReader.Kind.LONG, readers[0].getKind());
+            Assert.assertEquals(ColumnReader.Kind.LONG, readers[1].getKind());
+            Assert.assertEquals(ColumnReader.Kind.LONG, readers[2].getKind());
+            Assert.assertEquals(ColumnReader.Kind.DOUBLE, readers[3].getKind());
+            Assert.assertEquals(ColumnReader.Kind.FLOAT, readers[4].getKind());
+            Assert.assertEquals(ColumnReader.Kind.BOOLEAN, readers[5].getKind());
+            Assert.assertFalse(readers[6].isPrimitive());
+            Assert.assertFalse(readers[7].isPrimitive());
+            Assert.assertFalse(readers[8].isPrimitive());
+        }
+    }
+
+    @Test
+    public void testPrimitiveValuesMatchObjects() throws Exception
+    {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT small, id, big, ratio, approx, flag FROM measure ORDER BY id NULLS LAST"))
+        {
+            ColumnReader[] readers = ColumnReader.forResultSet(resultSet);
+
+            Assert.assertTrue(resultSet.next());
+            Assert.assertEquals(1L, readers[0].getLong());
+            Assert.assertEquals(Long.MAX_VALUE, readers[2].getLong());
+            Assert.assertFalse(readers[2].wasNull());
+            Assert.assertEquals(resultSet.getObject(4).toString(), Double.toString(readers[3].getDouble()));
+            Assert.assertEquals(resultSet.getObject(5).toString(), Float.toString(readers[4].getFloat()));
+            Assert.assertTrue(readers[5].getBoolean());
+
+            Assert.assertTrue(resultSet.next());
+            for (ColumnReader reader : readers)
+            {
+                switch (reader.getKind())
+                {
+                    case LONG:
+                        Assert.assertEquals(0L, reader.getLong());
+                        break;
+                    case DOUBLE:
+                        Assert.assertEquals(0d, reader.getDouble(), 0d);
+                        break;
+                    case FLOAT:
+                        Assert.assertEquals(0f, reader.getFloat(), 0f);
+                        break;
+                    default:
+                        Assert.assertFalse(reader.getBoolean());
+                }
+                Assert.assertTrue(reader.wasNull());
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalResultFetchSizeConfig;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+public class TestFetchSizePolicy
+{
+    private Connection connection;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        connection = DriverManager.getConnection("jdbc:h2:mem:fetchSize;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement())
+        {
+            statement.execute("CREATE TABLE person(id INTEGER, name VARCHAR(50), birth DATE, salary DECIMAL(10, 2))");
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        try (Statement statement = connection.createStatement())
+        {
+            statement.execute("DROP TABLE person");
+        }
+        connection.close();
+    }
+
+    @Test
+    public void testDefaultPolicyOnlySetsMemSQLFetchSize() throws Exception
+    {
+        try (Statement statement = connection.createStatement())
+        {
+            int driverDefault = statement.getFetchSize();
+            FetchSizePolicy.DEFAULT.beforeExecution(statement, "H2");
+            Assert.assertEquals(driverDefault, statement.getFetchSize());
+            FetchSizePolicy.DEFAULT.beforeExecution(statement, "MemSQL");
+            Assert.assertEquals(100, statement.getFetchSize());
+        }
+    }
+
+    @Test
+    public void testConfiguredFetchSize() throws Exception
+    {
+        FetchSizePolicy policy = new FetchSizePolicy(new RelationalResultFetchSizeConfig(Maps.mutable.with("Snowflake", 5000), 500, false, 1024, 10, 100));
+        try (Statement statement = connection.createStatement())
+        {
+            policy.beforeExecution(statement, "Snowflake");
+            Assert.assertEquals(5000, statement.getFetchSize());
+            policy.beforeExecution(statement, "H2");
+            Assert.assertEquals(500, statement.getFetchSize());
+        }
+    }
+
+    @Test
+    public void testAdaptiveFetchSizeFromRowWidth() throws Exception
+    {
+        FetchSizePolicy policy = new FetchSizePolicy(new RelationalResultFetchSizeConfig(null, null, true, 10_000, 10, 1_000));
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT id, name, birth, salary FROM person"))
+        {
+            long rowBytes = FetchSizePolicy.estimateRowBytes(resultSet.getMetaData());
+            // 4 columns overhead + INTEGER + VARCHAR(50) + DATE + DECIMAL
+            Assert.assertEquals(4 * 8 + 4 + 50 + 4 + 16, rowBytes);
+            Assert.assertEquals(10_000 / rowBytes, policy.afterExecution(resultSet, resultSet.getMetaData()));
+        }
+    }
+
+    @Test
+    public void testAdaptiveFetchSizeIsBounded()
+    {
+        FetchSizePolicy policy = new FetchSizePolicy(new RelationalResultFetchSizeConfig(null, null, true, 10_000, 10, 1_000));
+        Assert.assertEquals(1_000, policy.adaptiveFetchSize(1));
+        Assert.assertEquals(10, policy.adaptiveFetchSize(100_000));
+    }
+
+    @Test
+    public void testRoundTrips()
+    {
+        Assert.assertEquals(1, FetchSizePolicy.roundTrips(0, 100));
+        Assert.assertEquals(2, FetchSizePolicy.roundTrips(150, 100));
+        // round trips of a driver default fetch size are not known
+        Assert.assertEquals(-1, FetchSizePolicy.roundTrips(1_000_000, 0));
+    }
+}
@@ -9,6 +9,7 @@ import org.apache.arrow.memory.RootAllocator;
 import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.arrow.vector.ipc.ArrowStreamReader;
 import org.apache.arrow.vector.types.pojo.Schema;
+import org.finos.legend.engine.plan.execution.stores.relational.result.ColumnReader;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
 import org.junit.After;
@@ -79,6 +80,7 @@ public class TestRelationalResultToArrowIPCSerializer
         // immediately before the serializer evaluates rs.wasNull().
         when(rr.getValue(anyInt()))
                 .thenAnswer(inv -> rs.getObject((Integer) inv.getArgument(0)));
+        when(rr.getColumnReaders()).thenReturn(ColumnReader.forResultSet(rs));
 
         // --- Public FIELDS read directly by the serializer ---
         // buildSchema() reads rr.resultSetMetaData and rr.columnCount as fields,
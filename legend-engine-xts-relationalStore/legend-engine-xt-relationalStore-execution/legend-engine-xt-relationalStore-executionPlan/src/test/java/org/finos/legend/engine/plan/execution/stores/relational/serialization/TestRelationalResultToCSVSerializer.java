@@ -0,0 +1,102 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.serialization;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.QuoteMode;
+import org.finos.legend.engine.plan.execution.stores.relational.result.ColumnReader;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestRelationalResultToCSVSerializer
+{
+    private static final String QUERY = "SELECT id, name, big, ratio, approx, flag, amount FROM measure ORDER BY id";
+
+    private Connection connection;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        connection = DriverManager.getConnection("jdbc:h2:mem:csvSerializer;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement())
+        {
+            statement.execute("CREATE TABLE measure(id INTEGER, name VARCHAR(50), big BIGINT, ratio DOUBLE, approx REAL, flag BOOLEAN, amount DECIMAL(10, 2))");
+            statement.execute("INSERT INTO measure VALUES (1, 'a,b', -9223372036854775808, 0.1, 1.1, TRUE, 3.25)");
+            statement.execute("INSERT INTO measure VALUES (2, NULL, NULL, NULL, NULL, NULL, NULL)");
+            statement.execute("INSERT INTO measure VALUES (3, 'c', 42, 1e300, 3.4e38, FALSE, -1.50)");
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        try (Statement statement = connection.createStatement())
+        {
+            statement.execute("DROP TABLE measure");
+        }
+        connection.close();
+    }
+
+    @Test
+    public void testPrimitiveColumnsPrintedAsBoxedValues() throws Exception
+    {
+        assertSameAsPrintRecords(CSVFormat.DEFAULT);
+        assertSameAsPrintRecords(CSVFormat.DEFAULT.withNullString("NULL"));
+        assertSameAsPrintRecords(CSVFormat.DEFAULT.withQuoteMode(QuoteMode.ALL));
+        assertSameAsPrintRecords(CSVFormat.DEFAULT.withQuoteMode(QuoteMode.NON_NUMERIC));
+    }
+
+    private void assertSameAsPrintRecords(CSVFormat format) throws Exception
+    {
+        StringWriter expected = new StringWriter();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(QUERY);
+             CSVPrinter printer = new CSVPrinter(expected, format))
+        {
+            printer.printRecords(resultSet);
+        }
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(QUERY))
+        {
+            RelationalResult relationalResult = mock(RelationalResult.class);
+            relationalResult.resultSet = resultSet;
+            relationalResult.columnCount = resultSet.getMetaData().getColumnCount();
+            when(relationalResult.getColumnReaders()).thenReturn(ColumnReader.forResultSet(resultSet));
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            new RelationalResultToCSVSerializer(relationalResult, format).stream(out);
+
+            Assert.assertEquals(expected.toString(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+            verify(relationalResult).setFetchedRowCount(3);
+        }
+    }
+}
@@ -288,8 +288,16 @@ public abstract class AbstractServicePlanExecutor implements ServiceRunner
 
     protected void executeToStream(Map<String, ?> parameters, ServiceRunnerInput serviceRunnerInput, StreamProvider streamProvider, OutputStream outputStream)
     {
-        Result result = execute(parameters, serviceRunnerInput, streamProvider);
-        serializeResultToStream(result, serviceRunnerInput.getSerializationFormat(), outputStream);
+        ServiceResultCache resultCache = (streamProvider == null && serviceRunnerInput.getOperationalContext() != null) ? serviceRunnerInput.getOperationalContext().getServiceResultCache() : null;
+        ServiceResultCacheKey cacheKey = (resultCache == null) ? null : resultCache.newKey(this.servicePath, parameters, serviceRunnerInput.getIdentity(), serviceRunnerInput.getSerializationFormat());
+        if (cacheKey == null)
+        {
+            Result result = execute(parameters, serviceRunnerInput, streamProvider);
+            serializeResultToStream(result, serviceRunnerInput.getSerializationFormat(), outputStream);
+            return;
+        }
+
+        resultCache.executeToStream(cacheKey, stream -> serializeResultToStream(execute(parameters, serviceRunnerInput, streamProvider), serviceRunnerInput.getSerializationFormat(), stream), outputStream);
     }
 
     private void serializeResultToStream(Result result, SerializationFormat serializationFormat, OutputStream outputStream)
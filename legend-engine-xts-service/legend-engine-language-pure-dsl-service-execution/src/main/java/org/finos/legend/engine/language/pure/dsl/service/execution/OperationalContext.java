@@ -26,6 +26,7 @@ import java.util.stream.Collectors;
 public class OperationalContext
 {
     private Map<GraphFetchCrossAssociationKeys, ExecutionCache<GraphFetchCacheKey, List<Object>>> graphFetchCrossAssociationKeysCacheConfig;
+    private ServiceResultCache serviceResultCache;
 
     public static OperationalContext newInstance()
     {
@@ -51,6 +52,17 @@ public class OperationalContext
         return this.graphFetchCrossAssociationKeysCacheConfig;
     }
 
+    public OperationalContext withServiceResultCache(ServiceResultCache serviceResultCache)
+    {
+        this.serviceResultCache = Objects.requireNonNull(serviceResultCache, "serviceResultCache must not be null");
+        return this;
+    }
+
+    ServiceResultCache getServiceResultCache()
+    {
+        return this.serviceResultCache;
+    }
+
     private static void assertSharedCachesValidity(Map<GraphFetchCrossAssociationKeys, ExecutionCache<GraphFetchCacheKey, List<Object>>> cacheConfig)
     {
         Map<ExecutionCache<GraphFetchCacheKey, List<Object>>, List<GraphFetchCrossAssociationKeys>> reverseCacheMap =
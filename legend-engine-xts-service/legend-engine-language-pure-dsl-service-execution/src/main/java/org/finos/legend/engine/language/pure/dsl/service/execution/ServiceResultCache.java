@@ -0,0 +1,358 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.dsl.service.execution;
+
+import org.finos.legend.engine.plan.execution.cache.ExecutionCache;
+import org.finos.legend.engine.plan.execution.cache.ExecutionCacheStats;
+import org.finos.legend.engine.plan.execution.cache.TieredExecutionCache;
+import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of serialized service results, set on the {@link OperationalContext} of the service runner input.
+ * <p>
+ * Results are keyed by service path, parameter values, identity and serialization format, and are stored compressed.
+ * Executions with an input stream, or with parameter values which are not plain values (strings, numbers, booleans,
+ * enums, dates and lists of those), are not cached. On a miss the result is streamed to the caller while being copied
+ * for the cache, and is not cached if it turns out larger than the maximum result size. Concurrent misses for the same
+ * key wait for the first execution rather than executing the service again. Hits and misses are reported under
+ * {@link #METRICS_NAME}.
+ * <p>
+ * Results are scoped to the identity executing the service, unless the cache is shared across identities (only for
+ * services returning the same data whoever executes them).
+ */
+public class ServiceResultCache
+{
+    public static final String METRICS_NAME = "service_result";
+    public static final long DEFAULT_MAXIMUM_RESULT_SIZE = 16 * 1024 * 1024; /* 16MB */
+
+    private final ExecutionCache<ServiceResultCacheKey, byte[]> cache;
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ServiceResultCacheKey, CompletableFuture<byte[]>> executions = new ConcurrentHashMap<>();
+    private volatile boolean sharedAcrossIdentities = false;
+    private volatile long maximumResultSize = DEFAULT_MAXIMUM_RESULT_SIZE;
+
+    private ServiceResultCache(ExecutionCache<ServiceResultCacheKey, byte[]> cache)
+    {
+        this.cache = Objects.requireNonNull(cache, "cache must not be null");
+    }
+
+    public static ServiceResultCache fromExecutionCache(ExecutionCache<ServiceResultCacheKey, byte[]> executionCache)
+    {
+        return new ServiceResultCache(executionCache);
+    }
+
+    /**
+     * Cache bounded by the total compressed size of the results, with the time to live and tiers of the builder
+     */
+    public static ServiceResultCache fromTieredCache(TieredExecutionCache.Builder tieredCacheBuilder)
+    {
+        return new ServiceResultCache(tieredCacheBuilder.build());
+    }
+
+    public ServiceResultCache withSharedAcrossIdentities(boolean sharedAcrossIdentities)
+    {
+        this.sharedAcrossIdentities = sharedAcrossIdentities;
+        return this;
+    }
+
+    /**
+     * Size in bytes of the serialized results above which they are not cached
+     */
+    public ServiceResultCache withMaximumResultSize(long maximumResultSize)
+    {
+        this.maximumResultSize = maximumResultSize;
+        return this;
+    }
+
+    /**
+     * Invalidate the cached results of a service
+     */
+    public void invalidate(String servicePath)
+    {
+        // results of previous generations can no longer be looked up, and age out of the cache
+        this.generations.computeIfAbsent(servicePath, p -> new AtomicLong()).incrementAndGet();
+    }
+
+    public void invalidateAll()
+    {
+        this.cache.invalidateAll();
+    }
+
+    public long estimatedSize()
+    {
+        return this.cache.estimatedSize();
+    }
+
+    public ExecutionCacheStats stats()
+    {
+        return this.cache.stats();
+    }
+
+    /**
+     * Key of an execution, null if the execution cannot be cached
+     */
+    ServiceResultCacheKey newKey(String servicePath, Map<String, ?> parameters, Identity identity, SerializationFormat serializationFormat)
+    {
+        Map<String, Object> normalizedParameters = new TreeMap<>();
+        for (Map.Entry<String, ?> parameter : parameters.entrySet())
+        {
+            Object value = normalize(parameter.getValue());
+            if (value == null)
+            {
+                return null;
+            }
+            normalizedParameters.put(parameter.getKey(), value);
+        }
+        AtomicLong generation = this.generations.get(servicePath);
+        String identityScope = this.sharedAcrossIdentities ? null : identity.getName();
+        return new ServiceResultCacheKey(servicePath, generation == null ? 0 : generation.get(), Collections.unmodifiableMap(normalizedParameters), identityScope, serializationFormat);
+    }
+
+    /**
+     * Write the cached result of the execution, or run the execution with the serializer and cache what it wrote
+     */
+    void executeToStream(ServiceResultCacheKey key, Consumer<OutputStream> execution, OutputStream outputStream)
+    {
+        byte[] serializedResult = this.getIfPresent(key);
+        if (serializedResult != null)
+        {
+            MetricsHandler.incrementCacheHitCount(METRICS_NAME);
+            write(serializedResult, outputStream);
+            return;
+        }
+        MetricsHandler.incrementCacheMissCount(METRICS_NAME);
+
+        CompletableFuture<byte[]> ownExecution = new CompletableFuture<>();
+        CompletableFuture<byte[]> runningExecution = this.executions.putIfAbsent(key, ownExecution);
+        if (runningExecution != null)
+        {
+            // completed with null when the result was not cached, which is then executed again
+            serializedResult = runningExecution.join();
+            if (serializedResult != null)
+            {
+                write(serializedResult, outputStream);
+            }
+            else
+            {
+                execution.accept(outputStream);
+            }
+            return;
+        }
+
+        try
+        {
+            CachingOutputStream cachingStream = new CachingOutputStream(outputStream, this.maximumResultSize);
+            execution.accept(cachingStream);
+            serializedResult = cachingStream.getCachedBytes();
+            if (serializedResult != null)
+            {
+                this.put(key, serializedResult);
+            }
+        }
+        finally
+        {
+            this.executions.remove(key, ownExecution);
+            ownExecution.complete(serializedResult);
+        }
+    }
+
+    /**
+     * Serialized result of an execution, null if not cached
+     */
+    byte[] getIfPresent(ServiceResultCacheKey key)
+    {
+        byte[] compressed = this.cache.getIfPresent(key);
+        return compressed == null ? null : decompress(compressed);
+    }
+
+    void put(ServiceResultCacheKey key, byte[] serializedResult)
+    {
+        this.cache.put(key, compress(serializedResult));
+    }
+
+    private static Object normalize(Object value)
+    {
+        if (value instanceof String || value instanceof Boolean || value instanceof Character || value instanceof Enum || value instanceof TemporalAccessor)
+        {
+            return value;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)
+        {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Float || value instanceof Double)
+        {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger)
+        {
+            return value;
+        }
+        if (value instanceof Date)
+        {
+            // dates are mutable, and java.sql dates are not interchangeable with java.util dates
+            return Arrays.asList(value.getClass(), ((Date) value).getTime());
+        }
+        if (value instanceof Iterable)
+        {
+            List<Object> values = new ArrayList<>();
+            for (Object element : (Iterable<?>) value)
+            {
+                Object normalizedElement = normalize(element);
+                if (normalizedElement == null)
+                {
+                    return null;
+                }
+                values.add(normalizedElement);
+            }
+            return values;
+        }
+        return null;
+    }
+
+    private static void write(byte[] serializedResult, OutputStream outputStream)
+    {
+        try
+        {
+            outputStream.write(serializedResult);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException("Error writing result", e);
+        }
+    }
+
+    private static byte[] compress(byte[] bytes)
+    {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(32, bytes.length / 4));
+        try (OutputStream stream = new GZIPOutputStream(compressed))
+        {
+            stream.write(bytes);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException("Error compressing service result", e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] compressed)
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(compressed.length * 4);
+        try (InputStream stream = new GZIPInputStream(new ByteArrayInputStream(compressed)))
+        {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) != -1)
+            {
+                bytes.write(buffer, 0, read);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException("Error decompressing service result", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes through to the caller, keeping a copy of what was written until it grows over the maximum size
+     */
+    private static class CachingOutputStream extends OutputStream
+    {
+        private static final OutputStream DISCARD = new OutputStream()
+        {
+            @Override
+            public void write(int b)
+            {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len)
+            {
+            }
+        };
+
+        private final OutputStream outputStream;
+        private final long maximumSize;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+        private CachingOutputStream(OutputStream outputStream, long maximumSize)
+        {
+            this.outputStream = outputStream;
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        public void write(int b) throws IOException
+        {
+            this.outputStream.write(b);
+            this.copy(1).write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException
+        {
+            this.outputStream.write(b, off, len);
+            this.copy(len).write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException
+        {
+            this.outputStream.flush();
+        }
+
+        byte[] getCachedBytes()
+        {
+            return this.copy == null ? null : this.copy.toByteArray();
+        }
+
+        private OutputStream copy(int length)
+        {
+            if (this.copy != null && this.copy.size() + (long) length > this.maximumSize)
+            {
+                this.copy = null;
+            }
+            return this.copy == null ? DISCARD : this.copy;
+        }
+    }
+}
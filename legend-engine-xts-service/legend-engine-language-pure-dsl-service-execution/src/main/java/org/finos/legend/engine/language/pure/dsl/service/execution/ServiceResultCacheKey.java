@@ -0,0 +1,98 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.dsl.service.execution;
+
+import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Key of a serialized service result: service path, normalized parameter values, identity scope and serialization format
+ */
+public final class ServiceResultCacheKey
+{
+    private final String servicePath;
+    private final long generation;
+    private final Map<String, Object> parameters;
+    private final String identityScope;
+    private final SerializationFormat serializationFormat;
+    private final int hashCode;
+
+    ServiceResultCacheKey(String servicePath, long generation, Map<String, Object> parameters, String identityScope, SerializationFormat serializationFormat)
+    {
+        this.servicePath = servicePath;
+        this.generation = generation;
+        this.parameters = parameters;
+        this.identityScope = identityScope;
+        this.serializationFormat = serializationFormat;
+        this.hashCode = Objects.hash(servicePath, generation, parameters, identityScope, serializationFormat);
+    }
+
+    public String getServicePath()
+    {
+        return this.servicePath;
+    }
+
+    public Map<String, Object> getParameters()
+    {
+        return this.parameters;
+    }
+
+    /**
+     * Name of the identity the result was computed for, null for results shared across identities
+     */
+    public String getIdentityScope()
+    {
+        return this.identityScope;
+    }
+
+    public SerializationFormat getSerializationFormat()
+    {
+        return this.serializationFormat;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof ServiceResultCacheKey))
+        {
+            return false;
+        }
+        ServiceResultCacheKey that = (ServiceResultCacheKey) other;
+        return this.hashCode == that.hashCode &&
+                this.generation == that.generation &&
+                this.servicePath.equals(that.servicePath) &&
+                this.serializationFormat == that.serializationFormat &&
+                Objects.equals(this.identityScope, that.identityScope) &&
+                this.parameters.equals(that.parameters);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "<ServiceResultCacheKey " + this.servicePath + " " + this.parameters + " " + this.identityScope + " " + this.serializationFormat + ">";
+    }
+}
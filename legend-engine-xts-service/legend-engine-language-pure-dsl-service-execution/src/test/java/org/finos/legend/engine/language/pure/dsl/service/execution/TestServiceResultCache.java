@@ -0,0 +1,226 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.dsl.service.execution;
+
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.cache.TieredExecutionCache;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.ExecutionPlan;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.url.StreamProvider;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestServiceResultCache
+{
+    @Test
+    public void testCachedResultsPerParametersAndIdentity()
+    {
+        CountingServiceRunner runner = new CountingServiceRunner();
+        ServiceResultCache cache = ServiceResultCache.fromTieredCache(TieredExecutionCache.newBuilder().expireAfterWrite(1, TimeUnit.HOURS));
+
+        Assert.assertEquals("[\"A\",1,1]", runner.run(input(cache, "alice", "A", 1)));
+        Assert.assertEquals("[\"A\",1,1]", runner.run(input(cache, "alice", "A", 1L)));
+        Assert.assertEquals(1, runner.executions);
+
+        Assert.assertEquals("[\"B\",1,2]", runner.run(input(cache, "alice", "B", 1)));
+        Assert.assertEquals("[\"A\",1,3]", runner.run(input(cache, "bob", "A", 1)));
+        Assert.assertEquals("[\"A\",1,3]", runner.run(input(cache, "bob", "A", 1)));
+        Assert.assertEquals(3, runner.executions);
+
+        Assert.assertEquals(2, cache.stats().hitCount());
+        Assert.assertEquals(3, cache.stats().missCount());
+        Assert.assertEquals(3, cache.estimatedSize());
+    }
+
+    @Test
+    public void testSharedAcrossIdentitiesAndInvalidation()
+    {
+        CountingServiceRunner runner = new CountingServiceRunner();
+        ServiceResultCache cache = ServiceResultCache.fromTieredCache(TieredExecutionCache.newBuilder()).withSharedAcrossIdentities(true);
+
+        Assert.assertEquals("[\"A\",1,1]", runner.run(input(cache, "alice", "A", 1)));
+        Assert.assertEquals("[\"A\",1,1]", runner.run(input(cache, "bob", "A", 1)));
+        Assert.assertEquals(1, runner.executions);
+
+        cache.invalidate("other::Service");
+        Assert.assertEquals("[\"A\",1,1]", runner.run(input(cache, "alice", "A", 1)));
+
+        cache.invalidate(runner.getServicePath());
+        Assert.assertEquals("[\"A\",1,2]", runner.run(input(cache, "alice", "A", 1)));
+        Assert.assertEquals("[\"A\",1,2]", runner.run(input(cache, "alice", "A", 1)));
+
+        cache.invalidateAll();
+        Assert.assertEquals("[\"A\",1,3]", runner.run(input(cache, "alice", "A", 1)));
+        Assert.assertEquals(3, runner.executions);
+    }
+
+    @Test
+    public void testExecutionsNotCached()
+    {
+        CountingServiceRunner runner = new CountingServiceRunner();
+        ServiceResultCache cache = ServiceResultCache.fromTieredCache(TieredExecutionCache.newBuilder());
+
+        // parameter values which are not plain values
+        runner.run(input(cache, "alice", "A", new Object()));
+        runner.run(input(cache, "alice", "A", new Object()));
+        Assert.assertEquals(2, runner.executions);
+
+        // executions with input streams
+        ServiceRunnerInput input = input(cache, "alice", "A", 1);
+        runner.run(input, AbstractServicePlanExecutor.newStreamProvider("data"), new ByteArrayOutputStream());
+        runner.run(input, AbstractServicePlanExecutor.newStreamProvider("data"), new ByteArrayOutputStream());
+        Assert.assertEquals(4, runner.executions);
+        Assert.assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    public void testResultsOverMaximumSizeNotCached()
+    {
+        CountingServiceRunner runner = new CountingServiceRunner();
+        ServiceResultCache cache = ServiceResultCache.fromTieredCache(TieredExecutionCache.newBuilder()).withMaximumResultSize(10);
+
+        Assert.assertEquals("[\"A\",1,1]", runner.run(input(cache, "alice", "A", 1)));
+        Assert.assertEquals("[\"A\",1,1]", runner.run(input(cache, "alice", "A", 1)));
+        Assert.assertEquals(1, runner.executions);
+
+        Assert.assertEquals("[\"ABCDEF\",1,2]", runner.run(input(cache, "alice", "ABCDEF", 1)));
+        Assert.assertEquals("[\"ABCDEF\",1,3]", runner.run(input(cache, "alice", "ABCDEF", 1)));
+        Assert.assertEquals(3, runner.executions);
+        Assert.assertEquals(1, cache.estimatedSize());
+    }
+
+    @Test
+    public void testConcurrentMissesExecuteOnce() throws Exception
+    {
+        CountDownLatch executing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        AbstractServicePlanExecutor runner = new CountingServiceRunner()
+        {
+            @Override
+            protected Result execute(Map<String, ?> parameters, ServiceRunnerInput serviceRunnerInput, StreamProvider streamProvider)
+            {
+                executions.incrementAndGet();
+                executing.countDown();
+                try
+                {
+                    release.await();
+                }
+                catch (InterruptedException e)
+                {
+                    throw new RuntimeException(e);
+                }
+                return new ConstantResult(Arrays.asList(parameters.get("name"), 1));
+            }
+        };
+        ServiceResultCache cache = ServiceResultCache.fromTieredCache(TieredExecutionCache.newBuilder());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> runner.run(input(cache, "alice", "A", 1))));
+            executing.await();
+            for (int i = 0; i < 3; i++)
+            {
+                results.add(executor.submit(() -> runner.run(input(cache, "alice", "A", 1))));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results)
+            {
+                Assert.assertEquals("[\"A\",1]", result.get(10, TimeUnit.SECONDS));
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(1, executions.get());
+    }
+
+    @Test
+    public void testKeyNormalization()
+    {
+        ServiceResultCache cache = ServiceResultCache.fromTieredCache(TieredExecutionCache.newBuilder());
+        Identity identity = new Identity("alice");
+
+        ServiceResultCacheKey key = cache.newKey("test::Service", parameters(1, Arrays.asList("x", (short) 2), LocalDate.of(2020, 1, 1)), identity, null);
+        Assert.assertEquals(key, cache.newKey("test::Service", parameters(1L, Arrays.asList("x", 2), LocalDate.of(2020, 1, 1)), identity, null));
+        Assert.assertNotEquals(key, cache.newKey("test::Service", parameters(1.0d, Arrays.asList("x", 2), LocalDate.of(2020, 1, 1)), identity, null));
+        Assert.assertNotEquals(key, cache.newKey("test::Service", parameters(1, Collections.singletonList("x"), LocalDate.of(2020, 1, 1)), identity, null));
+        Assert.assertNull(cache.newKey("test::Service", parameters(1, Arrays.asList("x", new Object()), LocalDate.of(2020, 1, 1)), identity, null));
+
+        cache.put(key, "some result".getBytes());
+        Assert.assertEquals("some result", new String(cache.getIfPresent(key)));
+    }
+
+    private static Map<String, Object> parameters(Object first, Object second, Object third)
+    {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("first", first);
+        parameters.put("second", second);
+        parameters.put("third", third);
+        return parameters;
+    }
+
+    private static ServiceRunnerInput input(ServiceResultCache cache, String user, Object... args)
+    {
+        return ServiceRunnerInput.newInstance()
+                .withArgs(Arrays.asList(args))
+                .withIdentity(new Identity(user))
+                .withOperationalContext(OperationalContext.newInstance().withServiceResultCache(cache));
+    }
+
+    private static class CountingServiceRunner extends AbstractServicePlanExecutor
+    {
+        private int executions = 0;
+
+        CountingServiceRunner()
+        {
+            super("test::Service", (ExecutionPlan) null, (PlanExecutor) null);
+        }
+
+        @Override
+        public List<ServiceVariable> getServiceVariables()
+        {
+            return Arrays.asList(newServiceVariable("name", String.class, 1, 1), newServiceVariable("count", Object.class, 1, 1));
+        }
+
+        @Override
+        protected Result execute(Map<String, ?> parameters, ServiceRunnerInput serviceRunnerInput, StreamProvider streamProvider)
+        {
+            this.executions++;
+            return new ConstantResult(Arrays.asList(parameters.get("name"), 1, this.executions));
+        }
+    }
+}
@@ -63,10 +63,16 @@ import org.finos.legend.engine.protocol.sql.metamodel.Literal;
 import org.finos.legend.engine.protocol.sql.metamodel.LongLiteral;
 import org.finos.legend.engine.protocol.sql.metamodel.NullLiteral;
 import org.finos.legend.engine.protocol.sql.metamodel.ProtocolToMetamodelTranslator;
+import org.finos.legend.engine.protocol.sql.metamodel.QualifiedNameReference;
 import org.finos.legend.engine.protocol.sql.metamodel.Query;
 import org.finos.legend.engine.protocol.sql.metamodel.StringLiteral;
 import org.finos.legend.engine.protocol.sql.schema.metamodel.MetamodelToProtocolTranslator;
+import org.finos.legend.engine.protocol.sql.schema.metamodel.PrimitiveSchemaColumn;
+import org.finos.legend.engine.protocol.sql.schema.metamodel.PrimitiveType;
 import org.finos.legend.engine.protocol.sql.schema.metamodel.Schema;
+import org.finos.legend.engine.query.sql.api.cache.SQLPlanCache;
+import org.finos.legend.engine.query.sql.api.cache.SQLPlanCacheEntry;
+import org.finos.legend.engine.query.sql.api.cache.SQLPlanCacheKey;
 import org.finos.legend.engine.query.sql.providers.core.SQLContext;
 import org.finos.legend.engine.query.sql.providers.core.SQLSource;
 import org.finos.legend.engine.query.sql.providers.core.SQLSourceProvider;
@@ -130,18 +136,30 @@ public class SQLExecutor
     private final Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> routerExtensions;
     private final Iterable<? extends PlanTransformer> transformers;
     private final MutableMap<String, SQLSourceProvider> providers;
+    private final SQLPlanCache planCache;
 
     public SQLExecutor(ModelManager modelManager,
                        PlanExecutor planExecutor,
                        Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> routerExtensions,
                        List<SQLSourceProvider> providers,
                        Iterable<? extends PlanTransformer> transformers)
+    {
+        this(modelManager, planExecutor, routerExtensions, providers, transformers, null);
+    }
+
+    public SQLExecutor(ModelManager modelManager,
+                       PlanExecutor planExecutor,
+                       Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> routerExtensions,
+                       List<SQLSourceProvider> providers,
+                       Iterable<? extends PlanTransformer> transformers,
+                       SQLPlanCache planCache)
     {
         this.modelManager = modelManager;
         this.planExecutor = planExecutor;
         this.routerExtensions = routerExtensions;
         this.transformers = transformers;
         this.providers = ListIterate.groupByUniqueKey(providers, SQLSourceProvider::getType);
+        this.planCache = planCache;
     }
 
     public Result execute(Query query, String user, SQLContext context, Identity identity)
@@ -162,6 +180,11 @@ public class SQLExecutor
             return executeWithPreGeneratedPlan(query, resolved.getOne(), resolved.getTwo(), user, identity);
         }
 
+        if (planCache != null)
+        {
+            return executeWithPlanCache(query, positionalArguments, user, context, identity);
+        }
+
         return executeStandard(query, positionalArguments, user, context, identity);
     }
 
@@ -233,7 +256,148 @@ public class SQLExecutor
 
     private Result executeStandard(Query query, List<Object> positionalArguments, String user, SQLContext context, Identity identity)
     {
-        return process(query, positionalArguments, (transformedContext, pureModel, sources, positionals, span) ->
+        return process(query, positionalArguments, standardExecution(user, identity), "execute", context, identity);
+    }
+
+    private Result executeWithPlanCache(Query query, List<Object> positionalArguments, String user, SQLContext context, Identity identity)
+    {
+        return TraceUtils.trace("execute", span ->
+        {
+            span.setTag("queryHash", hash(query));
+
+            Pair<RichIterable<SQLSource>, PureModelContext> sqlSourcesAndPureModel = getSourcesAndModel(query, context, identity);
+            RichIterable<SQLSource> sources = sqlSourcesAndPureModel.getOne();
+            PureModelContext pureModelContext = sqlSourcesAndPureModel.getTwo();
+
+            SQLLiteralParameterizer.ParameterizedQuery parameterized = SQLLiteralParameterizer.parameterize(copy(query), positionalArguments.size());
+
+            //plans can only be shared when the model they were generated from can't change under them
+            if (!modelManager.shouldCache(pureModelContext) || parameterized.isUserDependent())
+            {
+                span.setTag("planCache", "bypass");
+                return compileModelAndTransformQuery(sources, pureModelContext, query, positionalArguments, standardExecution(user, identity), this::rootContext, identity, span);
+            }
+
+            long start = System.currentTimeMillis();
+
+            String modelKey = write(pureModelContext);
+            String sourcesKey = write(sources.collect(s -> Lists.mutable.with(s.getType(), s.getFunc(), s.getMapping(), s.getRuntime(), s.getExecutionOptions(), s.getExecutionContext(), s.getKey(), s.getResolvedArguments())).toList());
+
+            List<Object> arguments = Lists.mutable.withAll(positionalArguments).withAll(parameterized.getValues());
+            SQLPlanCacheKey key = new SQLPlanCacheKey(write(parameterized.getQuery()), modelKey, sourcesKey, parameterTypes(arguments));
+            SQLPlanCacheEntry entry = planCache.getIfPresent(key);
+
+            if (entry == null)
+            {
+                try
+                {
+                    entry = stringColumnsOnly(sources, pureModelContext, query, positionalArguments, parameterized.getStringColumns(), identity, span)
+                            ? generatePlan(sources, pureModelContext, parameterized.getQuery(), arguments, identity, span)
+                            : SQLPlanCacheEntry.NOT_PARAMETERIZABLE;
+                }
+                catch (Exception e)
+                {
+                    if (parameterized.getValues().isEmpty())
+                    {
+                        throw e;
+                    }
+                    //some literals drive the shape of the plan (e.g. enum comparisons), those queries can only be cached verbatim
+                    LOGGER.debug("Unable to generate plan for parameterized query, falling back to literal query", e);
+                    entry = SQLPlanCacheEntry.NOT_PARAMETERIZABLE;
+                }
+                planCache.put(key, entry);
+            }
+
+            if (!entry.isParameterizable())
+            {
+                arguments = positionalArguments;
+                key = new SQLPlanCacheKey(write(query), modelKey, sourcesKey, parameterTypes(arguments));
+                entry = planCache.getIfPresent(key);
+                if (entry == null)
+                {
+                    entry = generatePlan(sources, pureModelContext, query, arguments, identity, span);
+                    planCache.put(key, entry);
+                }
+            }
+
+            Result result = executePlan(entry, arguments, user, identity);
+
+            long elapsed = System.currentTimeMillis() - start;
+            span.setTag("totalMs", elapsed);
+            MetricsHandler.observe("execute", start, System.currentTimeMillis());
+            MetricsHandler.observe("execute_plan_cache", start, System.currentTimeMillis());
+            LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTE_INTERACTIVE_STOP, (double) elapsed).toString());
+
+            return result;
+        });
+    }
+
+    //string literals are converted to the type of the column they are compared against (e.g. dates, enum values), as a parameter they would be compared as strings
+    private boolean stringColumnsOnly(RichIterable<SQLSource> sources, PureModelContext pureModelContext, Query query, List<Object> positionalArguments, List<QualifiedNameReference> columns, Identity identity, Span span)
+    {
+        if (columns.isEmpty())
+        {
+            return true;
+        }
+
+        Query columnsQuery = SQLLiteralParameterizer.columnsQuery(copy(query), columns);
+        if (columnsQuery == null)
+        {
+            return false;
+        }
+
+        Schema schema = compileModelAndTransformQuery(sources, pureModelContext, columnsQuery, positionalArguments, (transformedContext, pureModel, compiledSources, positionals, s) ->
+        {
+            Root_meta_external_query_sql_schema_metamodel_Schema columnsSchema = core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_getSchema_SqlTransformContext_1__Schema_1_(transformedContext, pureModel.getExecutionSupport());
+            return new MetamodelToProtocolTranslator().translate(columnsSchema);
+        }, this::rootContext, identity, span);
+        return ListIterate.allSatisfy(schema.columns, column -> column instanceof PrimitiveSchemaColumn && ((PrimitiveSchemaColumn) column).type == PrimitiveType.String);
+    }
+
+    private SQLPlanCacheEntry generatePlan(RichIterable<SQLSource> sources, PureModelContext pureModelContext, Query query, List<Object> positionalArguments, Identity identity, Span span)
+    {
+        return compileModelAndTransformQuery(sources, pureModelContext, query, positionalArguments, (transformedContext, pureModel, compiledSources, positionals, s) ->
+        {
+            Root_meta_external_query_sql_transformation_queryToPure_PlanGenerationResult plans = planResult(transformedContext, pureModel, compiledSources);
+
+            MutableMap<String, Object> constantArguments = Maps.mutable.empty();
+            MutableMap<String, SingleExecutionPlan> argumentPlans = Maps.mutable.empty();
+            for (Root_meta_external_query_sql_transformation_queryToPure_PlanParameter p : plans._arguments())
+            {
+                if (p._value() != null)
+                {
+                    constantArguments.put(p._name(), planParameterValue(p));
+                }
+                else if (p._plan() != null)
+                {
+                    Root_meta_pure_executionPlan_ExecutionPlan l = PlanPlatform.JAVA.bindPlan(p._plan(), null, pureModel, routerExtensions.apply(pureModel));
+                    argumentPlans.put(p._name(), transformExecutionPlan(l, pureModel, PureClientVersions.production, identity, routerExtensions.apply(pureModel), transformers));
+                }
+            }
+
+            SingleExecutionPlan transformedPlan = transformExecutionPlan(plans._plan(), pureModel, PureClientVersions.production, identity, routerExtensions.apply(pureModel), transformers);
+            int weight = write(transformedPlan).length() + (int) argumentPlans.valuesView().sumOfInt(p -> write(p).length());
+
+            return new SQLPlanCacheEntry(transformedPlan, constantArguments, argumentPlans, weight);
+        }, this::rootContext, identity, span);
+    }
+
+    private Result executePlan(SQLPlanCacheEntry entry, List<Object> positionalArguments, String user, Identity identity)
+    {
+        Map<String, Result> arguments = Maps.mutable.empty();
+        entry.getConstantArguments().forEach((name, value) -> arguments.put(name, new ConstantResult(value)));
+        entry.getArgumentPlans().forEach((name, plan) -> arguments.put(name, planExecutor.execute(plan, Maps.mutable.empty(), user, identity)));
+
+        Map<String, Object> positionals = Maps.mutable.empty();
+        ListIterate.forEachWithIndex(positionalArguments, (argument, index) -> positionals.put("_" + (index + 1), argument));
+        arguments.putAll(buildPlanArguments(positionals, user, identity));
+
+        return planExecutor.execute(entry.getPlan(), arguments, user, identity);
+    }
+
+    private Function5<Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext, PureModel, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource>, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter>, Span, Result> standardExecution(String user, Identity identity)
+    {
+        return (transformedContext, pureModel, sources, positionals, span) ->
         {
             long start = System.currentTimeMillis();
 
@@ -257,7 +421,12 @@ public class SQLExecutor
             LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTE_INTERACTIVE_STOP, (double) elapsed).toString());
 
             return result;
-        }, "execute", context, identity);
+        };
+    }
+
+    private List<String> parameterTypes(List<Object> positionalArguments)
+    {
+        return ListIterate.collect(positionalArguments, argument -> LITERAL_TO_PURE_TYPES.get(createParameterValueExpression(argument).getClass()));
     }
 
     private Map<String, Result> getPlanArguments(RichIterable<? extends Root_meta_external_query_sql_transformation_queryToPure_PlanParameter> arguments, PureModel pureModel, String user, Identity identity)
@@ -268,10 +437,7 @@ public class SQLExecutor
 
             if (p._value() != null)
             {
-                Object value = p._value() instanceof org.finos.legend.pure.m3.coreinstance.meta.pure.functions.collection.List
-                        ? ((org.finos.legend.pure.m3.coreinstance.meta.pure.functions.collection.List) p._value())._values()
-                        : p._value();
-                result = new ConstantResult(value);
+                result = new ConstantResult(planParameterValue(p));
             }
             else
             {
@@ -284,6 +450,12 @@ public class SQLExecutor
         }));
     }
 
+    private static Object planParameterValue(Root_meta_external_query_sql_transformation_queryToPure_PlanParameter p)
+    {
+        return p._value() instanceof org.finos.legend.pure.m3.coreinstance.meta.pure.functions.collection.List
+                ? ((org.finos.legend.pure.m3.coreinstance.meta.pure.functions.collection.List) p._value())._values()
+                : p._value();
+    }
 
     private Map<String, Result> buildPlanArguments(Map<String, Object> namedArgs, String user, Identity identity)
     {
@@ -406,7 +578,12 @@ public class SQLExecutor
 
     private <T> T process(Query query, List<Object> positionalArguments, Function5<Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext, PureModel, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource>, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter>, Span, T> func, String name, SQLContext context, Identity identity)
     {
-        return process(query, positionalArguments, func, (sources, extensions, pureModel) -> core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_rootContext_SQLSource_MANY__Function_1__Extension_MANY__SqlTransformContext_1_(sources, getCompiler(pureModel), extensions, pureModel.getExecutionSupport()), name, context, identity);
+        return process(query, positionalArguments, func, this::rootContext, name, context, identity);
+    }
+
+    private Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext rootContext(RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource> sources, RichIterable<? extends Root_meta_pure_extension_Extension> extensions, PureModel pureModel)
+    {
+        return core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_rootContext_SQLSource_MANY__Function_1__Extension_MANY__SqlTransformContext_1_(sources, getCompiler(pureModel), extensions, pureModel.getExecutionSupport());
     }
 
     private <T> T process(Query query,
@@ -588,6 +765,30 @@ public class SQLExecutor
         }
     }
 
+    private Query copy(Query query)
+    {
+        try
+        {
+            return OBJECT_MAPPER.readValue(OBJECT_MAPPER.writeValueAsString(query), Query.class);
+        }
+        catch (JsonProcessingException e)
+        {
+            throw new EngineException("Unable to copy query", e);
+        }
+    }
+
+    private String write(Object object)
+    {
+        try
+        {
+            return OBJECT_MAPPER.writeValueAsString(object);
+        }
+        catch (JsonProcessingException e)
+        {
+            throw new EngineException("Unable to serialize " + object.getClass().getSimpleName(), e);
+        }
+    }
+
     private Integer hash(Query query)
     {
         try
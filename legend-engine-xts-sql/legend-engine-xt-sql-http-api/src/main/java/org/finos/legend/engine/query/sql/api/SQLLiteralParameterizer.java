@@ -0,0 +1,254 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.query.sql.api;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.engine.protocol.sql.metamodel.BetweenPredicate;
+import org.finos.legend.engine.protocol.sql.metamodel.BooleanLiteral;
+import org.finos.legend.engine.protocol.sql.metamodel.ComparisonExpression;
+import org.finos.legend.engine.protocol.sql.metamodel.CurrentUser;
+import org.finos.legend.engine.protocol.sql.metamodel.DoubleLiteral;
+import org.finos.legend.engine.protocol.sql.metamodel.Expression;
+import org.finos.legend.engine.protocol.sql.metamodel.InListExpression;
+import org.finos.legend.engine.protocol.sql.metamodel.InPredicate;
+import org.finos.legend.engine.protocol.sql.metamodel.IntegerLiteral;
+import org.finos.legend.engine.protocol.sql.metamodel.LongLiteral;
+import org.finos.legend.engine.protocol.sql.metamodel.Node;
+import org.finos.legend.engine.protocol.sql.metamodel.PositionalParameterExpression;
+import org.finos.legend.engine.protocol.sql.metamodel.QualifiedName;
+import org.finos.legend.engine.protocol.sql.metamodel.QualifiedNameReference;
+import org.finos.legend.engine.protocol.sql.metamodel.Query;
+import org.finos.legend.engine.protocol.sql.metamodel.QuerySpecification;
+import org.finos.legend.engine.protocol.sql.metamodel.Select;
+import org.finos.legend.engine.protocol.sql.metamodel.SingleColumn;
+import org.finos.legend.engine.protocol.sql.metamodel.StringLiteral;
+import org.finos.legend.engine.protocol.sql.visitors.BaseNodeModifierVisitor;
+
+import java.util.List;
+
+/**
+ * lifts the literals of a query that are compared against a column (=, <, IN, BETWEEN...) into positional parameters,
+ * so that queries only differing by those values share the same shape. Lifted parameters are numbered after the
+ * positional parameters already supplied by the client.
+ * literals in any other position (LIMIT, LIKE patterns, function arguments, projections...) can drive the shape
+ * of the generated plan, so they are left untouched.
+ * string literals are converted to the type of the column they are compared against (e.g. dates, enum values) when the
+ * query is transformed, so they can only be lifted when that column holds strings: the columns they are compared
+ * against are reported for the caller to check (see {@link #columnsQuery}).
+ * NOTE: the query is modified in place
+ */
+public class SQLLiteralParameterizer extends BaseNodeModifierVisitor
+{
+    private final int offset;
+    private final MutableList<Object> values = Lists.mutable.empty();
+    private final MutableList<QualifiedNameReference> stringColumns = Lists.mutable.empty();
+    private boolean userDependent = false;
+
+    private SQLLiteralParameterizer(int offset)
+    {
+        this.offset = offset;
+    }
+
+    public static ParameterizedQuery parameterize(Query query, int offset)
+    {
+        SQLLiteralParameterizer parameterizer = new SQLLiteralParameterizer(offset);
+        Query result = (Query) query.accept(parameterizer);
+        return new ParameterizedQuery(result, parameterizer.values, parameterizer.stringColumns, parameterizer.userDependent);
+    }
+
+    /**
+     * a query selecting the given columns from the relations of the given query, to find their types; null when the
+     * query is not a plain query specification (e.g. a union)
+     */
+    public static Query columnsQuery(Query query, List<QualifiedNameReference> columns)
+    {
+        if (!(query.queryBody instanceof QuerySpecification))
+        {
+            return null;
+        }
+
+        Select select = new Select();
+        //aliased, as the same column can be compared several times, or columns of different relations share a name
+        select.selectItems = ListIterate.collectWithIndex(columns, (column, index) ->
+        {
+            QualifiedName name = new QualifiedName();
+            name.parts = Lists.mutable.withAll(column.name.parts);
+            QualifiedNameReference reference = new QualifiedNameReference();
+            reference.name = name;
+
+            SingleColumn item = new SingleColumn();
+            item.expression = reference;
+            item.alias = "column" + (index + 1);
+            return item;
+        });
+
+        QuerySpecification specification = new QuerySpecification();
+        specification.select = select;
+        specification.from = ((QuerySpecification) query.queryBody).from;
+        specification.groupBy = Lists.mutable.empty();
+        specification.orderBy = Lists.mutable.empty();
+        specification.windows = Lists.mutable.empty();
+
+        Query columnsQuery = new Query();
+        columnsQuery.queryBody = specification;
+        return columnsQuery;
+    }
+
+    @Override
+    public Node visit(ComparisonExpression val)
+    {
+        super.visit(val);
+
+        if (val.left instanceof QualifiedNameReference)
+        {
+            val.right = lift(val.right, (QualifiedNameReference) val.left);
+        }
+        else if (val.right instanceof QualifiedNameReference)
+        {
+            val.left = lift(val.left, (QualifiedNameReference) val.right);
+        }
+
+        return val;
+    }
+
+    @Override
+    public Node visit(BetweenPredicate val)
+    {
+        super.visit(val);
+
+        if (val.value instanceof QualifiedNameReference)
+        {
+            QualifiedNameReference column = (QualifiedNameReference) val.value;
+            val.min = lift(val.min, column);
+            val.max = lift(val.max, column);
+        }
+
+        return val;
+    }
+
+    @Override
+    public Node visit(InPredicate val)
+    {
+        super.visit(val);
+
+        if (val.value instanceof QualifiedNameReference && val.valueList instanceof InListExpression)
+        {
+            QualifiedNameReference column = (QualifiedNameReference) val.value;
+            InListExpression list = (InListExpression) val.valueList;
+            list.values = ListIterate.collect(list.values, value -> lift(value, column));
+        }
+
+        return val;
+    }
+
+    @Override
+    public Node visit(CurrentUser val)
+    {
+        userDependent = true;
+        return super.visit(val);
+    }
+
+    private Expression lift(Expression expression, QualifiedNameReference column)
+    {
+        Object value = literalValue(expression);
+        if (value == null)
+        {
+            return expression;
+        }
+
+        values.add(value);
+        if (value instanceof String)
+        {
+            stringColumns.add(column);
+        }
+
+        PositionalParameterExpression parameter = new PositionalParameterExpression();
+        parameter.index = (long) (offset + values.size());
+        return parameter;
+    }
+
+    private static Object literalValue(Expression expression)
+    {
+        if (expression instanceof IntegerLiteral)
+        {
+            return ((IntegerLiteral) expression).value;
+        }
+        if (expression instanceof LongLiteral)
+        {
+            return ((LongLiteral) expression).value;
+        }
+        if (expression instanceof DoubleLiteral)
+        {
+            return ((DoubleLiteral) expression).value;
+        }
+        if (expression instanceof StringLiteral)
+        {
+            return ((StringLiteral) expression).value;
+        }
+        if (expression instanceof BooleanLiteral)
+        {
+            return ((BooleanLiteral) expression).value;
+        }
+        return null;
+    }
+
+    public static class ParameterizedQuery
+    {
+        private final Query query;
+        private final List<Object> values;
+        private final List<QualifiedNameReference> stringColumns;
+        private final boolean userDependent;
+
+        private ParameterizedQuery(Query query, List<Object> values, List<QualifiedNameReference> stringColumns, boolean userDependent)
+        {
+            this.query = query;
+            this.values = values;
+            this.stringColumns = stringColumns;
+            this.userDependent = userDependent;
+        }
+
+        public Query getQuery()
+        {
+            return query;
+        }
+
+        /**
+         * the lifted literal values, in the order of their positional parameter index
+         */
+        public List<Object> getValues()
+        {
+            return values;
+        }
+
+        /**
+         * the columns compared against lifted string literals, the query can only be parameterized when they all hold strings
+         */
+        public List<QualifiedNameReference> getStringColumns()
+        {
+            return stringColumns;
+        }
+
+        /**
+         * whether the query depends on the identity running it (e.g. CURRENT_USER), in which case it should not be shared
+         */
+        public boolean isUserDependent()
+        {
+            return userDependent;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.query.sql.api.cache;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import org.finos.legend.engine.plan.execution.cache.ExecutionCache;
+import org.finos.legend.engine.plan.execution.cache.ExecutionCacheBuilder;
+import org.finos.legend.engine.plan.execution.cache.ExecutionCacheStats;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the plans generated for SQL queries, so repeated executions of the same query shape against the same
+ * model skip compilation, SQL to Pure transformation and plan generation.
+ * Entries are weighed by their approximate size and evicted least recently used once the maximum weight is reached.
+ */
+public class SQLPlanCache
+{
+    private static final String CACHE_NAME = "sql_plan";
+
+    private final ExecutionCache<SQLPlanCacheKey, SQLPlanCacheEntry> cache;
+
+    public SQLPlanCache(SQLPlanCacheConfiguration configuration)
+    {
+        this(configuration.maximumWeight, configuration.expireAfterAccessMinutes);
+    }
+
+    public SQLPlanCache(long maximumWeight, long expireAfterAccessMinutes)
+    {
+        RemovalListener<SQLPlanCacheKey, SQLPlanCacheEntry> removalListener = notification ->
+        {
+            MetricsHandler.decrementCacheWeight(CACHE_NAME, weigh(notification.getKey(), notification.getValue()));
+            if (notification.wasEvicted())
+            {
+                MetricsHandler.incrementCacheEvictionCount(CACHE_NAME);
+            }
+        };
+
+        this.cache = ExecutionCacheBuilder.buildExecutionCacheFromGuavaCache(CacheBuilder.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher(SQLPlanCache::weigh)
+                .expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES)
+                .removalListener(removalListener)
+                .recordStats()
+                .build());
+    }
+
+    public SQLPlanCacheEntry getIfPresent(SQLPlanCacheKey key)
+    {
+        SQLPlanCacheEntry entry = this.cache.getIfPresent(key);
+        if (entry == null)
+        {
+            MetricsHandler.incrementCacheMissCount(CACHE_NAME);
+        }
+        else
+        {
+            MetricsHandler.incrementCacheHitCount(CACHE_NAME);
+        }
+        return entry;
+    }
+
+    public void put(SQLPlanCacheKey key, SQLPlanCacheEntry entry)
+    {
+        MetricsHandler.incrementCacheWeight(CACHE_NAME, weigh(key, entry));
+        this.cache.put(key, entry);
+    }
+
+    public void invalidateAll()
+    {
+        this.cache.invalidateAll();
+    }
+
+    public long estimatedSize()
+    {
+        return this.cache.estimatedSize();
+    }
+
+    public ExecutionCacheStats stats()
+    {
+        return this.cache.stats();
+    }
+
+    private static int weigh(SQLPlanCacheKey key, SQLPlanCacheEntry entry)
+    {
+        return key.weight() + entry.getWeight();
+    }
+}
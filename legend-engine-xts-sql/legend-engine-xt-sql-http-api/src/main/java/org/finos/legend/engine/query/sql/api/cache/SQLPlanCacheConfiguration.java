@@ -0,0 +1,27 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.query.sql.api.cache;
+
+public class SQLPlanCacheConfiguration
+{
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 268_435_456L; /* 256MB - 256 * 1024 * 1024 */
+    public static final long DEFAULT_EXPIRE_AFTER_ACCESS_MINUTES = 30;
+
+    public boolean enabled = false;
+    // approximate size in bytes of all the plans held by the cache
+    public long maximumWeight = DEFAULT_MAXIMUM_WEIGHT;
+    public long expireAfterAccessMinutes = DEFAULT_EXPIRE_AFTER_ACCESS_MINUTES;
+}
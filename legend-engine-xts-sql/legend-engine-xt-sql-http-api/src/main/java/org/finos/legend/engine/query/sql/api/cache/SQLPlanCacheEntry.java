@@ -0,0 +1,74 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.query.sql.api.cache;
+
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class SQLPlanCacheEntry
+{
+    /**
+     * marks a parameterized query shape whose plan could not be generated once its literals were lifted,
+     * queries of that shape are cached on their literal form instead
+     */
+    public static final SQLPlanCacheEntry NOT_PARAMETERIZABLE = new SQLPlanCacheEntry(null, Collections.emptyMap(), Collections.emptyMap(), 0);
+
+    private final SingleExecutionPlan plan;
+    private final Map<String, Object> constantArguments;
+    private final Map<String, SingleExecutionPlan> argumentPlans;
+    private final int weight;
+
+    /**
+     * @param plan              the transformed plan, ready for execution
+     * @param constantArguments plan arguments whose value was resolved during sql transformation
+     * @param argumentPlans     plan arguments which have to be computed by executing a plan, before executing the main plan
+     * @param weight            approximate size of the entry in bytes
+     */
+    public SQLPlanCacheEntry(SingleExecutionPlan plan, Map<String, Object> constantArguments, Map<String, SingleExecutionPlan> argumentPlans, int weight)
+    {
+        this.plan = plan;
+        this.constantArguments = constantArguments;
+        this.argumentPlans = argumentPlans;
+        this.weight = weight;
+    }
+
+    public SingleExecutionPlan getPlan()
+    {
+        return plan;
+    }
+
+    public Map<String, Object> getConstantArguments()
+    {
+        return constantArguments;
+    }
+
+    public Map<String, SingleExecutionPlan> getArgumentPlans()
+    {
+        return argumentPlans;
+    }
+
+    public int getWeight()
+    {
+        return weight;
+    }
+
+    public boolean isParameterizable()
+    {
+        return this != NOT_PARAMETERIZABLE;
+    }
+}
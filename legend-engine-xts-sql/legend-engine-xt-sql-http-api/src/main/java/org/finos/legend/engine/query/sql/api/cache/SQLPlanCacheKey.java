@@ -0,0 +1,73 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.query.sql.api.cache;
+
+import java.util.List;
+import java.util.Objects;
+
+public class SQLPlanCacheKey
+{
+    private final String query;
+    private final String modelContext;
+    private final String sources;
+    private final List<String> parameterTypes;
+    private final int hashCode;
+
+    /**
+     * @param query          serialized (normalized) sql query
+     * @param modelContext   serialized model context the query sources were resolved against
+     * @param sources        serialized resolved sql sources
+     * @param parameterTypes pure types of the positional parameters, as the generated plan depends on them
+     */
+    public SQLPlanCacheKey(String query, String modelContext, String sources, List<String> parameterTypes)
+    {
+        this.query = query;
+        this.modelContext = modelContext;
+        this.sources = sources;
+        this.parameterTypes = parameterTypes;
+        this.hashCode = Objects.hash(query, modelContext, sources, parameterTypes);
+    }
+
+    public int weight()
+    {
+        return query.length() + modelContext.length() + sources.length();
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass())
+        {
+            return false;
+        }
+        SQLPlanCacheKey that = (SQLPlanCacheKey) o;
+        return hashCode == that.hashCode
+                && query.equals(that.query)
+                && modelContext.equals(that.modelContext)
+                && sources.equals(that.sources)
+                && parameterTypes.equals(that.parameterTypes);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hashCode;
+    }
+}
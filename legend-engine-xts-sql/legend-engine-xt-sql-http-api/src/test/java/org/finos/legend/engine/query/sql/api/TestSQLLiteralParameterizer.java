@@ -0,0 +1,132 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.query.sql.api;
+
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.engine.language.sql.grammar.from.SQLGrammarParser;
+import org.finos.legend.engine.language.sql.grammar.to.SQLGrammarComposer;
+import org.finos.legend.engine.protocol.sql.metamodel.Query;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class TestSQLLiteralParameterizer
+{
+    @Test
+    public void testComparison()
+    {
+        test("select a from myTable where a = 1", "select a from myTable where a = $1", 1L);
+        test("select a from myTable where 'abc' = a", "select a from myTable where $1 = a", "abc");
+        test("select a from myTable where a > 1.5 and b <> true", "select a from myTable where a > $1 and b <> $2", 1.5, true);
+    }
+
+    @Test
+    public void testInAndBetween()
+    {
+        test("select a from myTable where a in ('x', 'y')", "select a from myTable where a in ($1, $2)", "x", "y");
+        test("select a from myTable where a between 1 and 5", "select a from myTable where a between $1 and $2", 1L, 5L);
+    }
+
+    @Test
+    public void testOffset()
+    {
+        Query query = (Query) SQLGrammarParser.newInstance().parseStatement("select a from myTable where a = $1 and b = 'x'");
+
+        SQLLiteralParameterizer.ParameterizedQuery result = SQLLiteralParameterizer.parameterize(query, 1);
+
+        Assert.assertEquals("select a from myTable where a = $1 and b = $2", SQLGrammarComposer.newInstance().renderNode(result.getQuery()).toLowerCase());
+        Assert.assertEquals(FastList.newListWith("x"), result.getValues());
+    }
+
+    @Test
+    public void testShapeLiteralsNotLifted()
+    {
+        test("select a, 'x' as b from myTable where a like 'abc%' limit 10");
+        test("select a from myTable where 1 = 1");
+        test("select a from myTable where a = null");
+    }
+
+    @Test
+    public void testDateColumnsReported()
+    {
+        Query query = (Query) SQLGrammarParser.newInstance().parseStatement("select a from myTable where startDate = '2023-08-24' and id = 1");
+
+        SQLLiteralParameterizer.ParameterizedQuery result = SQLLiteralParameterizer.parameterize(query, 0);
+
+        Assert.assertEquals("select a from mytable where startdate = $1 and id = $2", SQLGrammarComposer.newInstance().renderNode(result.getQuery()).toLowerCase());
+        Assert.assertEquals(FastList.newListWith("2023-08-24", 1L), result.getValues());
+        // only the column compared against a string has to hold strings
+        assertColumnsQuery("select startdate as column1 from mytable", query, result);
+    }
+
+    @Test
+    public void testEnumColumnsReported()
+    {
+        Query query = (Query) SQLGrammarParser.newInstance().parseStatement("select a from myTable t where 'Type1' = t.type or t.type in ('Type2', 'Type3') or t.level between 1 and 5");
+
+        SQLLiteralParameterizer.ParameterizedQuery result = SQLLiteralParameterizer.parameterize(query, 0);
+
+        Assert.assertEquals(FastList.newListWith("Type1", "Type2", "Type3", 1L, 5L), result.getValues());
+        assertColumnsQuery("select t.type as column1, t.type as column2, t.type as column3 from mytable as t", query, result);
+    }
+
+    @Test
+    public void testColumnsQueryOfSetOperation()
+    {
+        Query query = (Query) SQLGrammarParser.newInstance().parseStatement("select a from myTable where b = 'x' union select a from otherTable");
+
+        SQLLiteralParameterizer.ParameterizedQuery result = SQLLiteralParameterizer.parameterize(query, 0);
+
+        Assert.assertEquals(1, result.getStringColumns().size());
+        Assert.assertNull(SQLLiteralParameterizer.columnsQuery(query, result.getStringColumns()));
+    }
+
+    @Test
+    public void testUserDependent()
+    {
+        Query query = (Query) SQLGrammarParser.newInstance().parseStatement("select a from myTable where a = current_user");
+
+        Assert.assertTrue(SQLLiteralParameterizer.parameterize(query, 0).isUserDependent());
+    }
+
+    private void assertColumnsQuery(String expected, Query query, SQLLiteralParameterizer.ParameterizedQuery result)
+    {
+        Query columnsQuery = SQLLiteralParameterizer.columnsQuery(query, result.getStringColumns());
+        Assert.assertEquals(expected, SQLGrammarComposer.newInstance().renderNode(columnsQuery).toLowerCase());
+    }
+
+    private void test(String input, Object... values)
+    {
+        test(input, input, values);
+    }
+
+    private void test(String input, String expected, Object... values)
+    {
+        Query query = (Query) SQLGrammarParser.newInstance().parseStatement(input);
+
+        SQLLiteralParameterizer.ParameterizedQuery result = SQLLiteralParameterizer.parameterize(query, 0);
+
+        String grammar = SQLGrammarComposer.newInstance().renderNode(result.getQuery());
+        List<Object> expectedValues = FastList.newListWith(values);
+
+        Assert.assertEquals(expected.toLowerCase(), grammar.toLowerCase());
+        Assert.assertEquals(expectedValues, result.getValues());
+        Assert.assertEquals(ListIterate.count(expectedValues, String.class::isInstance), result.getStringColumns().size());
+        Assert.assertFalse(result.isUserDependent());
+    }
+}
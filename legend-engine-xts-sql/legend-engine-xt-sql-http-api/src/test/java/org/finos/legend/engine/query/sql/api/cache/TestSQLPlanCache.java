@@ -0,0 +1,71 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.query.sql.api.cache;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestSQLPlanCache
+{
+    @Test
+    public void testHitAndMiss()
+    {
+        SQLPlanCache cache = new SQLPlanCache(10_000, 30);
+        SQLPlanCacheEntry entry = new SQLPlanCacheEntry(new SingleExecutionPlan(), Maps.mutable.empty(), Maps.mutable.empty(), 100);
+
+        Assert.assertNull(cache.getIfPresent(key("select a from t where a = $1", "Integer")));
+
+        cache.put(key("select a from t where a = $1", "Integer"), entry);
+
+        Assert.assertSame(entry, cache.getIfPresent(key("select a from t where a = $1", "Integer")));
+        Assert.assertNull(cache.getIfPresent(key("select a from t where a = $1", "String")));
+        Assert.assertNull(cache.getIfPresent(key("select b from t where a = $1", "Integer")));
+
+        Assert.assertEquals(1, cache.stats().hitCount());
+        Assert.assertEquals(3, cache.stats().missCount());
+    }
+
+    @Test
+    public void testEvictionByWeight()
+    {
+        SQLPlanCache cache = new SQLPlanCache(1_000, 30);
+        SQLPlanCacheKey key = key("select a from t where a = $1", "Integer");
+
+        cache.put(key, new SQLPlanCacheEntry(new SingleExecutionPlan(), Maps.mutable.empty(), Maps.mutable.empty(), 10_000));
+
+        Assert.assertNull(cache.getIfPresent(key));
+        Assert.assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    public void testNotParameterizableMarker()
+    {
+        SQLPlanCache cache = new SQLPlanCache(10_000, 30);
+        SQLPlanCacheKey key = key("select a from t where a = $1", "String");
+
+        cache.put(key, SQLPlanCacheEntry.NOT_PARAMETERIZABLE);
+
+        Assert.assertFalse(cache.getIfPresent(key).isParameterizable());
+    }
+
+    private SQLPlanCacheKey key(String query, String... parameterTypes)
+    {
+        return new SQLPlanCacheKey(query, "{\"_type\":\"pointer\"}", "[]", FastList.newListWith(parameterTypes));
+    }
+}
@@ -99,7 +99,7 @@ public class PostgresServerLauncher
         LegendHandlerConfig config = (LegendHandlerConfig) serverConfig.getHandler();
         SQLManager sqlManager = new SQLManager(Lists.mutable.with(
                                                     new GenericLegendExecution(config.getProtocol(), config.getHost(), config.getPort()),
-                                                    new LegendExecutionService(new LegendHttpClient(config.getProtocol(), config.getHost(), config.getPort()))
+                                                    new LegendExecutionService(new LegendHttpClient(config.getProtocol(), config.getHost(), config.getPort()), config.isArrowTransport())
                                                )
                                     );
 
@@ -22,6 +22,7 @@ public class LegendHandlerConfig implements HandlerConfig
     private String protocol;
     private String host;
     private String port;
+    private boolean arrowTransport;
 
     public LegendHandlerConfig()
     {
@@ -50,6 +51,11 @@ public class LegendHandlerConfig implements HandlerConfig
         return port;
     }
 
+    public boolean isArrowTransport()
+    {
+        return arrowTransport;
+    }
+
     @Override
     public String toString()
     {
@@ -57,6 +63,7 @@ public class LegendHandlerConfig implements HandlerConfig
                 "protocol='" + protocol + '\'' +
                 ", host='" + host + '\'' +
                 ", port='" + port + '\'' +
+                ", arrowTransport=" + arrowTransport +
                 '}';
     }
 }
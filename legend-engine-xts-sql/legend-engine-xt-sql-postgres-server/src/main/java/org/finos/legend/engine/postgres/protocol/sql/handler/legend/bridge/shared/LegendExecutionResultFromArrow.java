@@ -0,0 +1,208 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.shared;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.ZstdInputStream;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BaseIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FloatingPointVector;
+import org.apache.arrow.vector.TimeMilliVector;
+import org.apache.arrow.vector.TimeStampMicroTZVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.impl.utility.internal.IterableIterate;
+import org.finos.legend.engine.postgres.PostgresServerException;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.LegendColumn;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.LegendExecutionResult;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.sql.LegendTdsClientException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reads the (zstd compressed) Arrow IPC stream produced by the engine for serializationFormat=ARROW_IPC.
+ * Rows are read straight out of the record batch vectors, one batch in memory at a time.
+ * Values are surfaced with the same java types as the JSON TDS parser, except for dates and timestamps
+ * which are surfaced as {@link LocalDate} / {@link Instant} rather than ISO strings.
+ */
+public class LegendExecutionResultFromArrow implements LegendExecutionResult
+{
+    public static final String LEGEND_BUILDER = "legend.builder";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final BufferAllocator allocator;
+    private final ArrowStreamReader reader;
+    private final List<LegendColumn> legendColumns;
+
+    private final VectorSchemaRoot root;
+    private int rowIndex = -1;
+    private boolean finishedReading = false;
+    private boolean closed = false;
+
+    public LegendExecutionResultFromArrow(InputStream inputStream) throws IOException
+    {
+        requireNonNull(inputStream, "Arrow InputStream can't be null");
+        this.allocator = new RootAllocator(Long.MAX_VALUE);
+        try
+        {
+            this.reader = new ArrowStreamReader(new ZstdInputStream(inputStream), this.allocator);
+            this.root = this.reader.getVectorSchemaRoot();
+            this.legendColumns = Collections.unmodifiableList(parseColumns(this.root.getSchema().getCustomMetadata().get(LEGEND_BUILDER)));
+        }
+        catch (IOException | RuntimeException e)
+        {
+            this.allocator.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public List<LegendColumn> getLegendColumns()
+    {
+        return legendColumns;
+    }
+
+    @Override
+    public synchronized boolean hasNext()
+    {
+        if (finishedReading)
+        {
+            return false;
+        }
+        try
+        {
+            rowIndex++;
+            while (rowIndex >= root.getRowCount())
+            {
+                if (!reader.loadNextBatch())
+                {
+                    finishedReading = true;
+                    close();
+                    return false;
+                }
+                rowIndex = 0;
+            }
+            return true;
+        }
+        catch (IOException e)
+        {
+            throw new LegendTdsClientException("Error while retrieving a row", e);
+        }
+    }
+
+    @Override
+    public synchronized List<Object> next()
+    {
+        List<FieldVector> vectors = root.getFieldVectors();
+        List<Object> row = new ArrayList<>(vectors.size());
+        for (FieldVector vector : vectors)
+        {
+            row.add(readValue(vector, rowIndex));
+        }
+        return Collections.unmodifiableList(row);
+    }
+
+    @Override
+    public synchronized void close()
+    {
+        if (closed)
+        {
+            return;
+        }
+        closed = true;
+        try
+        {
+            reader.close();
+        }
+        catch (IOException e)
+        {
+            throw new LegendTdsClientException("Error while closing parser", e);
+        }
+        finally
+        {
+            allocator.close();
+        }
+    }
+
+    private static Object readValue(FieldVector vector, int index)
+    {
+        if (vector.isNull(index))
+        {
+            return null;
+        }
+        if (vector instanceof VarCharVector)
+        {
+            return new String(((VarCharVector) vector).get(index), StandardCharsets.UTF_8);
+        }
+        if (vector instanceof BaseIntVector)
+        {
+            return ((BaseIntVector) vector).getValueAsLong(index);
+        }
+        if (vector instanceof FloatingPointVector)
+        {
+            return ((FloatingPointVector) vector).getValueAsDouble(index);
+        }
+        if (vector instanceof BitVector)
+        {
+            return ((BitVector) vector).get(index) != 0;
+        }
+        if (vector instanceof DecimalVector)
+        {
+            return ((DecimalVector) vector).getObject(index);
+        }
+        if (vector instanceof DateDayVector)
+        {
+            return LocalDate.ofEpochDay(((DateDayVector) vector).get(index));
+        }
+        if (vector instanceof TimeStampMicroTZVector)
+        {
+            long micros = ((TimeStampMicroTZVector) vector).get(index);
+            return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+        }
+        if (vector instanceof TimeMilliVector)
+        {
+            return LocalTime.ofNanoOfDay(((TimeMilliVector) vector).get(index) * 1_000_000L).toString();
+        }
+        throw new PostgresServerException("Unsupported arrow vector type: " + vector.getClass().getSimpleName());
+    }
+
+    private static List<LegendColumn> parseColumns(String builder) throws IOException
+    {
+        if (builder == null)
+        {
+            throw new PostgresServerException("Arrow result is missing the '" + LEGEND_BUILDER + "' schema metadata");
+        }
+        JsonNode columns = MAPPER.readTree(builder).get("columns");
+        return IterableIterate.collect(columns, c -> new LegendColumn(c.get("name").textValue(), c.get("type").textValue(), Lists.mutable.empty()));
+    }
+}
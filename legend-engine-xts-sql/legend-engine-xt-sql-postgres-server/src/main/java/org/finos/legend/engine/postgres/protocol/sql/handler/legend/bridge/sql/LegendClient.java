@@ -21,5 +21,23 @@ public interface LegendClient
 {
     InputStream executeQueryApi(String query);
 
+    /**
+     * Whether {@link #executeQueryArrowApi(String)} is available. Clients that do not support it are queried through
+     * {@link #executeQueryApi(String)} even when the Arrow result transport is enabled.
+     */
+    default boolean supportsArrowApi()
+    {
+        return false;
+    }
+
+    /**
+     * Same as {@link #executeQueryApi(String)} but with the result streamed as (zstd compressed) Arrow IPC. Only called
+     * when {@link #supportsArrowApi()} is true.
+     */
+    default InputStream executeQueryArrowApi(String query)
+    {
+        throw new UnsupportedOperationException("Arrow result transport is not supported by " + this.getClass().getSimpleName());
+    }
+
     InputStream executeSchemaApi(String query);
 }
\ No newline at end of file
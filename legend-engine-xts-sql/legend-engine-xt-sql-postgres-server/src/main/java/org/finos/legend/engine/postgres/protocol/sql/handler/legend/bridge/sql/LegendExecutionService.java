@@ -26,11 +26,14 @@ import org.eclipse.collections.impl.utility.internal.IterableIterate;
 import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.LegendColumn;
 import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.LegendExecution;
 import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.LegendExecutionResult;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.shared.LegendExecutionResultFromArrow;
 import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.shared.LegendExecutionResultFromTds;
 import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.shared.LegendTdsResultParser;
 import org.finos.legend.engine.postgres.utils.OpenTelemetryUtil;
 import org.finos.legend.engine.query.sql.api.schema.SchemaResult;
 import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -41,13 +44,29 @@ import java.util.stream.Collectors;
 public class LegendExecutionService implements LegendExecution
 {
     public static final String TDS_COLUMNS = "columns";
+    private static final Logger LOGGER = LoggerFactory.getLogger(LegendExecutionService.class);
     private final LegendClient executionClient;
+    private final boolean arrowTransport;
 
     private static final ObjectMapper mapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
 
     public LegendExecutionService(LegendClient executionClient)
+    {
+        this(executionClient, false);
+    }
+
+    /**
+     * @param arrowTransport whether query results are fetched as Arrow IPC rather than JSON TDS, ignored when the client
+     *                       does not {@link LegendClient#supportsArrowApi() support} it
+     */
+    public LegendExecutionService(LegendClient executionClient, boolean arrowTransport)
     {
         this.executionClient = executionClient;
+        this.arrowTransport = arrowTransport && executionClient.supportsArrowApi();
+        if (arrowTransport && !this.arrowTransport)
+        {
+            LOGGER.warn("Arrow result transport is not supported by {}, falling back to JSON TDS", executionClient.getClass().getSimpleName());
+        }
     }
 
     public List<LegendColumn> getSchema(String query, String database)
@@ -84,6 +103,13 @@ public class LegendExecutionService implements LegendExecution
         try (Scope ignored = span.makeCurrent();)
         {
             span.setAttribute("query", query);
+            span.setAttribute("arrowTransport", arrowTransport);
+            if (arrowTransport)
+            {
+                InputStream inputStream = executionClient.executeQueryArrowApi(query);
+                span.addEvent("receivedResponse");
+                return new LegendExecutionResultFromArrow(inputStream);
+            }
             InputStream inputStream = executionClient.executeQueryApi(query);
             span.addEvent("receivedResponse");
             LegendTdsResultParser parser = new LegendTdsResultParser(inputStream);
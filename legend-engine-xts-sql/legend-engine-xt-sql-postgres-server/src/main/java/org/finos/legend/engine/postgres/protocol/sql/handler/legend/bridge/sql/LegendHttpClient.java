@@ -71,6 +71,20 @@ public class LegendHttpClient implements LegendClient
         return executeApi(query, apiPath);
     }
 
+    @Override
+    public boolean supportsArrowApi()
+    {
+        return true;
+    }
+
+    @Override
+    public InputStream executeQueryArrowApi(String query)
+    {
+        LOGGER.info("executing query {} with arrow result", query);
+        String apiPath = "/api/sql/v1/execution/executeQueryString?serializationFormat=ARROW_IPC";
+        return executeApi(query, apiPath);
+    }
+
 
     public InputStream executeSchemaApi(String query)
     {
@@ -159,7 +159,8 @@ public class LegendResultSet implements PostgresResultSet
         MutableMap<String, Function2<LegendColumn, Object, Object>> processors = Maps.mutable.empty();
         registerProcessor(
                 STRICT_DATE,
-                (column, value) ->
+                (column, value) -> value instanceof TemporalAccessor ?
+                        toEpochMilli((TemporalAccessor) value) :
                         extractValue(value, column, String.class, "Date (YYYY-MM-DD)",
                                 f -> DATE_FORMAT.parse((String) value, LocalDate::from).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli()
                         ),
@@ -168,15 +169,10 @@ public class LegendResultSet implements PostgresResultSet
 
         registerProcessor(
                 Lists.mutable.with(DATE, DATE_TIME),
-                (column, value) ->
+                (column, value) -> value instanceof TemporalAccessor ?
+                        toEpochMilli((TemporalAccessor) value) :
                         extractValue(value, column, String.class, "Date (YYYY-MM-DD) or Timestamp (YYYY-MM-DDThh:mm:ss.000000000+0000)",
-                                f ->
-                                {
-                                    TemporalAccessor temporalAccessor = TIMESTAMP_FORMATTER.parseBest((String) value, Instant::from, LocalDate::from);
-                                    return (temporalAccessor instanceof Instant) ?
-                                            ((Instant) temporalAccessor).toEpochMilli()
-                                            : ((LocalDate) temporalAccessor).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
-                                }),
+                                f -> toEpochMilli(TIMESTAMP_FORMATTER.parseBest((String) value, Instant::from, LocalDate::from))),
                 processors
         );
 
@@ -213,6 +209,16 @@ public class LegendResultSet implements PostgresResultSet
         return processors;
     }
 
+    /**
+     * Dates and timestamps come either as ISO strings (JSON TDS) or already decoded (Arrow)
+     */
+    private static long toEpochMilli(TemporalAccessor temporalAccessor)
+    {
+        return (temporalAccessor instanceof Instant) ?
+                ((Instant) temporalAccessor).toEpochMilli()
+                : ((LocalDate) temporalAccessor).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
     private static void registerProcessor(MutableList<String> types, Function2<LegendColumn, Object, Object> processor, MutableMap<String, Function2<LegendColumn, Object, Object>> processors)
     {
         types.forEach(t -> processors.put(t, processor));
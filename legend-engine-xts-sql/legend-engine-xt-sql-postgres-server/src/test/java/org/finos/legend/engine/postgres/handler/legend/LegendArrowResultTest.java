@@ -0,0 +1,195 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.postgres.handler.legend;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import io.dropwizard.testing.junit.ResourceTestRule;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.LegendColumn;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.LegendExecutionResult;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.shared.LegendExecutionResultFromArrow;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.shared.LegendExecutionResultFromTds;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.sql.LegendClient;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.sql.LegendExecutionService;
+import org.finos.legend.engine.query.sql.api.execute.SqlExecuteTest;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+public class LegendArrowResultTest
+{
+    @ClassRule
+    public static final ResourceTestRule resources = SqlExecuteTest.getResourceTestRule();
+
+    private static final String PERSON_QUERY = "SELECT * FROM service.\"/personService\"";
+    private static final String BUILDER = "{\"_type\":\"tdsBuilder\",\"columns\":[" +
+            "{\"name\":\"name\",\"type\":\"String\"}," +
+            "{\"name\":\"age\",\"type\":\"Integer\"}," +
+            "{\"name\":\"birthDate\",\"type\":\"StrictDate\"}]}";
+
+    @Test
+    public void testReadRowsAcrossBatches() throws IOException
+    {
+        LegendExecutionResultFromArrow result = new LegendExecutionResultFromArrow(new ByteArrayInputStream(arrowStream(2)));
+
+        Assert.assertEquals(Lists.mutable.with(
+                new LegendColumn("name", "String", Lists.mutable.empty()),
+                new LegendColumn("age", "Integer", Lists.mutable.empty()),
+                new LegendColumn("birthDate", "StrictDate", Lists.mutable.empty())), result.getLegendColumns());
+
+        List<List<Object>> rows = Lists.mutable.empty();
+        while (result.hasNext())
+        {
+            rows.add(result.next());
+        }
+        result.close();
+
+        Assert.assertEquals(5, rows.size());
+        Assert.assertEquals(Arrays.asList("name0", 0L, LocalDate.ofEpochDay(0)), rows.get(0));
+        Assert.assertEquals(Arrays.asList(null, 3L, LocalDate.ofEpochDay(3)), rows.get(3));
+        Assert.assertEquals(Arrays.asList("name4", 4L, null), rows.get(4));
+    }
+
+    @Test
+    public void testReadEmptyResult() throws IOException
+    {
+        LegendExecutionResultFromArrow result = new LegendExecutionResultFromArrow(new ByteArrayInputStream(arrowStream(0)));
+        Assert.assertEquals(3, result.getLegendColumns().size());
+        Assert.assertFalse(result.hasNext());
+        result.close();
+    }
+
+    @Test
+    public void testArrowTransportReturnsSameRowsAsJsonTransport()
+    {
+        LegendTdsTestClient client = new LegendTdsTestClient(resources);
+
+        LegendExecutionResult arrowResult = new LegendExecutionService(client, true).executeQuery(PERSON_QUERY, null, null);
+        Assert.assertTrue(arrowResult instanceof LegendExecutionResultFromArrow);
+        LegendExecutionResult jsonResult = new LegendExecutionService(client, false).executeQuery(PERSON_QUERY, null, null);
+
+        Assert.assertEquals(jsonResult.getLegendColumns(), arrowResult.getLegendColumns());
+        List<List<Object>> arrowRows = readRows(arrowResult);
+        Assert.assertFalse(arrowRows.isEmpty());
+        Assert.assertEquals(readRows(jsonResult), arrowRows);
+    }
+
+    @Test
+    public void testArrowTransportFallsBackToJsonWhenClientDoesNotSupportIt()
+    {
+        LegendTdsTestClient httpClient = new LegendTdsTestClient(resources);
+        LegendClient client = new LegendClient()
+        {
+            @Override
+            public InputStream executeQueryApi(String query)
+            {
+                return httpClient.executeQueryApi(query);
+            }
+
+            @Override
+            public InputStream executeSchemaApi(String query)
+            {
+                return httpClient.executeSchemaApi(query);
+            }
+        };
+
+        LegendExecutionResult result = new LegendExecutionService(client, true).executeQuery(PERSON_QUERY, null, null);
+        Assert.assertTrue(result instanceof LegendExecutionResultFromTds);
+        Assert.assertFalse(readRows(result).isEmpty());
+    }
+
+    private static List<List<Object>> readRows(LegendExecutionResult result)
+    {
+        List<List<Object>> rows = Lists.mutable.empty();
+        while (result.hasNext())
+        {
+            rows.add(result.next());
+        }
+        result.close();
+        return rows;
+    }
+
+    private static byte[] arrowStream(int batchSize) throws IOException
+    {
+        Schema schema = new Schema(Arrays.asList(
+                new Field("name", FieldType.nullable(ArrowType.Utf8.INSTANCE), null),
+                new Field("age", FieldType.nullable(new ArrowType.Int(64, true)), null),
+                new Field("birthDate", FieldType.nullable(new ArrowType.Date(DateUnit.DAY)), null)),
+                Maps.mutable.with(LegendExecutionResultFromArrow.LEGEND_BUILDER, BUILDER));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (BufferAllocator allocator = new RootAllocator(Long.MAX_VALUE);
+             VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+             ZstdOutputStream zstdOut = new ZstdOutputStream(out);
+             ArrowStreamWriter writer = new ArrowStreamWriter(root, null, Channels.newChannel(zstdOut)))
+        {
+            writer.start();
+            int rows = batchSize == 0 ? 0 : 5;
+            for (int start = 0; start < rows; start += batchSize)
+            {
+                root.allocateNew();
+                int count = Math.min(batchSize, rows - start);
+                for (int i = 0; i < count; i++)
+                {
+                    int row = start + i;
+                    if (row == 3)
+                    {
+                        ((VarCharVector) root.getVector(0)).setNull(i);
+                    }
+                    else
+                    {
+                        ((VarCharVector) root.getVector(0)).setSafe(i, ("name" + row).getBytes(StandardCharsets.UTF_8));
+                    }
+                    ((BigIntVector) root.getVector(1)).setSafe(i, row);
+                    if (row == 4)
+                    {
+                        ((DateDayVector) root.getVector(2)).setNull(i);
+                    }
+                    else
+                    {
+                        ((DateDayVector) root.getVector(2)).setSafe(i, row);
+                    }
+                }
+                root.setRowCount(count);
+                writer.writeBatch();
+            }
+            writer.end();
+        }
+        return out.toByteArray();
+    }
+}
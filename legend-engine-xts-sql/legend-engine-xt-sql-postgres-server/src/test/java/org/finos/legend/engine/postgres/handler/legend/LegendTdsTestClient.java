@@ -20,6 +20,7 @@ import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.sql.L
 
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Response;
 import java.io.InputStream;
 
@@ -38,19 +39,26 @@ public class LegendTdsTestClient extends LegendHttpClient
     public InputStream executeQueryApi(String query)
     {
         String path = "sql/v1/execution/executeQueryString";
-        return executeApi(query, path);
+        return executeApi(query, resourceTestRule.target(path));
+    }
+
+    @Override
+    public InputStream executeQueryArrowApi(String query)
+    {
+        String path = "sql/v1/execution/executeQueryString";
+        return executeApi(query, resourceTestRule.target(path).queryParam("serializationFormat", "ARROW_IPC"));
     }
 
     @Override
     public InputStream executeSchemaApi(String query)
     {
         String path = "sql/v1/execution/getSchemaFromQueryString";
-        return executeApi(query, path);
+        return executeApi(query, resourceTestRule.target(path));
     }
 
-    private InputStream executeApi(String query, String path)
+    private InputStream executeApi(String query, WebTarget target)
     {
-        Invocation.Builder builder = resourceTestRule.target(path).request();
+        Invocation.Builder builder = target.request();
         Response response = builder.post(Entity.text(query));
         return handleResponse(query, () -> (InputStream) response.getEntity(), response::getStatus, null);
     }